@@ -0,0 +1,112 @@
+package io.standardcore;
+
+import io.standardcore.valueTypeConverters.BigDecimalValueTypeConverter;
+import io.standardcore.valueTypeConverters.BooleanValueTypeConverter;
+import io.standardcore.valueTypeConverters.ByteValueTypeConverter;
+import io.standardcore.valueTypeConverters.CharacterValueTypeConverter;
+import io.standardcore.valueTypeConverters.DoubleValueTypeConverter;
+import io.standardcore.valueTypeConverters.FloatValueTypeConverter;
+import io.standardcore.valueTypeConverters.IntegerValueTypeConverter;
+import io.standardcore.valueTypeConverters.LocalDateTimeValueTypeConverter;
+import io.standardcore.valueTypeConverters.LongValueTypeConverter;
+import io.standardcore.valueTypeConverters.ShortValueTypeConverter;
+import io.standardcore.valueTypeConverters.StringValueTypeConverter;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+// The built-in ValueTypeConverter singletons. Each one lives in its own holder class, so it is
+// loaded and created on the first conversion to its target type rather than when Convert is
+// initialized; a program that only converts to Long never loads the other ten.
+final class BuiltInConverters {
+    private BuiltInConverters() {
+    }
+
+    private static final class BooleanHolder {
+        static final ValueTypeConverter<Boolean> INSTANCE = new BooleanValueTypeConverter();
+    }
+
+    private static final class CharacterHolder {
+        static final ValueTypeConverter<Character> INSTANCE = new CharacterValueTypeConverter();
+    }
+
+    private static final class ByteHolder {
+        static final ValueTypeConverter<Byte> INSTANCE = new ByteValueTypeConverter();
+    }
+
+    private static final class ShortHolder {
+        static final ValueTypeConverter<Short> INSTANCE = new ShortValueTypeConverter();
+    }
+
+    private static final class IntegerHolder {
+        static final ValueTypeConverter<Integer> INSTANCE = new IntegerValueTypeConverter();
+    }
+
+    private static final class LongHolder {
+        static final ValueTypeConverter<Long> INSTANCE = new LongValueTypeConverter();
+    }
+
+    private static final class FloatHolder {
+        static final ValueTypeConverter<Float> INSTANCE = new FloatValueTypeConverter();
+    }
+
+    private static final class DoubleHolder {
+        static final ValueTypeConverter<Double> INSTANCE = new DoubleValueTypeConverter();
+    }
+
+    private static final class BigDecimalHolder {
+        static final ValueTypeConverter<BigDecimal> INSTANCE = new BigDecimalValueTypeConverter();
+    }
+
+    private static final class LocalDateTimeHolder {
+        static final ValueTypeConverter<LocalDateTime> INSTANCE = new LocalDateTimeValueTypeConverter();
+    }
+
+    private static final class StringHolder {
+        static final ValueTypeConverter<String> INSTANCE = new StringValueTypeConverter();
+    }
+
+    static ValueTypeConverter<Boolean> booleanConverter() {
+        return BooleanHolder.INSTANCE;
+    }
+
+    static ValueTypeConverter<Character> characterConverter() {
+        return CharacterHolder.INSTANCE;
+    }
+
+    static ValueTypeConverter<Byte> byteConverter() {
+        return ByteHolder.INSTANCE;
+    }
+
+    static ValueTypeConverter<Short> shortConverter() {
+        return ShortHolder.INSTANCE;
+    }
+
+    static ValueTypeConverter<Integer> integerConverter() {
+        return IntegerHolder.INSTANCE;
+    }
+
+    static ValueTypeConverter<Long> longConverter() {
+        return LongHolder.INSTANCE;
+    }
+
+    static ValueTypeConverter<Float> floatConverter() {
+        return FloatHolder.INSTANCE;
+    }
+
+    static ValueTypeConverter<Double> doubleConverter() {
+        return DoubleHolder.INSTANCE;
+    }
+
+    static ValueTypeConverter<BigDecimal> bigDecimalConverter() {
+        return BigDecimalHolder.INSTANCE;
+    }
+
+    static ValueTypeConverter<LocalDateTime> localDateTimeConverter() {
+        return LocalDateTimeHolder.INSTANCE;
+    }
+
+    static ValueTypeConverter<String> stringConverter() {
+        return StringHolder.INSTANCE;
+    }
+}
@@ -0,0 +1,923 @@
+package io.standardcore;
+
+import io.standardcore.arrays.PrimitiveArrays;
+import io.standardcore.caching.ParseCache;
+import io.standardcore.enums.EnumLookup;
+import io.standardcore.formatting.ValueFormatter;
+import io.standardcore.generic.GenericConversions;
+import io.standardcore.typeConverters.Int16TypeConverter;
+
+import java.io.IOException;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+// An immutable set of conversion settings: the TypeConverter registry consulted for values that
+// are not Convertible, the ValueTypeConverter used for each target type, the FormatProvider used
+// when a call passes none, the null and overflow policies, metrics and parse caches.
+//
+// The Convert static methods delegate to Convert.getDefaultContext(). Separate contexts, built
+// with ConversionContext.builder() or derived from another one with toBuilder(), let tenants or
+// subsystems use different converters and settings without touching shared mutable state.
+//
+// Narrowing of Long, Integer, Short, Byte, UInteger, ULong, Float, Double and BigDecimal values to
+// an integral type follows the context's OverflowPolicy; other sources go to the
+// ValueTypeConverters.
+//
+// Container conversions (List<T>, Map<K, V>, Optional<T>, primitive arrays) convert their
+// elements with the context that changeType was called on, and primitive arrays narrow with its
+// OverflowPolicy; BeanMapper.withContext does the same for bean properties.
+public final class ConversionContext {
+    private final TypeConverter[] typeConverters;
+    private final FormatProvider formatProvider;
+    private final NullPolicy nullPolicy;
+    private final OverflowPolicy overflowPolicy;
+    private final ConversionMetrics conversionMetrics;
+
+    // null for the built-in converter, which is only loaded when first needed
+    private final ValueTypeConverter<Boolean> booleanConverter;
+    private final ValueTypeConverter<Character> characterConverter;
+    private final ValueTypeConverter<Byte> byteConverter;
+    private final ValueTypeConverter<Short> shortConverter;
+    private final ValueTypeConverter<Integer> integerConverter;
+    private final ValueTypeConverter<Long> longConverter;
+    private final ValueTypeConverter<Float> floatConverter;
+    private final ValueTypeConverter<Double> doubleConverter;
+    private final ValueTypeConverter<BigDecimal> bigDecimalConverter;
+    private final ValueTypeConverter<LocalDateTime> localDateTimeConverter;
+    private final ValueTypeConverter<String> stringConverter;
+
+    private final ParseCache<BigDecimal> decimalParseCache;
+    private final ParseCache<Double> doubleParseCache;
+    private final ParseCache<LocalDateTime> dateTimeParseCache;
+
+    private ConversionContext(Builder builder) {
+        this.typeConverters = builder.typeConverters.toArray(new TypeConverter[0]);
+        this.formatProvider = builder.formatProvider;
+        this.nullPolicy = builder.nullPolicy;
+        this.overflowPolicy = builder.overflowPolicy;
+        this.conversionMetrics = builder.conversionMetrics;
+        this.booleanConverter = builder.booleanConverter;
+        this.characterConverter = builder.characterConverter;
+        this.byteConverter = builder.byteConverter;
+        this.shortConverter = builder.shortConverter;
+        this.integerConverter = builder.integerConverter;
+        this.longConverter = builder.longConverter;
+        this.floatConverter = builder.floatConverter;
+        this.doubleConverter = builder.doubleConverter;
+        this.bigDecimalConverter = builder.bigDecimalConverter;
+        this.localDateTimeConverter = builder.localDateTimeConverter;
+        this.stringConverter = builder.stringConverter;
+
+        // caches carried over by toBuilder() are kept only while their converter is unchanged
+        this.decimalParseCache = builder.decimalParseCacheCapacity == 0 ? null
+                : builder.decimalParseCache != null && builder.decimalParseCacheConverter == bigDecimalConverter ? builder.decimalParseCache
+                : new ParseCache<>(builder.decimalParseCacheCapacity, bigDecimalConverter()::convert);
+        this.doubleParseCache = builder.doubleParseCacheCapacity == 0 ? null
+                : builder.doubleParseCache != null && builder.doubleParseCacheConverter == doubleConverter ? builder.doubleParseCache
+                : new ParseCache<>(builder.doubleParseCacheCapacity, doubleConverter()::convert);
+        this.dateTimeParseCache = builder.dateTimeParseCacheCapacity == 0 ? null
+                : builder.dateTimeParseCache != null && builder.dateTimeParseCacheConverter == localDateTimeConverter ? builder.dateTimeParseCache
+                : new ParseCache<>(builder.dateTimeParseCacheCapacity, localDateTimeConverter()::convert);
+    }
+
+    // A builder with the built-in converters and Convert's defaults.
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    // A builder initialized with this context's settings. Parse caches are shared with the new
+    // context unless their capacity or converter changes.
+    public Builder toBuilder() {
+        return new Builder(this);
+    }
+
+    public List<TypeConverter> getTypeConverters() {
+        return Collections.unmodifiableList(Arrays.asList(typeConverters));
+    }
+
+    // The provider used when a call passes none; may be null.
+    public FormatProvider getFormatProvider() {
+        return formatProvider;
+    }
+
+    public NullPolicy getNullPolicy() {
+        return nullPolicy;
+    }
+
+    public OverflowPolicy getOverflowPolicy() {
+        return overflowPolicy;
+    }
+
+    public ConversionMetrics getConversionMetrics() {
+        return conversionMetrics;
+    }
+
+    // Returns null when no cache is enabled for the type code.
+    public ParseCache<?> getParseCache(TypeCode typeCode) {
+        switch (typeCode) {
+            case DECIMAL:
+                return decimalParseCache;
+            case DOUBLE:
+                return doubleParseCache;
+            case DATETIME:
+                return dateTimeParseCache;
+            default:
+                return null;
+        }
+    }
+
+    private TypeConverter getTypeConverter(Object value){
+        for (TypeConverter typeConverter : typeConverters) {
+            if (typeConverter.isConvertible(value)) return typeConverter;
+        }
+        return null;
+    }
+
+    // Returns the type code for the given Object. If the argument is null,
+    // the result is TypeCode.Empty. If the argument is not a value (i.e. if
+    // the Object does not implement IConvertible), the result is TypeCode.Object.
+    // Otherwise, the result is the type code of the Object, as determined by
+    // the Object's implementation of IConvertible.
+    public TypeCode getTypeCode(Object value) {
+        if (value == null) return TypeCode.EMPTY;
+        TypeCode builtIn = ConversionTarget.valueTypeCode(value.getClass());
+        if (builtIn != null) return builtIn;
+        if (value instanceof Convertible)
+        {
+            Convertible temp = (Convertible)value;
+            return temp.GetTypeCode();
+        }
+
+        TypeConverter typeConverter = getTypeConverter(value);
+        if(typeConverter != null){
+            return typeConverter.getTypeCode(value);
+        }
+
+        return TypeCode.OBJECT;
+    }
+
+    public Object changeType(Object value, TypeCode typeCode) {
+        return changeType(value, typeCode, null);
+    }
+
+    public Object changeType(Object value, TypeCode typeCode, FormatProvider provider) {
+        if (provider == null) provider = formatProvider;
+        ConversionMetrics metrics = conversionMetrics;
+        if (metrics != null) {
+            return changeTypeMeasured(metrics, value, typeCode, provider);
+        }
+        return changeTypeCore(value, typeCode, provider);
+    }
+
+    private Object changeTypeMeasured(ConversionMetrics metrics, Object value, TypeCode typeCode, FormatProvider provider) {
+        return measured(metrics, value, typeCode, provider, (v, p) -> changeTypeCore(v, typeCode, p));
+    }
+
+    // Reports one conversion to the metrics. The source type code is read inside the try, as a
+    // Convertible's GetTypeCode or a TypeConverter may throw; such a failure is reported with
+    // an EMPTY source.
+    private <T> T measured(ConversionMetrics metrics, Object value, TypeCode target, FormatProvider provider,
+                           Conversion<T> conversion) {
+        long startTime = metrics.startTime();
+        TypeCode source = TypeCode.EMPTY;
+        T result;
+        try {
+            source = getTypeCode(value);
+            result = conversion.convert(value, provider);
+        } catch (RuntimeException e) {
+            metrics.conversionFailed(source, target, value, e, startTime);
+            throw e;
+        }
+        metrics.conversionSucceeded(source, target, value, startTime);
+        return result;
+    }
+
+    private interface Conversion<T> {
+        T convert(Object value, FormatProvider provider);
+    }
+
+    private Object changeTypeCore(Object value, TypeCode typeCode, FormatProvider provider) {
+        if (value == null && (typeCode == TypeCode.EMPTY || typeCode == TypeCode.STRING || typeCode == TypeCode.OBJECT)) {
+            return null;
+        }
+
+        if(value != null && ConversionTarget.valueTypeCode(value.getClass()) != null){
+            return changeBuiltInType(value, typeCode, provider);
+        }
+
+        if(value instanceof  Convertible){
+            return changeType((Convertible)value, typeCode, provider);
+        }
+
+        TypeConverter typeConverter = getTypeConverter(value);
+        if(typeConverter != null){
+            return changeType(value, typeConverter, typeCode, provider);
+        }
+
+        throw new InvalidCastException("InvalidCast_Convertible");
+    }
+
+    // JDK value types go straight to the ValueTypeConverters of this context, without
+    // searching the registered TypeConverters.
+    private Object changeBuiltInType(Object value, TypeCode typeCode, FormatProvider provider){
+        switch (typeCode)
+        {
+            case BOOLEAN:
+                return toBooleanCore(value, provider);
+            case CHAR:
+                return toCharCore(value, provider);
+            case BYTE:
+                return toByteCore(value, provider);
+            case INT16:
+                return toInt16Core(value, provider);
+            case INT32:
+                return toInt32Core(value, provider);
+            case UINT32:
+                return toUInt32Core(value, provider);
+            case INT64:
+                return toInt64Core(value, provider);
+            case UINT64:
+                return toUInt64Core(value, provider);
+            case SINGLE:
+                return toSingleCore(value, provider);
+            case DOUBLE:
+                return toDoubleCore(value, provider);
+            case DECIMAL:
+                return toDecimalCore(value, provider);
+            case DATETIME:
+                return toLocalDateTimeCore(value, provider);
+            case STRING:
+                return toStringCore(value, provider);
+            case OBJECT:
+                return value;
+            case EMPTY:
+                throw new InvalidCastException("InvalidCast_Empty");
+            default:
+                throw new ArgumentException("Arg_UnknownTypeCode");
+        }
+    }
+
+    private Object changeType(Convertible v, TypeCode typeCode, FormatProvider provider){
+        // This line is invalid for things like Enums that return a TypeCode
+        // of int, but the Object can't actually be cast to an int.
+        //            if (v.GetTypeCode() == typeCode) return value;
+        switch (typeCode)
+        {
+            case BOOLEAN:
+                return v.toBoolean(provider);
+            case CHAR:
+                return v.toChar(provider);
+            case BYTE:
+                return v.toByte(provider);
+            case INT16:
+                return v.toShort(provider);
+            case INT32:
+                return v.toInt32(provider);
+            case UINT32:
+                return v.toUInt32(provider);
+            case INT64:
+                return v.toInt64(provider);
+            case UINT64:
+                return v.toUInt64(provider);
+            case SINGLE:
+                return v.toFloat(provider);
+            case DOUBLE:
+                return v.toDouble(provider);
+            case DECIMAL:
+                return v.toDecimal(provider);
+            case DATETIME:
+                return v.toDateTime(provider);
+            case STRING:
+                return v.toString(provider);
+            case OBJECT:
+                return v;
+            case EMPTY:
+                throw new InvalidCastException("InvalidCast_Empty");
+            default:
+                throw new ArgumentException("Arg_UnknownTypeCode");
+        }
+    }
+
+    private Object changeType(Object value, TypeConverter converter, TypeCode typeCode, FormatProvider provider){
+        switch (typeCode)
+        {
+            case BOOLEAN:
+                return converter.toBoolean(value, provider);
+            case CHAR:
+                return converter.toChar(value, provider);
+            case BYTE:
+                return converter.toByte(value, provider);
+            case INT16:
+                return converter.toShort(value, provider);
+            case INT32:
+                return converter.toInteger(value, provider);
+            case UINT32:
+                return converter.toUInt32(value, provider);
+            case INT64:
+                return converter.toLong(value, provider);
+            case UINT64:
+                return converter.toUInt64(value, provider);
+            case SINGLE:
+                return converter.toFloat(value, provider);
+            case DOUBLE:
+                return converter.toDouble(value, provider);
+            case DECIMAL:
+                return converter.toDecimal(value, provider);
+            case DATETIME:
+                return converter.toDateTime(value, provider);
+            case STRING:
+                return converter.toString(value, provider);
+            case OBJECT:
+                return value;
+            case EMPTY:
+                throw new InvalidCastException("InvalidCast_Empty");
+            default:
+                throw new ArgumentException("Arg_UnknownTypeCode");
+        }
+    }
+
+    public Object changeType(Object value, Type conversionType) {
+        return changeType(value, conversionType, null);
+    }
+
+    public Object changeType(Object value, Type conversionType, FormatProvider provider){
+        if (provider == null) provider = formatProvider;
+        if (conversionType == null)
+        {
+            throw new ArgumentNullException("conversionType");
+        }
+
+        if(conversionType instanceof ParameterizedType){
+            return GenericConversions.convert(this, value, (ParameterizedType) conversionType, provider);
+        }
+
+        ConversionTarget target = ConversionTarget.of(conversionType);
+        if(target == ConversionTarget.PRIMITIVE_ARRAY){
+            return PrimitiveArrays.convert(this, value, (Class<?>) conversionType, provider);
+        }
+
+        if(target == ConversionTarget.ENUM){
+            return enumLookup(conversionType).parse(value);
+        }
+
+        if(value.getClass() == conversionType){
+            return value;
+        }
+
+        if(target == ConversionTarget.DECIMAL64){
+            return Convert.toDecimal64(value, provider);
+        }
+
+        if(target.getTypeCode() != null && ConversionTarget.valueTypeCode(value.getClass()) != null){
+            return changeBuiltInType(value, target.getTypeCode(), provider);
+        }
+
+        if(value instanceof Convertible){
+            return ((Convertible) value).toType(conversionType, provider);
+        }
+
+        TypeConverter typeConverter = getTypeConverter(value);
+        if(typeConverter == null){
+            throw new InvalidCastException("InvalidCast_IConvertible");
+        }
+
+        switch (target) {
+            case BOOLEAN:
+                return typeConverter.toBoolean(value, provider);
+            case CHAR:
+                return typeConverter.toChar(value, provider);
+            case BYTE:
+                return typeConverter.toByte(value, provider);
+            case INT16:
+                return typeConverter.toShort(value, provider);
+            case INT32:
+                return typeConverter.toInteger(value, provider);
+            case INT64:
+                return typeConverter.toLong(value, provider);
+            case UINT32:
+                return typeConverter.toUInt32(value, provider);
+            case UINT64:
+                return typeConverter.toUInt64(value, provider);
+            case SINGLE:
+                return typeConverter.toFloat(value, provider);
+            case DOUBLE:
+                return typeConverter.toDouble(value, provider);
+            case DECIMAL:
+                return typeConverter.toDecimal(value, provider);
+            case DATETIME:
+            case DATE_OR_TIME:
+                return typeConverter.toDateTime(value, provider);
+            case STRING:
+                return typeConverter.toString(value, provider);
+            case OBJECT:
+                return value;
+            default:
+                return typeConverter.toType(value, conversionType, provider);
+        }
+    }
+
+    // Conversions of arbitrary values. A null value is handled by the null policy, and each
+    // call is reported to the metrics, as changeType is. The typed Convert.toXxx(X) overloads
+    // only need the overflow policy, which they read from the default context, and are not
+    // repeated here.
+
+    public Boolean toBoolean(Object value) {
+        return toBoolean(value, null);
+    }
+
+    public Boolean toBoolean(Object value, FormatProvider provider) {
+        ConversionMetrics metrics = conversionMetrics;
+        if (metrics != null) return measured(metrics, value, TypeCode.BOOLEAN, provider, this::toBooleanCore);
+        return toBooleanCore(value, provider);
+    }
+
+    private Boolean toBooleanCore(Object value, FormatProvider provider) {
+        if (value == null) return nullValue(false);
+        return booleanConverter().convert(value, provider == null ? formatProvider : provider);
+    }
+
+    public Character toChar(Object value) {
+        return toChar(value, null);
+    }
+
+    public Character toChar(Object value, FormatProvider provider) {
+        ConversionMetrics metrics = conversionMetrics;
+        if (metrics != null) return measured(metrics, value, TypeCode.CHAR, provider, this::toCharCore);
+        return toCharCore(value, provider);
+    }
+
+    private Character toCharCore(Object value, FormatProvider provider) {
+        if (value == null) return nullValue((char) 0);
+        if (isIntegral(value)) return overflowPolicy.toChar(integralValue(value));
+        return characterConverter().convert(value, provider == null ? formatProvider : provider);
+    }
+
+    public Byte toByte(Object value) {
+        return toByte(value, null);
+    }
+
+    public Byte toByte(Object value, FormatProvider provider) {
+        ConversionMetrics metrics = conversionMetrics;
+        if (metrics != null) return measured(metrics, value, TypeCode.BYTE, provider, this::toByteCore);
+        return toByteCore(value, provider);
+    }
+
+    private Byte toByteCore(Object value, FormatProvider provider) {
+        if (value == null) return nullValue((byte) 0);
+        if (isIntegral(value)) return overflowPolicy.toByte(integralValue(value));
+        if (isFloating(value)) return overflowPolicy.toByte(((Number) value).doubleValue());
+        if (value.getClass() == BigDecimal.class) return overflowPolicy.toByte((BigDecimal) value);
+        return byteConverter().convert(value, provider == null ? formatProvider : provider);
+    }
+
+    public Short toInt16(Object value) {
+        return toInt16(value, null);
+    }
+
+    public Short toInt16(Object value, FormatProvider provider) {
+        ConversionMetrics metrics = conversionMetrics;
+        if (metrics != null) return measured(metrics, value, TypeCode.INT16, provider, this::toInt16Core);
+        return toInt16Core(value, provider);
+    }
+
+    private Short toInt16Core(Object value, FormatProvider provider) {
+        if (value == null) return nullValue((short) 0);
+        if (isIntegral(value)) return overflowPolicy.toInt16(integralValue(value));
+        if (isFloating(value)) return overflowPolicy.toInt16(((Number) value).doubleValue());
+        if (value.getClass() == BigDecimal.class) return overflowPolicy.toInt16((BigDecimal) value);
+        return shortConverter().convert(value, provider == null ? formatProvider : provider);
+    }
+
+    public Integer toInt32(Object value) {
+        return toInt32(value, null);
+    }
+
+    public Integer toInt32(Object value, FormatProvider provider) {
+        ConversionMetrics metrics = conversionMetrics;
+        if (metrics != null) return measured(metrics, value, TypeCode.INT32, provider, this::toInt32Core);
+        return toInt32Core(value, provider);
+    }
+
+    private Integer toInt32Core(Object value, FormatProvider provider) {
+        if (value == null) return nullValue(0);
+        if (isIntegral(value)) return overflowPolicy.toInt32(integralValue(value));
+        if (isFloating(value)) return overflowPolicy.toInt32(((Number) value).doubleValue());
+        if (value.getClass() == BigDecimal.class) return overflowPolicy.toInt32((BigDecimal) value);
+        return integerConverter().convert(value, provider == null ? formatProvider : provider);
+    }
+
+    public UInteger toUInt32(Object value) {
+        return toUInt32(value, null);
+    }
+
+    public UInteger toUInt32(Object value, FormatProvider provider) {
+        ConversionMetrics metrics = conversionMetrics;
+        if (metrics != null) return measured(metrics, value, TypeCode.UINT32, provider, this::toUInt32Core);
+        return toUInt32Core(value, provider);
+    }
+
+    private UInteger toUInt32Core(Object value, FormatProvider provider) {
+        if (value == null) return nullValue(UInteger.MIN_VALUE);
+        if (isIntegral(value)) return UInteger.valueOf(overflowPolicy.toUInt32(integralValue(value)));
+        if (isFloating(value)) return UInteger.valueOf(overflowPolicy.toUInt32(((Number) value).doubleValue()));
+        if (value instanceof BigDecimal) return UInteger.valueOf(overflowPolicy.toUInt32((BigDecimal) value));
+        if (provider == null) provider = formatProvider;
+        if (value instanceof Convertible) return ((Convertible) value).toUInt32(provider);
+        if (value instanceof CharSequence) return Convert.toUInt32(value.toString(), provider);
+        if (value instanceof Boolean) return Convert.toUInt32((Boolean) value);
+        if (value instanceof Character) return Convert.toUInt32((Character) value);
+        throw new InvalidCastException("InvalidCast_FromTo");
+    }
+
+    public Long toInt64(Object value) {
+        return toInt64(value, null);
+    }
+
+    public Long toInt64(Object value, FormatProvider provider) {
+        ConversionMetrics metrics = conversionMetrics;
+        if (metrics != null) return measured(metrics, value, TypeCode.INT64, provider, this::toInt64Core);
+        return toInt64Core(value, provider);
+    }
+
+    private Long toInt64Core(Object value, FormatProvider provider) {
+        if (value == null) return nullValue(0L);
+        if (value instanceof ULong) return overflowPolicy.fromUInt64(((ULong) value).longValue());
+        if (isIntegral(value)) return ((Number) value).longValue();
+        if (isFloating(value)) return overflowPolicy.toInt64(((Number) value).doubleValue());
+        if (value.getClass() == BigDecimal.class) return overflowPolicy.toInt64((BigDecimal) value);
+        return longConverter().convert(value, provider == null ? formatProvider : provider);
+    }
+
+    public ULong toUInt64(Object value) {
+        return toUInt64(value, null);
+    }
+
+    public ULong toUInt64(Object value, FormatProvider provider) {
+        ConversionMetrics metrics = conversionMetrics;
+        if (metrics != null) return measured(metrics, value, TypeCode.UINT64, provider, this::toUInt64Core);
+        return toUInt64Core(value, provider);
+    }
+
+    private ULong toUInt64Core(Object value, FormatProvider provider) {
+        if (value == null) return nullValue(ULong.MIN_VALUE);
+        if (value instanceof ULong) return (ULong) value;
+        if (isIntegral(value)) return ULong.valueOf(overflowPolicy.toUInt64(((Number) value).longValue()));
+        if (isFloating(value)) return ULong.valueOf(overflowPolicy.toUInt64(((Number) value).doubleValue()));
+        if (value instanceof BigDecimal) return ULong.valueOf(overflowPolicy.toUInt64((BigDecimal) value));
+        if (provider == null) provider = formatProvider;
+        if (value instanceof Convertible) return ((Convertible) value).toUInt64(provider);
+        if (value instanceof CharSequence) return Convert.toUInt64(value.toString(), provider);
+        if (value instanceof Boolean) return Convert.toUInt64((Boolean) value);
+        if (value instanceof Character) return Convert.toUInt64((Character) value);
+        throw new InvalidCastException("InvalidCast_FromTo");
+    }
+
+    public Float toSingle(Object value) {
+        return toSingle(value, null);
+    }
+
+    public Float toSingle(Object value, FormatProvider provider) {
+        ConversionMetrics metrics = conversionMetrics;
+        if (metrics != null) return measured(metrics, value, TypeCode.SINGLE, provider, this::toSingleCore);
+        return toSingleCore(value, provider);
+    }
+
+    private Float toSingleCore(Object value, FormatProvider provider) {
+        if (value == null) return nullValue(0f);
+        return floatConverter().convert(value, provider == null ? formatProvider : provider);
+    }
+
+    public Double toDouble(Object value) {
+        return toDouble(value, null);
+    }
+
+    public Double toDouble(Object value, FormatProvider provider) {
+        ConversionMetrics metrics = conversionMetrics;
+        if (metrics != null) return measured(metrics, value, TypeCode.DOUBLE, provider, this::toDoubleCore);
+        return toDoubleCore(value, provider);
+    }
+
+    private Double toDoubleCore(Object value, FormatProvider provider) {
+        if (value == null) return nullValue(0d);
+        if (provider == null) provider = formatProvider;
+        ParseCache<Double> cache = doubleParseCache;
+        if (cache != null && provider == null && value instanceof String) return cache.get((String) value);
+        return doubleConverter().convert(value, provider);
+    }
+
+    public BigDecimal toDecimal(Object value) {
+        return toDecimal(value, null);
+    }
+
+    public BigDecimal toDecimal(Object value, FormatProvider provider) {
+        ConversionMetrics metrics = conversionMetrics;
+        if (metrics != null) return measured(metrics, value, TypeCode.DECIMAL, provider, this::toDecimalCore);
+        return toDecimalCore(value, provider);
+    }
+
+    private BigDecimal toDecimalCore(Object value, FormatProvider provider) {
+        if (value == null) return nullValue(BigDecimal.ZERO);
+        if (provider == null) provider = formatProvider;
+        ParseCache<BigDecimal> cache = decimalParseCache;
+        if (cache != null && provider == null && value instanceof String) return cache.get((String) value);
+        return bigDecimalConverter().convert(value, provider);
+    }
+
+    public LocalDateTime toLocalDateTime(Object value) {
+        return toLocalDateTime(value, null);
+    }
+
+    public LocalDateTime toLocalDateTime(Object value, FormatProvider provider) {
+        ConversionMetrics metrics = conversionMetrics;
+        if (metrics != null) return measured(metrics, value, TypeCode.DATETIME, provider, this::toLocalDateTimeCore);
+        return toLocalDateTimeCore(value, provider);
+    }
+
+    private LocalDateTime toLocalDateTimeCore(Object value, FormatProvider provider) {
+        if (value == null) return nullValue(Convert.DATE_TIME_MIN_VALUE);
+        if (provider == null) provider = formatProvider;
+        ParseCache<LocalDateTime> cache = dateTimeParseCache;
+        if (cache != null && provider == null && value instanceof String) return cache.get((String) value);
+        return localDateTimeConverter().convert(value, provider);
+    }
+
+    public String toString(Object value) {
+        return toString(value, null);
+    }
+
+    public String toString(Object value, FormatProvider provider) {
+        ConversionMetrics metrics = conversionMetrics;
+        if (metrics != null) return measured(metrics, value, TypeCode.STRING, provider, this::toStringCore);
+        return toStringCore(value, provider);
+    }
+
+    private String toStringCore(Object value, FormatProvider provider) {
+        if (value == null) return nullValue("");
+        return stringConverter().convert(value, provider == null ? formatProvider : provider);
+    }
+
+    // Appends what toString(value, provider) returns; nothing for a null value.
+    public StringBuilder appendTo(StringBuilder sink, Object value, FormatProvider provider) {
+        if (sink == null) throw new ArgumentNullException("sink");
+        return ValueFormatter.appendTo(sink, value, provider == null ? formatProvider : provider);
+    }
+
+    public <A extends Appendable> A appendTo(A sink, Object value, FormatProvider provider) throws IOException {
+        if (sink == null) throw new ArgumentNullException("sink");
+        return ValueFormatter.appendTo(sink, value, provider == null ? formatProvider : provider);
+    }
+
+    private ValueTypeConverter<Boolean> booleanConverter() {
+        ValueTypeConverter<Boolean> converter = booleanConverter;
+        return converter != null ? converter : BuiltInConverters.booleanConverter();
+    }
+
+    private ValueTypeConverter<Character> characterConverter() {
+        ValueTypeConverter<Character> converter = characterConverter;
+        return converter != null ? converter : BuiltInConverters.characterConverter();
+    }
+
+    private ValueTypeConverter<Byte> byteConverter() {
+        ValueTypeConverter<Byte> converter = byteConverter;
+        return converter != null ? converter : BuiltInConverters.byteConverter();
+    }
+
+    private ValueTypeConverter<Short> shortConverter() {
+        ValueTypeConverter<Short> converter = shortConverter;
+        return converter != null ? converter : BuiltInConverters.shortConverter();
+    }
+
+    private ValueTypeConverter<Integer> integerConverter() {
+        ValueTypeConverter<Integer> converter = integerConverter;
+        return converter != null ? converter : BuiltInConverters.integerConverter();
+    }
+
+    private ValueTypeConverter<Long> longConverter() {
+        ValueTypeConverter<Long> converter = longConverter;
+        return converter != null ? converter : BuiltInConverters.longConverter();
+    }
+
+    private ValueTypeConverter<Float> floatConverter() {
+        ValueTypeConverter<Float> converter = floatConverter;
+        return converter != null ? converter : BuiltInConverters.floatConverter();
+    }
+
+    private ValueTypeConverter<Double> doubleConverter() {
+        ValueTypeConverter<Double> converter = doubleConverter;
+        return converter != null ? converter : BuiltInConverters.doubleConverter();
+    }
+
+    private ValueTypeConverter<BigDecimal> bigDecimalConverter() {
+        ValueTypeConverter<BigDecimal> converter = bigDecimalConverter;
+        return converter != null ? converter : BuiltInConverters.bigDecimalConverter();
+    }
+
+    private ValueTypeConverter<LocalDateTime> localDateTimeConverter() {
+        ValueTypeConverter<LocalDateTime> converter = localDateTimeConverter;
+        return converter != null ? converter : BuiltInConverters.localDateTimeConverter();
+    }
+
+    private ValueTypeConverter<String> stringConverter() {
+        ValueTypeConverter<String> converter = stringConverter;
+        return converter != null ? converter : BuiltInConverters.stringConverter();
+    }
+
+    // ConversionTarget.ENUM has already checked that the type is an enum class.
+    @SuppressWarnings("unchecked")
+    private static <E extends Enum<E>> EnumLookup<E> enumLookup(Type conversionType) {
+        return EnumLookup.forClass((Class<E>) conversionType);
+    }
+
+    private static boolean isIntegral(Object value) {
+        Class<?> type = value.getClass();
+        return type == Integer.class || type == Long.class || type == Short.class || type == Byte.class
+                || type == UInteger.class || type == ULong.class;
+    }
+
+    private static boolean isFloating(Object value) {
+        Class<?> type = value.getClass();
+        return type == Double.class || type == Float.class;
+    }
+
+    private long integralValue(Object value) {
+        if (value instanceof ULong) return overflowPolicy.narrowUInt64(((ULong) value).longValue());
+        return ((Number) value).longValue();
+    }
+
+    private <T> T nullValue(T defaultValue) {
+        switch (nullPolicy) {
+            case NULL:
+                return null;
+            case THROW:
+                throw new ArgumentNullException("value");
+            default:
+                return defaultValue;
+        }
+    }
+
+    public static final class Builder {
+        private final List<TypeConverter> typeConverters = new ArrayList<>();
+        private FormatProvider formatProvider;
+        private NullPolicy nullPolicy = NullPolicy.DEFAULT_VALUE;
+        private OverflowPolicy overflowPolicy = OverflowPolicy.CHECKED;
+        private ConversionMetrics conversionMetrics;
+
+        private ValueTypeConverter<Boolean> booleanConverter;
+        private ValueTypeConverter<Character> characterConverter;
+        private ValueTypeConverter<Byte> byteConverter;
+        private ValueTypeConverter<Short> shortConverter;
+        private ValueTypeConverter<Integer> integerConverter;
+        private ValueTypeConverter<Long> longConverter;
+        private ValueTypeConverter<Float> floatConverter;
+        private ValueTypeConverter<Double> doubleConverter;
+        private ValueTypeConverter<BigDecimal> bigDecimalConverter;
+        private ValueTypeConverter<LocalDateTime> localDateTimeConverter;
+        private ValueTypeConverter<String> stringConverter;
+
+        private int decimalParseCacheCapacity;
+        private int doubleParseCacheCapacity;
+        private int dateTimeParseCacheCapacity;
+        private ParseCache<BigDecimal> decimalParseCache;
+        private ParseCache<Double> doubleParseCache;
+        private ParseCache<LocalDateTime> dateTimeParseCache;
+        private ValueTypeConverter<BigDecimal> decimalParseCacheConverter;
+        private ValueTypeConverter<Double> doubleParseCacheConverter;
+        private ValueTypeConverter<LocalDateTime> dateTimeParseCacheConverter;
+
+        private Builder() {
+            typeConverters.add(new Int16TypeConverter());
+        }
+
+        private Builder(ConversionContext context) {
+            Collections.addAll(typeConverters, context.typeConverters);
+            formatProvider = context.formatProvider;
+            nullPolicy = context.nullPolicy;
+            overflowPolicy = context.overflowPolicy;
+            conversionMetrics = context.conversionMetrics;
+            booleanConverter = context.booleanConverter;
+            characterConverter = context.characterConverter;
+            byteConverter = context.byteConverter;
+            shortConverter = context.shortConverter;
+            integerConverter = context.integerConverter;
+            longConverter = context.longConverter;
+            floatConverter = context.floatConverter;
+            doubleConverter = context.doubleConverter;
+            bigDecimalConverter = context.bigDecimalConverter;
+            localDateTimeConverter = context.localDateTimeConverter;
+            stringConverter = context.stringConverter;
+            if (context.decimalParseCache != null) {
+                decimalParseCache = context.decimalParseCache;
+                decimalParseCacheCapacity = decimalParseCache.getCapacity();
+                decimalParseCacheConverter = context.bigDecimalConverter;
+            }
+            if (context.doubleParseCache != null) {
+                doubleParseCache = context.doubleParseCache;
+                doubleParseCacheCapacity = doubleParseCache.getCapacity();
+                doubleParseCacheConverter = context.doubleConverter;
+            }
+            if (context.dateTimeParseCache != null) {
+                dateTimeParseCache = context.dateTimeParseCache;
+                dateTimeParseCacheCapacity = dateTimeParseCache.getCapacity();
+                dateTimeParseCacheConverter = context.localDateTimeConverter;
+            }
+        }
+
+        // Adds a converter to the registry; one of the same class already registered wins.
+        public Builder addTypeConverter(TypeConverter typeConverter) {
+            if (typeConverter == null) throw new ArgumentNullException("typeConverter");
+            for (TypeConverter existing : typeConverters) {
+                if (existing.getClass() == typeConverter.getClass()) return this;
+            }
+            typeConverters.add(typeConverter);
+            return this;
+        }
+
+        public Builder addTypeConverters(Collection<? extends TypeConverter> typeConverters) {
+            if (typeConverters == null) throw new ArgumentNullException("typeConverters");
+            for (TypeConverter typeConverter : typeConverters) addTypeConverter(typeConverter);
+            return this;
+        }
+
+        public Builder clearTypeConverters() {
+            typeConverters.clear();
+            return this;
+        }
+
+        public Builder formatProvider(FormatProvider formatProvider) {
+            this.formatProvider = formatProvider;
+            return this;
+        }
+
+        public Builder nullPolicy(NullPolicy nullPolicy) {
+            if (nullPolicy == null) throw new ArgumentNullException("nullPolicy");
+            this.nullPolicy = nullPolicy;
+            return this;
+        }
+
+        public Builder overflowPolicy(OverflowPolicy overflowPolicy) {
+            if (overflowPolicy == null) throw new ArgumentNullException("overflowPolicy");
+            this.overflowPolicy = overflowPolicy;
+            return this;
+        }
+
+        public Builder conversionMetrics(ConversionMetrics conversionMetrics) {
+            this.conversionMetrics = conversionMetrics;
+            return this;
+        }
+
+        // Replaces the ValueTypeConverter for one of the target classes Boolean, Character, Byte,
+        // Short, Integer, Long, Float, Double, BigDecimal, LocalDateTime or String.
+        @SuppressWarnings("unchecked")
+        public <T> Builder valueTypeConverter(Class<T> targetType, ValueTypeConverter<T> converter) {
+            if (targetType == null) throw new ArgumentNullException("targetType");
+            if (converter == null) throw new ArgumentNullException("converter");
+            if (targetType == Boolean.class) booleanConverter = (ValueTypeConverter<Boolean>) converter;
+            else if (targetType == Character.class) characterConverter = (ValueTypeConverter<Character>) converter;
+            else if (targetType == Byte.class) byteConverter = (ValueTypeConverter<Byte>) converter;
+            else if (targetType == Short.class) shortConverter = (ValueTypeConverter<Short>) converter;
+            else if (targetType == Integer.class) integerConverter = (ValueTypeConverter<Integer>) converter;
+            else if (targetType == Long.class) longConverter = (ValueTypeConverter<Long>) converter;
+            else if (targetType == Float.class) floatConverter = (ValueTypeConverter<Float>) converter;
+            else if (targetType == Double.class) doubleConverter = (ValueTypeConverter<Double>) converter;
+            else if (targetType == BigDecimal.class) bigDecimalConverter = (ValueTypeConverter<BigDecimal>) converter;
+            else if (targetType == LocalDateTime.class) localDateTimeConverter = (ValueTypeConverter<LocalDateTime>) converter;
+            else if (targetType == String.class) stringConverter = (ValueTypeConverter<String>) converter;
+            else throw new ArgumentException("Arg_UnknownTypeCode");
+            return this;
+        }
+
+        // Puts a ParseCache in front of string parsing to DECIMAL, DOUBLE or DATETIME; a capacity
+        // of 0 removes it. See Convert.enableParseCache.
+        public Builder parseCache(TypeCode typeCode, int capacity) {
+            if (capacity < 0) throw new ArgumentException("capacity");
+            switch (typeCode) {
+                case DECIMAL:
+                    decimalParseCacheCapacity = capacity;
+                    decimalParseCache = null;
+                    break;
+                case DOUBLE:
+                    doubleParseCacheCapacity = capacity;
+                    doubleParseCache = null;
+                    break;
+                case DATETIME:
+                    dateTimeParseCacheCapacity = capacity;
+                    dateTimeParseCache = null;
+                    break;
+                default:
+                    throw new ArgumentException("Arg_ParseCacheNotSupported");
+            }
+            return this;
+        }
+
+        public ConversionContext build() {
+            return new ConversionContext(this);
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package io.standardcore;
+
+// Hook invoked by Convert around every changeType and toXxx(Object) call once installed
+// through Convert.setConversionMetrics. startTime() decides whether the call is timed:
+// it returns System.nanoTime() for sampled calls and NOT_SAMPLED otherwise, and the
+// value is handed back unchanged to conversionSucceeded / conversionFailed.
+public interface ConversionMetrics {
+    // nanoTime may return any long, 0 included; Long.MIN_VALUE is as unlikely as any other.
+    long NOT_SAMPLED = Long.MIN_VALUE;
+
+    long startTime();
+    void conversionSucceeded(TypeCode source, TypeCode target, Object value, long startTime);
+    void conversionFailed(TypeCode source, TypeCode target, Object value, RuntimeException exception, long startTime);
+
+    // Summary of a bulk conversion of count elements, reported once per batch.
+    default void batchCompleted(TypeCode source, TypeCode target, int count, int failures, long elapsedNanos) {
+    }
+}
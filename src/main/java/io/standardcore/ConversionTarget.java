@@ -0,0 +1,93 @@
+package io.standardcore;
+
+import io.standardcore.arrays.PrimitiveArrays;
+
+import java.lang.reflect.Type;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+// What changeType(Object, Type, FormatProvider) does for a target class, resolved once per class
+// and cached in a ClassValue so that dispatch is one lookup and a switch instead of a chain of
+// identity compares. Primitive classes map to the same target as their wrappers. The same table
+// identifies the source values that the built-in ValueTypeConverters handle.
+enum ConversionTarget {
+    BOOLEAN(TypeCode.BOOLEAN),
+    CHAR(TypeCode.CHAR),
+    BYTE(TypeCode.BYTE),
+    INT16(TypeCode.INT16),
+    INT32(TypeCode.INT32),
+    UINT32(TypeCode.UINT32),
+    INT64(TypeCode.INT64),
+    UINT64(TypeCode.UINT64),
+    SINGLE(TypeCode.SINGLE),
+    DOUBLE(TypeCode.DOUBLE),
+    DECIMAL(TypeCode.DECIMAL),
+    DATETIME(TypeCode.DATETIME),
+    // LocalDate and LocalTime, converted through toDateTime by ConversionContext only
+    DATE_OR_TIME(null),
+    // Decimal64, converted by Convert.toDecimal64
+    DECIMAL64(null),
+    STRING(TypeCode.STRING),
+    OBJECT(TypeCode.OBJECT),
+    CONVERTIBLE(null),
+    PRIMITIVE_ARRAY(null),
+    ENUM(null),
+    // parameterized types and classes without a built-in conversion
+    OTHER(null);
+
+    private static final ClassValue<ConversionTarget> TARGETS = new ClassValue<ConversionTarget>() {
+        @Override
+        protected ConversionTarget computeValue(Class<?> type) {
+            return resolve(type);
+        }
+    };
+
+    private final TypeCode typeCode;
+
+    ConversionTarget(TypeCode typeCode) {
+        this.typeCode = typeCode;
+    }
+
+    static ConversionTarget of(Type type) {
+        return type instanceof Class ? TARGETS.get((Class<?>) type) : OTHER;
+    }
+
+    // The TypeCode of a value whose exact class is a JDK value type converted by the built-in
+    // ValueTypeConverters, otherwise null. UInteger and ULong are Convertible and convert
+    // themselves; subclasses, such as those of BigDecimal, are left to the Convertible and
+    // TypeConverter paths.
+    static TypeCode valueTypeCode(Class<?> valueClass) {
+        ConversionTarget target = TARGETS.get(valueClass);
+        return target == OBJECT || target == UINT32 || target == UINT64 ? null : target.typeCode;
+    }
+
+    // The TypeCode the target converts to, or null when there is no matching TypeCode.
+    TypeCode getTypeCode() {
+        return typeCode;
+    }
+
+    private static ConversionTarget resolve(Class<?> type) {
+        if (type == Boolean.class || type == Boolean.TYPE) return BOOLEAN;
+        if (type == Character.class || type == Character.TYPE) return CHAR;
+        if (type == Byte.class || type == Byte.TYPE) return BYTE;
+        if (type == Short.class || type == Short.TYPE) return INT16;
+        if (type == Integer.class || type == Integer.TYPE) return INT32;
+        if (type == UInteger.class) return UINT32;
+        if (type == Long.class || type == Long.TYPE) return INT64;
+        if (type == ULong.class) return UINT64;
+        if (type == Float.class || type == Float.TYPE) return SINGLE;
+        if (type == Double.class || type == Double.TYPE) return DOUBLE;
+        if (type == BigDecimal.class) return DECIMAL;
+        if (type == LocalDateTime.class) return DATETIME;
+        if (type == LocalDate.class || type == LocalTime.class) return DATE_OR_TIME;
+        if (type == Decimal64.class) return DECIMAL64;
+        if (type == String.class || type == CharSequence.class) return STRING;
+        if (type == Object.class) return OBJECT;
+        if (type == Convertible.class) return CONVERTIBLE;
+        if (PrimitiveArrays.isPrimitiveArray(type)) return PRIMITIVE_ARRAY;
+        if (type.isEnum()) return ENUM;
+        return OTHER;
+    }
+}
@@ -1,38 +1,108 @@
 package io.standardcore;
 
-import io.standardcore.typeConverters.Int16TypeConverter;
-import io.standardcore.valueTypeConverters.*;
-
+import io.standardcore.caching.ParseCache;
+import io.standardcore.encoding.Base64Decoder;
+import io.standardcore.encoding.Base64Encoder;
+import io.standardcore.encoding.Base64Variant;
+import io.standardcore.formatting.RadixFormatter;
+import io.standardcore.formatting.ValueFormatter;
+import io.standardcore.metrics.CompositeConversionMetrics;
+import io.standardcore.parsing.Int64Parser;
+import io.standardcore.parsing.RadixParser;
+
+import java.io.IOException;
 import java.lang.reflect.Type;
 import java.math.BigDecimal;
-import java.time.LocalDate;
+import java.nio.ByteBuffer;
 import java.time.LocalDateTime;
-import java.time.LocalTime;
-import java.util.Arrays;
 import java.util.Collection;
-import java.util.LinkedList;
-import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 
 public class Convert {
-    final static List<TypeConverter> typeConverters;
+    // Created on first use, so that typed conversions such as toInt32(Long) never build it.
+    private static volatile ConversionContext defaultContext;
 
-    static {
-        typeConverters = new LinkedList<>();
-        typeConverters.add(new Int16TypeConverter());
+    // The context behind the static methods of this class. Its settings are changed by
+    // installing a new context, either directly or through the setters below, which derive
+    // one from the current context.
+    public static ConversionContext getDefaultContext(){
+        return context();
     }
 
-    public static void setTypeConverters(Collection<TypeConverter> typeConverters){
-        for(TypeConverter typeConverter : typeConverters){
-            if(typeConverters.stream().anyMatch(x-> x.getClass() == typeConverter.getClass())) continue;
+    private static ConversionContext context(){
+        ConversionContext context = defaultContext;
+        return context != null ? context : createDefaultContext();
+    }
 
-            typeConverters.add(typeConverter);
-        }
+    private static synchronized ConversionContext createDefaultContext(){
+        if (defaultContext == null) defaultContext = ConversionContext.builder().build();
+        return defaultContext;
+    }
+
+    public static synchronized void setDefaultContext(ConversionContext context){
+        if (context == null) throw new ArgumentNullException("context");
+        defaultContext = context;
+    }
+
+    public static synchronized void setTypeConverters(Collection<TypeConverter> typeConverters){
+        defaultContext = context().toBuilder().addTypeConverters(typeConverters).build();
+    }
+
+    // Installs the hook notified around every changeType(Object, TypeCode, FormatProvider) call.
+    // Pass null to disable it again; while disabled the only cost is one null check.
+    public static synchronized void setConversionMetrics(ConversionMetrics metrics){
+        defaultContext = context().toBuilder().conversionMetrics(metrics).build();
+    }
+
+    // Installs the hook next to the one already installed, if any, through a
+    // CompositeConversionMetrics; both are then notified.
+    public static synchronized void addConversionMetrics(ConversionMetrics metrics){
+        setConversionMetrics(CompositeConversionMetrics.of(getConversionMetrics(), metrics));
+    }
+
+    public static ConversionMetrics getConversionMetrics(){
+        return context().getConversionMetrics();
+    }
+
+    // Selects how the narrowing conversions of this class, the typed overloads such as
+    // toInt32(Double) included, handle values outside the target range.
+    public static synchronized void setOverflowPolicy(OverflowPolicy overflowPolicy){
+        defaultContext = context().toBuilder().overflowPolicy(overflowPolicy).build();
+    }
+
+    public static OverflowPolicy getOverflowPolicy(){
+        return overflowPolicy();
+    }
+
+    // The default context's policy, read without creating the context when none exists yet.
+    private static OverflowPolicy overflowPolicy(){
+        ConversionContext context = defaultContext;
+        return context != null ? context.getOverflowPolicy() : OverflowPolicy.CHECKED;
+    }
+
+    // Puts a bounded cache of parse results in front of toDecimal(String), toDouble(String) or
+    // toLocalDateTime(String), selected by DECIMAL, DOUBLE or DATETIME. The cache is only
+    // consulted when no FormatProvider is given, since a provider may change the result.
+    public static synchronized void enableParseCache(TypeCode typeCode, int capacity){
+        if (capacity < 1) throw new ArgumentException("capacity");
+        defaultContext = context().toBuilder().parseCache(typeCode, capacity).build();
     }
 
-    private static TypeConverter getTypeConverter(Object value){
-        return typeConverters.stream()
-                .filter(x-> x.isConvertible(value))
-                .findFirst().orElse(null);
+    public static synchronized void disableParseCache(TypeCode typeCode){
+        defaultContext = context().toBuilder().parseCache(typeCode, 0).build();
+    }
+
+    // Returns null when no cache is enabled for the type code.
+    public static ParseCache<?> getParseCache(TypeCode typeCode){
+        return context().getParseCache(typeCode);
+    }
+
+    // Starts a background thread that loads the converters for the given target types and runs
+    // their common conversion and formatting paths until the JIT has compiled them. Meant to be
+    // called early by short-lived processes; the future completes when the warm-up is done.
+    public static CompletableFuture<Void> warmUp(Set<TypeCode> typeCodes){
+        return WarmUp.start(typeCodes);
     }
 
     // Returns the type code for the given Object. If the argument is null,
@@ -41,314 +111,183 @@ public class Convert {
     // Otherwise, the result is the type code of the Object, as determined by
     // the Object's implementation of IConvertible.
     public static TypeCode getTypeCode(Object value) {
-        if (value == null) return TypeCode.EMPTY;
-        if (value instanceof Convertible)
-        {
-            Convertible temp = (Convertible)value;
-            return temp.GetTypeCode();
-        }
-
-        TypeConverter typeConverter = getTypeConverter(value);
-        if(typeConverters != null){
-            return typeConverter.getTypeCode(value);
-        }
-
-        return TypeCode.OBJECT;
+        return context().getTypeCode(value);
     }
 
     public static Object changeType(Object value, TypeCode typeCode, FormatProvider provider) {
-        if (value == null && (typeCode == TypeCode.EMPTY || typeCode == TypeCode.STRING || typeCode == TypeCode.OBJECT)) {
-            return null;
-        }
-
-        if(value instanceof  Convertible){
-            return changeType((Convertible)value, typeCode, provider);
-        }
-
-        TypeConverter typeConverter = getTypeConverter(value);
-        if(typeConverters != null){
-            return changeType(value, typeConverter, typeCode, provider);
-        }
+        return context().changeType(value, typeCode, provider);
+    }
 
-        throw new InvalidCastException("InvalidCast_Convertible");
+    public static Object changeType(Object value, Type conversionType, FormatProvider provider){
+        return context().changeType(value, conversionType, provider);
     }
 
-    private static Object changeType(Convertible v, TypeCode typeCode, FormatProvider provider){
-        // This line is invalid for things like Enums that return a TypeCode
-        // of int, but the Object can't actually be cast to an int.
-        //            if (v.GetTypeCode() == typeCode) return value;
-        switch (typeCode)
+    // Convert.DefaultToType: toType for Convertible implementations that only know their own
+    // toXxx conversions.
+    static Object defaultToType(Convertible value, Type conversionType, FormatProvider provider){
+        if (conversionType == null)
         {
-            case BOOLEAN:
-                return v.toBoolean(provider);
-            case CHAR:
-                return v.toChar(provider);
-            case BYTE:
-                return v.toByte(provider);
-            case INT16:
-                return v.toShort(provider);
-            case INT32:
-                return v.toInt32(provider);
-            case INT64:
-                return v.toInt64(provider);
-            case SINGLE:
-                return v.toFloat(provider);
-            case DOUBLE:
-                return v.toDouble(provider);
-            case DECIMAL:
-                return v.toDecimal(provider);
-            case DATETIME:
-                return v.toDateTime(provider);
-            case STRING:
-                return v.toString(provider);
-            case OBJECT:
-                return v;
-            case EMPTY:
-                throw new InvalidCastException("InvalidCast_Empty");
-            default:
-                throw new ArgumentException("Arg_UnknownTypeCode");
+            throw new ArgumentNullException("conversionType");
         }
-    }
 
-    private static Object changeType(Object value, TypeConverter converter, TypeCode typeCode, FormatProvider provider){
-        switch (typeCode)
-        {
+        if(value.getClass() == conversionType){
+            return value;
+        }
+
+        switch (ConversionTarget.of(conversionType)) {
             case BOOLEAN:
-                return converter.toBoolean(value, provider);
+                return value.toBoolean(provider);
             case CHAR:
-                return converter.toChar(value, provider);
+                return value.toChar(provider);
             case BYTE:
-                return converter.toByte(value, provider);
+                return value.toByte(provider);
             case INT16:
-                return converter.toShort(value, provider);
+                return value.toInt16(provider);
             case INT32:
-                return converter.toInteger(value, provider);
+                return value.toInt32(provider);
+            case UINT32:
+                return value.toUInt32(provider);
             case INT64:
-                return converter.toLong(value, provider);
+                return value.toInt64(provider);
+            case UINT64:
+                return value.toUInt64(provider);
             case SINGLE:
-                return converter.toFloat(value, provider);
+                return value.toSingle(provider);
             case DOUBLE:
-                return converter.toDouble(value, provider);
+                return value.toDouble(provider);
             case DECIMAL:
-                return converter.toDecimal(value, provider);
+                return value.toDecimal(provider);
             case DATETIME:
-                return converter.toDateTime(value, provider);
+                return value.toDateTime(provider);
             case STRING:
-                return converter.toString(value, provider);
+                return value.toString(provider).toString();
+            case DECIMAL64:
+                return Decimal64.valueOf(value.toDecimal(provider));
             case OBJECT:
+            case CONVERTIBLE:
                 return value;
-            case EMPTY:
-                throw new InvalidCastException("InvalidCast_Empty");
             default:
-                throw new ArgumentException("Arg_UnknownTypeCode");
-        }
-    }
-
-    public static Object changeType(Object value, Type conversionType, FormatProvider provider){
-        if (conversionType == null)
-        {
-            throw new ArgumentNullException("conversionType");
-        }
-
-        if(referenceEquals(value.getClass(), conversionType)){
-            return value;
-        }
-
-        if(value instanceof Convertible){
-            return ((Convertible) value).toType(conversionType, provider);
-        }
-
-        TypeConverter typeConverter = getTypeConverter(value);
-        if(typeConverters == null){
-            throw new InvalidCastException("InvalidCast_IConvertible");
-        }
-
-        if(referenceEquals(conversionType, Boolean.class, Boolean.TYPE)){
-            return typeConverter.toBoolean(value, provider);
-        }
-
-        if(referenceEquals(conversionType, Character.class, Character.TYPE)){
-            return typeConverter.toChar(value, provider);
-        }
-
-        if(referenceEquals(conversionType, Byte.class, Byte.TYPE)){
-            return typeConverter.toByte(value, provider);
-        }
-
-        if(referenceEquals(conversionType, Short.class, Short.TYPE)){
-            return typeConverter.toShort(value, provider);
-        }
-
-        if(referenceEquals(conversionType, Integer.class, Integer.TYPE)){
-            return typeConverter.toInteger(value, provider);
-        }
-
-        if(referenceEquals(conversionType, Long.class, Long.TYPE)){
-            return typeConverter.toLong(value, provider);
-        }
-
-        if(referenceEquals(conversionType, Float.class, Float.TYPE)){
-            return typeConverter.toFloat(value, provider);
-        }
-
-        if(referenceEquals(conversionType, Double.class, Double.TYPE)){
-            return typeConverter.toDouble(value, provider);
-        }
-
-        if(referenceEquals(conversionType, BigDecimal.class)){
-            return typeConverter.toDecimal(value, provider);
-        }
-
-        if(referenceEquals(conversionType, LocalDateTime.class, LocalDate.class, LocalTime.class)){
-            return typeConverter.toDateTime(value, provider);
-        }
-
-        if(referenceEquals(conversionType, String.class, CharSequence.class)){
-            return typeConverter.toString(value, provider);
-        }
-
-        if(referenceEquals(conversionType, Object.class)){
-            return value;
+                throw new InvalidCastException("InvalidCast_FromTo");
         }
-
-        return typeConverter.toType(value, conversionType, provider);
-    }
-
-
-    private static boolean referenceEquals(Object o1, Object... o2){
-        if(o1 == null) throw new ArgumentNullException("o1"):
-        if(o2 == null || o2.length == 0)  throw new ArgumentNullException("o2"):
-        return Arrays.stream(o2).anyMatch(x-> x == o1);
     }
 
-    private static void throwCharOverflowException() { throw new OverflowException("Overflow_Char"); }
-
-    private static void throwByteOverflowException() { throw new OverflowException("Overflow_Byte"); }
-
-    private static void throwSByteOverflowException() { throw new OverflowException("Overflow_SByte"); }
-
-    private static void throwInt16OverflowException() { throw new OverflowException("Overflow_Int16"); }
+    // DateTime.MinValue
+    final static LocalDateTime DATE_TIME_MIN_VALUE = LocalDateTime.of(1, 1, 1, 0, 0);
 
-    private static void throwUInt16OverflowException() { throw new OverflowException("Overflow_UInt16"); }
 
-    private static void throwInt32OverflowException() { throw new OverflowException("Overflow_Int32"); }
-
-    private static void throwUInt32OverflowException() { throw new OverflowException("Overflow_UInt32"); }
-
-    private static void throwInt64OverflowException() { throw new OverflowException("Overflow_Int64"); }
-
-    private static void throwUInt64OverflowException() { throw new OverflowException("Overflow_UInt64"); }
-
-    private final static ValueTypeConverter<Boolean> BOOLEAN_VALUE_TYPE_CONVERTER = new BooleanValueTypeConverter();
-    private final static ValueTypeConverter<Character> CHARACTER_VALUE_TYPE_CONVERTER = new CharacterValueTypeConverter();
-    private final static ValueTypeConverter<Byte> BYTE_VALUE_TYPE_CONVERTER = new ByteValueTypeConverter();
-    private final static ValueTypeConverter<Short> SHORT_VALUE_TYPE_CONVERTER = new ShortValueTypeConverter();
-    private final static ValueTypeConverter<Integer> INTEGER_VALUE_TYPE_CONVERTER = new IntegerValueTypeConverter();
-    private final static ValueTypeConverter<Long> LONG_VALUE_TYPE_CONVERTER = new LongValueTypeConverter();
-    private final static ValueTypeConverter<Float> FLOAT_VALUE_TYPE_CONVERTER = new FloatValueTypeConverter();
-    private final static ValueTypeConverter<Double> DOUBLE_VALUE_TYPE_CONVERTER = new DoubleValueTypeConverter();
-    private final static ValueTypeConverter<BigDecimal> BIG_DECIMAL_VALUE_TYPE_CONVERTER = new BigDecimalValueTypeConverter();
-    private final static ValueTypeConverter<String> STRING_VALUE_TYPE_CONVERTER = new StringValueTypeConverter();
-    private final static ValueTypeConverter<LocalDateTime> LOCAL_DATE_TIME_VALUE_TYPE_CONVERTER = new LocalDateTimeValueTypeConverter();
 
 
     // Conversions to Boolean
     public static Boolean toBoolean(Object value) {
-        return value == null ? false : BOOLEAN_VALUE_TYPE_CONVERTER.convert(value);
+        return context().toBoolean(value);
     }
 
     public static Boolean toBoolean(Object value, FormatProvider provider) {
-        return value == null ? false : BOOLEAN_VALUE_TYPE_CONVERTER.convert(value, provider);
+        return context().toBoolean(value, provider);
     }
 
     public static Boolean toBoolean(Boolean value) {
-        return BOOLEAN_VALUE_TYPE_CONVERTER.convert(value);
+        return BuiltInConverters.booleanConverter().convert(value);
     }
 
     // to be consistent with IConvertible in the base data types else we get different semantics
     // with widening operations. Without this operator this widen succeeds,with this API the widening throws.
     public static Boolean toBoolean(Character value) {
-        return BOOLEAN_VALUE_TYPE_CONVERTER.convert(value);
+        return BuiltInConverters.booleanConverter().convert(value);
     }
 
     public static Boolean toBoolean(Byte value) {
-        return BOOLEAN_VALUE_TYPE_CONVERTER.convert(value);
+        return BuiltInConverters.booleanConverter().convert(value);
     }
 
     public static Boolean toBoolean(Short value) {
-        return BOOLEAN_VALUE_TYPE_CONVERTER.convert(value);
+        return BuiltInConverters.booleanConverter().convert(value);
     }
 
     public static Boolean toBoolean(Integer value) {
-        return BOOLEAN_VALUE_TYPE_CONVERTER.convert(value);
+        return BuiltInConverters.booleanConverter().convert(value);
     }
 
     public static Boolean toBoolean(Long value) {
-        return BOOLEAN_VALUE_TYPE_CONVERTER.convert(value);
+        return BuiltInConverters.booleanConverter().convert(value);
+    }
+
+    public static Boolean toBoolean(UInteger value) {
+        return value.intValue() != 0;
+    }
+
+    public static Boolean toBoolean(ULong value) {
+        return value.longValue() != 0;
     }
 
     public static Boolean toBoolean(String value) {
         if (value == null)
             return false;
-        return BOOLEAN_VALUE_TYPE_CONVERTER.convert(value);
+        return BuiltInConverters.booleanConverter().convert(value);
     }
 
     public static Boolean toBoolean(String value, FormatProvider provider) {
         if (value == null)
             return false;
-        return BOOLEAN_VALUE_TYPE_CONVERTER.convert(value, provider);
+        return BuiltInConverters.booleanConverter().convert(value, provider);
     }
 
     public static Boolean toBoolean(Float value) {
-        return BOOLEAN_VALUE_TYPE_CONVERTER.convert(value);
+        return BuiltInConverters.booleanConverter().convert(value);
     }
 
     public static Boolean toBoolean(Double value) {
-        return BOOLEAN_VALUE_TYPE_CONVERTER.convert(value);
+        return BuiltInConverters.booleanConverter().convert(value);
     }
 
     public static Boolean toBoolean(BigDecimal value) {
-        return BOOLEAN_VALUE_TYPE_CONVERTER.convert(value);
+        return BuiltInConverters.booleanConverter().convert(value);
     }
 
     public static Boolean toBoolean(LocalDateTime value) {
-        return BOOLEAN_VALUE_TYPE_CONVERTER.convert(value);
+        return BuiltInConverters.booleanConverter().convert(value);
     }
 
     // Conversions to Char
     public static Character toChar(Object value) {
-        return value == null ?  (char)0 : CHARACTER_VALUE_TYPE_CONVERTER.convert(value);
+        return context().toChar(value);
     }
 
     public static Character toChar(Object value, FormatProvider provider) {
-        return value == null ? (char)0 : CHARACTER_VALUE_TYPE_CONVERTER.convert(value, provider);
+        return context().toChar(value, provider);
     }
 
     public static Character toChar(Boolean value) {
-        return CHARACTER_VALUE_TYPE_CONVERTER.convert(value);
+        return BuiltInConverters.characterConverter().convert(value);
     }
 
     public static Character toChar(Character value) {
-        return CHARACTER_VALUE_TYPE_CONVERTER.convert(value);
+        return BuiltInConverters.characterConverter().convert(value);
     }
 
     public static Character toChar(Byte value) {
-        return CHARACTER_VALUE_TYPE_CONVERTER.convert(value);
+        return BuiltInConverters.characterConverter().convert(value);
     }
 
     public static Character toChar(Short value) {
-        if (value < 0) throwCharOverflowException();
-        return CHARACTER_VALUE_TYPE_CONVERTER.convert(value);
+        return overflowPolicy().toChar(value);
     }
 
     public static Character toChar(Integer value) {
-        if (value < 0 || value > Character.MAX_VALUE) throwCharOverflowException();
-        return CHARACTER_VALUE_TYPE_CONVERTER.convert(value);
+        return overflowPolicy().toChar(value);
     }
 
     public static Character toChar(Long value) {
-        if (value < 0 || value > Character.MAX_VALUE) throwCharOverflowException();
-        return CHARACTER_VALUE_TYPE_CONVERTER.convert(value);
+        return overflowPolicy().toChar(value);
+    }
+
+    public static Character toChar(UInteger value) {
+        return overflowPolicy().toChar(value.longValue());
+    }
+
+    public static Character toChar(ULong value) {
+        OverflowPolicy policy = overflowPolicy();
+        return policy.toChar(policy.narrowUInt64(value.longValue()));
     }
 
     //
@@ -366,42 +305,42 @@ public class Convert {
         if (value.length() != 1)
             throw new FormatException("Format_NeedSingleChar");
 
-        return CHARACTER_VALUE_TYPE_CONVERTER.convert(value);
+        return BuiltInConverters.characterConverter().convert(value);
     }
 
     // to be consistent with IConvertible in the base data types else we get different semantics
     // with widening operations. Without this operator this widen succeeds,with this API the widening throws.
     public static Character toChar(Float value) {
-        return CHARACTER_VALUE_TYPE_CONVERTER.convert(value);
+        return BuiltInConverters.characterConverter().convert(value);
     }
 
     // to be consistent with IConvertible in the base data types else we get different semantics
     // with widening operations. Without this operator this widen succeeds,with this API the widening throws.
     public static Character toChar(Double value) {
-        return CHARACTER_VALUE_TYPE_CONVERTER.convert(value);
+        return BuiltInConverters.characterConverter().convert(value);
     }
 
     // to be consistent with IConvertible in the base data types else we get different semantics
     // with widening operations. Without this operator this widen succeeds,with this API the widening throws.
     public static Character toChar(BigDecimal value) {
-        return CHARACTER_VALUE_TYPE_CONVERTER.convert(value);
+        return BuiltInConverters.characterConverter().convert(value);
     }
 
     public static Character toChar(LocalDateTime value) {
-        return CHARACTER_VALUE_TYPE_CONVERTER.convert(value);
+        return BuiltInConverters.characterConverter().convert(value);
     }
 
     // Conversions to Byte
     public static Byte toByte(Object value) {
-        return value == null ? (byte)0 : BYTE_VALUE_TYPE_CONVERTER.convert(value);
+        return context().toByte(value);
     }
 
     public static Byte toByte(Object value, FormatProvider provider) {
-        return value == null ? (byte)0 :  BYTE_VALUE_TYPE_CONVERTER.convert(value);
+        return context().toByte(value, provider);
     }
 
     public static Byte toByte(Boolean value) {
-        return value ?   BYTE_VALUE_TYPE_CONVERTER.convert(value);
+        return value ? (byte) 1 : (byte) 0;
     }
 
     public static Byte toByte(Byte value) {
@@ -409,160 +348,179 @@ public class Convert {
     }
 
     public static Byte toByte(Character value) {
-        if (value > Byte.MAX_VALUE) throwByteOverflowException();
-        return  BYTE_VALUE_TYPE_CONVERTER.convert(value);
+        return overflowPolicy().toByte(value);
     }
 
     public static Byte toByte(Short value) {
-        if (value < Byte.MIN_VALUE || value > Byte.MAX_VALUE) throwByteOverflowException();
-        return  BYTE_VALUE_TYPE_CONVERTER.convert(value);
+        return overflowPolicy().toByte(value);
     }
 
     public static Byte toByte(Integer value) {
-        if (value < Byte.MIN_VALUE || value > Byte.MAX_VALUE) throwByteOverflowException();
-        return  BYTE_VALUE_TYPE_CONVERTER.convert(value);
+        return overflowPolicy().toByte(value);
     }
 
     public static Byte toByte(Long value) {
-        if (value < Byte.MIN_VALUE || value > Byte.MAX_VALUE) throwByteOverflowException();
-        return  BYTE_VALUE_TYPE_CONVERTER.convert(value);
+        return overflowPolicy().toByte(value);
+    }
+
+    public static Byte toByte(UInteger value) {
+        return overflowPolicy().toByte(value.longValue());
+    }
+
+    public static Byte toByte(ULong value) {
+        OverflowPolicy policy = overflowPolicy();
+        return policy.toByte(policy.narrowUInt64(value.longValue()));
     }
 
     public static Byte toByte(Float value) {
-        return  BYTE_VALUE_TYPE_CONVERTER.convert(value);
+        return overflowPolicy().toByte(value);
     }
 
     public static Byte toByte(Double value) {
-        return  BYTE_VALUE_TYPE_CONVERTER.convert(value);
+        return overflowPolicy().toByte(value);
     }
 
     public static Byte toByte(BigDecimal value) {
-        return  BYTE_VALUE_TYPE_CONVERTER.convert(value);
+        return overflowPolicy().toByte(value);
     }
 
     public static Byte toByte(String value) {
         if (value == null)
             return 0;
-        return  BYTE_VALUE_TYPE_CONVERTER.convert(value);
+        return  BuiltInConverters.byteConverter().convert(value);
     }
 
     public static Byte toByte(String value, FormatProvider provider) {
         if (value == null)
             return 0;
-        return  BYTE_VALUE_TYPE_CONVERTER.convert(value, provider);
+        return  BuiltInConverters.byteConverter().convert(value, provider);
+    }
+
+    // Radix 2 to 36. Outside base 10 the digits are the type's bit pattern, as in .NET, so
+    // toByte("ff", 16) is -1; see RadixParser.
+    public static Byte toByte(CharSequence value, int fromBase) {
+        if (value == null)
+            return 0;
+        if (fromBase == 10)
+            return OverflowPolicy.CHECKED.toByte(Int64Parser.parse(value));
+        return (byte) RadixParser.parseBits(value, fromBase, 8, "Overflow_Byte");
     }
 
     public static Byte toByte(LocalDateTime value) {
-        return  BYTE_VALUE_TYPE_CONVERTER.convert(value);
+        return  BuiltInConverters.byteConverter().convert(value);
     }
 
     // Conversions to Int16
 
     public static Short toInt16(Object value) {
-        return value == null ? (short)0 : SHORT_VALUE_TYPE_CONVERTER.convert(value);
+        return context().toInt16(value);
     }
 
     public static Short toInt16(Object value, FormatProvider provider) {
-        return value == null ? (short)0 : SHORT_VALUE_TYPE_CONVERTER.convert(value, provider);
+        return context().toInt16(value, provider);
     }
 
     public static Short toInt16(Boolean value) {
-        return  SHORT_VALUE_TYPE_CONVERTER.convert(value);
+        return  BuiltInConverters.shortConverter().convert(value);
     }
 
     public static Short toInt16(Character value) {
-        if (value > Short.MAX_VALUE) throwInt16OverflowException();
-        return  SHORT_VALUE_TYPE_CONVERTER.convert(value);
+        return overflowPolicy().toInt16(value);
     }
 
     public static Short toInt16(Byte value) {
-        return  SHORT_VALUE_TYPE_CONVERTER.convert(value);
+        return  BuiltInConverters.shortConverter().convert(value);
     }
 
     public static Short toInt16(Integer value) {
-        if (value < Short.MIN_VALUE || value > Short.MAX_VALUE) throwInt16OverflowException();
-        return  SHORT_VALUE_TYPE_CONVERTER.convert(value);
+        return overflowPolicy().toInt16(value);
     }
 
     public static Short toInt16(Short value) {
-        return  SHORT_VALUE_TYPE_CONVERTER.convert(value);
+        return  BuiltInConverters.shortConverter().convert(value);
     }
 
     public static Short toInt16(Long value) {
-        if (value < Short.MIN_VALUE || value > Short.MAX_VALUE) throwInt16OverflowException();
-        return  SHORT_VALUE_TYPE_CONVERTER.convert(value);
+        return overflowPolicy().toInt16(value);
+    }
+
+    public static Short toInt16(UInteger value) {
+        return overflowPolicy().toInt16(value.longValue());
+    }
+
+    public static Short toInt16(ULong value) {
+        OverflowPolicy policy = overflowPolicy();
+        return policy.toInt16(policy.narrowUInt64(value.longValue()));
     }
 
     public static Short toInt16(Float value) {
-        return  SHORT_VALUE_TYPE_CONVERTER.convert(value);
+        return overflowPolicy().toInt16(value);
     }
 
     public static Short toInt16(Double value) {
-        return SHORT_VALUE_TYPE_CONVERTER.convert(value);
+        return overflowPolicy().toInt16(value);
     }
 
     public static Short toInt16(BigDecimal value) {
-        return  SHORT_VALUE_TYPE_CONVERTER.convert(value);
+        return overflowPolicy().toInt16(value);
     }
 
     public static Short toInt16(String value) {
         if (value == null)
             return 0;
-        return  SHORT_VALUE_TYPE_CONVERTER.convert(value);
+        return  BuiltInConverters.shortConverter().convert(value);
     }
 
     public static Short toInt16(String value, FormatProvider provider) {
         if (value == null)
             return 0;
-        return  SHORT_VALUE_TYPE_CONVERTER.convert(value, provider);
+        return  BuiltInConverters.shortConverter().convert(value, provider);
+    }
+
+    public static Short toInt16(CharSequence value, int fromBase) {
+        if (value == null)
+            return 0;
+        if (fromBase == 10)
+            return OverflowPolicy.CHECKED.toInt16(Int64Parser.parse(value));
+        return (short) RadixParser.parseBits(value, fromBase, 16, "Overflow_Int16");
     }
 
     public static Short toInt16(LocalDateTime value) {
-        return  SHORT_VALUE_TYPE_CONVERTER.convert(value);
+        return  BuiltInConverters.shortConverter().convert(value);
     }
 
     
     // Conversions to Int32
 
     public static Integer toInt32(Object value) {
-        return value == null ? 0 : ((IConvertible)value).toInt32(null);
+        return context().toInt32(value);
     }
 
     public static Integer toInt32(Object value, FormatProvider provider) {
-        return value == null ? 0 : ((IConvertible)value).toInt32(provider);
+        return context().toInt32(value, provider);
     }
 
 
     public static Integer toInt32(Boolean value) {
-        return value ? Boolean.True : Boolean.False;
+        return value ? 1 : 0;
     }
 
     public static Integer toInt32(Character value) {
-        return value;
+        return (int) value;
     }
 
 
-    public static Integer toInt32(sByte value) {
-        return value;
-    }
-
     public static Integer toInt32(Byte value) {
-        return value;
+        return (int) value;
     }
 
     public static Integer toInt32(Short value) {
-        return value;
+        return (int) value;
     }
 
 
-    public static Integer toInt32(uShort value) {
-        return value;
-    }
-
-
-    public static Integer toInt32(uInteger value) {
-        if (value > Integer.MaxValue) ThrowInt32OverflowException();
-        return (Integer)value;
+    public static Integer toInt32(UInteger value) {
+        return overflowPolicy().toInt32(value.longValue());
     }
 
     public static Integer toInt32(Integer value) {
@@ -570,62 +528,55 @@ public class Convert {
     }
 
     public static Integer toInt32(Long value) {
-        if (value < Integer.MinValue || value > Integer.MaxValue) ThrowInt32OverflowException();
-        return (Integer)value;
+        return overflowPolicy().toInt32(value);
     }
 
 
-    public static Integer toInt32(uLong value) {
-        if (value > Integer.MaxValue) ThrowInt32OverflowException();
-        return (Integer)value;
+    public static Integer toInt32(ULong value) {
+        OverflowPolicy policy = overflowPolicy();
+        return policy.toInt32(policy.narrowUInt64(value.longValue()));
     }
 
     public static Integer toInt32(Float value) {
-        return toInt32((Double)value);
+        return overflowPolicy().toInt32(value);
     }
 
     public static Integer toInt32(Double value) {
-        if (value >= 0)
-        {
-            if (value < 2147483647.5)
-            {
-                Integer result = (Integer)value;
-                Double dif = value - result;
-                if (dif > 0.5 || dif == 0.5 && (result & 1) != 0) result++;
-                return result;
-            }
-        }
-        else
-        {
-            if (value >= -2147483648.5)
-            {
-                Integer result = (Integer)value;
-                Double dif = value - result;
-                if (dif < -0.5 || dif == -0.5 && (result & 1) != 0) result--;
-                return result;
-            }
-        }
-        throw new OverflowException(SR.Overflow_Int32);
+        return overflowPolicy().toInt32(value);
     }
 
     public static Integer toInt32(BigDecimal value) {
-        return BigDecimal.toInt32(BigDecimal.Round(value, 0));
+        return overflowPolicy().toInt32(value);
     }
 
     public static Integer toInt32(String value) {
         if (value == null)
             return 0;
-        return Integer.Parse(value, );
+        return OverflowPolicy.CHECKED.toInt32(Int64Parser.parse(value));
     }
 
     public static Integer toInt32(String value, FormatProvider provider) {
         if (value == null)
             return 0;
-        return Integer.Parse(value, NumberStyles.Integer, provider);
+        return OverflowPolicy.CHECKED.toInt32(Int64Parser.parse(value));
+    }
+
+    public static Integer toInt32(CharSequence value, int fromBase) {
+        if (value == null)
+            return 0;
+        if (fromBase == 10)
+            return OverflowPolicy.CHECKED.toInt32(Int64Parser.parse(value));
+        return (int) RadixParser.parseBits(value, fromBase, 32, "Overflow_Int32");
+    }
+
+    public static Integer toInt32(byte[] value, int offset, int length, int fromBase) {
+        if (fromBase == 10)
+            return OverflowPolicy.CHECKED.toInt32(Int64Parser.parse(value, offset, length));
+        return (int) RadixParser.parseBits(value, offset, length, fromBase, 32, "Overflow_Int32");
     }
 
     public static Integer toInt32(LocalDateTime value) {
-        return ((IConvertible)value).toInt32(null);
+        throw new InvalidCastException("InvalidCast_FromTo");
     }
 
 
@@ -634,166 +585,133 @@ public class Convert {
 
     // Conversions to UInt32
 
-
-    public static uInteger toUInt32(Object value) {
-        return value == null ? 0 : ((IConvertible)value).toUInt32(null);
+    public static UInteger toUInt32(Object value) {
+        return context().toUInt32(value);
     }
 
-
-    public static uInteger toUInt32(Object value, FormatProvider provider) {
-        return value == null ? 0 : ((IConvertible)value).toUInt32(provider);
+    public static UInteger toUInt32(Object value, FormatProvider provider) {
+        return context().toUInt32(value, provider);
     }
 
-
-
-    public static uInteger toUInt32(Boolean value) {
-        return value ? (uInteger)Boolean.True : (uInteger)Boolean.False;
+    public static UInteger toUInt32(Boolean value) {
+        return value ? UInteger.valueOf(1) : UInteger.MIN_VALUE;
     }
 
-
-    public static uInteger toUInt32(Character value) {
-        return value;
+    public static UInteger toUInt32(Character value) {
+        return UInteger.valueOf(value);
     }
 
-
-    public static uInteger toUInt32(sByte value) {
-        if (value < 0) ThrowUInt32OverflowException();
-        return (uInteger)value;
+    public static UInteger toUInt32(Byte value) {
+        return UInteger.valueOf(overflowPolicy().toUInt32(value));
     }
 
-
-    public static uInteger toUInt32(Byte value) {
-        return value;
+    public static UInteger toUInt32(Short value) {
+        return UInteger.valueOf(overflowPolicy().toUInt32(value));
     }
 
-
-    public static uInteger toUInt32(Short value) {
-        if (value < 0) ThrowUInt32OverflowException();
-        return (uInteger)value;
+    public static UInteger toUInt32(Integer value) {
+        return UInteger.valueOf(overflowPolicy().toUInt32(value));
     }
 
-
-    public static uInteger toUInt32(uShort value) {
+    public static UInteger toUInt32(UInteger value) {
         return value;
     }
 
-
-    public static uInteger toUInt32(Integer value) {
-        if (value < 0) ThrowUInt32OverflowException();
-        return (uInteger)value;
-    }
-
-
-    public static uInteger toUInt32(uInteger value) {
-        return value;
+    public static UInteger toUInt32(Long value) {
+        return UInteger.valueOf(overflowPolicy().toUInt32(value));
     }
 
-
-    public static uInteger toUInt32(Long value) {
-        if (value < 0 || value > uInteger.MaxValue) ThrowUInt32OverflowException();
-        return (uInteger)value;
+    public static UInteger toUInt32(ULong value) {
+        OverflowPolicy policy = overflowPolicy();
+        return UInteger.valueOf(policy.toUInt32(policy.narrowUInt64(value.longValue())));
     }
 
-
-    public static uInteger toUInt32(uLong value) {
-        if (value > uInteger.MaxValue) ThrowUInt32OverflowException();
-        return (uInteger)value;
+    public static UInteger toUInt32(Float value) {
+        return UInteger.valueOf(overflowPolicy().toUInt32(value));
     }
 
-
-    public static uInteger toUInt32(Float value) {
-        return toUInt32((Double)value);
+    public static UInteger toUInt32(Double value) {
+        return UInteger.valueOf(overflowPolicy().toUInt32(value));
     }
 
-
-    public static uInteger toUInt32(Double value) {
-        if (value >= -0.5 && value < 4294967295.5)
-        {
-            uInteger result = (uInteger)value;
-            Double dif = value - result;
-            if (dif > 0.5 || dif == 0.5 && (result & 1) != 0) result++;
-            return result;
-        }
-        throw new OverflowException(SR.Overflow_UInt32);
+    public static UInteger toUInt32(BigDecimal value) {
+        return UInteger.valueOf(overflowPolicy().toUInt32(value));
     }
 
-
-    public static uInteger toUInt32(BigDecimal value) {
-        return BigDecimal.toUInt32(BigDecimal.Round(value, 0));
+    public static UInteger toUInt32(String value) {
+        if (value == null)
+            return UInteger.MIN_VALUE;
+        return UInteger.parse(value);
     }
 
-
-    public static uInteger toUInt32(String value) {
+    public static UInteger toUInt32(String value, FormatProvider provider) {
         if (value == null)
-            return 0;
-        return uInteger.Parse(value, );
+            return UInteger.MIN_VALUE;
+        return UInteger.parse(value);
     }
 
-
-    public static uInteger toUInt32(String value, FormatProvider provider) {
+    public static UInteger toUInt32(CharSequence value, int fromBase) {
         if (value == null)
-            return 0;
-        return uInteger.Parse(value, NumberStyles.Integer, provider);
+            return UInteger.MIN_VALUE;
+        if (fromBase == 10)
+            return UInteger.valueOf(UInteger.parseInt(value));
+        return UInteger.valueOf((int) RadixParser.parseBits(value, fromBase, 32, "Overflow_UInt32"));
     }
 
+    public static UInteger toUInt32(byte[] value, int offset, int length, int fromBase) {
+        if (fromBase == 10)
+            return UInteger.valueOf(UInteger.parseInt(value, offset, length));
+        return UInteger.valueOf((int) RadixParser.parseBits(value, offset, length, fromBase, 32, "Overflow_UInt32"));
+    }
 
-    public static uInteger toUInt32(LocalDateTime value) {
-        return ((IConvertible)value).toUInt32(null);
+    public static UInteger toUInt32(LocalDateTime value) {
+        throw new InvalidCastException("InvalidCast_FromTo");
     }
 
     // Disallowed conversions to UInt32
-    // public static uInteger toUInt32(TimeSpan value)
+    // public static UInteger toUInt32(TimeSpan value)
 
     // Conversions to Int64
 
     public static Long toInt64(Object value) {
-        return value == null ? 0 : ((IConvertible)value).toInt64(null);
+        return context().toInt64(value);
     }
 
     public static Long toInt64(Object value, FormatProvider provider) {
-        return value == null ? 0 : ((IConvertible)value).toInt64(provider);
+        return context().toInt64(value, provider);
     }
 
 
     public static Long toInt64(Boolean value) {
-        return value ? Boolean.True : Boolean.False;
+        return value ? 1L : 0L;
     }
 
     public static Long toInt64(Character value) {
-        return value;
+        return (long) value;
     }
 
 
-    public static Long toInt64(sByte value) {
-        return value;
-    }
-
     public static Long toInt64(Byte value) {
-        return value;
+        return (long) value;
     }
 
     public static Long toInt64(Short value) {
-        return value;
+        return (long) value;
     }
 
 
-    public static Long toInt64(uShort value) {
-        return value;
-    }
-
     public static Long toInt64(Integer value) {
-        return value;
+        return (long) value;
     }
 
 
-    public static Long toInt64(uInteger value) {
-        return value;
+    public static Long toInt64(UInteger value) {
+        return value.longValue();
     }
 
 
-    public static Long toInt64(uLong value) {
-        if (value > Long.MaxValue) ThrowInt64OverflowException();
-        return (Long)value;
+    public static Long toInt64(ULong value) {
+        return overflowPolicy().fromUInt64(value.longValue());
     }
 
     public static Long toInt64(Long value) {
@@ -802,188 +720,193 @@ public class Convert {
 
 
     public static Long toInt64(Float value) {
-        return toInt64((Double)value);
+        return overflowPolicy().toInt64(value);
     }
 
     public static Long toInt64(Double value) {
-        return checked((Long)Math.Round(value));
+        return overflowPolicy().toInt64(value);
     }
 
     public static Long toInt64(BigDecimal value) {
-        return BigDecimal.toInt64(BigDecimal.Round(value, 0));
+        return overflowPolicy().toInt64(value);
     }
 
     public static Long toInt64(String value) {
         if (value == null)
-            return 0;
-        return Long.Parse(value, );
+            return 0L;
+        return Int64Parser.parse(value);
     }
 
     public static Long toInt64(String value, FormatProvider provider) {
         if (value == null)
-            return 0;
-        return Long.Parse(value, NumberStyles.Integer, provider);
+            return 0L;
+        return Int64Parser.parse(value);
     }
 
-    public static Long toInt64(LocalDateTime value) {
-        return ((IConvertible)value).toInt64(null);
+    public static Long toInt64(CharSequence value, int fromBase) {
+        if (value == null)
+            return 0L;
+        if (fromBase == 10)
+            return Int64Parser.parse(value);
+        return RadixParser.parseBits(value, fromBase, 64, "Overflow_Int64");
     }
 
-    // Disallowed conversions to Int64
-    // public static Long toInt64(TimeSpan value)
-
-    // Conversions to UInt64
-
-
-    public static uLong toUInt64(Object value) {
-        return value == null ? 0 : ((IConvertible)value).toUInt64(null);
+    public static Long toInt64(byte[] value, int offset, int length, int fromBase) {
+        if (fromBase == 10)
+            return Int64Parser.parse(value, offset, length);
+        return RadixParser.parseBits(value, offset, length, fromBase, 64, "Overflow_Int64");
     }
 
-
-    public static uLong toUInt64(Object value, FormatProvider provider) {
-        return value == null ? 0 : ((IConvertible)value).toUInt64(provider);
+    public static Long toInt64(CharSequence value) {
+        if (value == null)
+            return 0L;
+        return Int64Parser.parse(value);
     }
 
-
-    public static uLong toUInt64(Boolean value) {
-        return value ? (uLong)Boolean.True : (uLong)Boolean.False;
+    // ASCII digits, parsed eight at a time; see Int64Parser.
+    public static Long toInt64(byte[] value, int offset, int length) {
+        return Int64Parser.parse(value, offset, length);
     }
 
+    // Parses the buffer's remaining bytes without moving its position.
+    public static Long toInt64(ByteBuffer value) {
+        return Int64Parser.parse(value);
+    }
 
-    public static uLong toUInt64(Character value) {
-        return value;
+    public static Long toInt64(LocalDateTime value) {
+        throw new InvalidCastException("InvalidCast_FromTo");
     }
 
+    // Disallowed conversions to Int64
+    // public static Long toInt64(TimeSpan value)
 
+    // Conversions to UInt64
 
-    public static uLong toUInt64(sByte value) {
-        if (value < 0) ThrowUInt64OverflowException();
-        return (uLong)value;
+    public static ULong toUInt64(Object value) {
+        return context().toUInt64(value);
     }
 
-
-    public static uLong toUInt64(Byte value) {
-        return value;
+    public static ULong toUInt64(Object value, FormatProvider provider) {
+        return context().toUInt64(value, provider);
     }
 
-
-    public static uLong toUInt64(Short value) {
-        if (value < 0) ThrowUInt64OverflowException();
-        return (uLong)value;
+    public static ULong toUInt64(Boolean value) {
+        return value ? ULong.valueOf(1) : ULong.MIN_VALUE;
     }
 
-
-    public static uLong toUInt64(uShort value) {
-        return value;
+    public static ULong toUInt64(Character value) {
+        return ULong.valueOf(value);
     }
 
-
-    public static uLong toUInt64(Integer value) {
-        if (value < 0) ThrowUInt64OverflowException();
-        return (uLong)value;
+    public static ULong toUInt64(Byte value) {
+        return ULong.valueOf(overflowPolicy().toUInt64(value));
     }
 
-
-    public static uLong toUInt64(uInteger value) {
-        return value;
+    public static ULong toUInt64(Short value) {
+        return ULong.valueOf(overflowPolicy().toUInt64(value));
     }
 
+    public static ULong toUInt64(Integer value) {
+        return ULong.valueOf(overflowPolicy().toUInt64(value));
+    }
 
-    public static uLong toUInt64(Long value) {
-        if (value < 0) ThrowUInt64OverflowException();
-        return (uLong)value;
+    public static ULong toUInt64(UInteger value) {
+        return ULong.valueOf(value.longValue());
     }
 
+    public static ULong toUInt64(Long value) {
+        return ULong.valueOf(overflowPolicy().toUInt64(value));
+    }
 
-    public static uLong toUInt64(uLong value) {
+    public static ULong toUInt64(ULong value) {
         return value;
     }
 
-
-    public static uLong toUInt64(Float value) {
-        return toUInt64((Double)value);
+    public static ULong toUInt64(Float value) {
+        return ULong.valueOf(overflowPolicy().toUInt64(value));
     }
 
-
-    public static uLong toUInt64(Double value) {
-        return checked((uLong)Math.Round(value));
+    public static ULong toUInt64(Double value) {
+        return ULong.valueOf(overflowPolicy().toUInt64(value));
     }
 
-
-    public static uLong toUInt64(BigDecimal value) {
-        return BigDecimal.toUInt64(BigDecimal.Round(value, 0));
+    public static ULong toUInt64(BigDecimal value) {
+        return ULong.valueOf(overflowPolicy().toUInt64(value));
     }
 
-
-    public static uLong toUInt64(String value) {
+    public static ULong toUInt64(String value) {
         if (value == null)
-            return 0;
-        return uLong.Parse(value, );
+            return ULong.MIN_VALUE;
+        return ULong.parse(value);
     }
 
+    public static ULong toUInt64(String value, FormatProvider provider) {
+        if (value == null)
+            return ULong.MIN_VALUE;
+        return ULong.parse(value);
+    }
 
-    public static uLong toUInt64(String value, FormatProvider provider) {
+    public static ULong toUInt64(CharSequence value, int fromBase) {
         if (value == null)
-            return 0;
-        return uLong.Parse(value, NumberStyles.Integer, provider);
+            return ULong.MIN_VALUE;
+        if (fromBase == 10)
+            return ULong.valueOf(ULong.parseLong(value));
+        return ULong.valueOf(RadixParser.parseBits(value, fromBase, 64, "Overflow_UInt64"));
     }
 
+    public static ULong toUInt64(byte[] value, int offset, int length, int fromBase) {
+        if (fromBase == 10)
+            return ULong.valueOf(ULong.parseLong(value, offset, length));
+        return ULong.valueOf(RadixParser.parseBits(value, offset, length, fromBase, 64, "Overflow_UInt64"));
+    }
 
-    public static uLong toUInt64(LocalDateTime value) {
-        return ((IConvertible)value).toUInt64(null);
+    public static ULong toUInt64(LocalDateTime value) {
+        throw new InvalidCastException("InvalidCast_FromTo");
     }
 
     // Disallowed conversions to UInt64
-    // public static uLong toUInt64(TimeSpan value)
+    // public static ULong toUInt64(TimeSpan value)
 
     // Conversions to Single
 
     public static Float toSingle(Object value) {
-        return value == null ? 0 : ((IConvertible)value).toSingle(null);
+        return context().toSingle(value);
     }
 
     public static Float toSingle(Object value, FormatProvider provider) {
-        return value == null ? 0 : ((IConvertible)value).toSingle(provider);
+        return context().toSingle(value, provider);
     }
 
 
-    public static Float toSingle(sByte value) {
-        return value;
-    }
-
     public static Float toSingle(Byte value) {
-        return value;
+        return value.floatValue();
     }
 
     public static Float toSingle(Character value) {
-        return ((IConvertible)value).toSingle(null);
+        throw new InvalidCastException("InvalidCast_FromTo");
     }
 
     public static Float toSingle(Short value) {
-        return value;
+        return value.floatValue();
     }
 
 
-    public static Float toSingle(uShort value) {
-        return value;
-    }
-
     public static Float toSingle(Integer value) {
-        return value;
+        return value.floatValue();
     }
 
 
-    public static Float toSingle(uInteger value) {
-        return value;
+    public static Float toSingle(UInteger value) {
+        return value.floatValue();
     }
 
     public static Float toSingle(Long value) {
-        return value;
+        return value.floatValue();
     }
 
 
-    public static Float toSingle(uLong value) {
-        return value;
+    public static Float toSingle(ULong value) {
+        return value.floatValue();
     }
 
     public static Float toSingle(Float value) {
@@ -991,32 +914,28 @@ public class Convert {
     }
 
     public static Float toSingle(Double value) {
-        return (Float)value;
+        return value.floatValue();
     }
 
     public static Float toSingle(BigDecimal value) {
-        return (Float)value;
+        return value.floatValue();
     }
 
     public static Float toSingle(String value) {
-        if (value == null)
-            return 0;
-        return Float.Parse(value, );
+        return toSingle(value, null);
     }
 
     public static Float toSingle(String value, FormatProvider provider) {
-        if (value == null)
-            return 0;
-        return Float.Parse(value, NumberStyles.Float | NumberStyles.AllowThousands, provider);
+        return context().toSingle(value, provider);
     }
 
 
     public static Float toSingle(Boolean value) {
-        return value ? Boolean.True : Boolean.False;
+        return value ? 1f : 0f;
     }
 
     public static Float toSingle(LocalDateTime value) {
-        return ((IConvertible)value).toSingle(null);
+        throw new InvalidCastException("InvalidCast_FromTo");
     }
 
     // Disallowed conversions to Single
@@ -1025,56 +944,48 @@ public class Convert {
     // Conversions to Double
 
     public static Double toDouble(Object value) {
-        return value == null ? 0 : ((IConvertible)value).toDouble(null);
+        return context().toDouble(value);
     }
 
     public static Double toDouble(Object value, FormatProvider provider) {
-        return value == null ? 0 : ((IConvertible)value).toDouble(provider);
+        return context().toDouble(value, provider);
     }
 
 
 
-    public static Double toDouble(sByte value) {
-        return value;
-    }
-
     public static Double toDouble(Byte value) {
-        return value;
+        return value.doubleValue();
     }
 
     public static Double toDouble(Short value) {
-        return value;
+        return value.doubleValue();
     }
 
     public static Double toDouble(Character value) {
-        return ((IConvertible)value).toDouble(null);
+        throw new InvalidCastException("InvalidCast_FromTo");
     }
 
 
-    public static Double toDouble(uShort value) {
-        return value;
-    }
-
     public static Double toDouble(Integer value) {
-        return value;
+        return value.doubleValue();
     }
 
 
-    public static Double toDouble(uInteger value) {
-        return value;
+    public static Double toDouble(UInteger value) {
+        return value.doubleValue();
     }
 
     public static Double toDouble(Long value) {
-        return value;
+        return value.doubleValue();
     }
 
 
-    public static Double toDouble(uLong value) {
-        return value;
+    public static Double toDouble(ULong value) {
+        return value.doubleValue();
     }
 
     public static Double toDouble(Float value) {
-        return value;
+        return value.doubleValue();
     }
 
     public static Double toDouble(Double value) {
@@ -1082,27 +993,23 @@ public class Convert {
     }
 
     public static Double toDouble(BigDecimal value) {
-        return (Double)value;
+        return value.doubleValue();
     }
 
     public static Double toDouble(String value) {
-        if (value == null)
-            return 0;
-        return Double.Parse(value, );
+        return toDouble(value, null);
     }
 
     public static Double toDouble(String value, FormatProvider provider) {
-        if (value == null)
-            return 0;
-        return Double.Parse(value, NumberStyles.Float | NumberStyles.AllowThousands, provider);
+        return context().toDouble(value, provider);
     }
 
     public static Double toDouble(Boolean value) {
-        return value ? Boolean.True : Boolean.False;
+        return value ? 1d : 0d;
     }
 
     public static Double toDouble(LocalDateTime value) {
-        return ((IConvertible)value).toDouble(null);
+        throw new InvalidCastException("InvalidCast_FromTo");
     }
 
     // Disallowed conversions to Double
@@ -1111,56 +1018,59 @@ public class Convert {
     // Conversions to Decimal
 
     public static BigDecimal toDecimal(Object value) {
-        return value == null ? 0 : ((IConvertible)value).toDecimal(null);
+        return context().toDecimal(value);
     }
 
     public static BigDecimal toDecimal(Object value, FormatProvider provider) {
-        return value == null ? 0 : ((IConvertible)value).toDecimal(provider);
+        return context().toDecimal(value, provider);
     }
 
     public static BigDecimal toDecimal(Byte value) {
-        return value;
+        return BigDecimal.valueOf(value);
     }
 
     public static BigDecimal toDecimal(Character value) {
-        return ((IConvertible)value).toDecimal(null);
+        throw new InvalidCastException("InvalidCast_FromTo");
     }
 
     public static BigDecimal toDecimal(Short value) {
-        return value;
+        return BigDecimal.valueOf(value);
     }
 
 
-    public static BigDecimal toDecimal(uShort value) {
-        return value;
-    }
-
     public static BigDecimal toDecimal(Integer value) {
-        return value;
+        return BigDecimal.valueOf(value);
     }
 
     public static BigDecimal toDecimal(Long value) {
-        return value;
+        return BigDecimal.valueOf(value);
+    }
+
+    public static BigDecimal toDecimal(UInteger value) {
+        return BigDecimal.valueOf(value.longValue());
+    }
+
+    public static BigDecimal toDecimal(ULong value) {
+        return ULong.toBigDecimal(value.longValue());
     }
 
     public static BigDecimal toDecimal(Float value) {
-        return (BigDecimal)value;
+        if (value.isNaN() || value.isInfinite()) throw new OverflowException("Overflow_Decimal");
+        // the shortest decimal that reads back as the float, as .NET rounds to the float's precision
+        return new BigDecimal(value.toString());
     }
 
     public static BigDecimal toDecimal(Double value) {
-        return (BigDecimal)value;
+        if (value.isNaN() || value.isInfinite()) throw new OverflowException("Overflow_Decimal");
+        return BigDecimal.valueOf(value);
     }
 
     public static BigDecimal toDecimal(String value) {
-        if (value == null)
-            return 0m;
-        return BigDecimal.Parse(value, );
+        return toDecimal(value, null);
     }
 
     public static BigDecimal toDecimal(String value, FormatProvider provider) {
-        if (value == null)
-            return 0m;
-        return BigDecimal.Parse(value, NumberStyles.Number, provider);
+        return context().toDecimal(value, provider);
     }
 
     public static BigDecimal toDecimal(BigDecimal value) {
@@ -1168,16 +1078,95 @@ public class Convert {
     }
 
     public static BigDecimal toDecimal(Boolean value) {
-        return value ? Boolean.True : Boolean.False;
+        return value ? BigDecimal.ONE : BigDecimal.ZERO;
     }
 
     public static BigDecimal toDecimal(LocalDateTime value) {
-        return ((IConvertible)value).toDecimal(null);
+        throw new InvalidCastException("InvalidCast_FromTo");
     }
 
     // Disallowed conversions to Decimal
     // public static BigDecimal toDecimal(TimeSpan value)
 
+    // Conversions to Decimal64
+
+    public static Decimal64 toDecimal64(Object value) {
+        return toDecimal64(value, null);
+    }
+
+    public static Decimal64 toDecimal64(Object value, FormatProvider provider) {
+        if (value == null) return Decimal64.ZERO;
+        if (value instanceof Decimal64) return (Decimal64) value;
+        if (value instanceof CharSequence) return Decimal64.parse((CharSequence) value, provider);
+        if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            return Decimal64.valueOf(((Number) value).longValue());
+        }
+        if (value instanceof Double || value instanceof Float) return Decimal64.valueOf(((Number) value).doubleValue());
+        if (value instanceof BigDecimal) return Decimal64.valueOf((BigDecimal) value);
+        if (value instanceof Boolean) return toDecimal64((Boolean) value);
+        if (value instanceof Convertible) return Decimal64.valueOf(((Convertible) value).toDecimal(provider));
+        throw new InvalidCastException("InvalidCast_FromTo");
+    }
+
+    public static Decimal64 toDecimal64(Boolean value) {
+        return value ? Decimal64.ONE : Decimal64.ZERO;
+    }
+
+    public static Decimal64 toDecimal64(Character value) {
+        throw new InvalidCastException("InvalidCast_FromTo");
+    }
+
+    public static Decimal64 toDecimal64(Byte value) {
+        return Decimal64.valueOf(value);
+    }
+
+    public static Decimal64 toDecimal64(Short value) {
+        return Decimal64.valueOf(value);
+    }
+
+    public static Decimal64 toDecimal64(Integer value) {
+        return Decimal64.valueOf(value);
+    }
+
+    public static Decimal64 toDecimal64(Long value) {
+        return Decimal64.valueOf(value);
+    }
+
+    public static Decimal64 toDecimal64(UInteger value) {
+        return Decimal64.valueOf(value.longValue());
+    }
+
+    public static Decimal64 toDecimal64(ULong value) {
+        if (value.longValue() < 0) throw new OverflowException("Overflow_Decimal");
+        return Decimal64.valueOf(value.longValue());
+    }
+
+    public static Decimal64 toDecimal64(Float value) {
+        return Decimal64.valueOf((double) value);
+    }
+
+    public static Decimal64 toDecimal64(Double value) {
+        return Decimal64.valueOf((double) value);
+    }
+
+    public static Decimal64 toDecimal64(BigDecimal value) {
+        return Decimal64.valueOf(value);
+    }
+
+    public static Decimal64 toDecimal64(String value) {
+        return toDecimal64(value, null);
+    }
+
+    public static Decimal64 toDecimal64(String value, FormatProvider provider) {
+        if (value == null)
+            return Decimal64.ZERO;
+        return Decimal64.parse(value, provider);
+    }
+
+    public static Decimal64 toDecimal64(LocalDateTime value) {
+        throw new InvalidCastException("InvalidCast_FromTo");
+    }
+
     // Conversions to LocalDateTime
 
     public static LocalDateTime toLocalDateTime(LocalDateTime value) {
@@ -1185,79 +1174,67 @@ public class Convert {
     }
 
     public static LocalDateTime toLocalDateTime(Object value) {
-        return value == null ? LocalDateTime.MIN_VALUE : ((IConvertible)value).toLocalDateTime(null);
+        return context().toLocalDateTime(value);
     }
 
     public static LocalDateTime toLocalDateTime(Object value, FormatProvider provider) {
-        return value == null ? LocalDateTime.MIN_VALUE : ((IConvertible)value).toLocalDateTime(provider);
+        return context().toLocalDateTime(value, provider);
     }
 
     public static LocalDateTime toLocalDateTime(String value) {
-        if (value == null)
-            return new LocalDateTime(0);
-        return LocalDateTime.Parse(value, );
+        return toLocalDateTime(value, null);
     }
 
     public static LocalDateTime toLocalDateTime(String value, FormatProvider provider) {
-        if (value == null)
-            return new LocalDateTime(0);
-        return LocalDateTime.Parse(value, provider);
+        return context().toLocalDateTime(value, provider);
     }
 
 
-    public static LocalDateTime toLocalDateTime(sByte value) {
-        return ((IConvertible)value).toLocalDateTime(null);
-    }
-
     public static LocalDateTime toLocalDateTime(Byte value) {
-        return ((IConvertible)value).toLocalDateTime(null);
+        throw new InvalidCastException("InvalidCast_FromTo");
     }
 
     public static LocalDateTime toLocalDateTime(Short value) {
-        return ((IConvertible)value).toLocalDateTime(null);
+        throw new InvalidCastException("InvalidCast_FromTo");
     }
 
 
-    public static LocalDateTime toLocalDateTime(uShort value) {
-        return ((IConvertible)value).toLocalDateTime(null);
-    }
-
     public static LocalDateTime toLocalDateTime(Integer value) {
-        return ((IConvertible)value).toLocalDateTime(null);
+        throw new InvalidCastException("InvalidCast_FromTo");
     }
 
 
-    public static LocalDateTime toLocalDateTime(uInteger value) {
-        return ((IConvertible)value).toLocalDateTime(null);
+    public static LocalDateTime toLocalDateTime(UInteger value) {
+        return ((Convertible)value).toDateTime(null);
     }
 
     public static LocalDateTime toLocalDateTime(Long value) {
-        return ((IConvertible)value).toLocalDateTime(null);
+        throw new InvalidCastException("InvalidCast_FromTo");
     }
 
 
-    public static LocalDateTime toLocalDateTime(uLong value) {
-        return ((IConvertible)value).toLocalDateTime(null);
+    public static LocalDateTime toLocalDateTime(ULong value) {
+        return ((Convertible)value).toDateTime(null);
     }
 
     public static LocalDateTime toLocalDateTime(Boolean value) {
-        return ((IConvertible)value).toLocalDateTime(null);
+        throw new InvalidCastException("InvalidCast_FromTo");
     }
 
     public static LocalDateTime toLocalDateTime(Character value) {
-        return ((IConvertible)value).toLocalDateTime(null);
+        throw new InvalidCastException("InvalidCast_FromTo");
     }
 
     public static LocalDateTime toLocalDateTime(Float value) {
-        return ((IConvertible)value).toLocalDateTime(null);
+        throw new InvalidCastException("InvalidCast_FromTo");
     }
 
     public static LocalDateTime toLocalDateTime(Double value) {
-        return ((IConvertible)value).toLocalDateTime(null);
+        throw new InvalidCastException("InvalidCast_FromTo");
     }
 
     public static LocalDateTime toLocalDateTime(BigDecimal value) {
-        return ((IConvertible)value).toLocalDateTime(null);
+        throw new InvalidCastException("InvalidCast_FromTo");
     }
 
     // Disallowed conversions to LocalDateTime
@@ -1266,15 +1243,11 @@ public class Convert {
     // Conversions to String
 
     public static String toString(Object value) {
-        return toString(value, null);
+        return context().toString(value);
     }
 
     public static String toString(Object value, FormatProvider provider) {
-        if (value is IConvertible ic)
-        return ic.toString(provider);
-        if (value is IFormattable formattable)
-        return formattable.toString(null, provider);
-        return value == null ? String.Empty : value.toString();
+        return context().toString(value, provider);
     }
 
     public static String toString(Boolean value) {
@@ -1298,7 +1271,7 @@ public class Convert {
     }
 
     public static String toString(Byte value, FormatProvider provider) {
-        return value.toString(provider);
+        return ValueFormatter.format(value, provider);
     }
 
     public static String toString(Short value) {
@@ -1306,7 +1279,7 @@ public class Convert {
     }
 
     public static String toString(Short value, FormatProvider provider) {
-        return value.toString(provider);
+        return ValueFormatter.format(value, provider);
     }
 
     public static String toString(Integer value) {
@@ -1314,7 +1287,7 @@ public class Convert {
     }
 
     public static String toString(Integer value, FormatProvider provider) {
-        return value.toString(provider);
+        return ValueFormatter.format(value, provider);
     }
 
     public static String toString(Long value) {
@@ -1322,7 +1295,61 @@ public class Convert {
     }
 
     public static String toString(Long value, FormatProvider provider) {
-        return value.toString(provider);
+        return ValueFormatter.format(value, provider);
+    }
+
+    public static String toString(UInteger value) {
+        return value.toString();
+    }
+
+    public static String toString(UInteger value, FormatProvider provider) {
+        return ValueFormatter.format(value.longValue(), provider);
+    }
+
+    public static String toString(ULong value) {
+        return value.toString();
+    }
+
+    public static String toString(ULong value, FormatProvider provider) {
+        return ValueFormatter.formatUnsigned(value.longValue(), provider);
+    }
+
+    // Radix 2 to 36 in lower case. Outside base 10 the type's bit pattern is written, as in
+    // .NET, so toString((byte) -1, 16) is "ff"; see RadixFormatter.
+    public static String toString(Byte value, int toBase) {
+        if (value == null)
+            return context().toString(null);
+        return toBase == 10 ? value.toString() : RadixFormatter.format(value, 8, toBase);
+    }
+
+    public static String toString(Short value, int toBase) {
+        if (value == null)
+            return context().toString(null);
+        return toBase == 10 ? value.toString() : RadixFormatter.format(value, 16, toBase);
+    }
+
+    public static String toString(Integer value, int toBase) {
+        if (value == null)
+            return context().toString(null);
+        return toBase == 10 ? value.toString() : RadixFormatter.format(value, 32, toBase);
+    }
+
+    public static String toString(Long value, int toBase) {
+        if (value == null)
+            return context().toString(null);
+        return toBase == 10 ? value.toString() : RadixFormatter.format(value, 64, toBase);
+    }
+
+    public static String toString(UInteger value, int toBase) {
+        if (value == null)
+            return context().toString(null);
+        return RadixFormatter.format(value.intValue(), 32, toBase);
+    }
+
+    public static String toString(ULong value, int toBase) {
+        if (value == null)
+            return context().toString(null);
+        return RadixFormatter.format(value.longValue(), 64, toBase);
     }
 
     public static String toString(Float value) {
@@ -1330,7 +1357,7 @@ public class Convert {
     }
 
     public static String toString(Float value, FormatProvider provider) {
-        return value.toString(provider);
+        return ValueFormatter.format((float) value, provider);
     }
 
     public static String toString(Double value) {
@@ -1338,7 +1365,7 @@ public class Convert {
     }
 
     public static String toString(Double value, FormatProvider provider) {
-        return value.toString(provider);
+        return ValueFormatter.format((double) value, provider);
     }
 
     public static String toString(BigDecimal value) {
@@ -1346,15 +1373,23 @@ public class Convert {
     }
 
     public static String toString(BigDecimal value, FormatProvider provider) {
-        return value.toString(provider);
+        return ValueFormatter.format(value, provider);
     }
 
-    public static String toString(LocalDateTime value) {
+    public static String toString(Decimal64 value) {
         return value.toString();
     }
 
+    public static String toString(Decimal64 value, FormatProvider provider) {
+        return ValueFormatter.format(value, provider);
+    }
+
+    public static String toString(LocalDateTime value) {
+        return ValueFormatter.format(value, null);
+    }
+
     public static String toString(LocalDateTime value, FormatProvider provider) {
-        return value.toString(provider);
+        return ValueFormatter.format(value, provider);
     }
 
     public static String toString(String value) {
@@ -1364,4 +1399,213 @@ public class Convert {
     public static String toString(String value, FormatProvider provider) {
         return value; // avoid the null check
     }
+
+    // Conversions to and from Base64
+    //
+    // STANDARD matches .NET's ToBase64String and FromBase64String; see Base64Variant for the
+    // URL-safe and MIME forms. STANDARD and URL_SAFE are encoded and decoded by java.util.Base64;
+    // input too large to hold at once goes through Base64Encoder and Base64Decoder, which stream
+    // between buffers.
+
+    public static String toBase64(byte[] value) {
+        return toBase64(value, Base64Variant.STANDARD);
+    }
+
+    public static String toBase64(byte[] value, Base64Variant variant) {
+        if (value == null) throw new ArgumentNullException("value");
+        return Base64Encoder.encodeToString(value, 0, value.length, variant);
+    }
+
+    public static String toBase64(byte[] value, int offset, int length, Base64Variant variant) {
+        if (value == null) throw new ArgumentNullException("value");
+        return Base64Encoder.encodeToString(value, offset, length, variant);
+    }
+
+    // Encodes the buffer's remaining bytes without moving its position.
+    public static String toBase64(ByteBuffer value) {
+        return toBase64(value, Base64Variant.STANDARD);
+    }
+
+    public static String toBase64(ByteBuffer value, Base64Variant variant) {
+        if (value == null) throw new ArgumentNullException("value");
+        if (value.hasArray()) {
+            return Base64Encoder.encodeToString(value.array(), value.arrayOffset() + value.position(), value.remaining(), variant);
+        }
+        byte[] bytes = new byte[value.remaining()];
+        value.duplicate().get(bytes);
+        return Base64Encoder.encodeToString(bytes, 0, bytes.length, variant);
+    }
+
+    public static byte[] fromBase64(CharSequence value) {
+        return fromBase64(value, Base64Variant.STANDARD);
+    }
+
+    public static byte[] fromBase64(CharSequence value, Base64Variant variant) {
+        if (value == null) throw new ArgumentNullException("value");
+        return Base64Decoder.decode(value, variant);
+    }
+
+    // ASCII text, as read from a file or socket.
+    public static byte[] fromBase64(byte[] value, int offset, int length) {
+        return fromBase64(value, offset, length, Base64Variant.STANDARD);
+    }
+
+    public static byte[] fromBase64(byte[] value, int offset, int length, Base64Variant variant) {
+        if (value == null) throw new ArgumentNullException("value");
+        return Base64Decoder.decode(value, offset, length, variant);
+    }
+
+    // Appending to a sink
+    //
+    // appendTo writes the text Convert.toString(value, provider) would return into the sink,
+    // without creating the String; a null value appends nothing. StringBuilder sinks are
+    // written directly, other Appendables receive the text from a scratch buffer.
+
+    public static StringBuilder appendTo(StringBuilder sink, Object value, FormatProvider provider) {
+        return context().appendTo(sink, value, provider);
+    }
+
+    public static StringBuilder appendTo(StringBuilder sink, Boolean value, FormatProvider provider) {
+        if (sink == null) throw new ArgumentNullException("sink");
+        return value == null ? sink : sink.append((boolean) value);
+    }
+
+    public static StringBuilder appendTo(StringBuilder sink, Character value, FormatProvider provider) {
+        if (sink == null) throw new ArgumentNullException("sink");
+        return value == null ? sink : sink.append((char) value);
+    }
+
+    public static StringBuilder appendTo(StringBuilder sink, Byte value, FormatProvider provider) {
+        if (sink == null) throw new ArgumentNullException("sink");
+        return value == null ? sink : ValueFormatter.appendTo(sink, (long) value, provider);
+    }
+
+    public static StringBuilder appendTo(StringBuilder sink, Short value, FormatProvider provider) {
+        if (sink == null) throw new ArgumentNullException("sink");
+        return value == null ? sink : ValueFormatter.appendTo(sink, (long) value, provider);
+    }
+
+    public static StringBuilder appendTo(StringBuilder sink, Integer value, FormatProvider provider) {
+        if (sink == null) throw new ArgumentNullException("sink");
+        return value == null ? sink : ValueFormatter.appendTo(sink, (long) value, provider);
+    }
+
+    public static StringBuilder appendTo(StringBuilder sink, Long value, FormatProvider provider) {
+        if (sink == null) throw new ArgumentNullException("sink");
+        return value == null ? sink : ValueFormatter.appendTo(sink, (long) value, provider);
+    }
+
+    public static StringBuilder appendTo(StringBuilder sink, UInteger value, FormatProvider provider) {
+        if (sink == null) throw new ArgumentNullException("sink");
+        return value == null ? sink : ValueFormatter.appendTo(sink, value.longValue(), provider);
+    }
+
+    public static StringBuilder appendTo(StringBuilder sink, ULong value, FormatProvider provider) {
+        if (sink == null) throw new ArgumentNullException("sink");
+        return value == null ? sink : ValueFormatter.appendUnsignedTo(sink, value.longValue(), provider);
+    }
+
+    public static StringBuilder appendTo(StringBuilder sink, Float value, FormatProvider provider) {
+        if (sink == null) throw new ArgumentNullException("sink");
+        return value == null ? sink : ValueFormatter.appendTo(sink, (float) value, provider);
+    }
+
+    public static StringBuilder appendTo(StringBuilder sink, Double value, FormatProvider provider) {
+        if (sink == null) throw new ArgumentNullException("sink");
+        return value == null ? sink : ValueFormatter.appendTo(sink, (double) value, provider);
+    }
+
+    public static StringBuilder appendTo(StringBuilder sink, BigDecimal value, FormatProvider provider) {
+        if (sink == null) throw new ArgumentNullException("sink");
+        return value == null ? sink : ValueFormatter.appendTo(sink, value, provider);
+    }
+
+    public static StringBuilder appendTo(StringBuilder sink, Decimal64 value, FormatProvider provider) {
+        if (sink == null) throw new ArgumentNullException("sink");
+        return value == null ? sink : ValueFormatter.appendTo(sink, value, provider);
+    }
+
+    public static StringBuilder appendTo(StringBuilder sink, LocalDateTime value, FormatProvider provider) {
+        if (sink == null) throw new ArgumentNullException("sink");
+        return value == null ? sink : ValueFormatter.appendTo(sink, value, provider);
+    }
+
+    public static StringBuilder appendTo(StringBuilder sink, String value, FormatProvider provider) {
+        if (sink == null) throw new ArgumentNullException("sink");
+        return value == null ? sink : sink.append(value);
+    }
+
+    public static <A extends Appendable> A appendTo(A sink, Object value, FormatProvider provider) throws IOException {
+        return context().appendTo(sink, value, provider);
+    }
+
+    public static <A extends Appendable> A appendTo(A sink, Boolean value, FormatProvider provider) throws IOException {
+        if (sink == null) throw new ArgumentNullException("sink");
+        return ValueFormatter.appendTo(sink, value, provider);
+    }
+
+    public static <A extends Appendable> A appendTo(A sink, Character value, FormatProvider provider) throws IOException {
+        if (sink == null) throw new ArgumentNullException("sink");
+        return ValueFormatter.appendTo(sink, value, provider);
+    }
+
+    public static <A extends Appendable> A appendTo(A sink, Byte value, FormatProvider provider) throws IOException {
+        if (sink == null) throw new ArgumentNullException("sink");
+        return ValueFormatter.appendTo(sink, value, provider);
+    }
+
+    public static <A extends Appendable> A appendTo(A sink, Short value, FormatProvider provider) throws IOException {
+        if (sink == null) throw new ArgumentNullException("sink");
+        return ValueFormatter.appendTo(sink, value, provider);
+    }
+
+    public static <A extends Appendable> A appendTo(A sink, Integer value, FormatProvider provider) throws IOException {
+        if (sink == null) throw new ArgumentNullException("sink");
+        return ValueFormatter.appendTo(sink, value, provider);
+    }
+
+    public static <A extends Appendable> A appendTo(A sink, Long value, FormatProvider provider) throws IOException {
+        if (sink == null) throw new ArgumentNullException("sink");
+        return ValueFormatter.appendTo(sink, value, provider);
+    }
+
+    public static <A extends Appendable> A appendTo(A sink, UInteger value, FormatProvider provider) throws IOException {
+        if (sink == null) throw new ArgumentNullException("sink");
+        return ValueFormatter.appendTo(sink, value, provider);
+    }
+
+    public static <A extends Appendable> A appendTo(A sink, ULong value, FormatProvider provider) throws IOException {
+        if (sink == null) throw new ArgumentNullException("sink");
+        return ValueFormatter.appendTo(sink, value, provider);
+    }
+
+    public static <A extends Appendable> A appendTo(A sink, Float value, FormatProvider provider) throws IOException {
+        if (sink == null) throw new ArgumentNullException("sink");
+        return ValueFormatter.appendTo(sink, value, provider);
+    }
+
+    public static <A extends Appendable> A appendTo(A sink, Double value, FormatProvider provider) throws IOException {
+        if (sink == null) throw new ArgumentNullException("sink");
+        return ValueFormatter.appendTo(sink, value, provider);
+    }
+
+    public static <A extends Appendable> A appendTo(A sink, BigDecimal value, FormatProvider provider) throws IOException {
+        if (sink == null) throw new ArgumentNullException("sink");
+        return ValueFormatter.appendTo(sink, value, provider);
+    }
+
+    public static <A extends Appendable> A appendTo(A sink, Decimal64 value, FormatProvider provider) throws IOException {
+        if (sink == null) throw new ArgumentNullException("sink");
+        return ValueFormatter.appendTo(sink, value, provider);
+    }
+
+    public static <A extends Appendable> A appendTo(A sink, LocalDateTime value, FormatProvider provider) throws IOException {
+        if (sink == null) throw new ArgumentNullException("sink");
+        return ValueFormatter.appendTo(sink, value, provider);
+    }
+
+    public static <A extends Appendable> A appendTo(A sink, String value, FormatProvider provider) throws IOException {
+        if (sink == null) throw new ArgumentNullException("sink");
+        return ValueFormatter.appendTo(sink, value, provider);
+    }
 }
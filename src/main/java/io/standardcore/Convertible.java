@@ -32,4 +32,11 @@ public interface Convertible
     default Float toSingle(FormatProvider provider){
         return toFloat(provider);
     }
+    default UInteger toUInt32(FormatProvider provider){
+        return Convert.toUInt32(toLong(provider));
+    }
+    // Implementations holding values above Long.MAX_VALUE must override this.
+    default ULong toUInt64(FormatProvider provider){
+        return Convert.toUInt64(toLong(provider));
+    }
 }
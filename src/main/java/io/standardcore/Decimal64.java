@@ -0,0 +1,456 @@
+package io.standardcore;
+
+import io.standardcore.formatting.ValueFormatter;
+
+import java.lang.reflect.Type;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.text.DecimalFormatSymbols;
+import java.time.LocalDateTime;
+
+// Fixed-point decimal of up to 18 digits: a long unscaled value and a scale from 0 to 18, so the
+// value is unscaled / 10^scale. It stands in for BigDecimal where amounts never need more digits,
+// at 16 bytes per instance instead of a BigDecimal with its BigInteger and int[].
+//
+// The static methods work on the unscaled long, so a column of amounts with one scale can be
+// held in a long[] and converted without creating instances. Results that need fewer digits
+// than the input are rounded half to even, like Math.rint and RoundingMode.HALF_EVEN in
+// Convert; results that do not fit throw OverflowException("Overflow_Decimal").
+public final class Decimal64 extends Number implements Comparable<Decimal64>, Convertible {
+    private static final long serialVersionUID = 5203681934717224384L;
+
+    public static final int MAX_SCALE = 18;
+    // Long.MAX_VALUE has 19 digits
+    private static final int MAX_INTEGER_DIGITS = 19;
+
+    public static final Decimal64 ZERO = new Decimal64(0, 0);
+    public static final Decimal64 ONE = new Decimal64(1, 0);
+    public static final Decimal64 MIN_VALUE = new Decimal64(Long.MIN_VALUE, 0);
+    public static final Decimal64 MAX_VALUE = new Decimal64(Long.MAX_VALUE, 0);
+
+    private static final long[] POWERS_OF_TEN = {
+            1L, 10L, 100L, 1_000L, 10_000L, 100_000L, 1_000_000L, 10_000_000L, 100_000_000L, 1_000_000_000L,
+            10_000_000_000L, 100_000_000_000L, 1_000_000_000_000L, 10_000_000_000_000L, 100_000_000_000_000L,
+            1_000_000_000_000_000L, 10_000_000_000_000_000L, 100_000_000_000_000_000L, 1_000_000_000_000_000_000L
+    };
+
+    // every power up to 10^18 is an exact double and up to 10^10 an exact float
+    private static final double[] DOUBLE_POWERS_OF_TEN = new double[MAX_SCALE + 1];
+    private static final float[] FLOAT_POWERS_OF_TEN = new float[11];
+
+    static {
+        for (int i = 0; i <= MAX_SCALE; i++) DOUBLE_POWERS_OF_TEN[i] = POWERS_OF_TEN[i];
+        for (int i = 0; i < FLOAT_POWERS_OF_TEN.length; i++) FLOAT_POWERS_OF_TEN[i] = POWERS_OF_TEN[i];
+    }
+
+    private final long unscaled;
+    private final int scale;
+
+    private Decimal64(long unscaled, int scale) {
+        this.unscaled = unscaled;
+        this.scale = scale;
+    }
+
+    public static Decimal64 valueOf(long unscaled, int scale) {
+        checkScale(scale);
+        if (unscaled == 0 && scale == 0) return ZERO;
+        return new Decimal64(unscaled, scale);
+    }
+
+    public static Decimal64 valueOf(long value) {
+        return valueOf(value, 0);
+    }
+
+    // The shortest decimal that rounds to the double, as Double.toString gives it.
+    public static Decimal64 valueOf(double value) {
+        if (Double.isNaN(value) || Double.isInfinite(value)) throw new OverflowException("Overflow_Decimal");
+        return valueOf(BigDecimal.valueOf(value));
+    }
+
+    // Exact when the value has at most 18 digits after the point and fits the unscaled long;
+    // otherwise rounded half to even to the largest scale that fits.
+    public static Decimal64 valueOf(BigDecimal value) {
+        if (value == null) throw new ArgumentNullException("value");
+        // a zero can carry any exponent; keep its scale as rescaling would
+        if (value.signum() == 0) return valueOf(0, Math.max(0, Math.min(value.scale(), MAX_SCALE)));
+        // checked before rescaling, which would build a power of ten the size of the exponent
+        long integerDigits = (long) value.precision() - value.scale();
+        if (integerDigits > MAX_INTEGER_DIGITS) throw new OverflowException("Overflow_Decimal");
+        // below 10^-19, so it rounds to zero at MAX_SCALE
+        if (integerDigits < -MAX_SCALE) return valueOf(0, MAX_SCALE);
+        BigDecimal fitted = value.scale() < 0 ? value.setScale(0) : value;
+        if (fitted.scale() > MAX_SCALE) fitted = fitted.setScale(MAX_SCALE, RoundingMode.HALF_EVEN);
+        while (!fitsInLong(fitted)) {
+            if (fitted.scale() == 0) throw new OverflowException("Overflow_Decimal");
+            int excess = Math.max(1, fitted.precision() - MAX_SCALE);
+            fitted = fitted.setScale(Math.max(0, fitted.scale() - excess), RoundingMode.HALF_EVEN);
+        }
+        return valueOf(fitted.unscaledValue().longValue(), fitted.scale());
+    }
+
+    public static Decimal64 parse(CharSequence value) {
+        return parse(value, null);
+    }
+
+    // Parses [sign]digits[.digits] surrounded by optional whitespace; the provider's
+    // DecimalFormatSymbols, when it has them, supply the decimal separator and minus sign.
+    // The scale is the number of digits after the point, reduced with rounding when the
+    // value has more than 18 digits.
+    public static Decimal64 parse(CharSequence value, FormatProvider provider) {
+        if (value == null) throw new ArgumentNullException("value");
+        char separator = getDecimalSeparator(provider);
+        char minus = getMinusSign(provider);
+        int integerDigits = integerDigits(value, separator);
+        int scale = fractionDigits(value, separator);
+        if (integerDigits + scale > MAX_SCALE) {
+            // 19 digits fit only up to Long.MAX_VALUE; otherwise keep 18 significant digits
+            try {
+                return valueOf(parseUnscaled(value, 0, value.length(), scale, separator, minus), scale);
+            } catch (OverflowException e) {
+                scale = Math.max(0, MAX_SCALE - integerDigits);
+            }
+        }
+        return valueOf(parseUnscaled(value, 0, value.length(), scale, separator, minus), scale);
+    }
+
+    // Parses into the unscaled long of the given scale, as a fixed-scale column holds it;
+    // "12.5" at scale 2 is 1250 and "0.125" at scale 2 is 12.
+    public static long parseUnscaled(CharSequence value, int scale) {
+        if (value == null) throw new ArgumentNullException("value");
+        checkScale(scale);
+        return parseUnscaled(value, 0, value.length(), scale, '.', '-');
+    }
+
+    public static long parseUnscaled(CharSequence value, int start, int end, int scale) {
+        if (value == null) throw new ArgumentNullException("value");
+        if (start < 0 || end > value.length() || start > end) throw new ArgumentException("Arg_InvalidOffLen");
+        checkScale(scale);
+        return parseUnscaled(value, start, end, scale, '.', '-');
+    }
+
+    // Digits are accumulated as a negative number, like Long.parseLong, so that
+    // Long.MIN_VALUE can be read; digits beyond the scale are only used for rounding.
+    private static long parseUnscaled(CharSequence value, int start, int end, int scale, char separator, char minus) {
+        while (start < end && isWhitespace(value.charAt(start))) start++;
+        while (end > start && isWhitespace(value.charAt(end - 1))) end--;
+
+        boolean negative = false;
+        if (start < end) {
+            char sign = value.charAt(start);
+            if (sign == '+' || sign == '-' || sign == minus) {
+                negative = sign != '+';
+                start++;
+            }
+        }
+
+        long result = 0;
+        int digits = 0;
+        int fraction = -1;
+        int dropped = -1;
+        boolean sticky = false;
+        for (int i = start; i < end; i++) {
+            char c = value.charAt(i);
+            if (c == separator && fraction < 0) {
+                fraction = 0;
+                continue;
+            }
+            int digit = c - '0';
+            if (digit < 0 || digit > 9) throw new FormatException("Format_InvalidString");
+            digits++;
+            if (fraction >= 0 && fraction++ >= scale) {
+                if (dropped < 0) dropped = digit;
+                else sticky |= digit != 0;
+                continue;
+            }
+            if (result < -922337203685477580L || result == -922337203685477580L && digit > 8) {
+                throw new OverflowException("Overflow_Decimal");
+            }
+            result = result * 10 - digit;
+        }
+        if (digits == 0) throw new FormatException("Format_InvalidString");
+
+        int missing = scale - Math.max(fraction, 0);
+        if (missing > 0) {
+            long power = POWERS_OF_TEN[missing];
+            if (result < Long.MIN_VALUE / power) throw new OverflowException("Overflow_Decimal");
+            result *= power;
+        } else if (dropped > 5 || dropped == 5 && (sticky || (result & 1) != 0)) {
+            if (result == Long.MIN_VALUE) throw new OverflowException("Overflow_Decimal");
+            result--;
+        }
+
+        if (negative) return result;
+        if (result == Long.MIN_VALUE) throw new OverflowException("Overflow_Decimal");
+        return -result;
+    }
+
+    // Integer digits without leading zeros.
+    private static int integerDigits(CharSequence value, char separator) {
+        int count = 0;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == separator) break;
+            if (c >= '1' && c <= '9' || c == '0' && count > 0) count++;
+        }
+        return count;
+    }
+
+    // Digits after the separator, at most MAX_SCALE.
+    private static int fractionDigits(CharSequence value, char separator) {
+        int count = 0;
+        int i = 0;
+        while (i < value.length() && value.charAt(i) != separator) i++;
+        for (i++; i < value.length() && value.charAt(i) >= '0' && value.charAt(i) <= '9'; i++) count++;
+        return Math.min(count, MAX_SCALE);
+    }
+
+    // The unscaled value at another scale, rounded half to even when the scale shrinks.
+    public static long rescale(long unscaled, int scale, int newScale) {
+        checkScale(scale);
+        checkScale(newScale);
+        if (newScale >= scale) {
+            long power = POWERS_OF_TEN[newScale - scale];
+            if (unscaled > Long.MAX_VALUE / power || unscaled < Long.MIN_VALUE / power) {
+                throw new OverflowException("Overflow_Decimal");
+            }
+            return unscaled * power;
+        }
+
+        long power = POWERS_OF_TEN[scale - newScale];
+        long quotient = unscaled / power;
+        long twiceRemainder = Math.abs(unscaled % power) * 2;
+        if (twiceRemainder > power || twiceRemainder == power && (quotient & 1) != 0) {
+            quotient += unscaled < 0 ? -1 : 1;
+        }
+        return quotient;
+    }
+
+    public static BigDecimal toBigDecimal(long unscaled, int scale) {
+        checkScale(scale);
+        return BigDecimal.valueOf(unscaled, scale);
+    }
+
+    public static double toDouble(long unscaled, int scale) {
+        checkScale(scale);
+        // both operands exact, so the division is correctly rounded
+        if (unscaled > -(1L << 53) && unscaled < 1L << 53) return unscaled / DOUBLE_POWERS_OF_TEN[scale];
+        return BigDecimal.valueOf(unscaled, scale).doubleValue();
+    }
+
+    public static float toFloat(long unscaled, int scale) {
+        checkScale(scale);
+        if (unscaled > -(1L << 24) && unscaled < 1L << 24 && scale < FLOAT_POWERS_OF_TEN.length) return unscaled / FLOAT_POWERS_OF_TEN[scale];
+        return BigDecimal.valueOf(unscaled, scale).floatValue();
+    }
+
+    public static String toString(long unscaled, int scale) {
+        return appendTo(unscaled, scale, new StringBuilder(21)).toString();
+    }
+
+    // The plain form with all scale digits, as BigDecimal.toPlainString writes it: "-0.50".
+    public static StringBuilder appendTo(long unscaled, int scale, StringBuilder builder) {
+        if (builder == null) throw new ArgumentNullException("builder");
+        checkScale(scale);
+        if (scale == 0) return builder.append(unscaled);
+
+        long power = POWERS_OF_TEN[scale];
+        long integer = unscaled / power;
+        long fraction = Math.abs(unscaled % power);
+        if (unscaled < 0 && integer == 0) builder.append('-');
+        builder.append(integer).append('.');
+        for (int digits = digitCount(fraction); digits < scale; digits++) builder.append('0');
+        return fraction == 0 ? builder : builder.append(fraction);
+    }
+
+    private static int digitCount(long value) {
+        int count = 1;
+        while (count < POWERS_OF_TEN.length && value >= POWERS_OF_TEN[count]) count++;
+        return value == 0 ? 0 : count;
+    }
+
+    private static boolean fitsInLong(BigDecimal value) {
+        return value.precision() <= MAX_SCALE || value.unscaledValue().bitLength() < 64;
+    }
+
+    private static void checkScale(int scale) {
+        if (scale < 0 || scale > MAX_SCALE) throw new ArgumentException("scale");
+    }
+
+    private static char getDecimalSeparator(FormatProvider provider) {
+        DecimalFormatSymbols symbols = getSymbols(provider);
+        return symbols == null ? '.' : symbols.getDecimalSeparator();
+    }
+
+    private static char getMinusSign(FormatProvider provider) {
+        DecimalFormatSymbols symbols = getSymbols(provider);
+        return symbols == null ? '-' : symbols.getMinusSign();
+    }
+
+    private static DecimalFormatSymbols getSymbols(FormatProvider provider) {
+        Object format = provider == null ? null : provider.getFormat(DecimalFormatSymbols.class);
+        return format instanceof DecimalFormatSymbols ? (DecimalFormatSymbols) format : null;
+    }
+
+    private static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\r' || c == '\f' || c == 0x0B;
+    }
+
+    public long getUnscaledValue() {
+        return unscaled;
+    }
+
+    public int getScale() {
+        return scale;
+    }
+
+    public Decimal64 setScale(int newScale) {
+        return newScale == scale ? this : valueOf(rescale(unscaled, scale, newScale), newScale);
+    }
+
+    public BigDecimal toBigDecimal() {
+        return BigDecimal.valueOf(unscaled, scale);
+    }
+
+    // Rounded half to even, as Convert.toInt64(BigDecimal) does.
+    public long toLongRounded() {
+        return scale == 0 ? unscaled : rescale(unscaled, scale, 0);
+    }
+
+    public int signum() {
+        return Long.signum(unscaled);
+    }
+
+    // Truncated toward zero, like BigDecimal.longValue().
+    @Override
+    public long longValue() {
+        return unscaled / POWERS_OF_TEN[scale];
+    }
+
+    @Override
+    public int intValue() {
+        return (int) longValue();
+    }
+
+    @Override
+    public float floatValue() {
+        return toFloat(unscaled, scale);
+    }
+
+    @Override
+    public double doubleValue() {
+        return toDouble(unscaled, scale);
+    }
+
+    // Numeric order; 1.5 and 1.50 compare equal.
+    @Override
+    public int compareTo(Decimal64 other) {
+        if (scale == other.scale) return Long.compare(unscaled, other.unscaled);
+        long x = unscaled;
+        long y = other.unscaled;
+        try {
+            if (scale < other.scale) x = rescale(x, scale, other.scale);
+            else y = rescale(y, other.scale, scale);
+        } catch (OverflowException e) {
+            // the value that no longer fits is the larger in magnitude
+            return toBigDecimal().compareTo(other.toBigDecimal());
+        }
+        return Long.compare(x, y);
+    }
+
+    // Numeric equality, consistent with compareTo, unlike BigDecimal.equals.
+    @Override
+    public boolean equals(Object obj) {
+        return obj instanceof Decimal64 && compareTo((Decimal64) obj) == 0;
+    }
+
+    @Override
+    public int hashCode() {
+        long u = unscaled;
+        int s = scale;
+        while (s > 0 && u % 10 == 0) {
+            u /= 10;
+            s--;
+        }
+        return 31 * (int) (u ^ (u >>> 32)) + s;
+    }
+
+    @Override
+    public String toString() {
+        return toString(unscaled, scale);
+    }
+
+    @Override
+    public TypeCode GetTypeCode() {
+        return TypeCode.DECIMAL;
+    }
+
+    @Override
+    public Boolean toBoolean(FormatProvider provider) {
+        return unscaled != 0;
+    }
+
+    @Override
+    public Byte toByte(FormatProvider provider) {
+        return OverflowPolicy.CHECKED.toByte(toLongRounded());
+    }
+
+    @Override
+    public Character toChar(FormatProvider provider) {
+        throw new InvalidCastException("InvalidCast_FromTo");
+    }
+
+    @Override
+    public LocalDateTime toDateTime(FormatProvider provider) {
+        throw new InvalidCastException("InvalidCast_FromTo");
+    }
+
+    @Override
+    public BigDecimal toDecimal(FormatProvider provider) {
+        return toBigDecimal();
+    }
+
+    @Override
+    public Double toDouble(FormatProvider provider) {
+        return toDouble(unscaled, scale);
+    }
+
+    @Override
+    public Short toShort(FormatProvider provider) {
+        return OverflowPolicy.CHECKED.toInt16(toLongRounded());
+    }
+
+    @Override
+    public Integer toInteger(FormatProvider provider) {
+        return OverflowPolicy.CHECKED.toInt32(toLongRounded());
+    }
+
+    @Override
+    public Long toLong(FormatProvider provider) {
+        return toLongRounded();
+    }
+
+    @Override
+    public UInteger toUInt32(FormatProvider provider) {
+        return UInteger.valueOf(OverflowPolicy.CHECKED.toUInt32(toLongRounded()));
+    }
+
+    @Override
+    public ULong toUInt64(FormatProvider provider) {
+        return ULong.valueOf(OverflowPolicy.CHECKED.toUInt64(toLongRounded()));
+    }
+
+    @Override
+    public Float toFloat(FormatProvider provider) {
+        return toFloat(unscaled, scale);
+    }
+
+    @Override
+    public CharSequence toString(FormatProvider provider) {
+        return ValueFormatter.format(this, provider);
+    }
+
+    @Override
+    public Object toType(Type conversionType, FormatProvider provider) {
+        return Convert.defaultToType(this, conversionType, provider);
+    }
+}
@@ -0,0 +1,11 @@
+package io.standardcore;
+
+// What ConversionContext.toXxx(Object) returns for a null value.
+public enum NullPolicy {
+    // The target's default, as Convert does: false, 0, (char) 0, 0001-01-01T00:00 or "".
+    DEFAULT_VALUE,
+    // null itself.
+    NULL,
+    // ArgumentNullException.
+    THROW
+}
@@ -0,0 +1,355 @@
+package io.standardcore;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+
+// How a conversion handles a value outside the target type's range. Each policy is its own
+// implementation of the narrowing methods, so a context built with one policy runs only that
+// code: CHECKED compares and throws, SATURATING clamps and UNCHECKED is a plain cast.
+//
+// Float, Double and BigDecimal sources are first rounded half to even (Math.rint, or
+// RoundingMode.HALF_EVEN), as Convert does, and then narrowed by one kernel per policy and
+// source kind: for doubles, CHECKED tests the rounded value against the target bounds with a
+// single non-short-circuit comparison that also rejects NaN and the infinities.
+//
+// The methods can also be called directly for a one-off policy, e.g.
+// OverflowPolicy.SATURATING.toInt16(reading). Unsigned targets return the raw bits, as
+// UInteger.valueOf(int) and ULong.valueOf(long) take them.
+public enum OverflowPolicy {
+    // OverflowException, as Convert does.
+    CHECKED {
+        @Override
+        public byte toByte(long value) {
+            if (value < Byte.MIN_VALUE || value > Byte.MAX_VALUE) throw new OverflowException("Overflow_Byte");
+            return (byte) value;
+        }
+
+        @Override
+        public char toChar(long value) {
+            if (value < 0 || value > Character.MAX_VALUE) throw new OverflowException("Overflow_Char");
+            return (char) value;
+        }
+
+        @Override
+        public short toInt16(long value) {
+            if (value < Short.MIN_VALUE || value > Short.MAX_VALUE) throw new OverflowException("Overflow_Int16");
+            return (short) value;
+        }
+
+        @Override
+        public int toInt32(long value) {
+            if (value < Integer.MIN_VALUE || value > Integer.MAX_VALUE) throw new OverflowException("Overflow_Int32");
+            return (int) value;
+        }
+
+        @Override
+        public int toUInt32(long value) {
+            if ((value >>> 32) != 0) throw new OverflowException("Overflow_UInt32");
+            return (int) value;
+        }
+
+        @Override
+        public long toUInt64(long value) {
+            if (value < 0) throw new OverflowException("Overflow_UInt64");
+            return value;
+        }
+
+        @Override
+        public long fromUInt64(long bits) {
+            if (bits < 0) throw new OverflowException("Overflow_Int64");
+            return bits;
+        }
+
+        @Override
+        long narrowUInt64(long bits) {
+            // above Long.MAX_VALUE is out of range for every narrower target
+            return bits < 0 ? Long.MAX_VALUE : bits;
+        }
+
+        @Override
+        long narrow(double value, long min, long max, String overflow) {
+            double rounded = Math.rint(value);
+            // max + 1.0 is exact for every target, and rounds to 2^63 for Long.MAX_VALUE
+            if (!(rounded >= min & rounded < max + 1.0)) throw new OverflowException(overflow);
+            return (long) rounded;
+        }
+
+        @Override
+        long narrow(BigDecimal value, long min, long max, String overflow) {
+            BigDecimal rounded = roundHalfEven(value);
+            if (rounded == null || !fitsInLong(rounded)) throw new OverflowException(overflow);
+            long result = rounded.longValue();
+            if (result < min | result > max) throw new OverflowException(overflow);
+            return result;
+        }
+
+        @Override
+        public long toUInt64(double value) {
+            double rounded = Math.rint(value);
+            if (!(rounded >= 0 & rounded < TWO_POW_64)) throw new OverflowException("Overflow_UInt64");
+            return uint64Bits(rounded);
+        }
+
+        @Override
+        public long toUInt64(BigDecimal value) {
+            BigDecimal rounded = roundHalfEven(value);
+            if (rounded == null || rounded.signum() < 0 || rounded.compareTo(UINT64_MAX_DECIMAL) > 0) throw new OverflowException("Overflow_UInt64");
+            return rounded.toBigInteger().longValue();
+        }
+    },
+
+    // Clamps to the nearest value of the target type.
+    SATURATING {
+        @Override
+        public byte toByte(long value) {
+            return (byte) Math.max(Byte.MIN_VALUE, Math.min(Byte.MAX_VALUE, value));
+        }
+
+        @Override
+        public char toChar(long value) {
+            return (char) Math.max(0, Math.min(Character.MAX_VALUE, value));
+        }
+
+        @Override
+        public short toInt16(long value) {
+            return (short) Math.max(Short.MIN_VALUE, Math.min(Short.MAX_VALUE, value));
+        }
+
+        @Override
+        public int toInt32(long value) {
+            return (int) Math.max(Integer.MIN_VALUE, Math.min(Integer.MAX_VALUE, value));
+        }
+
+        @Override
+        public int toUInt32(long value) {
+            return (int) Math.max(0, Math.min(0xFFFFFFFFL, value));
+        }
+
+        @Override
+        public long toUInt64(long value) {
+            return Math.max(0, value);
+        }
+
+        @Override
+        public long fromUInt64(long bits) {
+            return bits < 0 ? Long.MAX_VALUE : bits;
+        }
+
+        @Override
+        long narrowUInt64(long bits) {
+            return bits < 0 ? Long.MAX_VALUE : bits;
+        }
+
+        @Override
+        long narrow(double value, long min, long max, String overflow) {
+            // the cast already saturates at the long range and maps NaN to 0
+            long result = (long) Math.rint(value);
+            return Math.max(min, Math.min(max, result));
+        }
+
+        @Override
+        long narrow(BigDecimal value, long min, long max, String overflow) {
+            BigDecimal rounded = roundHalfEven(value);
+            long result = rounded != null && fitsInLong(rounded) ? rounded.longValue() : value.signum() < 0 ? Long.MIN_VALUE : Long.MAX_VALUE;
+            return Math.max(min, Math.min(max, result));
+        }
+
+        @Override
+        public long toUInt64(double value) {
+            double rounded = Math.rint(value);
+            if (!(rounded > 0)) return 0;
+            return rounded < TWO_POW_64 ? uint64Bits(rounded) : -1L;
+        }
+
+        @Override
+        public long toUInt64(BigDecimal value) {
+            BigDecimal rounded = roundHalfEven(value);
+            if (value.signum() < 0) return 0;
+            return rounded == null || rounded.compareTo(UINT64_MAX_DECIMAL) > 0 ? -1L : rounded.toBigInteger().longValue();
+        }
+    },
+
+    // Keeps the low-order bits, like a Java cast.
+    UNCHECKED {
+        @Override
+        public byte toByte(long value) {
+            return (byte) value;
+        }
+
+        @Override
+        public char toChar(long value) {
+            return (char) value;
+        }
+
+        @Override
+        public short toInt16(long value) {
+            return (short) value;
+        }
+
+        @Override
+        public int toInt32(long value) {
+            return (int) value;
+        }
+
+        @Override
+        public int toUInt32(long value) {
+            return (int) value;
+        }
+
+        @Override
+        public long toUInt64(long value) {
+            return value;
+        }
+
+        @Override
+        public long fromUInt64(long bits) {
+            return bits;
+        }
+
+        @Override
+        long narrowUInt64(long bits) {
+            return bits;
+        }
+
+        @Override
+        long narrow(double value, long min, long max, String overflow) {
+            return (long) Math.rint(value);
+        }
+
+        @Override
+        long narrow(BigDecimal value, long min, long max, String overflow) {
+            return lowBits(value);
+        }
+
+        @Override
+        public long toUInt64(double value) {
+            double rounded = Math.rint(value);
+            return rounded < TWO_POW_63 ? (long) rounded : uint64Bits(rounded);
+        }
+
+        @Override
+        public long toUInt64(BigDecimal value) {
+            return lowBits(value);
+        }
+    };
+
+    private static final BigDecimal LONG_MIN_DECIMAL = BigDecimal.valueOf(Long.MIN_VALUE);
+    private static final BigDecimal LONG_MAX_DECIMAL = BigDecimal.valueOf(Long.MAX_VALUE);
+    private static final BigDecimal UINT64_MAX_DECIMAL = ULong.toBigDecimal(-1L);
+    private static final BigDecimal ONE_HALF = BigDecimal.valueOf(5, 1);
+
+    // Integer digits beyond which a BigDecimal is outside every target range: 2^64 - 1 has 20
+    // digits, and anything with 21 is at least 10^20.
+    private static final int MAX_INTEGER_DIGITS = 20;
+
+    // 2^63 and 2^64 as doubles, the bounds of the two halves of the UInt64 range.
+    private static final double TWO_POW_63 = 9.223372036854775808E18;
+    private static final double TWO_POW_64 = 1.8446744073709551616E19;
+
+    public abstract byte toByte(long value);
+
+    public abstract char toChar(long value);
+
+    public abstract short toInt16(long value);
+
+    public abstract int toInt32(long value);
+
+    public abstract int toUInt32(long value);
+
+    public abstract long toUInt64(long value);
+
+    // ULong bits to a signed long.
+    public abstract long fromUInt64(long bits);
+
+    // ULong bits to a long that gives the policy's result when passed on to a narrower target.
+    abstract long narrowUInt64(long bits);
+
+    public abstract long toUInt64(double value);
+
+    public abstract long toUInt64(BigDecimal value);
+
+    // The value rounded half to even as a long within [min, max].
+    abstract long narrow(double value, long min, long max, String overflow);
+
+    // The value rounded half to even as a long within [min, max].
+    abstract long narrow(BigDecimal value, long min, long max, String overflow);
+
+    public byte toByte(double value) {
+        return (byte) narrow(value, Byte.MIN_VALUE, Byte.MAX_VALUE, "Overflow_Byte");
+    }
+
+    public short toInt16(double value) {
+        return (short) narrow(value, Short.MIN_VALUE, Short.MAX_VALUE, "Overflow_Int16");
+    }
+
+    public int toInt32(double value) {
+        return (int) narrow(value, Integer.MIN_VALUE, Integer.MAX_VALUE, "Overflow_Int32");
+    }
+
+    public int toUInt32(double value) {
+        return (int) narrow(value, 0, 0xFFFFFFFFL, "Overflow_UInt32");
+    }
+
+    public long toInt64(double value) {
+        return narrow(value, Long.MIN_VALUE, Long.MAX_VALUE, "Overflow_Int64");
+    }
+
+    public byte toByte(BigDecimal value) {
+        return (byte) narrow(value, Byte.MIN_VALUE, Byte.MAX_VALUE, "Overflow_Byte");
+    }
+
+    public short toInt16(BigDecimal value) {
+        return (short) narrow(value, Short.MIN_VALUE, Short.MAX_VALUE, "Overflow_Int16");
+    }
+
+    public int toInt32(BigDecimal value) {
+        return (int) narrow(value, Integer.MIN_VALUE, Integer.MAX_VALUE, "Overflow_Int32");
+    }
+
+    public int toUInt32(BigDecimal value) {
+        return (int) narrow(value, 0, 0xFFFFFFFFL, "Overflow_UInt32");
+    }
+
+    public long toInt64(BigDecimal value) {
+        return narrow(value, Long.MIN_VALUE, Long.MAX_VALUE, "Overflow_Int64");
+    }
+
+    // An integral value of up to 18 digits fits a long without comparing it to the bounds.
+    private static boolean fitsInLong(BigDecimal integral) {
+        return integral.precision() <= 18
+                || integral.compareTo(LONG_MIN_DECIMAL) >= 0 && integral.compareTo(LONG_MAX_DECIMAL) <= 0;
+    }
+
+    // The value rounded half to even, or null when it has more than MAX_INTEGER_DIGITS integer
+    // digits. precision() - scale() is checked first: setScale on an extreme exponent such as
+    // 1e-99999999 or 1e99999999 would build a power of ten of that size.
+    private static BigDecimal roundHalfEven(BigDecimal value) {
+        // a zero can carry any exponent, e.g. 0E+99999999
+        if (value.signum() == 0) return BigDecimal.ZERO;
+        long integerDigits = (long) value.precision() - value.scale();
+        if (integerDigits > MAX_INTEGER_DIGITS) return null;
+        if (integerDigits <= 0) {
+            // below 1 in magnitude, so the result is 0, or +-1 above one half
+            return value.abs().compareTo(ONE_HALF) > 0 ? BigDecimal.valueOf(value.signum()) : BigDecimal.ZERO;
+        }
+        return value.setScale(0, RoundingMode.HALF_EVEN);
+    }
+
+    // The low 64 bits of the value rounded half to even. A negative scale of 64 or more makes
+    // the value a multiple of 2^64, whose low bits are zero.
+    private static long lowBits(BigDecimal value) {
+        BigDecimal rounded = roundHalfEven(value);
+        if (rounded != null) return rounded.toBigInteger().longValue();
+        if (value.scale() >= 0) return value.setScale(0, RoundingMode.HALF_EVEN).toBigInteger().longValue();
+        if (value.scale() <= -64) return 0;
+        return value.unscaledValue().multiply(BigInteger.TEN.pow(-value.scale())).longValue();
+    }
+
+    // An integral double in [0, 2^64) as UInt64 bits; values from 2^63 up are shifted down into
+    // the signed range to convert.
+    private static long uint64Bits(double rounded) {
+        if (rounded < TWO_POW_63) return (long) rounded;
+        return (long) (rounded - TWO_POW_63) ^ Long.MIN_VALUE;
+    }
+}
@@ -8,7 +8,9 @@ public enum TypeCode {
     BYTE(6),
     INT16(7),
     INT32(9),
+    UINT32(10),
     INT64(11),
+    UINT64(12),
     SINGLE(13),
     DOUBLE(14),
     DECIMAL(15),
@@ -32,4 +32,10 @@ public interface TypeConverter {
     default Float toSingle(Object value, FormatProvider provider){
         return toFloat(value, provider);
     }
+    default UInteger toUInt32(Object value, FormatProvider provider){
+        return Convert.toUInt32(toLong(value, provider));
+    }
+    default ULong toUInt64(Object value, FormatProvider provider){
+        return Convert.toUInt64(toLong(value, provider));
+    }
 }
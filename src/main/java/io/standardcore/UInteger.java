@@ -0,0 +1,245 @@
+package io.standardcore;
+
+import java.lang.reflect.Type;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+// Unsigned 32-bit integer (UInt32) stored in an int; values above Integer.MAX_VALUE have the
+// sign bit set. The static methods work on the raw int so hot paths never box.
+public final class UInteger extends Number implements Comparable<UInteger>, Convertible {
+    private static final long serialVersionUID = -2706523160373891942L;
+
+    public static final UInteger MIN_VALUE = new UInteger(0);
+    public static final UInteger MAX_VALUE = new UInteger(-1);
+
+    private static final long MASK = 0xFFFFFFFFL;
+    private static final int MAX_DIGITS = 10;
+
+    private static final UInteger[] CACHE = new UInteger[128];
+
+    static {
+        CACHE[0] = MIN_VALUE;
+        for (int i = 1; i < CACHE.length; i++) {
+            CACHE[i] = new UInteger(i);
+        }
+    }
+
+    private final int value;
+
+    private UInteger(int value) {
+        this.value = value;
+    }
+
+    // The int is read as unsigned, so valueOf(-1) is 4294967295.
+    public static UInteger valueOf(int value) {
+        if (value >= 0 && value < CACHE.length) return CACHE[value];
+        if (value == -1) return MAX_VALUE;
+        return new UInteger(value);
+    }
+
+    public static UInteger parse(CharSequence value) {
+        if (value == null) throw new ArgumentNullException("value");
+        return valueOf(parseInt(value, 0, value.length()));
+    }
+
+    public static int parseInt(CharSequence value) {
+        if (value == null) throw new ArgumentNullException("value");
+        return parseInt(value, 0, value.length());
+    }
+
+    // Parses an optionally signed decimal integer, ignoring surrounding whitespace. A minus
+    // sign is only accepted in front of zero; any other negative value overflows.
+    public static int parseInt(CharSequence value, int start, int end) {
+        if (value == null) throw new ArgumentNullException("value");
+        while (start < end && isWhitespace(value.charAt(start))) start++;
+        while (end > start && isWhitespace(value.charAt(end - 1))) end--;
+
+        boolean negative = false;
+        if (start < end) {
+            char sign = value.charAt(start);
+            if (sign == '+' || sign == '-') {
+                negative = sign == '-';
+                start++;
+            }
+        }
+        if (start == end) throw new FormatException("Format_InvalidString");
+
+        while (start < end - 1 && value.charAt(start) == '0') start++;
+        long result = 0;
+        for (int i = start; i < end; i++) {
+            int digit = value.charAt(i) - '0';
+            if (digit < 0 || digit > 9) throw new FormatException("Format_InvalidString");
+            result = result * 10 + digit;
+        }
+        return finish(result, end - start, negative);
+    }
+
+    // Bytes are read as ASCII.
+    public static int parseInt(byte[] value, int offset, int length) {
+        if (value == null) throw new ArgumentNullException("value");
+        int start = offset;
+        int end = offset + length;
+        while (start < end && isWhitespace((char) (value[start] & 0xFF))) start++;
+        while (end > start && isWhitespace((char) (value[end - 1] & 0xFF))) end--;
+
+        boolean negative = false;
+        if (start < end && (value[start] == '+' || value[start] == '-')) {
+            negative = value[start] == '-';
+            start++;
+        }
+        if (start == end) throw new FormatException("Format_InvalidString");
+
+        while (start < end - 1 && value[start] == '0') start++;
+        long result = 0;
+        for (int i = start; i < end; i++) {
+            int digit = value[i] - '0';
+            if (digit < 0 || digit > 9) throw new FormatException("Format_InvalidString");
+            result = result * 10 + digit;
+        }
+        return finish(result, end - start, negative);
+    }
+
+    // Ten digits fit in a long without wrapping, so the range check is a plain compare.
+    private static int finish(long result, int digits, boolean negative) {
+        if (digits > MAX_DIGITS || result > MASK) throw new OverflowException("Overflow_UInt32");
+        if (negative && result != 0) throw new OverflowException("Overflow_UInt32");
+        return (int) result;
+    }
+
+    public static String toString(int value) {
+        return Long.toString(value & MASK);
+    }
+
+    public static StringBuilder appendTo(int value, StringBuilder builder) {
+        if (builder == null) throw new ArgumentNullException("builder");
+        return builder.append(value & MASK);
+    }
+
+    public static int compare(int x, int y) {
+        return Integer.compareUnsigned(x, y);
+    }
+
+    public static long toLong(int value) {
+        return value & MASK;
+    }
+
+    private static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\r' || c == '\f' || c == 0x0B;
+    }
+
+    // The raw bits; negative for values above Integer.MAX_VALUE.
+    @Override
+    public int intValue() {
+        return value;
+    }
+
+    @Override
+    public long longValue() {
+        return value & MASK;
+    }
+
+    @Override
+    public float floatValue() {
+        return value & MASK;
+    }
+
+    @Override
+    public double doubleValue() {
+        return value & MASK;
+    }
+
+    @Override
+    public int compareTo(UInteger other) {
+        return Integer.compareUnsigned(value, other.value);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        return obj instanceof UInteger && ((UInteger) obj).value == value;
+    }
+
+    @Override
+    public int hashCode() {
+        return value;
+    }
+
+    @Override
+    public String toString() {
+        return toString(value);
+    }
+
+    @Override
+    public TypeCode GetTypeCode() {
+        return TypeCode.UINT32;
+    }
+
+    @Override
+    public Boolean toBoolean(FormatProvider provider) {
+        return value != 0;
+    }
+
+    @Override
+    public Byte toByte(FormatProvider provider) {
+        return Convert.toByte(this);
+    }
+
+    @Override
+    public Character toChar(FormatProvider provider) {
+        return Convert.toChar(this);
+    }
+
+    @Override
+    public LocalDateTime toDateTime(FormatProvider provider) {
+        throw new InvalidCastException("InvalidCast_FromTo");
+    }
+
+    @Override
+    public BigDecimal toDecimal(FormatProvider provider) {
+        return BigDecimal.valueOf(value & MASK);
+    }
+
+    @Override
+    public Double toDouble(FormatProvider provider) {
+        return (double) (value & MASK);
+    }
+
+    @Override
+    public Short toShort(FormatProvider provider) {
+        return Convert.toInt16(this);
+    }
+
+    @Override
+    public Integer toInteger(FormatProvider provider) {
+        return Convert.toInt32(this);
+    }
+
+    @Override
+    public Long toLong(FormatProvider provider) {
+        return value & MASK;
+    }
+
+    @Override
+    public UInteger toUInt32(FormatProvider provider) {
+        return this;
+    }
+
+    @Override
+    public ULong toUInt64(FormatProvider provider) {
+        return ULong.valueOf(value & MASK);
+    }
+
+    @Override
+    public Float toFloat(FormatProvider provider) {
+        return (float) (value & MASK);
+    }
+
+    @Override
+    public CharSequence toString(FormatProvider provider) {
+        return toString(value);
+    }
+
+    @Override
+    public Object toType(Type conversionType, FormatProvider provider) {
+        return Convert.defaultToType(this, conversionType, provider);
+    }
+}
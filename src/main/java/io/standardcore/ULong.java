@@ -0,0 +1,331 @@
+package io.standardcore;
+
+import io.standardcore.formatting.ScratchBuffer;
+
+import java.lang.reflect.Type;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+// Unsigned 64-bit integer (UInt64) stored in a long; values above Long.MAX_VALUE have the
+// sign bit set. The static methods work on the raw long so hot paths never box: parseLong
+// and toString(long) parse and format without BigInteger, and compare uses unsigned order.
+public final class ULong extends Number implements Comparable<ULong>, Convertible {
+    private static final long serialVersionUID = 7415867210582345219L;
+
+    public static final ULong MIN_VALUE = new ULong(0L);
+    public static final ULong MAX_VALUE = new ULong(-1L);
+
+    // Largest value that can be multiplied by 10 without overflowing, and the largest
+    // last digit allowed after it: 18446744073709551615 = 1844674407370955161 * 10 + 5.
+    private static final long MAX_DIVIDED_BY_TEN = 1844674407370955161L;
+    private static final int MAX_LAST_DIGIT = 5;
+    private static final int MAX_DIGITS = 20;
+
+    private static final char[] DIGIT_TENS = new char[100];
+    private static final char[] DIGIT_ONES = new char[100];
+
+    private static final ULong[] CACHE = new ULong[128];
+
+    static {
+        for (int i = 0; i < 100; i++) {
+            DIGIT_TENS[i] = (char) ('0' + i / 10);
+            DIGIT_ONES[i] = (char) ('0' + i % 10);
+        }
+        CACHE[0] = MIN_VALUE;
+        for (int i = 1; i < CACHE.length; i++) {
+            CACHE[i] = new ULong(i);
+        }
+    }
+
+    private final long value;
+
+    private ULong(long value) {
+        this.value = value;
+    }
+
+    // The long is read as unsigned, so valueOf(-1L) is 18446744073709551615.
+    public static ULong valueOf(long value) {
+        if (value >= 0 && value < CACHE.length) return CACHE[(int) value];
+        if (value == -1L) return MAX_VALUE;
+        return new ULong(value);
+    }
+
+    public static ULong parse(CharSequence value) {
+        if (value == null) throw new ArgumentNullException("value");
+        return valueOf(parseLong(value, 0, value.length()));
+    }
+
+    public static long parseLong(CharSequence value) {
+        if (value == null) throw new ArgumentNullException("value");
+        return parseLong(value, 0, value.length());
+    }
+
+    // Parses an optionally signed decimal integer, ignoring surrounding whitespace. A minus
+    // sign is only accepted in front of zero; any other negative value overflows.
+    public static long parseLong(CharSequence value, int start, int end) {
+        if (value == null) throw new ArgumentNullException("value");
+        while (start < end && isWhitespace(value.charAt(start))) start++;
+        while (end > start && isWhitespace(value.charAt(end - 1))) end--;
+
+        boolean negative = false;
+        if (start < end) {
+            char sign = value.charAt(start);
+            if (sign == '+' || sign == '-') {
+                negative = sign == '-';
+                start++;
+            }
+        }
+        if (start == end) throw new FormatException("Format_InvalidString");
+
+        while (start < end - 1 && value.charAt(start) == '0') start++;
+        int last = end - 1;
+        long result = 0;
+        for (int i = start; i < last; i++) {
+            int digit = value.charAt(i) - '0';
+            if (digit < 0 || digit > 9) throw new FormatException("Format_InvalidString");
+            result = result * 10 + digit;
+        }
+        int lastDigit = value.charAt(last) - '0';
+        if (lastDigit < 0 || lastDigit > 9) throw new FormatException("Format_InvalidString");
+        return finish(result, lastDigit, end - start, negative);
+    }
+
+    // Bytes are read as ASCII.
+    public static long parseLong(byte[] value, int offset, int length) {
+        if (value == null) throw new ArgumentNullException("value");
+        int start = offset;
+        int end = offset + length;
+        while (start < end && isWhitespace((char) (value[start] & 0xFF))) start++;
+        while (end > start && isWhitespace((char) (value[end - 1] & 0xFF))) end--;
+
+        boolean negative = false;
+        if (start < end && (value[start] == '+' || value[start] == '-')) {
+            negative = value[start] == '-';
+            start++;
+        }
+        if (start == end) throw new FormatException("Format_InvalidString");
+
+        while (start < end - 1 && value[start] == '0') start++;
+        int last = end - 1;
+        long result = 0;
+        for (int i = start; i < last; i++) {
+            int digit = value[i] - '0';
+            if (digit < 0 || digit > 9) throw new FormatException("Format_InvalidString");
+            result = result * 10 + digit;
+        }
+        int lastDigit = value[last] - '0';
+        if (lastDigit < 0 || lastDigit > 9) throw new FormatException("Format_InvalidString");
+        return finish(result, lastDigit, end - start, negative);
+    }
+
+    // Up to 19 significant digits always fit, so only a 20th digit needs the prefix checked
+    // and the digit loops stay free of overflow checks.
+    private static long finish(long prefix, int lastDigit, int digits, boolean negative) {
+        if (digits > MAX_DIGITS) throw new OverflowException("Overflow_UInt64");
+        if (digits == MAX_DIGITS) {
+            int order = Long.compareUnsigned(prefix, MAX_DIVIDED_BY_TEN);
+            if (order > 0 || order == 0 && lastDigit > MAX_LAST_DIGIT) throw new OverflowException("Overflow_UInt64");
+        }
+        long result = prefix * 10 + lastDigit;
+        if (negative && result != 0) throw new OverflowException("Overflow_UInt64");
+        return result;
+    }
+
+    public static String toString(long value) {
+        if (value >= 0) return Long.toString(value);
+        ScratchBuffer scratch = ScratchBuffer.acquire();
+        try {
+            char[] buffer = scratch.getChars(MAX_DIGITS);
+            int start = getChars(value, buffer, MAX_DIGITS);
+            return new String(buffer, start, MAX_DIGITS - start);
+        } finally {
+            scratch.release();
+        }
+    }
+
+    public static StringBuilder appendTo(long value, StringBuilder builder) {
+        if (builder == null) throw new ArgumentNullException("builder");
+        if (value >= 0) return builder.append(value);
+        ScratchBuffer scratch = ScratchBuffer.acquire();
+        try {
+            char[] buffer = scratch.getChars(MAX_DIGITS);
+            int start = getChars(value, buffer, MAX_DIGITS);
+            return builder.append(buffer, start, MAX_DIGITS - start);
+        } finally {
+            scratch.release();
+        }
+    }
+
+    // Writes the unsigned decimal digits of value so that they end just before end, two
+    // digits per division, and returns the index of the first digit.
+    static int getChars(long value, char[] buffer, int end) {
+        int position = end;
+        if (value < 0) {
+            long quotient = (value >>> 1) / 5;
+            buffer[--position] = (char) ('0' + (int) (value - quotient * 10));
+            value = quotient;
+        }
+        while (value > Integer.MAX_VALUE) {
+            long quotient = value / 100;
+            int remainder = (int) (value - quotient * 100);
+            value = quotient;
+            buffer[--position] = DIGIT_ONES[remainder];
+            buffer[--position] = DIGIT_TENS[remainder];
+        }
+        int remaining = (int) value;
+        while (remaining >= 100) {
+            int quotient = remaining / 100;
+            int remainder = remaining - quotient * 100;
+            remaining = quotient;
+            buffer[--position] = DIGIT_ONES[remainder];
+            buffer[--position] = DIGIT_TENS[remainder];
+        }
+        if (remaining >= 10) {
+            buffer[--position] = DIGIT_ONES[remaining];
+            buffer[--position] = DIGIT_TENS[remaining];
+        } else {
+            buffer[--position] = (char) ('0' + remaining);
+        }
+        return position;
+    }
+
+    public static int compare(long x, long y) {
+        return Long.compareUnsigned(x, y);
+    }
+
+    public static double toDouble(long value) {
+        if (value >= 0) return value;
+        // halve with round-to-odd so the final rounding to double stays correct
+        return (double) ((value >>> 1) | (value & 1)) * 2.0;
+    }
+
+    public static float toFloat(long value) {
+        if (value >= 0) return value;
+        return (float) ((value >>> 1) | (value & 1)) * 2.0f;
+    }
+
+    public static BigDecimal toBigDecimal(long value) {
+        if (value >= 0) return BigDecimal.valueOf(value);
+        return BigDecimal.valueOf(value >>> 1).multiply(BigDecimal.valueOf(2)).add(BigDecimal.valueOf(value & 1));
+    }
+
+    private static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\r' || c == '\f' || c == 0x0B;
+    }
+
+    // The raw bits; negative for values above Long.MAX_VALUE.
+    @Override
+    public long longValue() {
+        return value;
+    }
+
+    @Override
+    public int intValue() {
+        return (int) value;
+    }
+
+    @Override
+    public float floatValue() {
+        return toFloat(value);
+    }
+
+    @Override
+    public double doubleValue() {
+        return toDouble(value);
+    }
+
+    @Override
+    public int compareTo(ULong other) {
+        return Long.compareUnsigned(value, other.value);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        return obj instanceof ULong && ((ULong) obj).value == value;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(value);
+    }
+
+    @Override
+    public String toString() {
+        return toString(value);
+    }
+
+    @Override
+    public TypeCode GetTypeCode() {
+        return TypeCode.UINT64;
+    }
+
+    @Override
+    public Boolean toBoolean(FormatProvider provider) {
+        return value != 0;
+    }
+
+    @Override
+    public Byte toByte(FormatProvider provider) {
+        return Convert.toByte(this);
+    }
+
+    @Override
+    public Character toChar(FormatProvider provider) {
+        return Convert.toChar(this);
+    }
+
+    @Override
+    public LocalDateTime toDateTime(FormatProvider provider) {
+        throw new InvalidCastException("InvalidCast_FromTo");
+    }
+
+    @Override
+    public BigDecimal toDecimal(FormatProvider provider) {
+        return toBigDecimal(value);
+    }
+
+    @Override
+    public Double toDouble(FormatProvider provider) {
+        return toDouble(value);
+    }
+
+    @Override
+    public Short toShort(FormatProvider provider) {
+        return Convert.toInt16(this);
+    }
+
+    @Override
+    public Integer toInteger(FormatProvider provider) {
+        return Convert.toInt32(this);
+    }
+
+    @Override
+    public Long toLong(FormatProvider provider) {
+        return Convert.toInt64(this);
+    }
+
+    @Override
+    public UInteger toUInt32(FormatProvider provider) {
+        return Convert.toUInt32(this);
+    }
+
+    @Override
+    public ULong toUInt64(FormatProvider provider) {
+        return this;
+    }
+
+    @Override
+    public Float toFloat(FormatProvider provider) {
+        return toFloat(value);
+    }
+
+    @Override
+    public CharSequence toString(FormatProvider provider) {
+        return toString(value);
+    }
+
+    @Override
+    public Object toType(Type conversionType, FormatProvider provider) {
+        return Convert.defaultToType(this, conversionType, provider);
+    }
+}
@@ -0,0 +1,134 @@
+package io.standardcore;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+// Background run behind Convert.warmUp: loads the converters for the chosen target types and
+// calls their common paths (parsing strings, converting boxed numbers, formatting) often enough
+// for the JIT to compile them, so the first real conversions after start-up do not run
+// interpreted. Inputs rotate through a few samples so the calls are not constant-folded.
+// Failures are ignored; a path that throws for a sample is still compiled.
+final class WarmUp implements Runnable {
+    // above the C2 compile thresholds for invocations and loop back-edges
+    static final int ITERATIONS = 20_000;
+
+    private static final String[] INTEGERS = {"0", "1", "-17", "255", "32767", "123456", "-2147483648", "9223372036854775807"};
+    private static final String[] DECIMALS = {"0", "1.5", "-17.25", "3.14159", "1E10", "-0.001", "12345.6789", "2.5e-3"};
+    private static final String[] DATE_TIMES = {"2024-01-02", "2024-01-02T03:04:05", "1999-12-31 23:59:59", "2000-02-29T00:00",
+            "2024-06-15T12:30:45.123", "1970-01-01", "2038-01-19T03:14:07", "2100-03-01 08:00"};
+    private static final String[] BOOLEANS = {"true", "false", "True", "FALSE", "1", "0", "yes", "no"};
+
+    private final Set<TypeCode> typeCodes;
+    private final CompletableFuture<Void> result = new CompletableFuture<>();
+    private volatile int sink;
+
+    private WarmUp(Set<TypeCode> typeCodes) {
+        this.typeCodes = EnumSet.copyOf(typeCodes);
+    }
+
+    static CompletableFuture<Void> start(Set<TypeCode> typeCodes) {
+        if (typeCodes == null) throw new ArgumentNullException("typeCodes");
+        if (typeCodes.isEmpty()) return CompletableFuture.completedFuture(null);
+        WarmUp warmUp = new WarmUp(typeCodes);
+        Thread thread = new Thread(warmUp, "typeconverter-warmup");
+        thread.setDaemon(true);
+        thread.setPriority(Thread.MIN_PRIORITY);
+        thread.start();
+        return warmUp.result;
+    }
+
+    @Override
+    public void run() {
+        try {
+            TypeCode[] codes = typeCodes.toArray(new TypeCode[0]);
+            int hash = 0;
+            for (int i = 0; i < ITERATIONS; i++) {
+                for (TypeCode typeCode : codes) hash += exercise(typeCode, i & 7);
+            }
+            sink = hash;
+            result.complete(null);
+        } catch (Throwable e) {
+            result.completeExceptionally(e);
+        }
+    }
+
+    private static int exercise(TypeCode typeCode, int sample) {
+        int hash = 0;
+        switch (typeCode) {
+            case BOOLEAN:
+                hash += hash(() -> Convert.toBoolean((Object) BOOLEANS[sample]));
+                hash += hash(() -> Convert.toString((Object) (sample > 3)));
+                break;
+            case CHAR:
+                hash += hash(() -> Convert.toChar((Object) BOOLEANS[sample].substring(0, 1)));
+                break;
+            case BYTE:
+                hash += hash(() -> Convert.toByte((Object) INTEGERS[sample]));
+                hash += hash(() -> Convert.toString((Object) (byte) sample, null));
+                break;
+            case INT16:
+                hash += hash(() -> Convert.toInt16((Object) INTEGERS[sample]));
+                hash += hash(() -> Convert.toString((Object) (short) sample, null));
+                break;
+            case INT32:
+                hash += hash(() -> Convert.toInt32((Object) INTEGERS[sample]));
+                hash += hash(() -> Convert.toInt32((Object) (long) sample));
+                hash += hash(() -> Convert.toString((Object) sample, null));
+                break;
+            case UINT32:
+                hash += hash(() -> Convert.toUInt32((Object) INTEGERS[sample]));
+                hash += hash(() -> Convert.toString(UInteger.valueOf(-sample), null));
+                break;
+            case INT64:
+                hash += hash(() -> Convert.toInt64(INTEGERS[sample]));
+                hash += hash(() -> Convert.toInt64((Object) sample));
+                hash += hash(() -> Convert.toString((Object) (long) sample, null));
+                break;
+            case UINT64:
+                hash += hash(() -> Convert.toUInt64((Object) INTEGERS[sample]));
+                hash += hash(() -> Convert.toString(ULong.valueOf(-sample), null));
+                break;
+            case SINGLE:
+                hash += hash(() -> Convert.toSingle((Object) DECIMALS[sample]));
+                hash += hash(() -> Convert.toString((Object) (sample / 4f), null));
+                break;
+            case DOUBLE:
+                hash += hash(() -> Convert.toDouble(DECIMALS[sample]));
+                hash += hash(() -> Convert.toDouble((Object) sample));
+                hash += hash(() -> Convert.toString((Object) (sample / 8d), null));
+                break;
+            case DECIMAL:
+                hash += hash(() -> Convert.toDecimal(DECIMALS[sample]));
+                hash += hash(() -> Convert.toString((Object) BigDecimal.valueOf(sample, 2), null));
+                break;
+            case DATETIME:
+                hash += hash(() -> Convert.toLocalDateTime(DATE_TIMES[sample]));
+                hash += hash(() -> Convert.toString((Object) LocalDateTime.of(2000 + sample, 1 + sample, 1, sample, 0), null));
+                break;
+            case STRING:
+                hash += hash(() -> Convert.toString((Object) INTEGERS[sample], null));
+                hash += hash(() -> Convert.appendTo(new StringBuilder(), (Object) DECIMALS[sample], null));
+                break;
+            default:
+                hash += hash(() -> Convert.getTypeCode(INTEGERS[sample]));
+                break;
+        }
+        return hash;
+    }
+
+    private interface Call {
+        Object run();
+    }
+
+    private static int hash(Call call) {
+        try {
+            Object value = call.run();
+            return value == null ? 0 : value.hashCode();
+        } catch (RuntimeException e) {
+            return 1;
+        }
+    }
+}
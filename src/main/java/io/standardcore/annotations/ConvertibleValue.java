@@ -0,0 +1,13 @@
+package io.standardcore.annotations;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+// Marks the primary field of a @GenerateConvertible type. May be omitted when the type
+// declares exactly one instance field.
+@Retention(RetentionPolicy.SOURCE)
+@Target(ElementType.FIELD)
+public @interface ConvertibleValue {
+}
@@ -0,0 +1,15 @@
+package io.standardcore.annotations;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+// Processed by io.standardcore.processor.ConvertibleProcessor (typeconverter-processor module),
+// which generates a <TypeName>Convertible interface next to the annotated type. The interface
+// implements every Convertible method as a direct Convert call on the primary field, so the
+// annotated type only has to declare "implements <TypeName>Convertible".
+@Retention(RetentionPolicy.SOURCE)
+@Target(ElementType.TYPE)
+public @interface GenerateConvertible {
+}
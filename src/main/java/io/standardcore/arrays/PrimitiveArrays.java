@@ -0,0 +1,1315 @@
+package io.standardcore.arrays;
+
+import io.standardcore.ArgumentNullException;
+import io.standardcore.ConversionContext;
+import io.standardcore.Convert;
+import io.standardcore.FormatException;
+import io.standardcore.FormatProvider;
+import io.standardcore.InvalidCastException;
+import io.standardcore.OverflowException;
+import io.standardcore.OverflowPolicy;
+import io.standardcore.generic.ElementConverter;
+import io.standardcore.parsing.BooleanParser;
+import io.standardcore.parsing.Int64Parser;
+
+import java.util.Collection;
+import java.util.Iterator;
+
+// Conversions to primitive array targets; used by Convert.changeType(Object, Type, FormatProvider)
+// for int[].class, long[].class, double[].class and the other primitive array types.
+// Sources can be other primitive arrays, Object[], Collection<?> or delimited CharSequences
+// such as "1,2,3". Results are written straight into the target array. Narrowing loops over
+// integral sources collect overflow in an accumulator instead of branching per element,
+// keeping the loop bodies branch-free so the JIT can vectorize them; OverflowException is
+// thrown once the loop has finished. Floating sources go through OverflowPolicy.CHECKED element by element:
+// its range test is a branch that in-range data never takes, which measured faster than
+// carrying an accumulator through the rint loop (NarrowingBenchmark).
+//
+// The ConversionContext overloads convert Object[] and Collection elements with that context
+// and narrow primitive arrays with its OverflowPolicy; the others use Convert.getDefaultContext()
+// for elements and the CHECKED kernels for primitive arrays. The OverflowPolicy overloads of
+// the narrowing kernels run the kernel for CHECKED and narrow element by element otherwise.
+public final class PrimitiveArrays {
+    public static final char DEFAULT_DELIMITER = ',';
+
+    private static final ElementConverter BOOLEAN_CONVERTER = ElementConverter.of(boolean.class);
+    private static final ElementConverter CHAR_CONVERTER = ElementConverter.of(char.class);
+    private static final ElementConverter BYTE_CONVERTER = ElementConverter.of(byte.class);
+    private static final ElementConverter SHORT_CONVERTER = ElementConverter.of(short.class);
+    private static final ElementConverter INT_CONVERTER = ElementConverter.of(int.class);
+    private static final ElementConverter LONG_CONVERTER = ElementConverter.of(long.class);
+    private static final ElementConverter FLOAT_CONVERTER = ElementConverter.of(float.class);
+    private static final ElementConverter DOUBLE_CONVERTER = ElementConverter.of(double.class);
+
+    private PrimitiveArrays() {
+    }
+
+    public static boolean isPrimitiveArray(Class<?> type) {
+        return type.isArray() && type.getComponentType().isPrimitive();
+    }
+
+    public static Object convert(Object value, Class<?> arrayType, FormatProvider provider) {
+        return convert(Convert.getDefaultContext(), value, arrayType, provider);
+    }
+
+    public static Object convert(ConversionContext context, Object value, Class<?> arrayType, FormatProvider provider) {
+        if (context == null) throw new ArgumentNullException("context");
+        if (arrayType == null) throw new ArgumentNullException("arrayType");
+        Class<?> componentType = arrayType.getComponentType();
+        if (componentType == boolean.class) return toBooleanArray(context, value, provider);
+        if (componentType == char.class) return toCharArray(context, value, provider);
+        if (componentType == byte.class) return toByteArray(context, value, provider);
+        if (componentType == short.class) return toShortArray(context, value, provider);
+        if (componentType == int.class) return toIntArray(context, value, provider);
+        if (componentType == long.class) return toLongArray(context, value, provider);
+        if (componentType == float.class) return toFloatArray(context, value, provider);
+        if (componentType == double.class) return toDoubleArray(context, value, provider);
+        throw new InvalidCastException("InvalidCast_FromTo");
+    }
+
+    // Conversions to boolean[]
+
+    public static boolean[] toBooleanArray(Object value, FormatProvider provider) {
+        return toBooleanArray(Convert.getDefaultContext(), value, provider);
+    }
+
+    public static boolean[] toBooleanArray(ConversionContext context, Object value, FormatProvider provider) {
+        if (value == null) return null;
+        if (value instanceof boolean[]) return (boolean[]) value;
+        if (value instanceof byte[]) return toBooleanArray((byte[]) value);
+        if (value instanceof short[]) return toBooleanArray((short[]) value);
+        if (value instanceof int[]) return toBooleanArray((int[]) value);
+        if (value instanceof long[]) return toBooleanArray((long[]) value);
+        if (value instanceof float[]) return toBooleanArray((float[]) value);
+        if (value instanceof double[]) return toBooleanArray((double[]) value);
+        if (value instanceof Object[]) return toBooleanArray(context, (Object[]) value, provider);
+        if (value instanceof Collection) return toBooleanArray(context, (Collection<?>) value, provider);
+        if (value instanceof CharSequence) return toBooleanArray((CharSequence) value, DEFAULT_DELIMITER, provider);
+        throw new InvalidCastException("InvalidCast_FromTo");
+    }
+
+    public static boolean[] toBooleanArray(byte[] src) {
+        boolean[] dst = new boolean[src.length];
+        for (int i = 0; i < src.length; i++) {
+            dst[i] = src[i] != 0;
+        }
+        return dst;
+    }
+
+    public static boolean[] toBooleanArray(short[] src) {
+        boolean[] dst = new boolean[src.length];
+        for (int i = 0; i < src.length; i++) {
+            dst[i] = src[i] != 0;
+        }
+        return dst;
+    }
+
+    public static boolean[] toBooleanArray(int[] src) {
+        boolean[] dst = new boolean[src.length];
+        for (int i = 0; i < src.length; i++) {
+            dst[i] = src[i] != 0;
+        }
+        return dst;
+    }
+
+    public static boolean[] toBooleanArray(long[] src) {
+        boolean[] dst = new boolean[src.length];
+        for (int i = 0; i < src.length; i++) {
+            dst[i] = src[i] != 0;
+        }
+        return dst;
+    }
+
+    public static boolean[] toBooleanArray(float[] src) {
+        boolean[] dst = new boolean[src.length];
+        for (int i = 0; i < src.length; i++) {
+            dst[i] = src[i] != 0;
+        }
+        return dst;
+    }
+
+    public static boolean[] toBooleanArray(double[] src) {
+        boolean[] dst = new boolean[src.length];
+        for (int i = 0; i < src.length; i++) {
+            dst[i] = src[i] != 0;
+        }
+        return dst;
+    }
+
+    public static boolean[] toBooleanArray(Object[] src, FormatProvider provider) {
+        return toBooleanArray(Convert.getDefaultContext(), src, provider);
+    }
+
+    private static boolean[] toBooleanArray(ConversionContext context, Object[] src, FormatProvider provider) {
+        boolean[] dst = new boolean[src.length];
+        for (int i = 0; i < src.length; i++) {
+            dst[i] = booleanValue(context, src[i], provider);
+        }
+        return dst;
+    }
+
+    public static boolean[] toBooleanArray(Collection<?> src, FormatProvider provider) {
+        return toBooleanArray(Convert.getDefaultContext(), src, provider);
+    }
+
+    private static boolean[] toBooleanArray(ConversionContext context, Collection<?> src, FormatProvider provider) {
+        boolean[] dst = new boolean[src.size()];
+        Iterator<?> iterator = src.iterator();
+        for (int i = 0; i < dst.length; i++) {
+            dst[i] = booleanValue(context, iterator.next(), provider);
+        }
+        return dst;
+    }
+
+    public static boolean[] toBooleanArray(CharSequence src, char delimiter, FormatProvider provider) {
+        int count = countTokens(src, delimiter);
+        boolean[] dst = new boolean[count];
+        int start = 0;
+        for (int i = 0; i < count; i++) {
+            int end = tokenEnd(src, start, delimiter);
+            dst[i] = parseBoolean(src, start, end, provider);
+            start = end + 1;
+        }
+        return dst;
+    }
+
+    private static boolean booleanValue(ConversionContext context, Object value, FormatProvider provider) {
+        Object converted = BOOLEAN_CONVERTER.convert(context, value, provider);
+        return converted == null ? false : (Boolean) converted;
+    }
+
+    // Conversions to char[]
+
+    public static char[] toCharArray(Object value, FormatProvider provider) {
+        return toCharArray(Convert.getDefaultContext(), value, provider);
+    }
+
+    public static char[] toCharArray(ConversionContext context, Object value, FormatProvider provider) {
+        if (value == null) return null;
+        if (value instanceof char[]) return (char[]) value;
+        if (value instanceof byte[]) return toCharArray((byte[]) value, context.getOverflowPolicy());
+        if (value instanceof short[]) return toCharArray((short[]) value, context.getOverflowPolicy());
+        if (value instanceof int[]) return toCharArray((int[]) value, context.getOverflowPolicy());
+        if (value instanceof long[]) return toCharArray((long[]) value, context.getOverflowPolicy());
+        if (value instanceof Object[]) return toCharArray(context, (Object[]) value, provider);
+        if (value instanceof Collection) return toCharArray(context, (Collection<?>) value, provider);
+        if (value instanceof CharSequence) return toCharArray((CharSequence) value, DEFAULT_DELIMITER, provider);
+        throw new InvalidCastException("InvalidCast_FromTo");
+    }
+
+    public static char[] toCharArray(byte[] src) {
+        char[] dst = new char[src.length];
+        long overflow = 0;
+        for (int i = 0; i < src.length; i++) {
+            byte v = src[i];
+            char n = (char) v;
+            dst[i] = n;
+            overflow |= v ^ n;
+        }
+        if (overflow != 0) throw new OverflowException("Overflow_Char");
+        return dst;
+    }
+
+    public static char[] toCharArray(byte[] src, OverflowPolicy policy) {
+        if (policy == null) throw new ArgumentNullException("policy");
+        if (policy == OverflowPolicy.CHECKED) return toCharArray(src);
+        char[] dst = new char[src.length];
+        for (int i = 0; i < src.length; i++) {
+            dst[i] = policy.toChar(src[i]);
+        }
+        return dst;
+    }
+
+    public static char[] toCharArray(short[] src) {
+        char[] dst = new char[src.length];
+        long overflow = 0;
+        for (int i = 0; i < src.length; i++) {
+            short v = src[i];
+            char n = (char) v;
+            dst[i] = n;
+            overflow |= v ^ n;
+        }
+        if (overflow != 0) throw new OverflowException("Overflow_Char");
+        return dst;
+    }
+
+    public static char[] toCharArray(short[] src, OverflowPolicy policy) {
+        if (policy == null) throw new ArgumentNullException("policy");
+        if (policy == OverflowPolicy.CHECKED) return toCharArray(src);
+        char[] dst = new char[src.length];
+        for (int i = 0; i < src.length; i++) {
+            dst[i] = policy.toChar(src[i]);
+        }
+        return dst;
+    }
+
+    public static char[] toCharArray(int[] src) {
+        char[] dst = new char[src.length];
+        long overflow = 0;
+        for (int i = 0; i < src.length; i++) {
+            int v = src[i];
+            char n = (char) v;
+            dst[i] = n;
+            overflow |= v ^ n;
+        }
+        if (overflow != 0) throw new OverflowException("Overflow_Char");
+        return dst;
+    }
+
+    public static char[] toCharArray(int[] src, OverflowPolicy policy) {
+        if (policy == null) throw new ArgumentNullException("policy");
+        if (policy == OverflowPolicy.CHECKED) return toCharArray(src);
+        char[] dst = new char[src.length];
+        for (int i = 0; i < src.length; i++) {
+            dst[i] = policy.toChar(src[i]);
+        }
+        return dst;
+    }
+
+    public static char[] toCharArray(long[] src) {
+        char[] dst = new char[src.length];
+        long overflow = 0;
+        for (int i = 0; i < src.length; i++) {
+            long v = src[i];
+            char n = (char) v;
+            dst[i] = n;
+            overflow |= v ^ n;
+        }
+        if (overflow != 0) throw new OverflowException("Overflow_Char");
+        return dst;
+    }
+
+    public static char[] toCharArray(long[] src, OverflowPolicy policy) {
+        if (policy == null) throw new ArgumentNullException("policy");
+        if (policy == OverflowPolicy.CHECKED) return toCharArray(src);
+        char[] dst = new char[src.length];
+        for (int i = 0; i < src.length; i++) {
+            dst[i] = policy.toChar(src[i]);
+        }
+        return dst;
+    }
+
+    public static char[] toCharArray(Object[] src, FormatProvider provider) {
+        return toCharArray(Convert.getDefaultContext(), src, provider);
+    }
+
+    private static char[] toCharArray(ConversionContext context, Object[] src, FormatProvider provider) {
+        char[] dst = new char[src.length];
+        for (int i = 0; i < src.length; i++) {
+            dst[i] = charValue(context, src[i], provider);
+        }
+        return dst;
+    }
+
+    public static char[] toCharArray(Collection<?> src, FormatProvider provider) {
+        return toCharArray(Convert.getDefaultContext(), src, provider);
+    }
+
+    private static char[] toCharArray(ConversionContext context, Collection<?> src, FormatProvider provider) {
+        char[] dst = new char[src.size()];
+        Iterator<?> iterator = src.iterator();
+        for (int i = 0; i < dst.length; i++) {
+            dst[i] = charValue(context, iterator.next(), provider);
+        }
+        return dst;
+    }
+
+    public static char[] toCharArray(CharSequence src, char delimiter, FormatProvider provider) {
+        int count = countTokens(src, delimiter);
+        char[] dst = new char[count];
+        int start = 0;
+        for (int i = 0; i < count; i++) {
+            int end = tokenEnd(src, start, delimiter);
+            dst[i] = parseChar(src, start, end);
+            start = end + 1;
+        }
+        return dst;
+    }
+
+    private static char charValue(ConversionContext context, Object value, FormatProvider provider) {
+        Object converted = CHAR_CONVERTER.convert(context, value, provider);
+        return converted == null ? (char) 0 : (Character) converted;
+    }
+
+    // Conversions to byte[]
+
+    public static byte[] toByteArray(Object value, FormatProvider provider) {
+        return toByteArray(Convert.getDefaultContext(), value, provider);
+    }
+
+    public static byte[] toByteArray(ConversionContext context, Object value, FormatProvider provider) {
+        if (value == null) return null;
+        if (value instanceof byte[]) return (byte[]) value;
+        if (value instanceof boolean[]) return toByteArray((boolean[]) value);
+        if (value instanceof char[]) return toByteArray((char[]) value, context.getOverflowPolicy());
+        if (value instanceof short[]) return toByteArray((short[]) value, context.getOverflowPolicy());
+        if (value instanceof int[]) return toByteArray((int[]) value, context.getOverflowPolicy());
+        if (value instanceof long[]) return toByteArray((long[]) value, context.getOverflowPolicy());
+        if (value instanceof float[]) return toByteArray((float[]) value, context.getOverflowPolicy());
+        if (value instanceof double[]) return toByteArray((double[]) value, context.getOverflowPolicy());
+        if (value instanceof Object[]) return toByteArray(context, (Object[]) value, provider);
+        if (value instanceof Collection) return toByteArray(context, (Collection<?>) value, provider);
+        if (value instanceof CharSequence) return toByteArray((CharSequence) value, DEFAULT_DELIMITER, provider);
+        throw new InvalidCastException("InvalidCast_FromTo");
+    }
+
+    public static byte[] toByteArray(boolean[] src) {
+        byte[] dst = new byte[src.length];
+        for (int i = 0; i < src.length; i++) {
+            dst[i] = src[i] ? (byte) 1 : (byte) 0;
+        }
+        return dst;
+    }
+
+    public static byte[] toByteArray(char[] src) {
+        byte[] dst = new byte[src.length];
+        long overflow = 0;
+        for (int i = 0; i < src.length; i++) {
+            char v = src[i];
+            byte n = (byte) v;
+            dst[i] = n;
+            overflow |= v ^ n;
+        }
+        if (overflow != 0) throw new OverflowException("Overflow_Byte");
+        return dst;
+    }
+
+    public static byte[] toByteArray(char[] src, OverflowPolicy policy) {
+        if (policy == null) throw new ArgumentNullException("policy");
+        if (policy == OverflowPolicy.CHECKED) return toByteArray(src);
+        byte[] dst = new byte[src.length];
+        for (int i = 0; i < src.length; i++) {
+            dst[i] = policy.toByte(src[i]);
+        }
+        return dst;
+    }
+
+    public static byte[] toByteArray(short[] src) {
+        byte[] dst = new byte[src.length];
+        long overflow = 0;
+        for (int i = 0; i < src.length; i++) {
+            short v = src[i];
+            byte n = (byte) v;
+            dst[i] = n;
+            overflow |= v ^ n;
+        }
+        if (overflow != 0) throw new OverflowException("Overflow_Byte");
+        return dst;
+    }
+
+    public static byte[] toByteArray(short[] src, OverflowPolicy policy) {
+        if (policy == null) throw new ArgumentNullException("policy");
+        if (policy == OverflowPolicy.CHECKED) return toByteArray(src);
+        byte[] dst = new byte[src.length];
+        for (int i = 0; i < src.length; i++) {
+            dst[i] = policy.toByte(src[i]);
+        }
+        return dst;
+    }
+
+    public static byte[] toByteArray(int[] src) {
+        byte[] dst = new byte[src.length];
+        long overflow = 0;
+        for (int i = 0; i < src.length; i++) {
+            int v = src[i];
+            byte n = (byte) v;
+            dst[i] = n;
+            overflow |= v ^ n;
+        }
+        if (overflow != 0) throw new OverflowException("Overflow_Byte");
+        return dst;
+    }
+
+    public static byte[] toByteArray(int[] src, OverflowPolicy policy) {
+        if (policy == null) throw new ArgumentNullException("policy");
+        if (policy == OverflowPolicy.CHECKED) return toByteArray(src);
+        byte[] dst = new byte[src.length];
+        for (int i = 0; i < src.length; i++) {
+            dst[i] = policy.toByte(src[i]);
+        }
+        return dst;
+    }
+
+    public static byte[] toByteArray(long[] src) {
+        byte[] dst = new byte[src.length];
+        long overflow = 0;
+        for (int i = 0; i < src.length; i++) {
+            long v = src[i];
+            byte n = (byte) v;
+            dst[i] = n;
+            overflow |= v ^ n;
+        }
+        if (overflow != 0) throw new OverflowException("Overflow_Byte");
+        return dst;
+    }
+
+    public static byte[] toByteArray(long[] src, OverflowPolicy policy) {
+        if (policy == null) throw new ArgumentNullException("policy");
+        if (policy == OverflowPolicy.CHECKED) return toByteArray(src);
+        byte[] dst = new byte[src.length];
+        for (int i = 0; i < src.length; i++) {
+            dst[i] = policy.toByte(src[i]);
+        }
+        return dst;
+    }
+
+    public static byte[] toByteArray(float[] src) {
+        byte[] dst = new byte[src.length];
+        for (int i = 0; i < src.length; i++) {
+            dst[i] = OverflowPolicy.CHECKED.toByte(src[i]);
+        }
+        return dst;
+    }
+
+    public static byte[] toByteArray(float[] src, OverflowPolicy policy) {
+        if (policy == null) throw new ArgumentNullException("policy");
+        if (policy == OverflowPolicy.CHECKED) return toByteArray(src);
+        byte[] dst = new byte[src.length];
+        for (int i = 0; i < src.length; i++) {
+            dst[i] = policy.toByte(src[i]);
+        }
+        return dst;
+    }
+
+    public static byte[] toByteArray(double[] src) {
+        byte[] dst = new byte[src.length];
+        for (int i = 0; i < src.length; i++) {
+            dst[i] = OverflowPolicy.CHECKED.toByte(src[i]);
+        }
+        return dst;
+    }
+
+    public static byte[] toByteArray(double[] src, OverflowPolicy policy) {
+        if (policy == null) throw new ArgumentNullException("policy");
+        if (policy == OverflowPolicy.CHECKED) return toByteArray(src);
+        byte[] dst = new byte[src.length];
+        for (int i = 0; i < src.length; i++) {
+            dst[i] = policy.toByte(src[i]);
+        }
+        return dst;
+    }
+
+    public static byte[] toByteArray(Object[] src, FormatProvider provider) {
+        return toByteArray(Convert.getDefaultContext(), src, provider);
+    }
+
+    private static byte[] toByteArray(ConversionContext context, Object[] src, FormatProvider provider) {
+        byte[] dst = new byte[src.length];
+        for (int i = 0; i < src.length; i++) {
+            dst[i] = byteValue(context, src[i], provider);
+        }
+        return dst;
+    }
+
+    public static byte[] toByteArray(Collection<?> src, FormatProvider provider) {
+        return toByteArray(Convert.getDefaultContext(), src, provider);
+    }
+
+    private static byte[] toByteArray(ConversionContext context, Collection<?> src, FormatProvider provider) {
+        byte[] dst = new byte[src.size()];
+        Iterator<?> iterator = src.iterator();
+        for (int i = 0; i < dst.length; i++) {
+            dst[i] = byteValue(context, iterator.next(), provider);
+        }
+        return dst;
+    }
+
+    public static byte[] toByteArray(CharSequence src, char delimiter, FormatProvider provider) {
+        int count = countTokens(src, delimiter);
+        byte[] dst = new byte[count];
+        int start = 0;
+        for (int i = 0; i < count; i++) {
+            int end = tokenEnd(src, start, delimiter);
+            dst[i] = parseByte(src, start, end);
+            start = end + 1;
+        }
+        return dst;
+    }
+
+    private static byte byteValue(ConversionContext context, Object value, FormatProvider provider) {
+        Object converted = BYTE_CONVERTER.convert(context, value, provider);
+        return converted == null ? (byte) 0 : (Byte) converted;
+    }
+
+    // Conversions to short[]
+
+    public static short[] toShortArray(Object value, FormatProvider provider) {
+        return toShortArray(Convert.getDefaultContext(), value, provider);
+    }
+
+    public static short[] toShortArray(ConversionContext context, Object value, FormatProvider provider) {
+        if (value == null) return null;
+        if (value instanceof short[]) return (short[]) value;
+        if (value instanceof boolean[]) return toShortArray((boolean[]) value);
+        if (value instanceof char[]) return toShortArray((char[]) value, context.getOverflowPolicy());
+        if (value instanceof byte[]) return toShortArray((byte[]) value);
+        if (value instanceof int[]) return toShortArray((int[]) value, context.getOverflowPolicy());
+        if (value instanceof long[]) return toShortArray((long[]) value, context.getOverflowPolicy());
+        if (value instanceof float[]) return toShortArray((float[]) value, context.getOverflowPolicy());
+        if (value instanceof double[]) return toShortArray((double[]) value, context.getOverflowPolicy());
+        if (value instanceof Object[]) return toShortArray(context, (Object[]) value, provider);
+        if (value instanceof Collection) return toShortArray(context, (Collection<?>) value, provider);
+        if (value instanceof CharSequence) return toShortArray((CharSequence) value, DEFAULT_DELIMITER, provider);
+        throw new InvalidCastException("InvalidCast_FromTo");
+    }
+
+    public static short[] toShortArray(boolean[] src) {
+        short[] dst = new short[src.length];
+        for (int i = 0; i < src.length; i++) {
+            dst[i] = src[i] ? (short) 1 : (short) 0;
+        }
+        return dst;
+    }
+
+    public static short[] toShortArray(char[] src) {
+        short[] dst = new short[src.length];
+        long overflow = 0;
+        for (int i = 0; i < src.length; i++) {
+            char v = src[i];
+            short n = (short) v;
+            dst[i] = n;
+            overflow |= v ^ n;
+        }
+        if (overflow != 0) throw new OverflowException("Overflow_Int16");
+        return dst;
+    }
+
+    public static short[] toShortArray(char[] src, OverflowPolicy policy) {
+        if (policy == null) throw new ArgumentNullException("policy");
+        if (policy == OverflowPolicy.CHECKED) return toShortArray(src);
+        short[] dst = new short[src.length];
+        for (int i = 0; i < src.length; i++) {
+            dst[i] = policy.toInt16(src[i]);
+        }
+        return dst;
+    }
+
+    public static short[] toShortArray(byte[] src) {
+        short[] dst = new short[src.length];
+        for (int i = 0; i < src.length; i++) {
+            dst[i] = src[i];
+        }
+        return dst;
+    }
+
+    public static short[] toShortArray(int[] src) {
+        short[] dst = new short[src.length];
+        long overflow = 0;
+        for (int i = 0; i < src.length; i++) {
+            int v = src[i];
+            short n = (short) v;
+            dst[i] = n;
+            overflow |= v ^ n;
+        }
+        if (overflow != 0) throw new OverflowException("Overflow_Int16");
+        return dst;
+    }
+
+    public static short[] toShortArray(int[] src, OverflowPolicy policy) {
+        if (policy == null) throw new ArgumentNullException("policy");
+        if (policy == OverflowPolicy.CHECKED) return toShortArray(src);
+        short[] dst = new short[src.length];
+        for (int i = 0; i < src.length; i++) {
+            dst[i] = policy.toInt16(src[i]);
+        }
+        return dst;
+    }
+
+    public static short[] toShortArray(long[] src) {
+        short[] dst = new short[src.length];
+        long overflow = 0;
+        for (int i = 0; i < src.length; i++) {
+            long v = src[i];
+            short n = (short) v;
+            dst[i] = n;
+            overflow |= v ^ n;
+        }
+        if (overflow != 0) throw new OverflowException("Overflow_Int16");
+        return dst;
+    }
+
+    public static short[] toShortArray(long[] src, OverflowPolicy policy) {
+        if (policy == null) throw new ArgumentNullException("policy");
+        if (policy == OverflowPolicy.CHECKED) return toShortArray(src);
+        short[] dst = new short[src.length];
+        for (int i = 0; i < src.length; i++) {
+            dst[i] = policy.toInt16(src[i]);
+        }
+        return dst;
+    }
+
+    public static short[] toShortArray(float[] src) {
+        short[] dst = new short[src.length];
+        for (int i = 0; i < src.length; i++) {
+            dst[i] = OverflowPolicy.CHECKED.toInt16(src[i]);
+        }
+        return dst;
+    }
+
+    public static short[] toShortArray(float[] src, OverflowPolicy policy) {
+        if (policy == null) throw new ArgumentNullException("policy");
+        if (policy == OverflowPolicy.CHECKED) return toShortArray(src);
+        short[] dst = new short[src.length];
+        for (int i = 0; i < src.length; i++) {
+            dst[i] = policy.toInt16(src[i]);
+        }
+        return dst;
+    }
+
+    public static short[] toShortArray(double[] src) {
+        short[] dst = new short[src.length];
+        for (int i = 0; i < src.length; i++) {
+            dst[i] = OverflowPolicy.CHECKED.toInt16(src[i]);
+        }
+        return dst;
+    }
+
+    public static short[] toShortArray(double[] src, OverflowPolicy policy) {
+        if (policy == null) throw new ArgumentNullException("policy");
+        if (policy == OverflowPolicy.CHECKED) return toShortArray(src);
+        short[] dst = new short[src.length];
+        for (int i = 0; i < src.length; i++) {
+            dst[i] = policy.toInt16(src[i]);
+        }
+        return dst;
+    }
+
+    public static short[] toShortArray(Object[] src, FormatProvider provider) {
+        return toShortArray(Convert.getDefaultContext(), src, provider);
+    }
+
+    private static short[] toShortArray(ConversionContext context, Object[] src, FormatProvider provider) {
+        short[] dst = new short[src.length];
+        for (int i = 0; i < src.length; i++) {
+            dst[i] = shortValue(context, src[i], provider);
+        }
+        return dst;
+    }
+
+    public static short[] toShortArray(Collection<?> src, FormatProvider provider) {
+        return toShortArray(Convert.getDefaultContext(), src, provider);
+    }
+
+    private static short[] toShortArray(ConversionContext context, Collection<?> src, FormatProvider provider) {
+        short[] dst = new short[src.size()];
+        Iterator<?> iterator = src.iterator();
+        for (int i = 0; i < dst.length; i++) {
+            dst[i] = shortValue(context, iterator.next(), provider);
+        }
+        return dst;
+    }
+
+    public static short[] toShortArray(CharSequence src, char delimiter, FormatProvider provider) {
+        int count = countTokens(src, delimiter);
+        short[] dst = new short[count];
+        int start = 0;
+        for (int i = 0; i < count; i++) {
+            int end = tokenEnd(src, start, delimiter);
+            dst[i] = parseShort(src, start, end);
+            start = end + 1;
+        }
+        return dst;
+    }
+
+    private static short shortValue(ConversionContext context, Object value, FormatProvider provider) {
+        Object converted = SHORT_CONVERTER.convert(context, value, provider);
+        return converted == null ? (short) 0 : (Short) converted;
+    }
+
+    // Conversions to int[]
+
+    public static int[] toIntArray(Object value, FormatProvider provider) {
+        return toIntArray(Convert.getDefaultContext(), value, provider);
+    }
+
+    public static int[] toIntArray(ConversionContext context, Object value, FormatProvider provider) {
+        if (value == null) return null;
+        if (value instanceof int[]) return (int[]) value;
+        if (value instanceof boolean[]) return toIntArray((boolean[]) value);
+        if (value instanceof char[]) return toIntArray((char[]) value);
+        if (value instanceof byte[]) return toIntArray((byte[]) value);
+        if (value instanceof short[]) return toIntArray((short[]) value);
+        if (value instanceof long[]) return toIntArray((long[]) value, context.getOverflowPolicy());
+        if (value instanceof float[]) return toIntArray((float[]) value, context.getOverflowPolicy());
+        if (value instanceof double[]) return toIntArray((double[]) value, context.getOverflowPolicy());
+        if (value instanceof Object[]) return toIntArray(context, (Object[]) value, provider);
+        if (value instanceof Collection) return toIntArray(context, (Collection<?>) value, provider);
+        if (value instanceof CharSequence) return toIntArray((CharSequence) value, DEFAULT_DELIMITER, provider);
+        throw new InvalidCastException("InvalidCast_FromTo");
+    }
+
+    public static int[] toIntArray(boolean[] src) {
+        int[] dst = new int[src.length];
+        for (int i = 0; i < src.length; i++) {
+            dst[i] = src[i] ? 1 : 0;
+        }
+        return dst;
+    }
+
+    public static int[] toIntArray(char[] src) {
+        int[] dst = new int[src.length];
+        for (int i = 0; i < src.length; i++) {
+            dst[i] = src[i];
+        }
+        return dst;
+    }
+
+    public static int[] toIntArray(byte[] src) {
+        int[] dst = new int[src.length];
+        for (int i = 0; i < src.length; i++) {
+            dst[i] = src[i];
+        }
+        return dst;
+    }
+
+    public static int[] toIntArray(short[] src) {
+        int[] dst = new int[src.length];
+        for (int i = 0; i < src.length; i++) {
+            dst[i] = src[i];
+        }
+        return dst;
+    }
+
+    public static int[] toIntArray(long[] src) {
+        int[] dst = new int[src.length];
+        long overflow = 0;
+        for (int i = 0; i < src.length; i++) {
+            long v = src[i];
+            int n = (int) v;
+            dst[i] = n;
+            overflow |= v ^ n;
+        }
+        if (overflow != 0) throw new OverflowException("Overflow_Int32");
+        return dst;
+    }
+
+    public static int[] toIntArray(long[] src, OverflowPolicy policy) {
+        if (policy == null) throw new ArgumentNullException("policy");
+        if (policy == OverflowPolicy.CHECKED) return toIntArray(src);
+        int[] dst = new int[src.length];
+        for (int i = 0; i < src.length; i++) {
+            dst[i] = policy.toInt32(src[i]);
+        }
+        return dst;
+    }
+
+    public static int[] toIntArray(float[] src) {
+        int[] dst = new int[src.length];
+        for (int i = 0; i < src.length; i++) {
+            dst[i] = OverflowPolicy.CHECKED.toInt32(src[i]);
+        }
+        return dst;
+    }
+
+    public static int[] toIntArray(float[] src, OverflowPolicy policy) {
+        if (policy == null) throw new ArgumentNullException("policy");
+        if (policy == OverflowPolicy.CHECKED) return toIntArray(src);
+        int[] dst = new int[src.length];
+        for (int i = 0; i < src.length; i++) {
+            dst[i] = policy.toInt32(src[i]);
+        }
+        return dst;
+    }
+
+    public static int[] toIntArray(double[] src) {
+        int[] dst = new int[src.length];
+        for (int i = 0; i < src.length; i++) {
+            dst[i] = OverflowPolicy.CHECKED.toInt32(src[i]);
+        }
+        return dst;
+    }
+
+    public static int[] toIntArray(double[] src, OverflowPolicy policy) {
+        if (policy == null) throw new ArgumentNullException("policy");
+        if (policy == OverflowPolicy.CHECKED) return toIntArray(src);
+        int[] dst = new int[src.length];
+        for (int i = 0; i < src.length; i++) {
+            dst[i] = policy.toInt32(src[i]);
+        }
+        return dst;
+    }
+
+    public static int[] toIntArray(Object[] src, FormatProvider provider) {
+        return toIntArray(Convert.getDefaultContext(), src, provider);
+    }
+
+    private static int[] toIntArray(ConversionContext context, Object[] src, FormatProvider provider) {
+        int[] dst = new int[src.length];
+        for (int i = 0; i < src.length; i++) {
+            dst[i] = intValue(context, src[i], provider);
+        }
+        return dst;
+    }
+
+    public static int[] toIntArray(Collection<?> src, FormatProvider provider) {
+        return toIntArray(Convert.getDefaultContext(), src, provider);
+    }
+
+    private static int[] toIntArray(ConversionContext context, Collection<?> src, FormatProvider provider) {
+        int[] dst = new int[src.size()];
+        Iterator<?> iterator = src.iterator();
+        for (int i = 0; i < dst.length; i++) {
+            dst[i] = intValue(context, iterator.next(), provider);
+        }
+        return dst;
+    }
+
+    public static int[] toIntArray(CharSequence src, char delimiter, FormatProvider provider) {
+        int count = countTokens(src, delimiter);
+        int[] dst = new int[count];
+        int start = 0;
+        for (int i = 0; i < count; i++) {
+            int end = tokenEnd(src, start, delimiter);
+            dst[i] = parseInt(src, start, end);
+            start = end + 1;
+        }
+        return dst;
+    }
+
+    private static int intValue(ConversionContext context, Object value, FormatProvider provider) {
+        Object converted = INT_CONVERTER.convert(context, value, provider);
+        return converted == null ? 0 : (Integer) converted;
+    }
+
+    // Conversions to long[]
+
+    public static long[] toLongArray(Object value, FormatProvider provider) {
+        return toLongArray(Convert.getDefaultContext(), value, provider);
+    }
+
+    public static long[] toLongArray(ConversionContext context, Object value, FormatProvider provider) {
+        if (value == null) return null;
+        if (value instanceof long[]) return (long[]) value;
+        if (value instanceof boolean[]) return toLongArray((boolean[]) value);
+        if (value instanceof char[]) return toLongArray((char[]) value);
+        if (value instanceof byte[]) return toLongArray((byte[]) value);
+        if (value instanceof short[]) return toLongArray((short[]) value);
+        if (value instanceof int[]) return toLongArray((int[]) value);
+        if (value instanceof float[]) return toLongArray((float[]) value, context.getOverflowPolicy());
+        if (value instanceof double[]) return toLongArray((double[]) value, context.getOverflowPolicy());
+        if (value instanceof Object[]) return toLongArray(context, (Object[]) value, provider);
+        if (value instanceof Collection) return toLongArray(context, (Collection<?>) value, provider);
+        if (value instanceof CharSequence) return toLongArray((CharSequence) value, DEFAULT_DELIMITER, provider);
+        throw new InvalidCastException("InvalidCast_FromTo");
+    }
+
+    public static long[] toLongArray(boolean[] src) {
+        long[] dst = new long[src.length];
+        for (int i = 0; i < src.length; i++) {
+            dst[i] = src[i] ? (long) 1 : (long) 0;
+        }
+        return dst;
+    }
+
+    public static long[] toLongArray(char[] src) {
+        long[] dst = new long[src.length];
+        for (int i = 0; i < src.length; i++) {
+            dst[i] = src[i];
+        }
+        return dst;
+    }
+
+    public static long[] toLongArray(byte[] src) {
+        long[] dst = new long[src.length];
+        for (int i = 0; i < src.length; i++) {
+            dst[i] = src[i];
+        }
+        return dst;
+    }
+
+    public static long[] toLongArray(short[] src) {
+        long[] dst = new long[src.length];
+        for (int i = 0; i < src.length; i++) {
+            dst[i] = src[i];
+        }
+        return dst;
+    }
+
+    public static long[] toLongArray(int[] src) {
+        long[] dst = new long[src.length];
+        for (int i = 0; i < src.length; i++) {
+            dst[i] = src[i];
+        }
+        return dst;
+    }
+
+    public static long[] toLongArray(float[] src) {
+        long[] dst = new long[src.length];
+        for (int i = 0; i < src.length; i++) {
+            dst[i] = OverflowPolicy.CHECKED.toInt64(src[i]);
+        }
+        return dst;
+    }
+
+    public static long[] toLongArray(float[] src, OverflowPolicy policy) {
+        if (policy == null) throw new ArgumentNullException("policy");
+        if (policy == OverflowPolicy.CHECKED) return toLongArray(src);
+        long[] dst = new long[src.length];
+        for (int i = 0; i < src.length; i++) {
+            dst[i] = policy.toInt64(src[i]);
+        }
+        return dst;
+    }
+
+    public static long[] toLongArray(double[] src) {
+        long[] dst = new long[src.length];
+        for (int i = 0; i < src.length; i++) {
+            dst[i] = OverflowPolicy.CHECKED.toInt64(src[i]);
+        }
+        return dst;
+    }
+
+    public static long[] toLongArray(double[] src, OverflowPolicy policy) {
+        if (policy == null) throw new ArgumentNullException("policy");
+        if (policy == OverflowPolicy.CHECKED) return toLongArray(src);
+        long[] dst = new long[src.length];
+        for (int i = 0; i < src.length; i++) {
+            dst[i] = policy.toInt64(src[i]);
+        }
+        return dst;
+    }
+
+    public static long[] toLongArray(Object[] src, FormatProvider provider) {
+        return toLongArray(Convert.getDefaultContext(), src, provider);
+    }
+
+    private static long[] toLongArray(ConversionContext context, Object[] src, FormatProvider provider) {
+        long[] dst = new long[src.length];
+        for (int i = 0; i < src.length; i++) {
+            dst[i] = longValue(context, src[i], provider);
+        }
+        return dst;
+    }
+
+    public static long[] toLongArray(Collection<?> src, FormatProvider provider) {
+        return toLongArray(Convert.getDefaultContext(), src, provider);
+    }
+
+    private static long[] toLongArray(ConversionContext context, Collection<?> src, FormatProvider provider) {
+        long[] dst = new long[src.size()];
+        Iterator<?> iterator = src.iterator();
+        for (int i = 0; i < dst.length; i++) {
+            dst[i] = longValue(context, iterator.next(), provider);
+        }
+        return dst;
+    }
+
+    public static long[] toLongArray(CharSequence src, char delimiter, FormatProvider provider) {
+        int count = countTokens(src, delimiter);
+        long[] dst = new long[count];
+        int start = 0;
+        for (int i = 0; i < count; i++) {
+            int end = tokenEnd(src, start, delimiter);
+            dst[i] = parseLong(src, start, end);
+            start = end + 1;
+        }
+        return dst;
+    }
+
+    private static long longValue(ConversionContext context, Object value, FormatProvider provider) {
+        Object converted = LONG_CONVERTER.convert(context, value, provider);
+        return converted == null ? 0L : (Long) converted;
+    }
+
+    // Conversions to float[]
+
+    public static float[] toFloatArray(Object value, FormatProvider provider) {
+        return toFloatArray(Convert.getDefaultContext(), value, provider);
+    }
+
+    public static float[] toFloatArray(ConversionContext context, Object value, FormatProvider provider) {
+        if (value == null) return null;
+        if (value instanceof float[]) return (float[]) value;
+        if (value instanceof boolean[]) return toFloatArray((boolean[]) value);
+        if (value instanceof byte[]) return toFloatArray((byte[]) value);
+        if (value instanceof short[]) return toFloatArray((short[]) value);
+        if (value instanceof int[]) return toFloatArray((int[]) value);
+        if (value instanceof long[]) return toFloatArray((long[]) value);
+        if (value instanceof double[]) return toFloatArray((double[]) value);
+        if (value instanceof Object[]) return toFloatArray(context, (Object[]) value, provider);
+        if (value instanceof Collection) return toFloatArray(context, (Collection<?>) value, provider);
+        if (value instanceof CharSequence) return toFloatArray((CharSequence) value, DEFAULT_DELIMITER, provider);
+        throw new InvalidCastException("InvalidCast_FromTo");
+    }
+
+    public static float[] toFloatArray(boolean[] src) {
+        float[] dst = new float[src.length];
+        for (int i = 0; i < src.length; i++) {
+            dst[i] = src[i] ? 1 : 0;
+        }
+        return dst;
+    }
+
+    public static float[] toFloatArray(byte[] src) {
+        float[] dst = new float[src.length];
+        for (int i = 0; i < src.length; i++) {
+            dst[i] = src[i];
+        }
+        return dst;
+    }
+
+    public static float[] toFloatArray(short[] src) {
+        float[] dst = new float[src.length];
+        for (int i = 0; i < src.length; i++) {
+            dst[i] = src[i];
+        }
+        return dst;
+    }
+
+    public static float[] toFloatArray(int[] src) {
+        float[] dst = new float[src.length];
+        for (int i = 0; i < src.length; i++) {
+            dst[i] = src[i];
+        }
+        return dst;
+    }
+
+    public static float[] toFloatArray(long[] src) {
+        float[] dst = new float[src.length];
+        for (int i = 0; i < src.length; i++) {
+            dst[i] = src[i];
+        }
+        return dst;
+    }
+
+    public static float[] toFloatArray(double[] src) {
+        float[] dst = new float[src.length];
+        for (int i = 0; i < src.length; i++) {
+            dst[i] = (float) src[i];
+        }
+        return dst;
+    }
+
+    public static float[] toFloatArray(Object[] src, FormatProvider provider) {
+        return toFloatArray(Convert.getDefaultContext(), src, provider);
+    }
+
+    private static float[] toFloatArray(ConversionContext context, Object[] src, FormatProvider provider) {
+        float[] dst = new float[src.length];
+        for (int i = 0; i < src.length; i++) {
+            dst[i] = floatValue(context, src[i], provider);
+        }
+        return dst;
+    }
+
+    public static float[] toFloatArray(Collection<?> src, FormatProvider provider) {
+        return toFloatArray(Convert.getDefaultContext(), src, provider);
+    }
+
+    private static float[] toFloatArray(ConversionContext context, Collection<?> src, FormatProvider provider) {
+        float[] dst = new float[src.size()];
+        Iterator<?> iterator = src.iterator();
+        for (int i = 0; i < dst.length; i++) {
+            dst[i] = floatValue(context, iterator.next(), provider);
+        }
+        return dst;
+    }
+
+    public static float[] toFloatArray(CharSequence src, char delimiter, FormatProvider provider) {
+        int count = countTokens(src, delimiter);
+        float[] dst = new float[count];
+        int start = 0;
+        for (int i = 0; i < count; i++) {
+            int end = tokenEnd(src, start, delimiter);
+            dst[i] = parseFloat(src, start, end, provider);
+            start = end + 1;
+        }
+        return dst;
+    }
+
+    private static float floatValue(ConversionContext context, Object value, FormatProvider provider) {
+        Object converted = FLOAT_CONVERTER.convert(context, value, provider);
+        return converted == null ? 0f : (Float) converted;
+    }
+
+    // Conversions to double[]
+
+    public static double[] toDoubleArray(Object value, FormatProvider provider) {
+        return toDoubleArray(Convert.getDefaultContext(), value, provider);
+    }
+
+    public static double[] toDoubleArray(ConversionContext context, Object value, FormatProvider provider) {
+        if (value == null) return null;
+        if (value instanceof double[]) return (double[]) value;
+        if (value instanceof boolean[]) return toDoubleArray((boolean[]) value);
+        if (value instanceof byte[]) return toDoubleArray((byte[]) value);
+        if (value instanceof short[]) return toDoubleArray((short[]) value);
+        if (value instanceof int[]) return toDoubleArray((int[]) value);
+        if (value instanceof long[]) return toDoubleArray((long[]) value);
+        if (value instanceof float[]) return toDoubleArray((float[]) value);
+        if (value instanceof Object[]) return toDoubleArray(context, (Object[]) value, provider);
+        if (value instanceof Collection) return toDoubleArray(context, (Collection<?>) value, provider);
+        if (value instanceof CharSequence) return toDoubleArray((CharSequence) value, DEFAULT_DELIMITER, provider);
+        throw new InvalidCastException("InvalidCast_FromTo");
+    }
+
+    public static double[] toDoubleArray(boolean[] src) {
+        double[] dst = new double[src.length];
+        for (int i = 0; i < src.length; i++) {
+            dst[i] = src[i] ? 1 : 0;
+        }
+        return dst;
+    }
+
+    public static double[] toDoubleArray(byte[] src) {
+        double[] dst = new double[src.length];
+        for (int i = 0; i < src.length; i++) {
+            dst[i] = src[i];
+        }
+        return dst;
+    }
+
+    public static double[] toDoubleArray(short[] src) {
+        double[] dst = new double[src.length];
+        for (int i = 0; i < src.length; i++) {
+            dst[i] = src[i];
+        }
+        return dst;
+    }
+
+    public static double[] toDoubleArray(int[] src) {
+        double[] dst = new double[src.length];
+        for (int i = 0; i < src.length; i++) {
+            dst[i] = src[i];
+        }
+        return dst;
+    }
+
+    public static double[] toDoubleArray(long[] src) {
+        double[] dst = new double[src.length];
+        for (int i = 0; i < src.length; i++) {
+            dst[i] = src[i];
+        }
+        return dst;
+    }
+
+    public static double[] toDoubleArray(float[] src) {
+        double[] dst = new double[src.length];
+        for (int i = 0; i < src.length; i++) {
+            dst[i] = src[i];
+        }
+        return dst;
+    }
+
+    public static double[] toDoubleArray(Object[] src, FormatProvider provider) {
+        return toDoubleArray(Convert.getDefaultContext(), src, provider);
+    }
+
+    private static double[] toDoubleArray(ConversionContext context, Object[] src, FormatProvider provider) {
+        double[] dst = new double[src.length];
+        for (int i = 0; i < src.length; i++) {
+            dst[i] = doubleValue(context, src[i], provider);
+        }
+        return dst;
+    }
+
+    public static double[] toDoubleArray(Collection<?> src, FormatProvider provider) {
+        return toDoubleArray(Convert.getDefaultContext(), src, provider);
+    }
+
+    private static double[] toDoubleArray(ConversionContext context, Collection<?> src, FormatProvider provider) {
+        double[] dst = new double[src.size()];
+        Iterator<?> iterator = src.iterator();
+        for (int i = 0; i < dst.length; i++) {
+            dst[i] = doubleValue(context, iterator.next(), provider);
+        }
+        return dst;
+    }
+
+    public static double[] toDoubleArray(CharSequence src, char delimiter, FormatProvider provider) {
+        int count = countTokens(src, delimiter);
+        double[] dst = new double[count];
+        int start = 0;
+        for (int i = 0; i < count; i++) {
+            int end = tokenEnd(src, start, delimiter);
+            dst[i] = parseDouble(src, start, end, provider);
+            start = end + 1;
+        }
+        return dst;
+    }
+
+    private static double doubleValue(ConversionContext context, Object value, FormatProvider provider) {
+        Object converted = DOUBLE_CONVERTER.convert(context, value, provider);
+        return converted == null ? 0d : (Double) converted;
+    }
+
+    // Delimited string parsing
+
+    private static int countTokens(CharSequence src, char delimiter) {
+        int length = src.length();
+        if (isBlank(src, 0, length)) return 0;
+        int count = 1;
+        for (int i = 0; i < length; i++) {
+            if (src.charAt(i) == delimiter) count++;
+        }
+        return count;
+    }
+
+    private static int tokenEnd(CharSequence src, int start, char delimiter) {
+        int length = src.length();
+        int end = start;
+        while (end < length && src.charAt(end) != delimiter) end++;
+        return end;
+    }
+
+    private static boolean isBlank(CharSequence src, int start, int end) {
+        for (int i = start; i < end; i++) {
+            if (!Character.isWhitespace(src.charAt(i))) return false;
+        }
+        return true;
+    }
+
+    private static int trimStart(CharSequence src, int start, int end) {
+        while (start < end && Character.isWhitespace(src.charAt(start))) start++;
+        return start;
+    }
+
+    private static int trimEnd(CharSequence src, int start, int end) {
+        while (end > start && Character.isWhitespace(src.charAt(end - 1))) end--;
+        return end;
+    }
+
+    // Parses [start, end) as a signed decimal integer without allocating.
+    static long parseLong(CharSequence src, int start, int end) {
+        return Int64Parser.parse(src, start, end);
+    }
+
+    private static String token(CharSequence src, int start, int end) {
+        start = trimStart(src, start, end);
+        end = trimEnd(src, start, end);
+        return src.subSequence(start, end).toString();
+    }
+
+    private static boolean parseBoolean(CharSequence src, int start, int end, FormatProvider provider) {
+        return BooleanParser.getInstance(provider).parse(src, start, end);
+    }
+
+    private static char parseChar(CharSequence src, int start, int end) {
+        start = trimStart(src, start, end);
+        end = trimEnd(src, start, end);
+        if (end - start != 1) throw new FormatException("Format_NeedSingleChar");
+        return src.charAt(start);
+    }
+
+    // Integral tokens are provider-invariant, as Convert's String overloads are.
+    private static byte parseByte(CharSequence src, int start, int end) {
+        return OverflowPolicy.CHECKED.toByte(parseLong(src, start, end));
+    }
+
+    private static short parseShort(CharSequence src, int start, int end) {
+        return OverflowPolicy.CHECKED.toInt16(parseLong(src, start, end));
+    }
+
+    private static int parseInt(CharSequence src, int start, int end) {
+        return OverflowPolicy.CHECKED.toInt32(parseLong(src, start, end));
+    }
+
+    // Floating tokens go through the default context so the provider's number format applies.
+    private static float parseFloat(CharSequence src, int start, int end, FormatProvider provider) {
+        return Convert.getDefaultContext().toSingle(token(src, start, end), provider);
+    }
+
+    private static double parseDouble(CharSequence src, int start, int end, FormatProvider provider) {
+        return Convert.getDefaultContext().toDouble(token(src, start, end), provider);
+    }
+}
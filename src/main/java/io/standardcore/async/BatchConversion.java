@@ -0,0 +1,108 @@
+package io.standardcore.async;
+
+import io.standardcore.Convert;
+import io.standardcore.ConversionMetrics;
+import io.standardcore.TypeCode;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// One batch split into chunks that run independently on an Executor. The result future
+// completes when the last chunk finishes, or exceptionally with the first chunk failure.
+// Any completion of the future, including cancel(), sets the stopped flag; chunks that have
+// not started skip their work and running chunks poll the flag every CHECK_INTERVAL elements.
+abstract class BatchConversion<R> {
+    static final int CHECK_INTERVAL = 1024;
+
+    final CompletableFuture<R> result = new CompletableFuture<>();
+
+    private final ChunkSizer sizer;
+    private final int kind;
+    private final TypeCode source;
+    private final TypeCode target;
+    private final AtomicInteger pending = new AtomicInteger();
+    private volatile boolean stopped;
+    private long startNanos;
+
+    BatchConversion(ChunkSizer sizer, int kind, TypeCode source, TypeCode target) {
+        this.sizer = sizer;
+        this.kind = kind;
+        this.source = source;
+        this.target = target;
+        result.whenComplete((value, exception) -> stopped = true);
+    }
+
+    abstract int chunkCount();
+
+    // Number of elements or bytes in the chunk, fed back into the ChunkSizer.
+    abstract int chunkSize(int chunk);
+
+    abstract void convertChunk(int chunk);
+
+    abstract R output();
+
+    // Total number of converted elements, reported to ConversionMetrics.batchCompleted.
+    abstract int elementCount();
+
+    final boolean isStopped() {
+        return stopped;
+    }
+
+    final CompletableFuture<R> start(Executor executor) {
+        startNanos = System.nanoTime();
+        int chunks = chunkCount();
+        if (chunks == 0) {
+            complete();
+            return result;
+        }
+
+        pending.set(chunks);
+        for (int chunk = 0; chunk < chunks && !stopped; chunk++) {
+            final int index = chunk;
+            try {
+                executor.execute(() -> runChunk(index));
+            } catch (RejectedExecutionException e) {
+                fail(e);
+            }
+        }
+        return result;
+    }
+
+    private void runChunk(int chunk) {
+        if (stopped) return;
+        try {
+            long start = System.nanoTime();
+            convertChunk(chunk);
+            if (stopped) return;
+            sizer.record(kind, chunkSize(chunk), System.nanoTime() - start);
+        } catch (Throwable e) {
+            fail(e);
+            return;
+        }
+        if (pending.decrementAndGet() == 0) complete();
+    }
+
+    private void complete() {
+        R value;
+        try {
+            value = output();
+        } catch (Throwable e) {
+            fail(e);
+            return;
+        }
+        if (result.complete(value)) report(0);
+    }
+
+    private void fail(Throwable exception) {
+        if (result.completeExceptionally(exception)) report(1);
+    }
+
+    private void report(int failures) {
+        ConversionMetrics metrics = Convert.getConversionMetrics();
+        if (metrics != null) {
+            metrics.batchCompleted(source, target, elementCount(), failures, System.nanoTime() - startNanos);
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package io.standardcore.async;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+// Picks chunk sizes from the observed per-element cost of each kind of batch, so a chunk takes
+// roughly the target time whether elements are cheap integer parses or expensive decimal or
+// date conversions. Costs are an exponentially weighted moving average in 1/16 ns units,
+// updated racily by the chunks themselves; a lost update only delays the adjustment.
+final class ChunkSizer {
+    static final int MIN_CHUNK = 256;
+    static final int MAX_CHUNK = 1 << 20;
+    private static final int INITIAL_CHUNK = 4096;
+    private static final int SCALE = 16;
+
+    private final AtomicLongArray costs;
+
+    ChunkSizer(int kinds) {
+        this.costs = new AtomicLongArray(kinds);
+    }
+
+    int chunkSize(int kind, int count, int parallelism, long targetNanos) {
+        long cost = costs.get(kind);
+        long size = cost == 0 ? INITIAL_CHUNK : targetNanos * SCALE / cost;
+        // never fewer chunks than workers while the chunks stay above the minimum
+        long fair = ((long) count + parallelism - 1) / parallelism;
+        size = Math.min(size, Math.max(fair, MIN_CHUNK));
+        return (int) Math.max(MIN_CHUNK, Math.min(MAX_CHUNK, size));
+    }
+
+    void record(int kind, int elements, long elapsedNanos) {
+        if (elements <= 0) return;
+        long sample = Math.max(1, elapsedNanos * SCALE / elements);
+        long old = costs.get(kind);
+        costs.lazySet(kind, old == 0 ? sample : old + (sample - old) / 4);
+    }
+
+    // Average cost per element in nanoseconds, or 0 before the first chunk of this kind.
+    double getCostNanos(int kind) {
+        return (double) costs.get(kind) / SCALE;
+    }
+}
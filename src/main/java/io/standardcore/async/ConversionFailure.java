@@ -0,0 +1,35 @@
+package io.standardcore.async;
+
+import io.standardcore.TypeCode;
+
+// An element a ConversionProcessor could not convert, handed to its failure handler in place
+// of terminating the stream.
+public final class ConversionFailure {
+    private final Object value;
+    private final TypeCode target;
+    private final RuntimeException exception;
+
+    public ConversionFailure(Object value, TypeCode target, RuntimeException exception) {
+        this.value = value;
+        this.target = target;
+        this.exception = exception;
+    }
+
+    public Object getValue() {
+        return value;
+    }
+
+    // OBJECT when the target type is not one of the scalar TypeCodes.
+    public TypeCode getTarget() {
+        return target;
+    }
+
+    public RuntimeException getException() {
+        return exception;
+    }
+
+    @Override
+    public String toString() {
+        return "ConversionFailure{value=" + value + ", target=" + target + ", exception=" + exception + "}";
+    }
+}
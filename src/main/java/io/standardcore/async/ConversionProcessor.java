@@ -0,0 +1,359 @@
+package io.standardcore.async;
+
+import io.standardcore.ArgumentException;
+import io.standardcore.ArgumentNullException;
+import io.standardcore.ConversionMetrics;
+import io.standardcore.Convert;
+import io.standardcore.FormatProvider;
+import io.standardcore.InvalidCastException;
+import io.standardcore.TypeCode;
+import io.standardcore.generic.ElementConverter;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
+
+// Pipeline stage that converts every item of a stream to one target type. It subscribes to a
+// publisher of raw values (strings from a message broker, boxed numbers, ...) and publishes the
+// converted values to a single subscriber, following the Reactive Streams rules.
+//
+// Items are fetched and converted in micro-batches: upstream is asked for batchSize items up
+// front and topped up once three quarters of them are consumed, and whatever has arrived is
+// converted in one pass with the ElementConverter and provider resolved at construction.
+// Converted items are held until the subscriber requests them, so at most batchSize items are
+// buffered and nothing is fetched before the subscriber's first request.
+//
+// An element that cannot be converted terminates the stream with its exception, after the items
+// before it have been delivered, unless a failure handler is given: the handler then receives a
+// ConversionFailure and the stream continues. The handler runs on the converting thread and
+// should not block.
+public final class ConversionProcessor<T> implements Flow.Processor<Object, T> {
+    public static final int DEFAULT_BATCH_SIZE = 256;
+
+    private static final Flow.Subscription EMPTY_SUBSCRIPTION = new Flow.Subscription() {
+        @Override
+        public void request(long n) {
+        }
+
+        @Override
+        public void cancel() {
+        }
+    };
+
+    private final ElementConverter converter;
+    private final TypeCode target;
+    private final FormatProvider provider;
+    private final Consumer<? super ConversionFailure> failureHandler;
+    private final int batchSize;
+    private final int replenish;
+
+    // single-producer (onNext) single-consumer (drain) ring; a null slot is free
+    private final AtomicReferenceArray<Object> queue;
+    private final int mask;
+    private long producerIndex;
+    private long consumerIndex;
+
+    // owned by whichever thread runs drain()
+    private final Object[] batch;
+    private final Object[] converted;
+    private int convertedIndex;
+    private int convertedCount;
+    private int consumed;
+    private boolean started;
+    private RuntimeException conversionError;
+
+    private final AtomicReference<Flow.Subscription> upstream = new AtomicReference<>();
+    private final AtomicBoolean claimed = new AtomicBoolean();
+    private volatile Flow.Subscriber<? super T> subscriber;
+    private final AtomicLong requested = new AtomicLong();
+    private final AtomicInteger wip = new AtomicInteger();
+    private volatile boolean done;
+    private Throwable error;
+    private volatile boolean cancelled;
+    private volatile Throwable requestError;
+
+    public ConversionProcessor(Class<T> elementType, FormatProvider provider) {
+        this(elementType, provider, DEFAULT_BATCH_SIZE, null);
+    }
+
+    // failureHandler may be null, in which case the first failed element terminates the stream.
+    public ConversionProcessor(Class<T> elementType, FormatProvider provider, int batchSize, Consumer<? super ConversionFailure> failureHandler) {
+        this(converter(elementType), provider, batchSize, failureHandler);
+    }
+
+    private ConversionProcessor(ElementConverter converter, FormatProvider provider, int batchSize, Consumer<? super ConversionFailure> failureHandler) {
+        if (batchSize < 1) throw new ArgumentException("batchSize");
+        this.converter = converter;
+        this.target = converter.getTypeCode() == null ? TypeCode.OBJECT : converter.getTypeCode();
+        this.provider = provider;
+        this.failureHandler = failureHandler;
+        this.batchSize = batchSize;
+        this.replenish = batchSize - (batchSize >> 2);
+        int capacity = Integer.highestOneBit(Math.max(1, batchSize - 1)) << 1;
+        this.queue = new AtomicReferenceArray<>(capacity);
+        this.mask = capacity - 1;
+        this.batch = new Object[batchSize];
+        this.converted = new Object[batchSize];
+    }
+
+    // Publishes the boxed type of the type code, as ConversionService.convert does.
+    public static ConversionProcessor<Object> of(TypeCode typeCode, FormatProvider provider, int batchSize, Consumer<? super ConversionFailure> failureHandler) {
+        if (typeCode == null) throw new ArgumentNullException("typeCode");
+        return new ConversionProcessor<>(ElementConverter.of(ConversionService.elementType(typeCode)), provider, batchSize, failureHandler);
+    }
+
+    private static ElementConverter converter(Class<?> elementType) {
+        if (elementType == null) throw new ArgumentNullException("elementType");
+        if (elementType.isPrimitive()) throw new ArgumentException("Arg_MustBeReferenceType");
+        return ElementConverter.of(elementType);
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super T> subscriber) {
+        if (subscriber == null) throw new NullPointerException("subscriber");
+        if (!claimed.compareAndSet(false, true)) {
+            subscriber.onSubscribe(EMPTY_SUBSCRIPTION);
+            subscriber.onError(new IllegalStateException("InvalidOperation_SingleSubscriber"));
+            return;
+        }
+        subscriber.onSubscribe(new Downstream());
+        // published only after onSubscribe has returned, so no signal can overtake it
+        this.subscriber = subscriber;
+        drain();
+    }
+
+    @Override
+    public void onSubscribe(Flow.Subscription subscription) {
+        if (subscription == null) throw new NullPointerException("subscription");
+        if (!upstream.compareAndSet(null, subscription) || cancelled) {
+            subscription.cancel();
+            return;
+        }
+        drain();
+    }
+
+    @Override
+    public void onNext(Object item) {
+        if (item == null) throw new NullPointerException("item");
+        if (done) return;
+        if (!offer(item)) {
+            // more items than requested
+            upstream.get().cancel();
+            onError(new IllegalStateException("InvalidOperation_RequestExceeded"));
+            return;
+        }
+        drain();
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+        if (throwable == null) throw new NullPointerException("throwable");
+        if (done) return;
+        error = throwable;
+        done = true;
+        drain();
+    }
+
+    @Override
+    public void onComplete() {
+        if (done) return;
+        done = true;
+        drain();
+    }
+
+    private boolean offer(Object item) {
+        int index = (int) producerIndex & mask;
+        if (queue.get(index) != null) return false;
+        queue.lazySet(index, item);
+        producerIndex++;
+        return true;
+    }
+
+    private Object poll() {
+        int index = (int) consumerIndex & mask;
+        Object item = queue.get(index);
+        if (item == null) return null;
+        queue.lazySet(index, null);
+        consumerIndex++;
+        return item;
+    }
+
+    private void drain() {
+        if (wip.getAndIncrement() != 0) return;
+        int missed = 1;
+        do {
+            Flow.Subscriber<? super T> s = subscriber;
+            if (cancelled) {
+                clear();
+            } else if (s != null) {
+                emit(s);
+            }
+            missed = wip.addAndGet(-missed);
+        } while (missed != 0);
+    }
+
+    private void emit(Flow.Subscriber<? super T> s) {
+        Throwable badRequest = requestError;
+        if (badRequest != null) {
+            cancelUpstream();
+            terminate(s, badRequest);
+            return;
+        }
+
+        long r = requested.get();
+        if (!started && r > 0) {
+            Flow.Subscription up = upstream.get();
+            if (up != null) {
+                started = true;
+                up.request(batchSize);
+            }
+        }
+
+        long e = 0;
+        while (true) {
+            if (cancelled) {
+                clear();
+                return;
+            }
+            if (convertedIndex == convertedCount) {
+                if (conversionError != null) {
+                    terminate(s, conversionError);
+                    return;
+                }
+                boolean d = done;
+                int n = fill();
+                if (n == 0) {
+                    if (d) {
+                        terminate(s, error);
+                        return;
+                    }
+                    break;
+                }
+                convert(n);
+                continue;
+            }
+            if (e == r) break;
+
+            @SuppressWarnings("unchecked")
+            T item = (T) converted[convertedIndex];
+            converted[convertedIndex++] = null;
+            s.onNext(item);
+            e++;
+        }
+        if (e != 0 && r != Long.MAX_VALUE) requested.addAndGet(-e);
+    }
+
+    private int fill() {
+        int n = 0;
+        Object item;
+        while (n < batchSize && (item = poll()) != null) {
+            batch[n++] = item;
+        }
+        consumed += n;
+        if (consumed >= replenish) {
+            int count = consumed;
+            consumed = 0;
+            upstream.get().request(count);
+        }
+        return n;
+    }
+
+    private void convert(int n) {
+        ConversionMetrics metrics = Convert.getConversionMetrics();
+        long start = metrics == null ? 0 : System.nanoTime();
+        int count = 0;
+        int failures = 0;
+        for (int i = 0; i < n; i++) {
+            Object value = batch[i];
+            batch[i] = null;
+            try {
+                Object result = converter.convert(value, provider);
+                // Flow forbids null items; only a user TypeConverter or a NullPolicy can produce one
+                if (result == null) throw new InvalidCastException("InvalidCast_Empty");
+                converted[count++] = result;
+            } catch (RuntimeException exception) {
+                failures++;
+                if (!handleFailure(value, exception)) {
+                    for (int j = i + 1; j < n; j++) batch[j] = null;
+                    break;
+                }
+            }
+        }
+        convertedIndex = 0;
+        convertedCount = count;
+        if (metrics != null) metrics.batchCompleted(TypeCode.OBJECT, target, n, failures, System.nanoTime() - start);
+    }
+
+    // False when the stream has to end with the failure: no handler, or the handler threw.
+    private boolean handleFailure(Object value, RuntimeException exception) {
+        if (failureHandler != null) {
+            try {
+                failureHandler.accept(new ConversionFailure(value, target, exception));
+                return true;
+            } catch (RuntimeException handlerException) {
+                exception = handlerException;
+            }
+        }
+        conversionError = exception;
+        cancelUpstream();
+        return false;
+    }
+
+    private void terminate(Flow.Subscriber<? super T> s, Throwable throwable) {
+        subscriber = null;
+        cancelled = true;
+        clear();
+        if (throwable == null) {
+            s.onComplete();
+        } else {
+            s.onError(throwable);
+        }
+    }
+
+    private void clear() {
+        subscriber = null;
+        while (poll() != null) {
+            // drop items nobody will receive
+        }
+        for (int i = convertedIndex; i < convertedCount; i++) converted[i] = null;
+        convertedIndex = convertedCount = 0;
+    }
+
+    private void cancelUpstream() {
+        Flow.Subscription up = upstream.get();
+        if (up != null) up.cancel();
+    }
+
+    private final class Downstream implements Flow.Subscription {
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                requestError = new IllegalArgumentException("Arg_NonPositiveRequest");
+            } else {
+                long current;
+                long next;
+                do {
+                    current = requested.get();
+                    next = current + n;
+                    if (next < 0) next = Long.MAX_VALUE;
+                } while (!requested.compareAndSet(current, next));
+            }
+            drain();
+        }
+
+        @Override
+        public void cancel() {
+            if (cancelled) return;
+            cancelled = true;
+            cancelUpstream();
+            drain();
+        }
+    }
+}
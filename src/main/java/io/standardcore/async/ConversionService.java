@@ -0,0 +1,346 @@
+package io.standardcore.async;
+
+import io.standardcore.ArgumentException;
+import io.standardcore.ArgumentNullException;
+import io.standardcore.FormatException;
+import io.standardcore.FormatProvider;
+import io.standardcore.TypeCode;
+import io.standardcore.UInteger;
+import io.standardcore.ULong;
+import io.standardcore.generic.ElementConverter;
+import io.standardcore.parsing.BulkDigits;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Method;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Converts large batches off the calling thread. Each batch is split into chunks that run on
+// the service's Executor and the result is returned as a CompletableFuture, so an event-loop
+// thread can hand off a multi-megabyte conversion and continue when it completes.
+//
+// Chunk sizes adapt to the measured per-element cost of each target type, aiming at
+// targetChunkNanos of work per chunk. Cancelling the returned future (or the first failing
+// chunk) stops the batch: queued chunks are skipped and running chunks stop within
+// BatchConversion.CHECK_INTERVAL elements.
+//
+// The default executor runs each chunk on a virtual thread when the JDK provides them (21+),
+// otherwise on a shared daemon pool with one thread per available processor.
+public final class ConversionService {
+    public static final long DEFAULT_TARGET_CHUNK_NANOS = 1_000_000L;
+
+    // kinds tracked by the ChunkSizer: one per TypeCode, one per element class beyond those,
+    // and delimited byte columns, whose chunk sizes are in bytes
+    private static final int TYPE_CODE_KINDS = TypeCode.values().length;
+    private static final int OTHER_KIND = TYPE_CODE_KINDS;
+    private static final int COLUMN_KIND = TYPE_CODE_KINDS + 1;
+
+    private final Executor executor;
+    private final int parallelism;
+    private final ChunkSizer sizer = new ChunkSizer(TYPE_CODE_KINDS + 2);
+    private volatile long targetChunkNanos = DEFAULT_TARGET_CHUNK_NANOS;
+
+    public ConversionService() {
+        this(DefaultExecutor.INSTANCE);
+    }
+
+    public ConversionService(Executor executor) {
+        this(executor, Runtime.getRuntime().availableProcessors());
+    }
+
+    // parallelism is the number of chunks a batch is split into at least, when it is large
+    // enough; it should match the number of threads the executor can run at once.
+    public ConversionService(Executor executor, int parallelism) {
+        if (executor == null) throw new ArgumentNullException("executor");
+        if (parallelism < 1) throw new ArgumentException("parallelism");
+        this.executor = executor;
+        this.parallelism = parallelism;
+    }
+
+    public static Executor getDefaultExecutor() {
+        return DefaultExecutor.INSTANCE;
+    }
+
+    public Executor getExecutor() {
+        return executor;
+    }
+
+    public void setTargetChunkNanos(long targetChunkNanos) {
+        if (targetChunkNanos <= 0) throw new ArgumentException("targetChunkNanos");
+        this.targetChunkNanos = targetChunkNanos;
+    }
+
+    public long getTargetChunkNanos() {
+        return targetChunkNanos;
+    }
+
+    // Measured average cost of one conversion to the type code, 0 until a batch has run.
+    public double getElementCostNanos(TypeCode typeCode) {
+        return sizer.getCostNanos(typeCode.ordinal());
+    }
+
+    // The result array's runtime type follows the type code, e.g. Long[] for INT64, so it can
+    // be cast to the typed array.
+    public CompletableFuture<Object[]> convert(Object[] values, TypeCode typeCode, FormatProvider provider) {
+        if (values == null) throw new ArgumentNullException("values");
+        if (typeCode == null) throw new ArgumentNullException("typeCode");
+        Class<?> elementType = elementType(typeCode);
+        Object[] output = (Object[]) Array.newInstance(elementType, values.length);
+        return new ArrayBatch<>(this, values, output, ElementConverter.of(elementType), typeCode.ordinal(), typeCode, provider)
+                .start(executor);
+    }
+
+    public <T> CompletableFuture<T[]> convert(Object[] values, Class<T> elementType, FormatProvider provider) {
+        if (values == null) throw new ArgumentNullException("values");
+        ElementConverter converter = converter(elementType);
+        return new ArrayBatch<>(this, values, newArray(elementType, values.length), converter, kind(converter), target(converter), provider)
+                .start(executor);
+    }
+
+    public <T> CompletableFuture<List<T>> convert(List<?> values, TypeCode typeCode, FormatProvider provider) {
+        if (values == null) throw new ArgumentNullException("values");
+        CompletableFuture<Object[]> array = convert(values.toArray(), typeCode, provider);
+        return asList(array);
+    }
+
+    public <T> CompletableFuture<List<T>> convert(List<?> values, Class<T> elementType, FormatProvider provider) {
+        if (values == null) throw new ArgumentNullException("values");
+        return asList(convert(values.toArray(), elementType, provider));
+    }
+
+    // Parses a delimited column of ASCII integers, such as one field of a CSV file read into
+    // a buffer, with BulkDigits. Chunks are cut at delimiters, so each holds whole fields.
+    public CompletableFuture<long[]> parseInt64Column(byte[] src, int offset, int length, byte delimiter) {
+        if (src == null) throw new ArgumentNullException("src");
+        if (offset < 0 || length < 0 || offset > src.length - length) throw new ArgumentException("Arg_InvalidOffLen");
+        int chunkBytes = sizer.chunkSize(COLUMN_KIND, length, parallelism, targetChunkNanos);
+        return new ColumnBatch(this, src, offset, length, delimiter, chunkBytes).start(executor);
+    }
+
+    int chunkSize(int kind, int count) {
+        return sizer.chunkSize(kind, count, parallelism, targetChunkNanos);
+    }
+
+    private static ElementConverter converter(Class<?> elementType) {
+        if (elementType == null) throw new ArgumentNullException("elementType");
+        if (elementType.isPrimitive()) throw new ArgumentException("Arg_MustBeReferenceType");
+        return ElementConverter.of(elementType);
+    }
+
+    private static int kind(ElementConverter converter) {
+        return converter.getTypeCode() == null ? OTHER_KIND : converter.getTypeCode().ordinal();
+    }
+
+    private static TypeCode target(ElementConverter converter) {
+        return converter.getTypeCode() == null ? TypeCode.OBJECT : converter.getTypeCode();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T[] newArray(Class<T> elementType, int length) {
+        return (T[]) Array.newInstance(elementType, length);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> CompletableFuture<List<T>> asList(CompletableFuture<? extends Object[]> array) {
+        CompletableFuture<List<T>> list = array.thenApply(values -> (List<T>) Arrays.asList(values));
+        // cancelling the list future has to reach the chunks of the underlying batch
+        list.whenComplete((value, exception) -> {
+            if (list.isCancelled()) array.cancel(false);
+        });
+        return list;
+    }
+
+    static Class<?> elementType(TypeCode typeCode) {
+        switch (typeCode) {
+            case BOOLEAN:
+                return Boolean.class;
+            case CHAR:
+                return Character.class;
+            case BYTE:
+                return Byte.class;
+            case INT16:
+                return Short.class;
+            case INT32:
+                return Integer.class;
+            case UINT32:
+                return UInteger.class;
+            case INT64:
+                return Long.class;
+            case UINT64:
+                return ULong.class;
+            case SINGLE:
+                return Float.class;
+            case DOUBLE:
+                return Double.class;
+            case DECIMAL:
+                return BigDecimal.class;
+            case DATETIME:
+                return LocalDateTime.class;
+            case STRING:
+                return String.class;
+            case OBJECT:
+                return Object.class;
+            default:
+                throw new ArgumentException("Arg_UnknownTypeCode");
+        }
+    }
+
+    private static final class ArrayBatch<T> extends BatchConversion<T[]> {
+        private final Object[] values;
+        private final T[] output;
+        private final ElementConverter converter;
+        private final FormatProvider provider;
+        private final int chunk;
+
+        ArrayBatch(ConversionService service, Object[] values, T[] output, ElementConverter converter, int kind, TypeCode target, FormatProvider provider) {
+            super(service.sizer, kind, TypeCode.OBJECT, target);
+            this.values = values;
+            this.output = output;
+            this.converter = converter;
+            this.provider = provider;
+            this.chunk = service.chunkSize(kind, values.length);
+        }
+
+        @Override
+        int chunkCount() {
+            return (values.length + chunk - 1) / chunk;
+        }
+
+        @Override
+        int chunkSize(int index) {
+            return Math.min(chunk, values.length - index * chunk);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        void convertChunk(int index) {
+            int from = index * chunk;
+            int to = from + chunkSize(index);
+            for (int i = from; i < to; i++) {
+                if ((i & (CHECK_INTERVAL - 1)) == 0 && isStopped()) return;
+                output[i] = (T) converter.convert(values[i], provider);
+            }
+        }
+
+        @Override
+        T[] output() {
+            return output;
+        }
+
+        @Override
+        int elementCount() {
+            return values.length;
+        }
+    }
+
+    private static final class ColumnBatch extends BatchConversion<long[]> {
+        private final byte[] src;
+        private final byte delimiter;
+        private final int[] starts;
+        private final int[] ends;
+        private final long[][] parts;
+
+        ColumnBatch(ConversionService service, byte[] src, int offset, int length, byte delimiter, int chunkBytes) {
+            super(service.sizer, COLUMN_KIND, TypeCode.STRING, TypeCode.INT64);
+            this.src = src;
+            this.delimiter = delimiter;
+
+            // cut roughly every chunkBytes, moved forward to the next delimiter
+            int end = offset + length;
+            int capacity = length / chunkBytes + 1;
+            int[] chunkStarts = new int[capacity];
+            int[] chunkEnds = new int[capacity];
+            int count = 0;
+            int start = offset;
+            while (true) {
+                int cut = start + chunkBytes >= end ? -1 : BulkDigits.indexOf(src, start + chunkBytes, end - start - chunkBytes, delimiter);
+                if (count == chunkStarts.length) {
+                    chunkStarts = Arrays.copyOf(chunkStarts, count * 2);
+                    chunkEnds = Arrays.copyOf(chunkEnds, count * 2);
+                }
+                chunkStarts[count] = start;
+                if (cut < 0) {
+                    chunkEnds[count++] = end;
+                    break;
+                }
+                chunkEnds[count++] = cut;
+                start = cut + 1;
+            }
+            this.starts = Arrays.copyOf(chunkStarts, count);
+            this.ends = Arrays.copyOf(chunkEnds, count);
+            this.parts = new long[count][];
+        }
+
+        @Override
+        int chunkCount() {
+            return starts.length;
+        }
+
+        @Override
+        int chunkSize(int index) {
+            return ends[index] - starts[index];
+        }
+
+        @Override
+        void convertChunk(int index) {
+            long[] part = BulkDigits.parseDelimited(src, starts[index], ends[index] - starts[index], delimiter);
+            // a blank piece of a cut column is an empty field, which the whole column would reject
+            if (part.length == 0 && starts.length > 1) throw new FormatException("Format_InvalidString");
+            parts[index] = part;
+        }
+
+        @Override
+        long[] output() {
+            int total = 0;
+            for (long[] part : parts) total += part.length;
+            long[] result = new long[total];
+            int position = 0;
+            for (long[] part : parts) {
+                System.arraycopy(part, 0, result, position, part.length);
+                position += part.length;
+            }
+            return result;
+        }
+
+        @Override
+        int elementCount() {
+            int total = 0;
+            for (long[] part : parts) total += part == null ? 0 : part.length;
+            return total;
+        }
+    }
+
+    private static final class DefaultExecutor {
+        static final Executor INSTANCE = create();
+
+        private static Executor create() {
+            try {
+                Method method = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+                return (Executor) method.invoke(null);
+            } catch (ReflectiveOperationException | RuntimeException e) {
+                // before JDK 21
+            }
+
+            int threads = Runtime.getRuntime().availableProcessors();
+            AtomicInteger counter = new AtomicInteger();
+            ThreadFactory factory = runnable -> {
+                Thread thread = new Thread(runnable, "typeconverter-conversion-" + counter.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            };
+            ThreadPoolExecutor pool = new ThreadPoolExecutor(threads, threads, 30, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), factory);
+            pool.allowCoreThreadTimeOut(true);
+            return pool;
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package io.standardcore.async;
+
+// The Reactive Streams interfaces, declared here because java.util.concurrent.Flow only exists
+// from Java 9 on. They have the same shape and contract as java.util.concurrent.Flow and
+// org.reactivestreams, so adapting either is a matter of forwarding calls; on Java 9+ the
+// multi-release JAR provides FlowAdapters for java.util.concurrent.Flow.
+public final class Flow {
+    private Flow() {
+    }
+
+    public interface Publisher<T> {
+        void subscribe(Subscriber<? super T> subscriber);
+    }
+
+    public interface Subscriber<T> {
+        void onSubscribe(Subscription subscription);
+
+        void onNext(T item);
+
+        void onError(Throwable throwable);
+
+        void onComplete();
+    }
+
+    public interface Subscription {
+        void request(long n);
+
+        void cancel();
+    }
+
+    public interface Processor<T, R> extends Subscriber<T>, Publisher<R> {
+    }
+}
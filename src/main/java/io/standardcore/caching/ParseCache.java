@@ -0,0 +1,133 @@
+package io.standardcore.caching;
+
+import io.standardcore.ArgumentException;
+import io.standardcore.ArgumentNullException;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+// Bounded, concurrent cache of parse results keyed by the input string, meant for
+// low-cardinality columns where the same few thousand strings repeat across many rows.
+// Hits are a ConcurrentHashMap lookup plus a reference-bit check, stored only when clear.
+// Misses parse outside any lock, then insert under a lock using CLOCK (second chance)
+// eviction. Inputs longer than maxKeyLength are parsed but never cached, and parse failures
+// are not cached.
+public final class ParseCache<V> {
+    public static final int DEFAULT_MAX_KEY_LENGTH = 64;
+
+    private final Function<String, V> parser;
+    private final int capacity;
+    private final int maxKeyLength;
+    private final ConcurrentHashMap<String, Entry<V>> entries;
+    private final Entry<V>[] clock;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    // guarded by this
+    private int hand;
+    private int size;
+
+    private static final class Entry<V> {
+        final String key;
+        final V value;
+        // Written racily by readers; a lost update only costs a premature eviction.
+        boolean referenced;
+
+        Entry(String key, V value) {
+            this.key = key;
+            this.value = value;
+        }
+    }
+
+    public ParseCache(int capacity, Function<String, V> parser) {
+        this(capacity, DEFAULT_MAX_KEY_LENGTH, parser);
+    }
+
+    @SuppressWarnings("unchecked")
+    public ParseCache(int capacity, int maxKeyLength, Function<String, V> parser) {
+        if (capacity <= 0) throw new ArgumentException("capacity");
+        if (maxKeyLength < 0) throw new ArgumentException("maxKeyLength");
+        if (parser == null) throw new ArgumentNullException("parser");
+
+        this.parser = parser;
+        this.capacity = capacity;
+        this.maxKeyLength = maxKeyLength;
+        this.entries = new ConcurrentHashMap<>(capacity * 4 / 3 + 1);
+        this.clock = (Entry<V>[]) new Entry<?>[capacity];
+    }
+
+    public V get(String key) {
+        if (key == null) throw new ArgumentNullException("key");
+        Entry<V> entry = entries.get(key);
+        if (entry != null) {
+            // a hot entry is already marked; skipping the store keeps its cache line shared
+            if (!entry.referenced) entry.referenced = true;
+            hits.increment();
+            return entry.value;
+        }
+
+        misses.increment();
+        V value = parser.apply(key);
+        if (key.length() <= maxKeyLength) insert(key, value);
+        return value;
+    }
+
+    private synchronized void insert(String key, V value) {
+        if (entries.containsKey(key)) return;
+
+        Entry<V> entry = new Entry<>(key, value);
+        if (size < capacity) {
+            clock[size++] = entry;
+        } else {
+            while (clock[hand].referenced) {
+                clock[hand].referenced = false;
+                hand = hand + 1 == capacity ? 0 : hand + 1;
+            }
+            entries.remove(clock[hand].key);
+            clock[hand] = entry;
+            hand = hand + 1 == capacity ? 0 : hand + 1;
+            evictions.increment();
+        }
+        entries.put(key, entry);
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    public double getHitRate() {
+        long hitCount = hits.sum();
+        long total = hitCount + misses.sum();
+        return total == 0 ? 0 : (double) hitCount / total;
+    }
+
+    public synchronized void clear() {
+        entries.clear();
+        for (int i = 0; i < size; i++) {
+            clock[i] = null;
+        }
+        size = 0;
+        hand = 0;
+        hits.reset();
+        misses.reset();
+        evictions.reset();
+    }
+}
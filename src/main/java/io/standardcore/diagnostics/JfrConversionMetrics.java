@@ -0,0 +1,155 @@
+package io.standardcore.diagnostics;
+
+import io.standardcore.ConversionMetrics;
+import io.standardcore.StandardCoreException;
+import io.standardcore.TypeCode;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Proxy;
+
+// Emits Java Flight Recorder events for failed conversions, conversions slower than a
+// threshold and bulk-batch summaries. Install it with
+// Convert.setConversionMetrics(JfrConversionMetrics.create(thresholdNanos)), or with
+// Convert.addConversionMetrics next to another ConversionMetrics.
+// While no recording has the events enabled the only work done per conversion is a
+// volatile read; the flag is refreshed by a FlightRecorderListener.
+public class JfrConversionMetrics implements ConversionMetrics {
+    public static final String FAILURE_EVENT_NAME = "io.standardcore.ConversionFailure";
+    public static final String SLOW_CONVERSION_EVENT_NAME = "io.standardcore.SlowConversion";
+    public static final String BATCH_EVENT_NAME = "io.standardcore.ConversionBatch";
+
+    private final JfrEventType failureEvent;
+    private final JfrEventType slowConversionEvent;
+    private final JfrEventType batchEvent;
+    private final long slowThresholdNanos;
+
+    private volatile boolean failureEnabled;
+    private volatile boolean slowConversionEnabled;
+    private volatile boolean batchEnabled;
+
+    private JfrConversionMetrics(JfrEventType failureEvent, JfrEventType slowConversionEvent, JfrEventType batchEvent, long slowThresholdNanos) {
+        this.failureEvent = failureEvent;
+        this.slowConversionEvent = slowConversionEvent;
+        this.batchEvent = batchEvent;
+        this.slowThresholdNanos = slowThresholdNanos;
+    }
+
+    // Returns null when the running JVM does not provide jdk.jfr.
+    public static JfrConversionMetrics create(long slowThresholdNanos) {
+        try {
+            JfrEventType failureEvent = JfrEventType.define(FAILURE_EVENT_NAME, "Conversion Failure",
+                    "A Convert call that threw",
+                    JfrEventType.field(String.class, "source", "Source Type"),
+                    JfrEventType.field(String.class, "target", "Target Type"),
+                    JfrEventType.field(String.class, "errorKey", "Error Key"),
+                    JfrEventType.field(String.class, "exceptionType", "Exception Type"),
+                    JfrEventType.field(int.class, "inputLength", "Input Length"));
+            JfrEventType slowConversionEvent = JfrEventType.define(SLOW_CONVERSION_EVENT_NAME, "Slow Conversion",
+                    "A Convert call that took longer than the configured threshold",
+                    JfrEventType.field(String.class, "source", "Source Type"),
+                    JfrEventType.field(String.class, "target", "Target Type"),
+                    JfrEventType.timespan("conversionDuration", "Conversion Duration"),
+                    JfrEventType.field(int.class, "inputLength", "Input Length"));
+            JfrEventType batchEvent = JfrEventType.define(BATCH_EVENT_NAME, "Conversion Batch",
+                    "Summary of a bulk conversion",
+                    JfrEventType.field(String.class, "source", "Source Type"),
+                    JfrEventType.field(String.class, "target", "Target Type"),
+                    JfrEventType.field(int.class, "count", "Element Count"),
+                    JfrEventType.field(int.class, "failures", "Failed Elements"),
+                    JfrEventType.timespan("batchDuration", "Batch Duration"));
+
+            JfrConversionMetrics metrics = new JfrConversionMetrics(failureEvent, slowConversionEvent, batchEvent, slowThresholdNanos);
+            metrics.listen();
+            return metrics;
+        } catch (ReflectiveOperationException | LinkageError e) {
+            return null;
+        }
+    }
+
+    private void listen() throws ReflectiveOperationException {
+        ClassLoader loader = JfrConversionMetrics.class.getClassLoader();
+        Class<?> flightRecorderClass = Class.forName("jdk.jfr.FlightRecorder", true, loader);
+        Class<?> listenerClass = Class.forName("jdk.jfr.FlightRecorderListener", true, loader);
+
+        InvocationHandler handler = (proxy, method, args) -> {
+            switch (method.getName()) {
+                case "recorderInitialized":
+                case "recordingStateChanged":
+                    refresh();
+                    return null;
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "equals":
+                    return proxy == args[0];
+                case "toString":
+                    return "JfrConversionMetrics listener";
+                default:
+                    return null;
+            }
+        };
+        Object listener = Proxy.newProxyInstance(loader, new Class<?>[]{listenerClass}, handler);
+        flightRecorderClass.getMethod("addListener", listenerClass).invoke(null, listener);
+        refresh();
+    }
+
+    private void refresh() {
+        failureEnabled = failureEvent.isEnabled();
+        slowConversionEnabled = slowConversionEvent.isEnabled();
+        batchEnabled = batchEvent.isEnabled();
+    }
+
+    public long getSlowThresholdNanos() {
+        return slowThresholdNanos;
+    }
+
+    @Override
+    public long startTime() {
+        return slowConversionEnabled ? System.nanoTime() : NOT_SAMPLED;
+    }
+
+    @Override
+    public void conversionSucceeded(TypeCode source, TypeCode target, Object value, long startTime) {
+        if (startTime == NOT_SAMPLED) return;
+        long elapsed = System.nanoTime() - startTime;
+        if (elapsed < slowThresholdNanos) return;
+        slowConversionEvent.commit(source.name(), target.name(), elapsed, inputLength(value));
+    }
+
+    @Override
+    public void conversionFailed(TypeCode source, TypeCode target, Object value, RuntimeException exception, long startTime) {
+        if (!failureEnabled) return;
+        failureEvent.commit(source.name(), target.name(), errorKey(exception),
+                exception.getClass().getName(), inputLength(value));
+    }
+
+    @Override
+    public void batchCompleted(TypeCode source, TypeCode target, int count, int failures, long elapsedNanos) {
+        if (!batchEnabled || elapsedNanos < slowThresholdNanos) return;
+        batchEvent.commit(source.name(), target.name(), count, failures, elapsedNanos);
+    }
+
+    // What failures are grouped by: the resource key, such as "Overflow_Int32", for this
+    // library's exceptions, otherwise the exception class. Other messages often quote the
+    // input, which would make every failure its own group and put the input in the recording.
+    static String errorKey(RuntimeException exception) {
+        String message = exception.getMessage();
+        if (exception instanceof StandardCoreException && isResourceKey(message)) return message;
+        return exception.getClass().getName();
+    }
+
+    private static boolean isResourceKey(String message) {
+        if (message == null || message.isEmpty() || message.indexOf('_') < 0) return false;
+        for (int i = 0; i < message.length(); i++) {
+            char c = message.charAt(i);
+            if (!(c >= 'a' && c <= 'z' || c >= 'A' && c <= 'Z' || c >= '0' && c <= '9' || c == '_')) return false;
+        }
+        return true;
+    }
+
+    private static int inputLength(Object value) {
+        if (value instanceof CharSequence) return ((CharSequence) value).length();
+        if (value instanceof byte[]) return ((byte[]) value).length;
+        if (value instanceof char[]) return ((char[]) value).length;
+        return -1;
+    }
+}
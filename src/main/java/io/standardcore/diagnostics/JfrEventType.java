@@ -0,0 +1,130 @@
+package io.standardcore.diagnostics;
+
+import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+// A JFR event type defined at runtime through jdk.jfr.EventFactory. Everything is bound
+// reflectively so that the library keeps compiling and running on Java 8 runtimes
+// without jdk.jfr; on such runtimes define() throws ReflectiveOperationException.
+final class JfrEventType {
+    private static final String TIMESPAN_NANOSECONDS = "NANOSECONDS";
+
+    private final Object eventType;
+    private final MethodHandle newEvent;
+    private final MethodHandle set;
+    private final MethodHandle commit;
+    private final MethodHandle isEnabled;
+
+    private JfrEventType(Object eventType, MethodHandle newEvent, MethodHandle set, MethodHandle commit, MethodHandle isEnabled) {
+        this.eventType = eventType;
+        this.newEvent = newEvent;
+        this.set = set;
+        this.commit = commit;
+        this.isEnabled = isEnabled;
+    }
+
+    static final class FieldSpec {
+        final Class<?> type;
+        final String name;
+        final String label;
+        final boolean nanoseconds;
+
+        FieldSpec(Class<?> type, String name, String label, boolean nanoseconds) {
+            this.type = type;
+            this.name = name;
+            this.label = label;
+            this.nanoseconds = nanoseconds;
+        }
+    }
+
+    static FieldSpec field(Class<?> type, String name, String label) {
+        return new FieldSpec(type, name, label, false);
+    }
+
+    static FieldSpec timespan(String name, String label) {
+        return new FieldSpec(long.class, name, label, true);
+    }
+
+    static JfrEventType define(String name, String label, String description, FieldSpec... fields) throws ReflectiveOperationException {
+        ClassLoader loader = JfrEventType.class.getClassLoader();
+        Class<?> annotationElementClass = Class.forName("jdk.jfr.AnnotationElement", true, loader);
+        Class<?> valueDescriptorClass = Class.forName("jdk.jfr.ValueDescriptor", true, loader);
+        Class<?> eventFactoryClass = Class.forName("jdk.jfr.EventFactory", true, loader);
+        Class<?> eventClass = Class.forName("jdk.jfr.Event", true, loader);
+        Class<?> eventTypeClass = Class.forName("jdk.jfr.EventType", true, loader);
+
+        Constructor<?> newAnnotation = annotationElementClass.getConstructor(Class.class, Object.class);
+        Constructor<?> newValueDescriptor = valueDescriptorClass.getConstructor(Class.class, String.class, List.class);
+
+        List<Object> eventAnnotations = new ArrayList<>();
+        eventAnnotations.add(newAnnotation.newInstance(annotation("jdk.jfr.Name"), name));
+        eventAnnotations.add(newAnnotation.newInstance(annotation("jdk.jfr.Label"), label));
+        eventAnnotations.add(newAnnotation.newInstance(annotation("jdk.jfr.Description"), description));
+        eventAnnotations.add(newAnnotation.newInstance(annotation("jdk.jfr.Category"), new String[]{"TypeConverter"}));
+
+        List<Object> valueDescriptors = new ArrayList<>();
+        Class<? extends Annotation> timespan = annotation("jdk.jfr.Timespan");
+        Field nanoseconds = timespan.getField(TIMESPAN_NANOSECONDS);
+        for (FieldSpec field : fields) {
+            List<Object> fieldAnnotations = new ArrayList<>();
+            fieldAnnotations.add(newAnnotation.newInstance(annotation("jdk.jfr.Label"), field.label));
+            if (field.nanoseconds) {
+                fieldAnnotations.add(newAnnotation.newInstance(timespan, nanoseconds.get(null)));
+            }
+            valueDescriptors.add(newValueDescriptor.newInstance(field.type, field.name, Collections.unmodifiableList(fieldAnnotations)));
+        }
+
+        Object factory = eventFactoryClass.getMethod("create", List.class, List.class)
+                .invoke(null, eventAnnotations, valueDescriptors);
+        Object eventType = eventFactoryClass.getMethod("getEventType").invoke(factory);
+
+        MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+        MethodHandle newEvent = lookup.findVirtual(eventFactoryClass, "newEvent", MethodType.methodType(eventClass))
+                .bindTo(factory)
+                .asType(MethodType.methodType(Object.class));
+        MethodHandle set = lookup.findVirtual(eventClass, "set", MethodType.methodType(void.class, int.class, Object.class))
+                .asType(MethodType.methodType(void.class, Object.class, int.class, Object.class));
+        MethodHandle commit = lookup.findVirtual(eventClass, "commit", MethodType.methodType(void.class))
+                .asType(MethodType.methodType(void.class, Object.class));
+        MethodHandle isEnabled = lookup.findVirtual(eventTypeClass, "isEnabled", MethodType.methodType(boolean.class))
+                .bindTo(eventType);
+
+        return new JfrEventType(eventType, newEvent, set, commit, isEnabled);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Class<? extends Annotation> annotation(String className) throws ClassNotFoundException {
+        return (Class<? extends Annotation>) Class.forName(className, true, JfrEventType.class.getClassLoader());
+    }
+
+    Object getEventType() {
+        return eventType;
+    }
+
+    boolean isEnabled() {
+        try {
+            return (boolean) isEnabled.invokeExact();
+        } catch (Throwable e) {
+            return false;
+        }
+    }
+
+    void commit(Object... values) {
+        try {
+            Object event = (Object) newEvent.invokeExact();
+            for (int i = 0; i < values.length; i++) {
+                set.invokeExact(event, i, values[i]);
+            }
+            commit.invokeExact(event);
+        } catch (Throwable ignored) {
+            // diagnostics must never break a conversion
+        }
+    }
+}
@@ -0,0 +1,246 @@
+package io.standardcore.encoding;
+
+import io.standardcore.ArgumentException;
+import io.standardcore.ArgumentNullException;
+import io.standardcore.FormatException;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+// Streaming Base64 decoder, the counterpart of Base64Encoder: text of any size is decoded a
+// buffer at a time into a buffer the caller provides. A partial quantum is held between calls.
+//
+// Whole quanta of alphabet characters are decoded four characters at a time, with one sign
+// test of the four table values rejecting any character outside the alphabet; whitespace,
+// padding and the end of a quantum split across calls go through a per-character path.
+// Malformed input throws FormatException with the .NET keys: Format_BadBase64Char for a
+// character that is not allowed where it appears, Format_BadBase64CharArrayLength for input
+// that ends inside a quantum. A decoder is not safe for use by several threads at once.
+public final class Base64Decoder {
+    private static final int CHUNK = 8192;
+
+    private final Base64Variant variant;
+    private int bits;
+    private int count;
+    private int padding;
+    private boolean ended;
+    private byte[] input;
+    private byte[] output;
+
+    // positions reached by the last decode(byte[], ...) call
+    private int srcPosition;
+    private int dstPosition;
+
+    public Base64Decoder(Base64Variant variant) {
+        if (variant == null) throw new ArgumentNullException("variant");
+        this.variant = variant;
+    }
+
+    public Base64Variant getVariant() {
+        return variant;
+    }
+
+    public static byte[] decode(byte[] src, int offset, int length, Base64Variant variant) {
+        if (src == null) throw new ArgumentNullException("src");
+        if (offset < 0 || length < 0 || offset > src.length - length) throw new ArgumentException("Arg_InvalidOffLen");
+        if (variant == null) throw new ArgumentNullException("variant");
+        if (jdkDecodes(length, variant)) {
+            byte[] result = jdkDecode(ByteBuffer.wrap(src, offset, length), variant);
+            if (result != null) return result;
+        }
+        int end = offset + length;
+        byte[] dst = new byte[decodedLength(length, end > offset && src[end - 1] == Base64Variant.PAD, end - 1 > offset && src[end - 2] == Base64Variant.PAD)];
+        Base64Decoder decoder = new Base64Decoder(variant);
+        decoder.decode(src, offset, end, dst, 0, dst.length, true);
+        return trim(dst, decoder.dstPosition);
+    }
+
+    // Characters above U+00FF are never in the alphabet.
+    public static byte[] decode(CharSequence src, Base64Variant variant) {
+        if (src == null) throw new ArgumentNullException("src");
+        if (variant == null) throw new ArgumentNullException("variant");
+        int length = src.length();
+        if (jdkDecodes(length, variant)) {
+            byte[] result = jdkDecode(ByteBuffer.wrap(src.toString().getBytes(StandardCharsets.ISO_8859_1)), variant);
+            if (result != null) return result;
+        }
+        byte[] dst = new byte[decodedLength(length, length > 0 && src.charAt(length - 1) == '=', length > 1 && src.charAt(length - 2) == '=')];
+        Base64Decoder decoder = new Base64Decoder(variant);
+        byte[] chunk = new byte[Math.min(length, CHUNK)];
+        int dp = 0;
+        int position = 0;
+        do {
+            int n = Math.min(chunk.length, length - position);
+            for (int i = 0; i < n; i++) {
+                char c = src.charAt(position + i);
+                chunk[i] = c <= 0xFF ? (byte) c : (byte) '?';
+            }
+            position += n;
+            decoder.decode(chunk, 0, n, dst, dp, dst.length, position == length);
+            dp = decoder.dstPosition;
+        } while (position < length);
+        return trim(dst, dp);
+    }
+
+    // Decodes the remaining bytes of src, read as ASCII, into dst. Returns true once src is used
+    // up, and with endOfInput the final quantum is checked and written too; the decoder is then
+    // ready for a new stream. Returns false when dst is full first. dst needs room for three
+    // bytes to progress.
+    public boolean decode(ByteBuffer src, ByteBuffer dst, boolean endOfInput) {
+        if (src == null) throw new ArgumentNullException("src");
+        if (dst == null) throw new ArgumentNullException("dst");
+        if (src.hasArray() && dst.hasArray()) {
+            int srcOffset = src.arrayOffset();
+            int dstOffset = dst.arrayOffset();
+            try {
+                return decode(src.array(), srcOffset + src.position(), srcOffset + src.limit(),
+                        dst.array(), dstOffset + dst.position(), dstOffset + dst.limit(), endOfInput);
+            } finally {
+                src.position(srcPosition - srcOffset);
+                dst.position(dstPosition - dstOffset);
+            }
+        }
+
+        if (input == null) {
+            input = new byte[CHUNK];
+            output = new byte[CHUNK / 4 * 3];
+        }
+        while (true) {
+            int start = src.position();
+            int count = Math.min(src.remaining(), input.length);
+            boolean dstLimited = dst.remaining() <= output.length;
+            int room = Math.min(dst.remaining(), output.length);
+            src.get(input, 0, count);
+            boolean done;
+            try {
+                done = decode(input, 0, count, output, 0, room, endOfInput && !src.hasRemaining());
+            } finally {
+                src.position(start + srcPosition);
+                dst.put(output, 0, dstPosition);
+            }
+            if (!done) {
+                if (dstLimited) return false;
+            } else if (!src.hasRemaining()) {
+                return true;
+            }
+        }
+    }
+
+    public void reset() {
+        bits = 0;
+        count = 0;
+        padding = 0;
+        ended = false;
+    }
+
+    private boolean decode(byte[] src, int sp, int sl, byte[] dst, int dp, int dl, boolean endOfInput) {
+        byte[] values = variant.values;
+        try {
+            while (true) {
+                if (count == 0 && !ended) {
+                    while (sl - sp >= 4 && dl - dp >= 3) {
+                        int a = values[src[sp] & 0xFF];
+                        int b = values[src[sp + 1] & 0xFF];
+                        int c = values[src[sp + 2] & 0xFF];
+                        int d = values[src[sp + 3] & 0xFF];
+                        if ((a | b | c | d) < 0) break;
+                        int quantum = a << 18 | b << 12 | c << 6 | d;
+                        dst[dp] = (byte) (quantum >>> 16);
+                        dst[dp + 1] = (byte) (quantum >>> 8);
+                        dst[dp + 2] = (byte) quantum;
+                        sp += 4;
+                        dp += 3;
+                    }
+                }
+                if (sp == sl) break;
+
+                int c = src[sp] & 0xFF;
+                int value = values[c];
+                if (value >= 0) {
+                    if (ended || padding > 0) throw new FormatException("Format_BadBase64Char");
+                    if (count == 3) {
+                        if (dl - dp < 3) return false;
+                        dp = write(bits << 6 | value, 3, dst, dp);
+                        bits = 0;
+                        count = 0;
+                    } else {
+                        bits = bits << 6 | value;
+                        count++;
+                    }
+                } else if (c == Base64Variant.PAD) {
+                    if (ended || count < 2) throw new FormatException("Format_BadBase64Char");
+                    if (count + padding + 1 == 4) {
+                        if (dl - dp < count - 1) return false;
+                        dp = write(bits << (4 - count) * 6, count - 1, dst, dp);
+                        bits = 0;
+                        count = 0;
+                        padding = 0;
+                        ended = true;
+                    } else {
+                        padding++;
+                    }
+                } else if (!isWhitespace(c) && variant != Base64Variant.MIME) {
+                    throw new FormatException("Format_BadBase64Char");
+                }
+                sp++;
+            }
+
+            if (endOfInput) {
+                if (count == 1 || padding > 0 || count > 0 && variant.paddingRequired) {
+                    throw new FormatException("Format_BadBase64CharArrayLength");
+                }
+                if (count > 0) {
+                    if (dl - dp < count - 1) return false;
+                    dp = write(bits << (4 - count) * 6, count - 1, dst, dp);
+                }
+                reset();
+            }
+            return true;
+        } finally {
+            srcPosition = sp;
+            dstPosition = dp;
+        }
+    }
+
+    // java.util.Base64 follows the same rules for text without whitespace, except that its
+    // STANDARD decoder also takes unpadded input, so that goes to the code here up front.
+    private static boolean jdkDecodes(int length, Base64Variant variant) {
+        return variant.jdkDecoder != null && !(variant.paddingRequired && (length & 3) != 0);
+    }
+
+    // Returns null when the JDK rejects the text: it may hold whitespace, which the JDK does not
+    // skip, and otherwise decoding it again here throws with the right key.
+    private static byte[] jdkDecode(ByteBuffer src, Base64Variant variant) {
+        ByteBuffer result;
+        try {
+            result = variant.jdkDecoder.decode(src);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+        return trim(result.array(), result.remaining());
+    }
+
+    // Writes the top bytes of a 24-bit quantum.
+    private static int write(int quantum, int bytes, byte[] dst, int dp) {
+        dst[dp++] = (byte) (quantum >>> 16);
+        if (bytes > 1) dst[dp++] = (byte) (quantum >>> 8);
+        if (bytes > 2) dst[dp++] = (byte) quantum;
+        return dp;
+    }
+
+    // Exact for unbroken padded text, otherwise an upper bound.
+    private static int decodedLength(int length, boolean lastIsPad, boolean secondLastIsPad) {
+        int result = (int) ((length + 3L) / 4 * 3);
+        if (lastIsPad) result -= secondLastIsPad ? 2 : 1;
+        return Math.max(0, result);
+    }
+
+    private static byte[] trim(byte[] dst, int length) {
+        return length == dst.length ? dst : Arrays.copyOf(dst, length);
+    }
+
+    private static boolean isWhitespace(int c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\r' || c == '\f' || c == 0x0B;
+    }
+}
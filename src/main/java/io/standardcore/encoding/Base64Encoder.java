@@ -0,0 +1,189 @@
+package io.standardcore.encoding;
+
+import io.standardcore.ArgumentException;
+import io.standardcore.ArgumentNullException;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+// Streaming Base64 encoder: input of any size is encoded a buffer at a time into a buffer the
+// caller provides, without building the whole text in memory. Up to two input bytes are held
+// between calls until the next call completes their triplet.
+//
+//     while (!encoder.encode(src, dst, endOfInput)) {
+//         drain dst
+//     }
+//
+// Each triplet is written with two lookups in the variant's 12-bit pair table. Heap buffers are
+// encoded in place; direct buffers are copied through chunk arrays. An encoder is not safe for
+// use by several threads at once.
+public final class Base64Encoder {
+    private static final int CHUNK = 8192;
+
+    private final Base64Variant variant;
+    private int pending;
+    private int pendingCount;
+    private int linePosition;
+    private byte[] input;
+    private byte[] output;
+
+    // positions reached by the last encode(byte[], ...) call
+    private int srcPosition;
+    private int dstPosition;
+
+    public Base64Encoder(Base64Variant variant) {
+        if (variant == null) throw new ArgumentNullException("variant");
+        this.variant = variant;
+    }
+
+    public Base64Variant getVariant() {
+        return variant;
+    }
+
+    public static byte[] encode(byte[] src, int offset, int length, Base64Variant variant) {
+        if (src == null) throw new ArgumentNullException("src");
+        if (offset < 0 || length < 0 || offset > src.length - length) throw new ArgumentException("Arg_InvalidOffLen");
+        if (variant == null) throw new ArgumentNullException("variant");
+        long encodedLength = variant.encodedLength(length);
+        if (encodedLength > Integer.MAX_VALUE - 8) throw new ArgumentException("length");
+        if (variant.jdkEncoder != null) return variant.jdkEncoder.encode(ByteBuffer.wrap(src, offset, length)).array();
+        byte[] dst = new byte[(int) encodedLength];
+        new Base64Encoder(variant).encode(src, offset, offset + length, dst, 0, dst.length, true);
+        return dst;
+    }
+
+    public static String encodeToString(byte[] src, int offset, int length, Base64Variant variant) {
+        return new String(encode(src, offset, length, variant), StandardCharsets.ISO_8859_1);
+    }
+
+    // Encodes the remaining bytes of src into dst. Returns true once src is used up, and with
+    // endOfInput the final padded quantum is written too; the encoder is then ready for a new
+    // stream. Returns false when dst is full first. dst needs room for six bytes to progress.
+    public boolean encode(ByteBuffer src, ByteBuffer dst, boolean endOfInput) {
+        if (src == null) throw new ArgumentNullException("src");
+        if (dst == null) throw new ArgumentNullException("dst");
+        if (src.hasArray() && dst.hasArray()) {
+            int srcOffset = src.arrayOffset();
+            int dstOffset = dst.arrayOffset();
+            boolean done = encode(src.array(), srcOffset + src.position(), srcOffset + src.limit(),
+                    dst.array(), dstOffset + dst.position(), dstOffset + dst.limit(), endOfInput);
+            src.position(srcPosition - srcOffset);
+            dst.position(dstPosition - dstOffset);
+            return done;
+        }
+
+        if (input == null) {
+            input = new byte[CHUNK / 4 * 3];
+            output = new byte[CHUNK + CHUNK / 32];
+        }
+        while (true) {
+            int start = src.position();
+            int count = Math.min(src.remaining(), input.length);
+            boolean dstLimited = dst.remaining() <= output.length;
+            int room = Math.min(dst.remaining(), output.length);
+            src.get(input, 0, count);
+            boolean done = encode(input, 0, count, output, 0, room, endOfInput && !src.hasRemaining());
+            src.position(start + srcPosition);
+            dst.put(output, 0, dstPosition);
+            if (!done) {
+                if (dstLimited) return false;
+            } else if (!src.hasRemaining()) {
+                return true;
+            }
+        }
+    }
+
+    public void reset() {
+        pending = 0;
+        pendingCount = 0;
+        linePosition = 0;
+    }
+
+    private boolean encode(byte[] src, int sp, int sl, byte[] dst, int dp, int dl, boolean endOfInput) {
+        try {
+            // complete a triplet left over from the last call
+            while (pendingCount > 0 && pendingCount < 3 && sp < sl) {
+                pending = pending << 8 | src[sp++] & 0xFF;
+                pendingCount++;
+            }
+            if (pendingCount == 3) {
+                int next = quantum(pending, dst, dp, dl);
+                if (next < 0) return false;
+                dp = next;
+                pending = 0;
+                pendingCount = 0;
+            }
+
+            int lineLength = variant.lineLength;
+            while (sl - sp >= 3) {
+                int triplets = (sl - sp) / 3;
+                if (lineLength != 0) {
+                    if (linePosition == lineLength) {
+                        if (dl - dp < 2) return false;
+                        dst[dp++] = '\r';
+                        dst[dp++] = '\n';
+                        linePosition = 0;
+                    }
+                    triplets = Math.min(triplets, (lineLength - linePosition) / 4);
+                }
+                triplets = Math.min(triplets, (dl - dp) / 4);
+                if (triplets == 0) return false;
+                encodeTriplets(src, sp, triplets, dst, dp);
+                sp += triplets * 3;
+                dp += triplets * 4;
+                linePosition += triplets * 4;
+            }
+
+            while (sp < sl) {
+                pending = pending << 8 | src[sp++] & 0xFF;
+                pendingCount++;
+            }
+            if (endOfInput) {
+                if (pendingCount > 0) {
+                    int next = quantum(pending << (3 - pendingCount) * 8, dst, dp, dl);
+                    if (next < 0) return false;
+                    dp = next;
+                    dst[dp - 1] = Base64Variant.PAD;
+                    if (pendingCount == 1) dst[dp - 2] = Base64Variant.PAD;
+                }
+                reset();
+            }
+            return true;
+        } finally {
+            srcPosition = sp;
+            dstPosition = dp;
+        }
+    }
+
+    private void encodeTriplets(byte[] src, int sp, int triplets, byte[] dst, int dp) {
+        byte[] pairs = variant.pairs;
+        for (int end = sp + triplets * 3; sp < end; sp += 3, dp += 4) {
+            int bits = (src[sp] & 0xFF) << 16 | (src[sp + 1] & 0xFF) << 8 | src[sp + 2] & 0xFF;
+            writeQuantum(pairs, bits, dst, dp);
+        }
+    }
+
+    private static void writeQuantum(byte[] pairs, int bits, byte[] dst, int dp) {
+        int high = bits >>> 12 << 1;
+        int low = (bits & 0xFFF) << 1;
+        dst[dp] = pairs[high];
+        dst[dp + 1] = pairs[high + 1];
+        dst[dp + 2] = pairs[low];
+        dst[dp + 3] = pairs[low + 1];
+    }
+
+    // Writes one quantum of 24 bits, after a line break when the line is full; returns the new
+    // position, or -1 when dst has no room.
+    private int quantum(int bits, byte[] dst, int dp, int dl) {
+        boolean lineBreak = variant.lineLength != 0 && linePosition == variant.lineLength;
+        if (dl - dp < (lineBreak ? 6 : 4)) return -1;
+        if (lineBreak) {
+            dst[dp++] = '\r';
+            dst[dp++] = '\n';
+            linePosition = 0;
+        }
+        writeQuantum(variant.pairs, bits, dst, dp);
+        linePosition += 4;
+        return dp + 4;
+    }
+}
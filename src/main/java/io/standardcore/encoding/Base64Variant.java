@@ -0,0 +1,66 @@
+package io.standardcore.encoding;
+
+import java.util.Base64;
+
+// The Base64 alphabets of RFC 4648 and RFC 2045. STANDARD matches .NET's
+// Convert.ToBase64String and requires padding when decoding; URL_SAFE uses '-' and '_' and
+// accepts unpadded input; MIME breaks lines every 76 characters with CRLF and, when decoding,
+// skips any character outside the alphabet. Every variant pads its output and skips
+// whitespace when decoding.
+//
+// The whole-array methods of Base64Encoder and Base64Decoder, and so Convert.toBase64 and
+// fromBase64, hand STANDARD and URL_SAFE to java.util.Base64, whose loops the JIT replaces with
+// vectorized intrinsics; MIME and the streaming methods use the table-driven code here.
+public enum Base64Variant {
+    STANDARD('+', '/', 0, true, Base64.getEncoder(), Base64.getDecoder()),
+    URL_SAFE('-', '_', 0, false, Base64.getUrlEncoder(), Base64.getUrlDecoder()),
+    MIME('+', '/', 76, false, null, null);
+
+    static final byte PAD = '=';
+    static final int INVALID = -1;
+
+    // one ASCII byte per sextet, and two per 12-bit group so a triplet takes two lookups
+    final byte[] alphabet = new byte[64];
+    final byte[] pairs = new byte[2 << 12];
+    // sextet value of each byte, or INVALID
+    final byte[] values = new byte[256];
+    final int lineLength;
+    final boolean paddingRequired;
+    // the matching java.util.Base64 codec, or null
+    final Base64.Encoder jdkEncoder;
+    final Base64.Decoder jdkDecoder;
+
+    Base64Variant(char c62, char c63, int lineLength, boolean paddingRequired, Base64.Encoder jdkEncoder, Base64.Decoder jdkDecoder) {
+        String letters = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789" + c62 + c63;
+        java.util.Arrays.fill(values, (byte) INVALID);
+        for (int i = 0; i < 64; i++) {
+            alphabet[i] = (byte) letters.charAt(i);
+            values[letters.charAt(i)] = (byte) i;
+        }
+        for (int i = 0; i < 1 << 12; i++) {
+            pairs[2 * i] = alphabet[i >>> 6];
+            pairs[2 * i + 1] = alphabet[i & 63];
+        }
+        this.lineLength = lineLength;
+        this.paddingRequired = paddingRequired;
+        this.jdkEncoder = jdkEncoder;
+        this.jdkDecoder = jdkDecoder;
+    }
+
+    // Characters between line breaks, or 0 for a single line.
+    public int getLineLength() {
+        return lineLength;
+    }
+
+    // Length of the encoding of length bytes, line breaks included.
+    public long encodedLength(long length) {
+        long chars = (length + 2) / 3 * 4;
+        if (lineLength == 0 || chars == 0) return chars;
+        return chars + (chars - 1) / lineLength * 2;
+    }
+
+    // Upper bound of the decoded length of length characters.
+    public long maxDecodedLength(long length) {
+        return (length + 3) / 4 * 3;
+    }
+}
@@ -0,0 +1,201 @@
+package io.standardcore.enums;
+
+import io.standardcore.ArgumentException;
+import io.standardcore.ArgumentNullException;
+
+// Case-insensitive name -> constant and ordinal -> constant tables for one enum class, built
+// once and cached per class in a ClassValue. The name table is an open-addressed hash table
+// whose size and hash seed are chosen so that no two names collide; a lookup therefore
+// hashes the input once, probes one slot and confirms with a single case-insensitive compare.
+// Lookups from CharSequence ranges and ASCII / Latin-1 byte ranges never allocate.
+public final class EnumLookup<E extends Enum<E>> {
+    private static final ClassValue<EnumLookup<?>> LOOKUPS = new ClassValue<EnumLookup<?>>() {
+        @Override
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        protected EnumLookup<?> computeValue(Class<?> type) {
+            if (!type.isEnum()) throw new ArgumentException("Arg_MustBeEnum");
+            return new EnumLookup(type);
+        }
+    };
+
+    private static final int[] SEEDS = {31, 37, 41, 43, 47, 53, 59, 61, 67, 71, 73, 79, 83, 89, 97, 101};
+    private static final int MAX_TABLE_SIZE = 1 << 16;
+
+    private final Class<E> type;
+    private final E[] constants;
+    private final char[][] names;
+    private final int[] table;
+    private final int mask;
+    private final int seed;
+
+    private EnumLookup(Class<E> type) {
+        this.type = type;
+        this.constants = type.getEnumConstants();
+        this.names = new char[constants.length][];
+        for (int i = 0; i < constants.length; i++) {
+            names[i] = constants[i].name().toCharArray();
+        }
+
+        int size = Integer.highestOneBit(Math.max(constants.length, 1) * 2 - 1) << 1;
+        int[] candidate = null;
+        int chosenSeed = SEEDS[0];
+        search:
+        for (; size <= MAX_TABLE_SIZE; size <<= 1) {
+            for (int s : SEEDS) {
+                candidate = buildTable(size, s, false);
+                if (candidate != null) {
+                    chosenSeed = s;
+                    break search;
+                }
+            }
+        }
+        if (candidate == null) {
+            // no collision-free layout found, fall back to linear probing
+            size = Integer.highestOneBit(Math.max(constants.length, 1) * 2 - 1) << 1;
+            candidate = buildTable(size, chosenSeed, true);
+        }
+        this.table = candidate;
+        this.mask = candidate.length - 1;
+        this.seed = chosenSeed;
+    }
+
+    // Slots hold ordinal + 1, 0 marks an empty slot. Returns null on collision unless probing.
+    private int[] buildTable(int size, int s, boolean probe) {
+        int[] slots = new int[size];
+        int slotMask = size - 1;
+        for (int i = 0; i < names.length; i++) {
+            int slot = hash(names[i], s) & slotMask;
+            while (slots[slot] != 0) {
+                if (!probe) return null;
+                slot = (slot + 1) & slotMask;
+            }
+            slots[slot] = i + 1;
+        }
+        return slots;
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <E extends Enum<E>> EnumLookup<E> forClass(Class<E> type) {
+        if (type == null) throw new ArgumentNullException("type");
+        return (EnumLookup<E>) LOOKUPS.get(type);
+    }
+
+    public Class<E> getType() {
+        return type;
+    }
+
+    public int size() {
+        return constants.length;
+    }
+
+    // Returns null when the ordinal is out of range.
+    public E fromOrdinal(int ordinal) {
+        return ordinal >= 0 && ordinal < constants.length ? constants[ordinal] : null;
+    }
+
+    // Returns null when no constant has the given name, ignoring case.
+    public E fromName(CharSequence name) {
+        if (name == null) throw new ArgumentNullException("name");
+        return fromName(name, 0, name.length());
+    }
+
+    public E fromName(CharSequence name, int start, int end) {
+        if (name == null) throw new ArgumentNullException("name");
+        int h = 0;
+        for (int i = start; i < end; i++) {
+            h = h * seed + fold(name.charAt(i));
+        }
+        for (int slot = h & mask; ; slot = (slot + 1) & mask) {
+            int entry = table[slot];
+            if (entry == 0) return null;
+            if (matches(names[entry - 1], name, start, end)) return constants[entry - 1];
+        }
+    }
+
+    // Bytes are read as ISO-8859-1, which covers ASCII constant names.
+    public E fromName(byte[] name, int offset, int length) {
+        if (name == null) throw new ArgumentNullException("name");
+        int end = offset + length;
+        int h = 0;
+        for (int i = offset; i < end; i++) {
+            h = h * seed + fold((char) (name[i] & 0xFF));
+        }
+        for (int slot = h & mask; ; slot = (slot + 1) & mask) {
+            int entry = table[slot];
+            if (entry == 0) return null;
+            if (matches(names[entry - 1], name, offset, end)) return constants[entry - 1];
+        }
+    }
+
+    // Converts a constant, a name (ignoring case and surrounding whitespace), a decimal ordinal
+    // string or an integral Number to a constant of this enum.
+    public E parse(Object value) {
+        if (value == null) return null;
+        if (type.isInstance(value)) return type.cast(value);
+
+        if (value instanceof CharSequence) {
+            CharSequence text = (CharSequence) value;
+            int start = 0;
+            int end = text.length();
+            while (start < end && Character.isWhitespace(text.charAt(start))) start++;
+            while (end > start && Character.isWhitespace(text.charAt(end - 1))) end--;
+
+            E constant = fromName(text, start, end);
+            if (constant != null) return constant;
+
+            int ordinal = parseOrdinal(text, start, end);
+            if (ordinal >= 0 && ordinal < constants.length) return constants[ordinal];
+            throw new ArgumentException("Arg_EnumValueNotFound");
+        }
+
+        if (value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte) {
+            long ordinal = ((Number) value).longValue();
+            if (ordinal >= 0 && ordinal < constants.length) return constants[(int) ordinal];
+            throw new ArgumentException("Arg_EnumValueNotFound");
+        }
+
+        throw new ArgumentException("Arg_EnumValueNotFound");
+    }
+
+    private static int parseOrdinal(CharSequence text, int start, int end) {
+        if (start == end || end - start > 9) return -1;
+        int result = 0;
+        for (int i = start; i < end; i++) {
+            int digit = text.charAt(i) - '0';
+            if (digit < 0 || digit > 9) return -1;
+            result = result * 10 + digit;
+        }
+        return result;
+    }
+
+    private static int hash(char[] name, int seed) {
+        int h = 0;
+        for (char c : name) {
+            h = h * seed + fold(c);
+        }
+        return h;
+    }
+
+    private static boolean matches(char[] expected, CharSequence name, int start, int end) {
+        if (expected.length != end - start) return false;
+        for (int i = 0; i < expected.length; i++) {
+            char c = name.charAt(start + i);
+            if (c != expected[i] && fold(c) != fold(expected[i])) return false;
+        }
+        return true;
+    }
+
+    private static boolean matches(char[] expected, byte[] name, int start, int end) {
+        if (expected.length != end - start) return false;
+        for (int i = 0; i < expected.length; i++) {
+            char c = (char) (name[start + i] & 0xFF);
+            if (c != expected[i] && fold(c) != fold(expected[i])) return false;
+        }
+        return true;
+    }
+
+    private static char fold(char c) {
+        if (c < 0x80) return c >= 'A' && c <= 'Z' ? (char) (c + ('a' - 'A')) : c;
+        return Character.toLowerCase(Character.toUpperCase(c));
+    }
+}
@@ -0,0 +1,70 @@
+package io.standardcore.formatting;
+
+import io.standardcore.ArgumentNullException;
+import io.standardcore.parsing.RadixParser;
+
+// Writes integers in radix 2 to 36 with lower-case digits, as Convert.ToString(long, toBase)
+// does in .NET: the value is the bit pattern of a field of the given width, so -1 as an Int32
+// is "ffffffff" in radix 16. Power-of-two radixes are written with shifts and masks; other
+// radixes divide, unsigned on the first step when the top bit is set.
+public final class RadixFormatter {
+    public static final int MAX_LENGTH = 64;
+
+    private static final char[] DIGITS = "0123456789abcdefghijklmnopqrstuvwxyz".toCharArray();
+
+    private RadixFormatter() {
+    }
+
+    // The low bits (1 to 64) of value in the radix.
+    public static String format(long value, int bits, int radix) {
+        ScratchBuffer buffer = ScratchBuffer.acquire();
+        try {
+            char[] chars = buffer.getChars(MAX_LENGTH);
+            int start = getChars(value, bits, radix, chars, MAX_LENGTH);
+            return new String(chars, start, MAX_LENGTH - start);
+        } finally {
+            buffer.release();
+        }
+    }
+
+    public static StringBuilder appendTo(StringBuilder sink, long value, int bits, int radix) {
+        if (sink == null) throw new ArgumentNullException("sink");
+        ScratchBuffer buffer = ScratchBuffer.acquire();
+        try {
+            char[] chars = buffer.getChars(MAX_LENGTH);
+            int start = getChars(value, bits, radix, chars, MAX_LENGTH);
+            return sink.append(chars, start, MAX_LENGTH - start);
+        } finally {
+            buffer.release();
+        }
+    }
+
+    // Writes the digits so that they end just before end and returns the index of the first;
+    // at most MAX_LENGTH chars are written.
+    public static int getChars(long value, int bits, int radix, char[] chars, int end) {
+        if (chars == null) throw new ArgumentNullException("chars");
+        RadixParser.checkRadix(radix);
+        if (bits < 64) value &= (1L << bits) - 1;
+        int position = end;
+        if ((radix & (radix - 1)) == 0) {
+            int shift = Integer.numberOfTrailingZeros(radix);
+            int mask = radix - 1;
+            do {
+                chars[--position] = DIGITS[(int) value & mask];
+                value >>>= shift;
+            } while (value != 0);
+            return position;
+        }
+
+        if (value < 0) {
+            long quotient = Long.divideUnsigned(value, radix);
+            chars[--position] = DIGITS[(int) (value - quotient * radix)];
+            value = quotient;
+        }
+        do {
+            chars[--position] = DIGITS[(int) (value % radix)];
+            value /= radix;
+        } while (value != 0);
+        return position;
+    }
+}
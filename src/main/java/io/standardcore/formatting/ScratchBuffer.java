@@ -0,0 +1,112 @@
+package io.standardcore.formatting;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+// Temporary char[] and StringBuilder storage for formatting code, so that formatting a value
+// allocates only the resulting String:
+//
+//     ScratchBuffer buffer = ScratchBuffer.acquire();
+//     try {
+//         StringBuilder builder = buffer.getBuilder();
+//         ...
+//         return builder.toString();
+//     } finally {
+//         buffer.release();
+//     }
+//
+// Platform threads keep one buffer in a ThreadLocal. Virtual threads are too many and too short
+// lived for that, so they borrow from a small shared pool instead, and allocate a fresh buffer
+// when the pool is empty. A nested acquire on a thread whose buffer is in use also gets a fresh
+// one. Storage that grew beyond MAX_RETAINED_CHARS is dropped on release rather than kept.
+public final class ScratchBuffer {
+    public static final int MAX_RETAINED_CHARS = 1024;
+
+    private static final int INITIAL_CHARS = 64;
+    private static final int POOL_SIZE = Integer.highestOneBit(Runtime.getRuntime().availableProcessors() * 2 - 1) << 1;
+
+    private static final ThreadLocal<ScratchBuffer> LOCAL = new ThreadLocal<ScratchBuffer>() {
+        @Override
+        protected ScratchBuffer initialValue() {
+            return new ScratchBuffer(Owner.THREAD);
+        }
+    };
+    private static final AtomicReferenceArray<ScratchBuffer> POOL = new AtomicReferenceArray<>(POOL_SIZE);
+    private static final MethodHandle IS_VIRTUAL = isVirtualHandle();
+
+    private enum Owner {
+        THREAD, POOL, NONE
+    }
+
+    private final Owner owner;
+    private char[] chars = new char[INITIAL_CHARS];
+    private StringBuilder builder = new StringBuilder(INITIAL_CHARS);
+    private boolean inUse;
+
+    private ScratchBuffer(Owner owner) {
+        this.owner = owner;
+    }
+
+    private static MethodHandle isVirtualHandle() {
+        try {
+            return MethodHandles.publicLookup().findVirtual(Thread.class, "isVirtual", MethodType.methodType(boolean.class));
+        } catch (ReflectiveOperationException e) {
+            // before JDK 19 there are no virtual threads
+            return null;
+        }
+    }
+
+    private static boolean isVirtual(Thread thread) {
+        if (IS_VIRTUAL == null) return false;
+        try {
+            return (boolean) IS_VIRTUAL.invokeExact(thread);
+        } catch (Throwable e) {
+            return false;
+        }
+    }
+
+    public static ScratchBuffer acquire() {
+        Thread thread = Thread.currentThread();
+        if (!isVirtual(thread)) {
+            ScratchBuffer buffer = LOCAL.get();
+            if (buffer.inUse) return new ScratchBuffer(Owner.NONE);
+            buffer.inUse = true;
+            return buffer;
+        }
+
+        int start = (int) thread.getId();
+        for (int i = 0; i < POOL_SIZE; i++) {
+            ScratchBuffer buffer = POOL.getAndSet((start + i) & (POOL_SIZE - 1), null);
+            if (buffer != null) return buffer;
+        }
+        return new ScratchBuffer(Owner.POOL);
+    }
+
+    // A char array of at least minLength; the contents are unspecified.
+    public char[] getChars(int minLength) {
+        if (chars.length < minLength) chars = new char[Math.max(minLength, chars.length * 2)];
+        return chars;
+    }
+
+    // The buffer's StringBuilder, emptied.
+    public StringBuilder getBuilder() {
+        builder.setLength(0);
+        return builder;
+    }
+
+    public void release() {
+        if (chars.length > MAX_RETAINED_CHARS) chars = new char[INITIAL_CHARS];
+        if (builder.capacity() > MAX_RETAINED_CHARS) builder = new StringBuilder(INITIAL_CHARS);
+
+        if (owner == Owner.THREAD) {
+            inUse = false;
+        } else if (owner == Owner.POOL) {
+            int start = (int) Thread.currentThread().getId();
+            for (int i = 0; i < POOL_SIZE; i++) {
+                if (POOL.compareAndSet((start + i) & (POOL_SIZE - 1), null, this)) return;
+            }
+        }
+    }
+}
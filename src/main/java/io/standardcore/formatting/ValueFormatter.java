@@ -0,0 +1,397 @@
+package io.standardcore.formatting;
+
+import io.standardcore.Convertible;
+import io.standardcore.Decimal64;
+import io.standardcore.FormatProvider;
+import io.standardcore.UInteger;
+import io.standardcore.ULong;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.text.DecimalFormatSymbols;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+// The formatting behind Convert.toString(X, FormatProvider) and Convert.appendTo. Values are
+// written into a ScratchBuffer so that each format call allocates only the returned String,
+// and appendTo writes into the caller's sink without allocating a String at all.
+//
+// Numbers use the Java toString forms ("1.0E10", "-12.50"). When the provider supplies
+// DecimalFormatSymbols through getFormat(DecimalFormatSymbols.class), the digits, decimal
+// separator, minus sign and exponent separator are replaced with the locale's. LocalDateTime
+// values use the provider's DateTimeFormatter when it has one, otherwise the ISO-8601 form of
+// LocalDateTime.toString().
+public final class ValueFormatter {
+    // "+999999999-12-31T23:59:59.999999999"
+    private static final int MAX_DATE_TIME_LENGTH = 35;
+    private static final int MAX_LONG_LENGTH = 20;
+
+    private ValueFormatter() {
+    }
+
+    public static String format(long value, FormatProvider provider) {
+        DecimalFormatSymbols symbols = getSymbols(provider);
+        if (symbols == null) return Long.toString(value);
+        ScratchBuffer buffer = ScratchBuffer.acquire();
+        try {
+            return append(buffer.getBuilder(), value, symbols).toString();
+        } finally {
+            buffer.release();
+        }
+    }
+
+    // Formats value as an unsigned 64-bit integer.
+    public static String formatUnsigned(long value, FormatProvider provider) {
+        DecimalFormatSymbols symbols = getSymbols(provider);
+        if (value >= 0 && symbols == null) return Long.toString(value);
+        ScratchBuffer buffer = ScratchBuffer.acquire();
+        try {
+            char[] chars = buffer.getChars(MAX_LONG_LENGTH);
+            int start = getUnsignedChars(value, chars, symbols);
+            return new String(chars, start, MAX_LONG_LENGTH - start);
+        } finally {
+            buffer.release();
+        }
+    }
+
+    public static String format(float value, FormatProvider provider) {
+        DecimalFormatSymbols symbols = getSymbols(provider);
+        if (symbols == null) return Float.toString(value);
+        if (Float.isNaN(value) || Float.isInfinite(value)) return special(value, symbols);
+        ScratchBuffer buffer = ScratchBuffer.acquire();
+        try {
+            return append(buffer.getBuilder(), value, symbols).toString();
+        } finally {
+            buffer.release();
+        }
+    }
+
+    public static String format(double value, FormatProvider provider) {
+        DecimalFormatSymbols symbols = getSymbols(provider);
+        if (symbols == null) return Double.toString(value);
+        if (Double.isNaN(value) || Double.isInfinite(value)) return special(value, symbols);
+        ScratchBuffer buffer = ScratchBuffer.acquire();
+        try {
+            return append(buffer.getBuilder(), value, symbols).toString();
+        } finally {
+            buffer.release();
+        }
+    }
+
+    public static String format(BigDecimal value, FormatProvider provider) {
+        DecimalFormatSymbols symbols = getSymbols(provider);
+        // BigDecimal caches its toString()
+        if (symbols == null) return value.toString();
+        ScratchBuffer buffer = ScratchBuffer.acquire();
+        try {
+            return append(buffer.getBuilder(), value, symbols).toString();
+        } finally {
+            buffer.release();
+        }
+    }
+
+    public static String format(Decimal64 value, FormatProvider provider) {
+        ScratchBuffer buffer = ScratchBuffer.acquire();
+        try {
+            return appendTo(buffer.getBuilder(), value, provider).toString();
+        } finally {
+            buffer.release();
+        }
+    }
+
+    public static String format(LocalDateTime value, FormatProvider provider) {
+        DateTimeFormatter formatter = getFormatter(provider);
+        ScratchBuffer buffer = ScratchBuffer.acquire();
+        try {
+            if (formatter != null) {
+                StringBuilder builder = buffer.getBuilder();
+                formatter.formatTo(value, builder);
+                return builder.toString();
+            }
+            char[] chars = buffer.getChars(MAX_DATE_TIME_LENGTH);
+            return new String(chars, 0, getIsoChars(value, chars));
+        } finally {
+            buffer.release();
+        }
+    }
+
+    // The text Convert.toString(value, provider) returns: "" for null, the formats above for
+    // numbers and LocalDateTime, Convertible.toString(provider) or Object.toString() otherwise.
+    public static String format(Object value, FormatProvider provider) {
+        if (value == null) return "";
+        if (value instanceof String) return (String) value;
+        if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            return format(((Number) value).longValue(), provider);
+        }
+        if (value instanceof Double) return format((double) (Double) value, provider);
+        if (value instanceof Float) return format((float) (Float) value, provider);
+        if (value instanceof BigDecimal) return format((BigDecimal) value, provider);
+        if (value instanceof LocalDateTime) return format((LocalDateTime) value, provider);
+        if (value instanceof Convertible) return ((Convertible) value).toString(provider).toString();
+        return value.toString();
+    }
+
+    // The appendTo methods write the same text as format straight into the sink.
+
+    public static StringBuilder appendTo(StringBuilder sink, long value, FormatProvider provider) {
+        return append(sink, value, getSymbols(provider));
+    }
+
+    public static StringBuilder appendUnsignedTo(StringBuilder sink, long value, FormatProvider provider) {
+        DecimalFormatSymbols symbols = getSymbols(provider);
+        if (value >= 0 && symbols == null) return sink.append(value);
+        ScratchBuffer buffer = ScratchBuffer.acquire();
+        try {
+            char[] chars = buffer.getChars(MAX_LONG_LENGTH);
+            int start = getUnsignedChars(value, chars, symbols);
+            return sink.append(chars, start, MAX_LONG_LENGTH - start);
+        } finally {
+            buffer.release();
+        }
+    }
+
+    public static StringBuilder appendTo(StringBuilder sink, float value, FormatProvider provider) {
+        DecimalFormatSymbols symbols = getSymbols(provider);
+        if (symbols != null && (Float.isNaN(value) || Float.isInfinite(value))) return appendSpecial(sink, value, symbols);
+        return append(sink, value, symbols);
+    }
+
+    public static StringBuilder appendTo(StringBuilder sink, double value, FormatProvider provider) {
+        DecimalFormatSymbols symbols = getSymbols(provider);
+        if (symbols != null && (Double.isNaN(value) || Double.isInfinite(value))) return appendSpecial(sink, value, symbols);
+        return append(sink, value, symbols);
+    }
+
+    public static StringBuilder appendTo(StringBuilder sink, BigDecimal value, FormatProvider provider) {
+        return append(sink, value, getSymbols(provider));
+    }
+
+    public static StringBuilder appendTo(StringBuilder sink, Decimal64 value, FormatProvider provider) {
+        DecimalFormatSymbols symbols = getSymbols(provider);
+        int start = sink.length();
+        Decimal64.appendTo(value.getUnscaledValue(), value.getScale(), sink);
+        if (symbols != null) localize(sink, start, symbols);
+        return sink;
+    }
+
+    public static StringBuilder appendTo(StringBuilder sink, LocalDateTime value, FormatProvider provider) {
+        DateTimeFormatter formatter = getFormatter(provider);
+        if (formatter != null) {
+            formatter.formatTo(value, sink);
+            return sink;
+        }
+        ScratchBuffer buffer = ScratchBuffer.acquire();
+        try {
+            char[] chars = buffer.getChars(MAX_DATE_TIME_LENGTH);
+            return sink.append(chars, 0, getIsoChars(value, chars));
+        } finally {
+            buffer.release();
+        }
+    }
+
+    // Appends what Convert.toString(value, provider) returns; nothing for null.
+    public static StringBuilder appendTo(StringBuilder sink, Object value, FormatProvider provider) {
+        if (value == null) return sink;
+        if (value instanceof String) return sink.append((String) value);
+        if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            return appendTo(sink, ((Number) value).longValue(), provider);
+        }
+        if (value instanceof Double) return appendTo(sink, (double) (Double) value, provider);
+        if (value instanceof Float) return appendTo(sink, (float) (Float) value, provider);
+        if (value instanceof BigDecimal) return appendTo(sink, (BigDecimal) value, provider);
+        if (value instanceof LocalDateTime) return appendTo(sink, (LocalDateTime) value, provider);
+        if (value instanceof ULong) return appendUnsignedTo(sink, ((ULong) value).longValue(), provider);
+        if (value instanceof UInteger) return appendTo(sink, ((UInteger) value).longValue(), provider);
+        if (value instanceof Decimal64) return appendTo(sink, (Decimal64) value, provider);
+        if (value instanceof Boolean) return sink.append((boolean) (Boolean) value);
+        if (value instanceof Character) return sink.append((char) (Character) value);
+        if (value instanceof Convertible) return sink.append(((Convertible) value).toString(provider));
+        return sink.append(value);
+    }
+
+    // Other sinks receive the text through the scratch builder; a Writer gets it as a char[]
+    // so that Writer.append does not turn it into a String.
+    public static <A extends Appendable> A appendTo(A sink, Object value, FormatProvider provider) throws IOException {
+        if (sink instanceof StringBuilder) {
+            appendTo((StringBuilder) sink, value, provider);
+            return sink;
+        }
+        ScratchBuffer buffer = ScratchBuffer.acquire();
+        try {
+            StringBuilder builder = appendTo(buffer.getBuilder(), value, provider);
+            int length = builder.length();
+            if (sink instanceof Writer) {
+                char[] chars = buffer.getChars(length);
+                builder.getChars(0, length, chars, 0);
+                ((Writer) sink).write(chars, 0, length);
+            } else {
+                sink.append(builder, 0, length);
+            }
+            return sink;
+        } finally {
+            buffer.release();
+        }
+    }
+
+    private static StringBuilder append(StringBuilder sink, long value, DecimalFormatSymbols symbols) {
+        int start = sink.length();
+        sink.append(value);
+        if (symbols != null) localize(sink, start, symbols);
+        return sink;
+    }
+
+    private static StringBuilder append(StringBuilder sink, float value, DecimalFormatSymbols symbols) {
+        int start = sink.length();
+        sink.append(value);
+        if (symbols != null) localize(sink, start, symbols);
+        return sink;
+    }
+
+    private static StringBuilder append(StringBuilder sink, double value, DecimalFormatSymbols symbols) {
+        int start = sink.length();
+        sink.append(value);
+        if (symbols != null) localize(sink, start, symbols);
+        return sink;
+    }
+
+    private static StringBuilder append(StringBuilder sink, BigDecimal value, DecimalFormatSymbols symbols) {
+        int start = sink.length();
+        sink.append(value.toString());
+        if (symbols != null) localize(sink, start, symbols);
+        return sink;
+    }
+
+    private static int getUnsignedChars(long value, char[] chars, DecimalFormatSymbols symbols) {
+        int start = putUnsigned(value, chars, MAX_LONG_LENGTH);
+        if (symbols != null) {
+            char zero = symbols.getZeroDigit();
+            for (int i = start; i < MAX_LONG_LENGTH; i++) chars[i] = (char) (zero + (chars[i] - '0'));
+        }
+        return start;
+    }
+
+    private static DateTimeFormatter getFormatter(FormatProvider provider) {
+        Object format = provider == null ? null : provider.getFormat(DateTimeFormatter.class);
+        return format instanceof DateTimeFormatter ? (DateTimeFormatter) format : null;
+    }
+
+    // The provider's DecimalFormatSymbols, or null when it has none or they match the
+    // characters of the Java toString forms.
+    private static DecimalFormatSymbols getSymbols(FormatProvider provider) {
+        if (provider == null) return null;
+        Object format = provider.getFormat(DecimalFormatSymbols.class);
+        if (!(format instanceof DecimalFormatSymbols)) return null;
+        DecimalFormatSymbols symbols = (DecimalFormatSymbols) format;
+        if (symbols.getZeroDigit() == '0' && symbols.getMinusSign() == '-' && symbols.getDecimalSeparator() == '.'
+                && "E".equals(symbols.getExponentSeparator())) {
+            return null;
+        }
+        return symbols;
+    }
+
+    private static String special(double value, DecimalFormatSymbols symbols) {
+        if (Double.isNaN(value)) return symbols.getNaN();
+        return value > 0 ? symbols.getInfinity() : symbols.getMinusSign() + symbols.getInfinity();
+    }
+
+    private static StringBuilder appendSpecial(StringBuilder sink, double value, DecimalFormatSymbols symbols) {
+        if (Double.isNaN(value)) return sink.append(symbols.getNaN());
+        if (value < 0) sink.append(symbols.getMinusSign());
+        return sink.append(symbols.getInfinity());
+    }
+
+    private static void localize(StringBuilder builder, int start, DecimalFormatSymbols symbols) {
+        char zero = symbols.getZeroDigit();
+        for (int i = start; i < builder.length(); i++) {
+            char c = builder.charAt(i);
+            if (c >= '0' && c <= '9') {
+                builder.setCharAt(i, (char) (zero + (c - '0')));
+            } else if (c == '.') {
+                builder.setCharAt(i, symbols.getDecimalSeparator());
+            } else if (c == '-') {
+                builder.setCharAt(i, symbols.getMinusSign());
+            } else if (c == 'E') {
+                String exponent = symbols.getExponentSeparator();
+                builder.replace(i, i + 1, exponent);
+                i += exponent.length() - 1;
+            }
+        }
+    }
+
+    // Writes the ISO-8601 form produced by LocalDateTime.toString() and returns its length.
+    static int getIsoChars(LocalDateTime value, char[] chars) {
+        int position = 0;
+        int year = value.getYear();
+        if (year > -1000 && year < 1000) {
+            if (year < 0) chars[position++] = '-';
+            position = putPadded(Math.abs(year), 4, chars, position);
+        } else {
+            if (year > 9999) chars[position++] = '+';
+            if (year < 0) chars[position++] = '-';
+            int end = position + digitCount(Math.abs(year));
+            putUnsigned(Math.abs(year), chars, end);
+            position = end;
+        }
+        chars[position++] = '-';
+        position = putPadded(value.getMonthValue(), 2, chars, position);
+        chars[position++] = '-';
+        position = putPadded(value.getDayOfMonth(), 2, chars, position);
+        chars[position++] = 'T';
+        position = putPadded(value.getHour(), 2, chars, position);
+        chars[position++] = ':';
+        position = putPadded(value.getMinute(), 2, chars, position);
+
+        int second = value.getSecond();
+        int nano = value.getNano();
+        if (second > 0 || nano > 0) {
+            chars[position++] = ':';
+            position = putPadded(second, 2, chars, position);
+            if (nano > 0) {
+                chars[position++] = '.';
+                if (nano % 1_000_000 == 0) {
+                    position = putPadded(nano / 1_000_000, 3, chars, position);
+                } else if (nano % 1000 == 0) {
+                    position = putPadded(nano / 1000, 6, chars, position);
+                } else {
+                    position = putPadded(nano, 9, chars, position);
+                }
+            }
+        }
+        return position;
+    }
+
+    // Writes value as exactly width digits starting at position and returns the end index.
+    private static int putPadded(int value, int width, char[] chars, int position) {
+        int end = position + width;
+        for (int i = end - 1; i >= position; i--) {
+            chars[i] = (char) ('0' + value % 10);
+            value /= 10;
+        }
+        return end;
+    }
+
+    // Writes the unsigned digits of value so that they end just before end; returns the first index.
+    private static int putUnsigned(long value, char[] chars, int end) {
+        int position = end;
+        if (value < 0) {
+            long quotient = (value >>> 1) / 5;
+            chars[--position] = (char) ('0' + (int) (value - quotient * 10));
+            value = quotient;
+        }
+        do {
+            chars[--position] = (char) ('0' + (int) (value % 10));
+            value /= 10;
+        } while (value != 0);
+        return position;
+    }
+
+    private static int digitCount(int value) {
+        int count = 1;
+        while (value >= 10) {
+            value /= 10;
+            count++;
+        }
+        return count;
+    }
+}
@@ -0,0 +1,277 @@
+package io.standardcore.generic;
+
+import io.standardcore.ConversionContext;
+import io.standardcore.FormatProvider;
+import io.standardcore.InvalidCastException;
+import io.standardcore.TypeCode;
+
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+// How to convert a value to one ParameterizedType target. Built once per target Type by
+// GenericConversions; the element converters are resolved when the plan is created, so
+// converting a large container does no per-element target lookup. Plans are shared by every
+// ConversionContext; the elements are converted with the context passed to convert.
+abstract class ContainerPlan {
+    abstract Object convert(ConversionContext context, Object value, FormatProvider provider, boolean unboxedNumericLists);
+
+    static ContainerPlan create(ParameterizedType type) {
+        Class<?> rawType = ElementConverter.rawType(type);
+        Type[] arguments = type.getActualTypeArguments();
+
+        if (rawType == Optional.class) {
+            return new OptionalPlan(ElementConverter.of(arguments[0]));
+        }
+        if (Map.class.isAssignableFrom(rawType) && arguments.length == 2) {
+            MapKind kind = MapKind.of(rawType);
+            if (kind != null) return new MapPlan(kind, ElementConverter.of(arguments[0]), ElementConverter.of(arguments[1]));
+        }
+        if (Iterable.class.isAssignableFrom(rawType) && arguments.length == 1) {
+            CollectionKind kind = CollectionKind.of(rawType);
+            if (kind != null) {
+                ElementConverter element = ElementConverter.of(arguments[0]);
+                boolean unboxable = rawType.isAssignableFrom(IntArrayList.class)
+                        && (element.getTypeCode() == TypeCode.INT32 || element.getTypeCode() == TypeCode.INT64 || element.getTypeCode() == TypeCode.DOUBLE);
+                return new CollectionPlan(kind, element, unboxable);
+            }
+        }
+        return new UnsupportedPlan();
+    }
+
+    static int capacity(int size) {
+        return size < 3 ? size + 1 : (int) (size / 0.75f + 1.0f);
+    }
+
+    // The first kind whose implementation is assignable to the target wins. LINKED_LIST comes
+    // before ARRAY_DEQUE so that Queue and Deque targets accept null elements; ArrayDeque is
+    // only chosen when asked for by name.
+    enum CollectionKind {
+        ARRAY_LIST(ArrayList.class),
+        LINKED_LIST(LinkedList.class),
+        ARRAY_DEQUE(ArrayDeque.class),
+        LINKED_HASH_SET(LinkedHashSet.class),
+        TREE_SET(TreeSet.class);
+
+        private final Class<?> implementation;
+
+        CollectionKind(Class<?> implementation) {
+            this.implementation = implementation;
+        }
+
+        static CollectionKind of(Class<?> rawType) {
+            for (CollectionKind kind : values()) {
+                if (rawType.isAssignableFrom(kind.implementation)) return kind;
+            }
+            return null;
+        }
+
+        Collection<Object> create(int size) {
+            switch (this) {
+                case ARRAY_LIST:
+                    return new ArrayList<>(size);
+                case LINKED_LIST:
+                    return new LinkedList<>();
+                case ARRAY_DEQUE:
+                    return new ArrayDeque<>(size);
+                case LINKED_HASH_SET:
+                    return new LinkedHashSet<>(capacity(size));
+                default:
+                    return new TreeSet<>();
+            }
+        }
+    }
+
+    enum MapKind {
+        HASH_MAP(HashMap.class),
+        LINKED_HASH_MAP(LinkedHashMap.class),
+        TREE_MAP(TreeMap.class),
+        CONCURRENT_HASH_MAP(ConcurrentHashMap.class),
+        CONCURRENT_SKIP_LIST_MAP(ConcurrentSkipListMap.class);
+
+        private final Class<?> implementation;
+
+        MapKind(Class<?> implementation) {
+            this.implementation = implementation;
+        }
+
+        static MapKind of(Class<?> rawType) {
+            for (MapKind kind : values()) {
+                if (rawType.isAssignableFrom(kind.implementation)) return kind;
+            }
+            return null;
+        }
+
+        Map<Object, Object> create(int size) {
+            switch (this) {
+                case HASH_MAP:
+                    return new HashMap<>(capacity(size));
+                case LINKED_HASH_MAP:
+                    return new LinkedHashMap<>(capacity(size));
+                case TREE_MAP:
+                    return new TreeMap<>();
+                case CONCURRENT_HASH_MAP:
+                    return new ConcurrentHashMap<>(capacity(size));
+                default:
+                    return new ConcurrentSkipListMap<>();
+            }
+        }
+    }
+
+    static final class CollectionPlan extends ContainerPlan {
+        private final CollectionKind kind;
+        private final ElementConverter element;
+        private final boolean unboxable;
+
+        CollectionPlan(CollectionKind kind, ElementConverter element, boolean unboxable) {
+            this.kind = kind;
+            this.element = element;
+            this.unboxable = unboxable;
+        }
+
+        @Override
+        Object convert(ConversionContext context, Object value, FormatProvider provider, boolean unboxedNumericLists) {
+            if (value == null) return null;
+
+            if (value instanceof Object[]) {
+                Object[] array = (Object[]) value;
+                if (unboxable && unboxedNumericLists) {
+                    Object unboxed = convertUnboxed(context, Arrays.asList(array), provider);
+                    if (unboxed != null) return unboxed;
+                }
+                Collection<Object> result = kind.create(array.length);
+                for (Object item : array) {
+                    result.add(element.convert(context, item, provider));
+                }
+                return result;
+            }
+
+            if (value instanceof Collection) {
+                Collection<?> collection = (Collection<?>) value;
+                if (unboxable && unboxedNumericLists) {
+                    Object unboxed = convertUnboxed(context, collection, provider);
+                    if (unboxed != null) return unboxed;
+                }
+                Collection<Object> result = kind.create(collection.size());
+                for (Object item : collection) {
+                    result.add(element.convert(context, item, provider));
+                }
+                return result;
+            }
+
+            if (value instanceof Iterable) {
+                Collection<Object> result = kind.create(10);
+                for (Object item : (Iterable<?>) value) {
+                    result.add(element.convert(context, item, provider));
+                }
+                return result;
+            }
+
+            throw new InvalidCastException("InvalidCast_FromTo");
+        }
+
+        // Returns null when the source holds a null, which a primitive array cannot; the caller
+        // then falls back to a boxed collection. Nulls are looked for before anything is
+        // converted, so only a converter that turns a non-null value into null costs a second
+        // conversion of the elements before it.
+        private Object convertUnboxed(ConversionContext context, Collection<?> source, FormatProvider provider) {
+            for (Object item : source) {
+                if (item == null) return null;
+            }
+            Iterator<?> items = source.iterator();
+            switch (element.getTypeCode()) {
+                case INT32: {
+                    int[] values = new int[source.size()];
+                    for (int i = 0; i < values.length; i++) {
+                        Object converted = element.convert(context, items.next(), provider);
+                        if (converted == null) return null;
+                        values[i] = (Integer) converted;
+                    }
+                    return new IntArrayList(values);
+                }
+                case INT64: {
+                    long[] values = new long[source.size()];
+                    for (int i = 0; i < values.length; i++) {
+                        Object converted = element.convert(context, items.next(), provider);
+                        if (converted == null) return null;
+                        values[i] = (Long) converted;
+                    }
+                    return new LongArrayList(values);
+                }
+                default: {
+                    double[] values = new double[source.size()];
+                    for (int i = 0; i < values.length; i++) {
+                        Object converted = element.convert(context, items.next(), provider);
+                        if (converted == null) return null;
+                        values[i] = (Double) converted;
+                    }
+                    return new DoubleArrayList(values);
+                }
+            }
+        }
+    }
+
+    static final class MapPlan extends ContainerPlan {
+        private final MapKind kind;
+        private final ElementConverter key;
+        private final ElementConverter value;
+
+        MapPlan(MapKind kind, ElementConverter key, ElementConverter value) {
+            this.kind = kind;
+            this.key = key;
+            this.value = value;
+        }
+
+        @Override
+        Object convert(ConversionContext context, Object source, FormatProvider provider, boolean unboxedNumericLists) {
+            if (source == null) return null;
+            if (!(source instanceof Map)) throw new InvalidCastException("InvalidCast_FromTo");
+
+            Map<?, ?> map = (Map<?, ?>) source;
+            Map<Object, Object> result = kind.create(map.size());
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                result.put(key.convert(context, entry.getKey(), provider), value.convert(context, entry.getValue(), provider));
+            }
+            return result;
+        }
+    }
+
+    static final class OptionalPlan extends ContainerPlan {
+        private final ElementConverter element;
+
+        OptionalPlan(ElementConverter element) {
+            this.element = element;
+        }
+
+        @Override
+        Object convert(ConversionContext context, Object value, FormatProvider provider, boolean unboxedNumericLists) {
+            if (value == null) return Optional.empty();
+            if (value instanceof Optional) {
+                Optional<?> optional = (Optional<?>) value;
+                return optional.isPresent() ? Optional.ofNullable(element.convert(context, optional.get(), provider)) : optional;
+            }
+            return Optional.ofNullable(element.convert(context, value, provider));
+        }
+    }
+
+    static final class UnsupportedPlan extends ContainerPlan {
+        @Override
+        Object convert(ConversionContext context, Object value, FormatProvider provider, boolean unboxedNumericLists) {
+            throw new InvalidCastException("InvalidCast_FromTo");
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package io.standardcore.generic;
+
+import io.standardcore.ArgumentNullException;
+
+import java.util.AbstractList;
+import java.util.RandomAccess;
+
+// Fixed-size List<Double> backed by a double[]; elements are boxed only when read through get().
+public final class DoubleArrayList extends AbstractList<Double> implements RandomAccess {
+    private final double[] values;
+
+    public DoubleArrayList(double[] values) {
+        if (values == null) throw new ArgumentNullException("values");
+        this.values = values;
+    }
+
+    @Override
+    public Double get(int index) {
+        return values[index];
+    }
+
+    public double getDouble(int index) {
+        return values[index];
+    }
+
+    @Override
+    public Double set(int index, Double element) {
+        double previous = values[index];
+        values[index] = element;
+        return previous;
+    }
+
+    @Override
+    public int size() {
+        return values.length;
+    }
+
+    // The backing array; changes to it are visible through the list.
+    public double[] array() {
+        return values;
+    }
+}
@@ -0,0 +1,155 @@
+package io.standardcore.generic;
+
+import io.standardcore.ArgumentNullException;
+import io.standardcore.ConversionContext;
+import io.standardcore.Convert;
+import io.standardcore.FormatProvider;
+import io.standardcore.NullPolicy;
+import io.standardcore.TypeCode;
+import io.standardcore.UInteger;
+import io.standardcore.ULong;
+
+import java.lang.reflect.GenericArrayType;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.lang.reflect.TypeVariable;
+import java.lang.reflect.WildcardType;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+// Conversion to one target Type, resolved once and reused for every element, property or
+// value converted to that type. Scalar targets are resolved to a TypeCode; String sources,
+// the common case for ingested data, go straight to the matching ConversionContext.toXxx.
+// The converter holds no settings: each call converts with the ConversionContext it is given,
+// or with Convert.getDefaultContext() when none is.
+public final class ElementConverter {
+    private final Type type;
+    private final Class<?> rawType;
+    private final Class<?> boxedType;
+    private final TypeCode typeCode;
+    private final Object defaultValue;
+
+    private ElementConverter(Type type, Class<?> rawType, Class<?> boxedType, TypeCode typeCode, Object defaultValue) {
+        this.type = type;
+        this.rawType = rawType;
+        this.boxedType = boxedType;
+        this.typeCode = typeCode;
+        this.defaultValue = defaultValue;
+    }
+
+    public static ElementConverter of(Type type) {
+        Class<?> rawType = rawType(type);
+        if (type instanceof ParameterizedType) return new ElementConverter(type, rawType, null, null, null);
+        return of(rawType, rawType);
+    }
+
+    private static ElementConverter of(Type type, Class<?> rawType) {
+        if (rawType == boolean.class) return new ElementConverter(type, rawType, Boolean.class, TypeCode.BOOLEAN, false);
+        if (rawType == char.class) return new ElementConverter(type, rawType, Character.class, TypeCode.CHAR, (char) 0);
+        if (rawType == byte.class) return new ElementConverter(type, rawType, Byte.class, TypeCode.BYTE, (byte) 0);
+        if (rawType == short.class) return new ElementConverter(type, rawType, Short.class, TypeCode.INT16, (short) 0);
+        if (rawType == int.class) return new ElementConverter(type, rawType, Integer.class, TypeCode.INT32, 0);
+        if (rawType == long.class) return new ElementConverter(type, rawType, Long.class, TypeCode.INT64, 0L);
+        if (rawType == float.class) return new ElementConverter(type, rawType, Float.class, TypeCode.SINGLE, 0f);
+        if (rawType == double.class) return new ElementConverter(type, rawType, Double.class, TypeCode.DOUBLE, 0d);
+        if (rawType == Boolean.class) return new ElementConverter(type, rawType, rawType, TypeCode.BOOLEAN, null);
+        if (rawType == Character.class) return new ElementConverter(type, rawType, rawType, TypeCode.CHAR, null);
+        if (rawType == Byte.class) return new ElementConverter(type, rawType, rawType, TypeCode.BYTE, null);
+        if (rawType == Short.class) return new ElementConverter(type, rawType, rawType, TypeCode.INT16, null);
+        if (rawType == Integer.class) return new ElementConverter(type, rawType, rawType, TypeCode.INT32, null);
+        if (rawType == Long.class) return new ElementConverter(type, rawType, rawType, TypeCode.INT64, null);
+        if (rawType == UInteger.class) return new ElementConverter(type, rawType, rawType, TypeCode.UINT32, null);
+        if (rawType == ULong.class) return new ElementConverter(type, rawType, rawType, TypeCode.UINT64, null);
+        if (rawType == Float.class) return new ElementConverter(type, rawType, rawType, TypeCode.SINGLE, null);
+        if (rawType == Double.class) return new ElementConverter(type, rawType, rawType, TypeCode.DOUBLE, null);
+        if (rawType == BigDecimal.class) return new ElementConverter(type, rawType, rawType, TypeCode.DECIMAL, null);
+        if (rawType == LocalDateTime.class) return new ElementConverter(type, rawType, rawType, TypeCode.DATETIME, null);
+        if (rawType == String.class) return new ElementConverter(type, rawType, rawType, TypeCode.STRING, null);
+        return new ElementConverter(type, rawType, rawType, null, null);
+    }
+
+    static Class<?> rawType(Type type) {
+        if (type instanceof Class) return (Class<?>) type;
+        if (type instanceof ParameterizedType) return rawType(((ParameterizedType) type).getRawType());
+        if (type instanceof WildcardType) return rawType(((WildcardType) type).getUpperBounds()[0]);
+        if (type instanceof TypeVariable) return rawType(((TypeVariable<?>) type).getBounds()[0]);
+        if (type instanceof GenericArrayType) return Object[].class;
+        return Object.class;
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public Class<?> getRawType() {
+        return rawType;
+    }
+
+    // Null for targets that are not one of the scalar TypeCodes.
+    public TypeCode getTypeCode() {
+        return typeCode;
+    }
+
+    public boolean isPrimitive() {
+        return defaultValue != null;
+    }
+
+    // The zero value of a primitive target, null otherwise.
+    public Object getDefaultValue() {
+        return defaultValue;
+    }
+
+    public Object convert(Object value, FormatProvider provider) {
+        return convert(Convert.getDefaultContext(), value, provider);
+    }
+
+    // A null element stays null (a primitive slot keeps its zero value) unless the context's
+    // null policy is THROW.
+    public Object convert(ConversionContext context, Object value, FormatProvider provider) {
+        if (boxedType == null) return context.changeType(value, type, provider);
+        if (value == null) {
+            if (context.getNullPolicy() == NullPolicy.THROW) throw new ArgumentNullException("value");
+            return null;
+        }
+        if (boxedType.isInstance(value)) return value;
+        if (typeCode == null) return context.changeType(value, type, provider);
+        if (value instanceof String) return fromString(context, (String) value, provider);
+
+        Object result = context.changeType(value, typeCode, provider);
+        if (typeCode == TypeCode.STRING && result != null && !(result instanceof String)) {
+            return result.toString();
+        }
+        return result;
+    }
+
+    private Object fromString(ConversionContext context, String value, FormatProvider provider) {
+        switch (typeCode) {
+            case BOOLEAN:
+                return context.toBoolean(value, provider);
+            case CHAR:
+                return context.toChar(value, provider);
+            case BYTE:
+                return context.toByte(value, provider);
+            case INT16:
+                return context.toInt16(value, provider);
+            case INT32:
+                return context.toInt32(value, provider);
+            case INT64:
+                return context.toInt64(value, provider);
+            case UINT32:
+                return context.toUInt32(value, provider);
+            case UINT64:
+                return context.toUInt64(value, provider);
+            case SINGLE:
+                return context.toSingle(value, provider);
+            case DOUBLE:
+                return context.toDouble(value, provider);
+            case DECIMAL:
+                return context.toDecimal(value, provider);
+            case DATETIME:
+                return context.toLocalDateTime(value, provider);
+            default:
+                return value;
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package io.standardcore.generic;
+
+import io.standardcore.ArgumentNullException;
+import io.standardcore.ConversionContext;
+import io.standardcore.Convert;
+import io.standardcore.FormatProvider;
+
+import java.lang.ref.WeakReference;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.Arrays;
+
+// Conversions to parameterized targets such as List<Integer>, Set<String>, Map<String, Long>
+// and Optional<BigDecimal>; used by ConversionContext.changeType(Object, Type, FormatProvider).
+// The plan for each target Type is cached, so the element conversions are resolved once per
+// Type rather than once per element. Plans are held per raw type in a ClassValue, and under it
+// in a copy-on-write array of at most MAX_PLANS_PER_TYPE weakly referenced parameterizations,
+// so the cache pins neither the raw type nor the classes in a ParameterizedType once its
+// callers drop it. Lookups read the array without locking; only a miss takes the lock.
+public final class GenericConversions {
+    private static final int MAX_PLANS_PER_TYPE = 256;
+
+    private static final ClassValue<Plans> PLANS = new ClassValue<Plans>() {
+        @Override
+        protected Plans computeValue(Class<?> rawType) {
+            return new Plans();
+        }
+    };
+
+    private static volatile boolean unboxedNumericLists;
+
+    private GenericConversions() {
+    }
+
+    // When enabled, List<Integer>, List<Long> and List<Double> targets (and their Collection /
+    // Iterable supertypes) are returned as fixed-size IntArrayList / LongArrayList /
+    // DoubleArrayList backed by primitive arrays. Disabled by default.
+    public static void setUnboxedNumericLists(boolean enabled) {
+        unboxedNumericLists = enabled;
+    }
+
+    public static boolean isUnboxedNumericLists() {
+        return unboxedNumericLists;
+    }
+
+    public static Object convert(Object value, ParameterizedType conversionType, FormatProvider provider) {
+        return convert(Convert.getDefaultContext(), value, conversionType, provider);
+    }
+
+    // Converts the elements, keys and values with the given context.
+    public static Object convert(ConversionContext context, Object value, ParameterizedType conversionType, FormatProvider provider) {
+        if (context == null) throw new ArgumentNullException("context");
+        if (conversionType == null) throw new ArgumentNullException("conversionType");
+        return plan(conversionType).convert(context, value, provider, unboxedNumericLists);
+    }
+
+    private static ContainerPlan plan(ParameterizedType conversionType) {
+        Plans plans = PLANS.get(ElementConverter.rawType(conversionType));
+        int hash = conversionType.hashCode();
+        ContainerPlan plan = Plans.find(plans.entries, conversionType, hash);
+        return plan != null ? plan : plans.add(conversionType, hash);
+    }
+
+    // The parameterizations of one raw type. A raw type has few of them, so a linear scan of
+    // the snapshot is all a lookup needs; entries whose Type was collected are dropped when
+    // the next one is added.
+    private static final class Plans {
+        private static final PlanEntry[] EMPTY = new PlanEntry[0];
+
+        // replaced, never modified
+        volatile PlanEntry[] entries = EMPTY;
+
+        static ContainerPlan find(PlanEntry[] entries, Type type, int hash) {
+            for (PlanEntry entry : entries) {
+                if (entry.hash == hash && type.equals(entry.type.get())) return entry.plan;
+            }
+            return null;
+        }
+
+        synchronized ContainerPlan add(ParameterizedType type, int hash) {
+            PlanEntry[] current = entries;
+            ContainerPlan plan = find(current, type, hash);
+            if (plan != null) return plan;
+
+            plan = ContainerPlan.create(type);
+            PlanEntry[] next = new PlanEntry[current.length + 1];
+            int count = 0;
+            // a type that keeps minting parameterizations starts over rather than growing
+            if (current.length < MAX_PLANS_PER_TYPE) {
+                for (PlanEntry entry : current) {
+                    if (entry.type.get() != null) next[count++] = entry;
+                }
+            }
+            next[count++] = new PlanEntry(type, hash, plan);
+            entries = count == next.length ? next : Arrays.copyOf(next, count);
+            return plan;
+        }
+    }
+
+    private static final class PlanEntry {
+        final WeakReference<Type> type;
+        final int hash;
+        final ContainerPlan plan;
+
+        PlanEntry(Type type, int hash, ContainerPlan plan) {
+            this.type = new WeakReference<>(type);
+            this.hash = hash;
+            this.plan = plan;
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package io.standardcore.generic;
+
+import io.standardcore.ArgumentNullException;
+
+import java.util.AbstractList;
+import java.util.RandomAccess;
+
+// Fixed-size List<Integer> backed by a int[]; elements are boxed only when read through get().
+public final class IntArrayList extends AbstractList<Integer> implements RandomAccess {
+    private final int[] values;
+
+    public IntArrayList(int[] values) {
+        if (values == null) throw new ArgumentNullException("values");
+        this.values = values;
+    }
+
+    @Override
+    public Integer get(int index) {
+        return values[index];
+    }
+
+    public int getInt(int index) {
+        return values[index];
+    }
+
+    @Override
+    public Integer set(int index, Integer element) {
+        int previous = values[index];
+        values[index] = element;
+        return previous;
+    }
+
+    @Override
+    public int size() {
+        return values.length;
+    }
+
+    // The backing array; changes to it are visible through the list.
+    public int[] array() {
+        return values;
+    }
+}
@@ -0,0 +1,42 @@
+package io.standardcore.generic;
+
+import io.standardcore.ArgumentNullException;
+
+import java.util.AbstractList;
+import java.util.RandomAccess;
+
+// Fixed-size List<Long> backed by a long[]; elements are boxed only when read through get().
+public final class LongArrayList extends AbstractList<Long> implements RandomAccess {
+    private final long[] values;
+
+    public LongArrayList(long[] values) {
+        if (values == null) throw new ArgumentNullException("values");
+        this.values = values;
+    }
+
+    @Override
+    public Long get(int index) {
+        return values[index];
+    }
+
+    public long getLong(int index) {
+        return values[index];
+    }
+
+    @Override
+    public Long set(int index, Long element) {
+        long previous = values[index];
+        values[index] = element;
+        return previous;
+    }
+
+    @Override
+    public int size() {
+        return values.length;
+    }
+
+    // The backing array; changes to it are visible through the list.
+    public long[] array() {
+        return values;
+    }
+}
@@ -0,0 +1,62 @@
+package io.standardcore.mapping;
+
+import io.standardcore.ArgumentNullException;
+import io.standardcore.ConversionContext;
+import io.standardcore.FormatProvider;
+import io.standardcore.InvalidCastException;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// A BeanMapper plan bound to a fixed column layout; created by BeanMapper.forColumns, and
+// converting with that mapper's context.
+public final class ArrayRowMapper<T> {
+    private final BeanMapper<T> mapper;
+    private final BeanProperty[] columns;
+
+    ArrayRowMapper(BeanMapper<T> mapper, BeanProperty[] columns) {
+        this.mapper = mapper;
+        this.columns = columns;
+    }
+
+    public T map(Object[] row) {
+        return map(row, null);
+    }
+
+    public T map(Object[] row, FormatProvider provider) {
+        if (row == null) throw new ArgumentNullException("row");
+        int length = Math.min(row.length, columns.length);
+        ConversionContext context = mapper.context();
+
+        if (mapper.isConstructorMapped()) {
+            Object[] arguments = mapper.newArguments();
+            for (int i = 0; i < length; i++) {
+                BeanProperty property = columns[i];
+                if (property != null && row[i] != null) property.put(arguments, row[i], context, provider);
+            }
+            return mapper.construct(arguments);
+        }
+
+        T bean = mapper.construct(null);
+        try {
+            for (int i = 0; i < length; i++) {
+                BeanProperty property = columns[i];
+                if (property != null) property.set(bean, row[i], context, provider);
+            }
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new InvalidCastException("InvalidCast_Mapping", e);
+        }
+        return bean;
+    }
+
+    public List<T> mapAll(Iterable<Object[]> rows, FormatProvider provider) {
+        if (rows == null) throw new ArgumentNullException("rows");
+        List<T> result = new ArrayList<>();
+        for (Object[] row : rows) {
+            result.add(map(row, provider));
+        }
+        return result;
+    }
+}
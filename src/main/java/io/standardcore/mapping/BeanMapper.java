@@ -0,0 +1,261 @@
+package io.standardcore.mapping;
+
+import io.standardcore.ArgumentException;
+import io.standardcore.ArgumentNullException;
+import io.standardcore.ConversionContext;
+import io.standardcore.Convert;
+import io.standardcore.FormatProvider;
+import io.standardcore.InvalidCastException;
+import io.standardcore.generic.ElementConverter;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Parameter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+// Maps Map<String, Object> rows (or Object[] rows through forColumns) onto instances of a
+// class. The mapping plan, meaning the constructor handle, setter handles and the converter
+// for every property, is built once per class and cached in a ClassValue, so mapping a row
+// does no reflection.
+//
+// Types with a public no-argument constructor are populated through public setters and
+// public non-final fields. Otherwise the public constructor with the most parameters is
+// used, which requires the class to be compiled with -parameters.
+//
+// Property values are converted with Convert.getDefaultContext(), or with the context given
+// to withContext, which shares the cached plan.
+public final class BeanMapper<T> {
+    private static final ClassValue<BeanMapper<?>> MAPPERS = new ClassValue<BeanMapper<?>>() {
+        @Override
+        protected BeanMapper<?> computeValue(Class<?> type) {
+            return create(type);
+        }
+    };
+
+    private final Class<T> type;
+    private final MethodHandle constructor;
+    private final boolean constructorMapped;
+    private final BeanProperty[] properties;
+    private final Map<String, Integer> propertyIndex;
+    private final Object[] defaultArguments;
+    // null for the default context, which is looked up on every row so that it follows
+    // Convert.setDefaultContext
+    private final ConversionContext context;
+
+    private BeanMapper(Class<T> type, MethodHandle constructor, boolean constructorMapped, BeanProperty[] properties) {
+        this.context = null;
+        this.type = type;
+        this.constructor = constructor;
+        this.constructorMapped = constructorMapped;
+        this.properties = properties;
+
+        Map<String, Integer> index = new HashMap<>();
+        for (int i = 0; i < properties.length; i++) {
+            index.put(properties[i].name, i);
+        }
+        this.propertyIndex = Collections.unmodifiableMap(index);
+
+        this.defaultArguments = new Object[constructorMapped ? properties.length : 0];
+        if (constructorMapped) {
+            for (BeanProperty property : properties) {
+                defaultArguments[property.parameterIndex] = property.converter.getDefaultValue();
+            }
+        }
+    }
+
+    private BeanMapper(BeanMapper<T> plan, ConversionContext context) {
+        this.type = plan.type;
+        this.constructor = plan.constructor;
+        this.constructorMapped = plan.constructorMapped;
+        this.properties = plan.properties;
+        this.propertyIndex = plan.propertyIndex;
+        this.defaultArguments = plan.defaultArguments;
+        this.context = context;
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <T> BeanMapper<T> forClass(Class<T> type) {
+        if (type == null) throw new ArgumentNullException("type");
+        return (BeanMapper<T>) MAPPERS.get(type);
+    }
+
+    // The same plan, converting property values with the given context.
+    public BeanMapper<T> withContext(ConversionContext context) {
+        if (context == null) throw new ArgumentNullException("context");
+        return new BeanMapper<>(this, context);
+    }
+
+    public Class<T> getType() {
+        return type;
+    }
+
+    public Set<String> getPropertyNames() {
+        return propertyIndex.keySet();
+    }
+
+    // Returns -1 when the class has no property with the given name.
+    public int getPropertyIndex(String name) {
+        Integer index = propertyIndex.get(name);
+        return index == null ? -1 : index;
+    }
+
+    public T map(Map<String, ?> row) {
+        return map(row, null);
+    }
+
+    public T map(Map<String, ?> row, FormatProvider provider) {
+        if (row == null) throw new ArgumentNullException("row");
+        ConversionContext context = context();
+
+        if (constructorMapped) {
+            Object[] arguments = defaultArguments.clone();
+            for (BeanProperty property : properties) {
+                Object value = row.get(property.name);
+                if (value != null) property.put(arguments, value, context, provider);
+            }
+            return construct(arguments);
+        }
+
+        T bean = construct(null);
+        try {
+            for (BeanProperty property : properties) {
+                Object value = row.get(property.name);
+                if (value != null || row.containsKey(property.name)) property.set(bean, value, context, provider);
+            }
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new InvalidCastException("InvalidCast_Mapping", e);
+        }
+        return bean;
+    }
+
+    public List<T> mapAll(Iterable<? extends Map<String, ?>> rows, FormatProvider provider) {
+        if (rows == null) throw new ArgumentNullException("rows");
+        List<T> result = new ArrayList<>();
+        for (Map<String, ?> row : rows) {
+            result.add(map(row, provider));
+        }
+        return result;
+    }
+
+    // Binds a column layout to this plan so that Object[] rows can be mapped positionally.
+    // Columns without a matching property are ignored.
+    public ArrayRowMapper<T> forColumns(String... columns) {
+        if (columns == null) throw new ArgumentNullException("columns");
+        BeanProperty[] bound = new BeanProperty[columns.length];
+        for (int i = 0; i < columns.length; i++) {
+            int index = getPropertyIndex(columns[i]);
+            bound[i] = index < 0 ? null : properties[index];
+        }
+        return new ArrayRowMapper<>(this, bound);
+    }
+
+    ConversionContext context() {
+        return context != null ? context : Convert.getDefaultContext();
+    }
+
+    boolean isConstructorMapped() {
+        return constructorMapped;
+    }
+
+    Object[] newArguments() {
+        return defaultArguments.clone();
+    }
+
+    @SuppressWarnings("unchecked")
+    T construct(Object[] arguments) {
+        try {
+            return constructorMapped ? (T) constructor.invokeExact(arguments) : (T) constructor.invokeExact();
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new InvalidCastException("InvalidCast_Mapping", e);
+        }
+    }
+
+    private static <T> BeanMapper<T> create(Class<T> type) {
+        MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+        try {
+            Constructor<T> defaultConstructor = findDefaultConstructor(type);
+            if (defaultConstructor != null) {
+                MethodHandle constructor = lookup.unreflectConstructor(defaultConstructor)
+                        .asType(MethodType.methodType(Object.class));
+                return new BeanMapper<>(type, constructor, false, setterProperties(type, lookup));
+            }
+
+            Constructor<?> propertyConstructor = findPropertyConstructor(type);
+            if (propertyConstructor == null) throw new ArgumentException("Arg_NoMappableConstructor");
+
+            Parameter[] parameters = propertyConstructor.getParameters();
+            BeanProperty[] properties = new BeanProperty[parameters.length];
+            for (int i = 0; i < parameters.length; i++) {
+                properties[i] = new BeanProperty(parameters[i].getName(),
+                        ElementConverter.of(parameters[i].getParameterizedType()), null, i);
+            }
+            MethodHandle constructor = lookup.unreflectConstructor(propertyConstructor)
+                    .asSpreader(Object[].class, parameters.length)
+                    .asType(MethodType.methodType(Object.class, Object[].class));
+            return new BeanMapper<>(type, constructor, true, properties);
+        } catch (IllegalAccessException e) {
+            throw new ArgumentException("Arg_NoMappableConstructor", e);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> Constructor<T> findDefaultConstructor(Class<T> type) {
+        if (Modifier.isAbstract(type.getModifiers()) || type.isInterface()) return null;
+        for (Constructor<?> constructor : type.getConstructors()) {
+            if (constructor.getParameterCount() == 0) return (Constructor<T>) constructor;
+        }
+        return null;
+    }
+
+    private static Constructor<?> findPropertyConstructor(Class<?> type) {
+        if (Modifier.isAbstract(type.getModifiers()) || type.isInterface()) return null;
+        Constructor<?> best = null;
+        for (Constructor<?> constructor : type.getConstructors()) {
+            Parameter[] parameters = constructor.getParameters();
+            if (parameters.length == 0 || !parameters[0].isNamePresent()) continue;
+            if (best == null || parameters.length > best.getParameterCount()) best = constructor;
+        }
+        return best;
+    }
+
+    private static BeanProperty[] setterProperties(Class<?> type, MethodHandles.Lookup lookup) throws IllegalAccessException {
+        MethodType setterType = MethodType.methodType(void.class, Object.class, Object.class);
+        Map<String, BeanProperty> properties = new LinkedHashMap<>();
+
+        for (Field field : type.getFields()) {
+            int modifiers = field.getModifiers();
+            if (Modifier.isStatic(modifiers) || Modifier.isFinal(modifiers)) continue;
+            MethodHandle setter = lookup.unreflectSetter(field).asType(setterType);
+            properties.put(field.getName(), new BeanProperty(field.getName(),
+                    ElementConverter.of(field.getGenericType()), setter, -1));
+        }
+
+        // setters win over public fields of the same name
+        for (Method method : type.getMethods()) {
+            String name = method.getName();
+            if (Modifier.isStatic(method.getModifiers()) || method.isBridge()) continue;
+            if (method.getParameterCount() != 1 || name.length() <= 3 || !name.startsWith("set")) continue;
+            String propertyName = Character.toLowerCase(name.charAt(3)) + name.substring(4);
+            MethodHandle setter = lookup.unreflect(method).asType(setterType);
+            properties.put(propertyName, new BeanProperty(propertyName,
+                    ElementConverter.of(method.getGenericParameterTypes()[0]), setter, -1));
+        }
+
+        return properties.values().toArray(new BeanProperty[0]);
+    }
+}
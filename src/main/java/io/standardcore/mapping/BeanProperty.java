@@ -0,0 +1,35 @@
+package io.standardcore.mapping;
+
+import io.standardcore.ConversionContext;
+import io.standardcore.FormatProvider;
+import io.standardcore.generic.ElementConverter;
+
+import java.lang.invoke.MethodHandle;
+
+// A writable property of a mapping plan: either a setter / public field handle typed
+// (Object, Object)void, or a position in the constructor argument array.
+final class BeanProperty {
+    final String name;
+    final ElementConverter converter;
+    final MethodHandle setter;
+    final int parameterIndex;
+
+    BeanProperty(String name, ElementConverter converter, MethodHandle setter, int parameterIndex) {
+        this.name = name;
+        this.converter = converter;
+        this.setter = setter;
+        this.parameterIndex = parameterIndex;
+    }
+
+    void set(Object bean, Object value, ConversionContext context, FormatProvider provider) throws Throwable {
+        Object converted = converter.convert(context, value, provider);
+        if (converted == null && converter.isPrimitive()) return;
+        setter.invokeExact(bean, converted);
+    }
+
+    void put(Object[] arguments, Object value, ConversionContext context, FormatProvider provider) {
+        Object converted = converter.convert(context, value, provider);
+        if (converted == null && converter.isPrimitive()) return;
+        arguments[parameterIndex] = converted;
+    }
+}
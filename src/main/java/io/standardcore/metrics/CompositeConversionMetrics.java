@@ -0,0 +1,89 @@
+package io.standardcore.metrics;
+
+import io.standardcore.ArgumentException;
+import io.standardcore.ConversionMetrics;
+import io.standardcore.TypeCode;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+// Fans every notification out to several ConversionMetrics, in order, so that for example a
+// StripedConversionMetrics and a JfrConversionMetrics can be installed together.
+//
+// Each delegate keeps its own sampling decision: startTime() asks all of them and, when any
+// samples the call, returns one System.nanoTime() whose low bits record which ones did. Only
+// those are handed the start time afterwards; the others get NOT_SAMPLED. The low bits are
+// cleared first, so a reported latency is at most 2^delegates - 1 nanoseconds too long.
+public final class CompositeConversionMetrics implements ConversionMetrics {
+    public static final int MAX_DELEGATES = 8;
+
+    private final ConversionMetrics[] delegates;
+    private final long mask;
+
+    private CompositeConversionMetrics(ConversionMetrics[] delegates) {
+        this.delegates = delegates;
+        this.mask = (1L << delegates.length) - 1;
+    }
+
+    // Null arguments are skipped and nested composites are flattened. Returns null when nothing
+    // is left, which Convert.setConversionMetrics takes as "disabled", and the single delegate
+    // itself when only one is left.
+    public static ConversionMetrics of(ConversionMetrics... metrics) {
+        List<ConversionMetrics> delegates = new ArrayList<>();
+        if (metrics != null) {
+            for (ConversionMetrics m : metrics) {
+                if (m instanceof CompositeConversionMetrics) {
+                    delegates.addAll(((CompositeConversionMetrics) m).getDelegates());
+                } else if (m != null) {
+                    delegates.add(m);
+                }
+            }
+        }
+        if (delegates.isEmpty()) return null;
+        if (delegates.size() == 1) return delegates.get(0);
+        if (delegates.size() > MAX_DELEGATES) throw new ArgumentException("Arg_TooManyDelegates");
+        return new CompositeConversionMetrics(delegates.toArray(new ConversionMetrics[0]));
+    }
+
+    public List<ConversionMetrics> getDelegates() {
+        return Arrays.asList(delegates.clone());
+    }
+
+    @Override
+    public long startTime() {
+        long sampled = 0;
+        for (int i = 0; i < delegates.length; i++) {
+            if (delegates[i].startTime() != NOT_SAMPLED) sampled |= 1L << i;
+        }
+        if (sampled == 0) return NOT_SAMPLED;
+        return System.nanoTime() & ~mask | sampled;
+    }
+
+    @Override
+    public void conversionSucceeded(TypeCode source, TypeCode target, Object value, long startTime) {
+        for (int i = 0; i < delegates.length; i++) {
+            delegates[i].conversionSucceeded(source, target, value, startTime(startTime, i));
+        }
+    }
+
+    @Override
+    public void conversionFailed(TypeCode source, TypeCode target, Object value, RuntimeException exception, long startTime) {
+        for (int i = 0; i < delegates.length; i++) {
+            delegates[i].conversionFailed(source, target, value, exception, startTime(startTime, i));
+        }
+    }
+
+    @Override
+    public void batchCompleted(TypeCode source, TypeCode target, int count, int failures, long elapsedNanos) {
+        for (ConversionMetrics delegate : delegates) {
+            delegate.batchCompleted(source, target, count, failures, elapsedNanos);
+        }
+    }
+
+    // The start time delegate i sees, or NOT_SAMPLED when it did not sample the call.
+    private long startTime(long startTime, int i) {
+        if (startTime == NOT_SAMPLED || (startTime & 1L << i) == 0) return NOT_SAMPLED;
+        return startTime & ~mask;
+    }
+}
@@ -0,0 +1,71 @@
+package io.standardcore.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+// Power-of-two latency buckets: bucket i holds samples in [2^(i-1), 2^i) nanoseconds,
+// bucket 0 holds samples of 0ns.
+public class LatencyHistogram {
+    public static final int BUCKET_COUNT = 64;
+
+    private final LongAdder[] buckets;
+    private final LongAdder totalNanos;
+
+    public LatencyHistogram() {
+        buckets = new LongAdder[BUCKET_COUNT];
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            buckets[i] = new LongAdder();
+        }
+        totalNanos = new LongAdder();
+    }
+
+    public void record(long nanos) {
+        if (nanos < 0) nanos = 0;
+        buckets[BUCKET_COUNT - Long.numberOfLeadingZeros(nanos)].increment();
+        totalNanos.add(nanos);
+    }
+
+    public long getCount() {
+        long count = 0;
+        for (LongAdder bucket : buckets) {
+            count += bucket.sum();
+        }
+        return count;
+    }
+
+    public long getBucketCount(int bucket) {
+        return buckets[bucket].sum();
+    }
+
+    public static long getBucketUpperBound(int bucket) {
+        return bucket == BUCKET_COUNT - 1 ? Long.MAX_VALUE : 1L << bucket;
+    }
+
+    public long getTotalNanos() {
+        return totalNanos.sum();
+    }
+
+    public double getMeanNanos() {
+        long count = getCount();
+        return count == 0 ? 0 : (double) getTotalNanos() / count;
+    }
+
+    // Upper bound of the bucket containing the given percentile (0..100).
+    public long getPercentileUpperBound(double percentile) {
+        long count = getCount();
+        if (count == 0) return 0;
+        long rank = (long) Math.ceil(count * percentile / 100.0);
+        long seen = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += buckets[i].sum();
+            if (seen >= rank) return getBucketUpperBound(i);
+        }
+        return Long.MAX_VALUE;
+    }
+
+    public void reset() {
+        for (LongAdder bucket : buckets) {
+            bucket.reset();
+        }
+        totalNanos.reset();
+    }
+}
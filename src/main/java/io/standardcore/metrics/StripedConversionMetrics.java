@@ -0,0 +1,143 @@
+package io.standardcore.metrics;
+
+import io.standardcore.ArgumentException;
+import io.standardcore.ConversionMetrics;
+import io.standardcore.FormatException;
+import io.standardcore.InvalidCastException;
+import io.standardcore.OverflowException;
+import io.standardcore.TypeCode;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+// Counts conversions per (source, target) TypeCode pair in LongAdder cells so that
+// concurrent updates from many threads do not contend on a single counter.
+// Latency is only measured for one call in every latencySampleRate calls.
+public class StripedConversionMetrics implements ConversionMetrics {
+    public enum FailureKind {
+        FORMAT,
+        OVERFLOW,
+        INVALID_CAST,
+        OTHER
+    }
+
+    private static final TypeCode[] TYPE_CODES = TypeCode.values();
+    private static final int PAIR_COUNT = TYPE_CODES.length * TYPE_CODES.length;
+
+    private final LongAdder[] conversions;
+    private final LongAdder[] failures;
+    private final LongAdder[] failuresByKind;
+    private final AtomicReferenceArray<LatencyHistogram> latencies;
+    private final int latencySampleMask;
+
+    public StripedConversionMetrics() {
+        this(0);
+    }
+
+    // latencySampleRate must be 0 (latency disabled) or a power of two.
+    public StripedConversionMetrics(int latencySampleRate) {
+        if (latencySampleRate < 0 || Integer.bitCount(latencySampleRate) > 1)
+            throw new ArgumentException("latencySampleRate");
+
+        conversions = newAdders(PAIR_COUNT);
+        failures = newAdders(PAIR_COUNT);
+        failuresByKind = newAdders(FailureKind.values().length);
+        latencies = latencySampleRate == 0 ? null : new AtomicReferenceArray<LatencyHistogram>(PAIR_COUNT);
+        latencySampleMask = latencySampleRate - 1;
+    }
+
+    private static LongAdder[] newAdders(int length) {
+        LongAdder[] adders = new LongAdder[length];
+        for (int i = 0; i < length; i++) {
+            adders[i] = new LongAdder();
+        }
+        return adders;
+    }
+
+    private static int pairIndex(TypeCode source, TypeCode target) {
+        return source.ordinal() * TYPE_CODES.length + target.ordinal();
+    }
+
+    @Override
+    public long startTime() {
+        if (latencies == null) return NOT_SAMPLED;
+        if ((ThreadLocalRandom.current().nextInt() & latencySampleMask) != 0) return NOT_SAMPLED;
+        return System.nanoTime();
+    }
+
+    @Override
+    public void conversionSucceeded(TypeCode source, TypeCode target, Object value, long startTime) {
+        int pair = pairIndex(source, target);
+        conversions[pair].increment();
+        if (startTime != NOT_SAMPLED) recordLatency(pair, System.nanoTime() - startTime);
+    }
+
+    @Override
+    public void conversionFailed(TypeCode source, TypeCode target, Object value, RuntimeException exception, long startTime) {
+        int pair = pairIndex(source, target);
+        conversions[pair].increment();
+        failures[pair].increment();
+        failuresByKind[failureKind(exception).ordinal()].increment();
+        if (startTime != NOT_SAMPLED) recordLatency(pair, System.nanoTime() - startTime);
+    }
+
+    @Override
+    public void batchCompleted(TypeCode source, TypeCode target, int count, int failures, long elapsedNanos) {
+        int pair = pairIndex(source, target);
+        conversions[pair].add(count);
+        this.failures[pair].add(failures);
+    }
+
+    private void recordLatency(int pair, long nanos) {
+        LatencyHistogram histogram = latencies.get(pair);
+        if (histogram == null) {
+            latencies.compareAndSet(pair, null, new LatencyHistogram());
+            histogram = latencies.get(pair);
+        }
+        histogram.record(nanos);
+    }
+
+    public static FailureKind failureKind(RuntimeException exception) {
+        if (exception instanceof FormatException) return FailureKind.FORMAT;
+        if (exception instanceof OverflowException) return FailureKind.OVERFLOW;
+        if (exception instanceof InvalidCastException) return FailureKind.INVALID_CAST;
+        return FailureKind.OTHER;
+    }
+
+    public long getConversionCount(TypeCode source, TypeCode target) {
+        return conversions[pairIndex(source, target)].sum();
+    }
+
+    public long getFailureCount(TypeCode source, TypeCode target) {
+        return failures[pairIndex(source, target)].sum();
+    }
+
+    public long getFailureCount(FailureKind kind) {
+        return failuresByKind[kind.ordinal()].sum();
+    }
+
+    public long getTotalConversionCount() {
+        long total = 0;
+        for (LongAdder adder : conversions) {
+            total += adder.sum();
+        }
+        return total;
+    }
+
+    // Returns null when latency sampling is disabled or the pair has not been sampled yet.
+    public LatencyHistogram getLatencyHistogram(TypeCode source, TypeCode target) {
+        return latencies == null ? null : latencies.get(pairIndex(source, target));
+    }
+
+    public void reset() {
+        for (int i = 0; i < PAIR_COUNT; i++) {
+            conversions[i].reset();
+            failures[i].reset();
+            if (latencies != null) latencies.set(i, null);
+        }
+        for (LongAdder adder : failuresByKind) {
+            adder.reset();
+        }
+    }
+}
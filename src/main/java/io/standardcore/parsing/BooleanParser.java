@@ -0,0 +1,174 @@
+package io.standardcore.parsing;
+
+import io.standardcore.ArgumentException;
+import io.standardcore.ArgumentNullException;
+import io.standardcore.FormatException;
+import io.standardcore.FormatProvider;
+
+import java.util.Arrays;
+
+// Table-driven, allocation-free boolean parser. Tokens are bucketed by length and by the
+// case-folded first character, so a parse is one table load followed by a short
+// case-insensitive compare. Leading and trailing whitespace is ignored.
+//
+// DEFAULT accepts true/false only, matching Boolean.Parse. A FormatProvider can return a
+// different parser, such as EXTENDED, from getFormat(BooleanParser.class).
+public final class BooleanParser {
+    public static final int FALSE = 0;
+    public static final int TRUE = 1;
+    public static final int INVALID = -1;
+
+    public static final BooleanParser DEFAULT = new BooleanParser(
+            new String[]{"true"},
+            new String[]{"false"});
+
+    public static final BooleanParser EXTENDED = new BooleanParser(
+            new String[]{"true", "yes", "y", "1", "on", "t"},
+            new String[]{"false", "no", "n", "0", "off", "f"});
+
+    private static final int FIRST_CHARS = 128;
+
+    private final char[][][] tokens;
+    private final boolean[][] values;
+    private final int maxLength;
+
+    public BooleanParser(String[] trueTokens, String[] falseTokens) {
+        if (trueTokens == null) throw new ArgumentNullException("trueTokens");
+        if (falseTokens == null) throw new ArgumentNullException("falseTokens");
+
+        int longest = 0;
+        for (String token : trueTokens) longest = Math.max(longest, checkToken(token));
+        for (String token : falseTokens) longest = Math.max(longest, checkToken(token));
+        this.maxLength = longest;
+        this.tokens = new char[(longest + 1) * FIRST_CHARS][][];
+        this.values = new boolean[(longest + 1) * FIRST_CHARS][];
+
+        for (String token : trueTokens) add(token, true);
+        for (String token : falseTokens) add(token, false);
+    }
+
+    private static int checkToken(String token) {
+        if (token == null || token.isEmpty()) throw new ArgumentException("Arg_EmptyToken");
+        for (int i = 0; i < token.length(); i++) {
+            if (token.charAt(i) >= 0x80) throw new ArgumentException("Arg_NonAsciiToken");
+        }
+        return token.length();
+    }
+
+    private void add(String token, boolean value) {
+        char[] folded = new char[token.length()];
+        for (int i = 0; i < folded.length; i++) {
+            folded[i] = fold(token.charAt(i));
+        }
+
+        int bucket = folded.length * FIRST_CHARS + folded[0];
+        char[][] bucketTokens = tokens[bucket];
+        boolean[] bucketValues = values[bucket];
+        int size = bucketTokens == null ? 0 : bucketTokens.length;
+        for (int i = 0; i < size; i++) {
+            if (Arrays.equals(bucketTokens[i], folded)) {
+                if (bucketValues[i] != value) throw new ArgumentException("Arg_AmbiguousToken");
+                return;
+            }
+        }
+
+        char[][] newTokens = new char[size + 1][];
+        boolean[] newValues = new boolean[size + 1];
+        if (size > 0) {
+            System.arraycopy(bucketTokens, 0, newTokens, 0, size);
+            System.arraycopy(bucketValues, 0, newValues, 0, size);
+        }
+        newTokens[size] = folded;
+        newValues[size] = value;
+        tokens[bucket] = newTokens;
+        values[bucket] = newValues;
+    }
+
+    // Returns the parser supplied by the provider, or DEFAULT.
+    public static BooleanParser getInstance(FormatProvider provider) {
+        if (provider != null) {
+            Object format = provider.getFormat(BooleanParser.class);
+            if (format instanceof BooleanParser) return (BooleanParser) format;
+        }
+        return DEFAULT;
+    }
+
+    public boolean parse(CharSequence value) {
+        if (value == null) throw new ArgumentNullException("value");
+        return parse(value, 0, value.length());
+    }
+
+    public boolean parse(CharSequence value, int start, int end) {
+        int result = tryParse(value, start, end);
+        if (result == INVALID) throw new FormatException("Format_BadBoolean");
+        return result == TRUE;
+    }
+
+    public boolean parse(byte[] value, int offset, int length) {
+        int result = tryParse(value, offset, length);
+        if (result == INVALID) throw new FormatException("Format_BadBoolean");
+        return result == TRUE;
+    }
+
+    // Returns TRUE, FALSE or INVALID.
+    public int tryParse(CharSequence value, int start, int end) {
+        if (value == null) throw new ArgumentNullException("value");
+        while (start < end && isWhitespace(value.charAt(start))) start++;
+        while (end > start && isWhitespace(value.charAt(end - 1))) end--;
+
+        int length = end - start;
+        if (length == 0 || length > maxLength) return INVALID;
+        char first = fold(value.charAt(start));
+        if (first >= FIRST_CHARS) return INVALID;
+
+        int bucket = length * FIRST_CHARS + first;
+        char[][] candidates = tokens[bucket];
+        if (candidates == null) return INVALID;
+
+        next:
+        for (int t = 0; t < candidates.length; t++) {
+            char[] token = candidates[t];
+            for (int i = 1; i < length; i++) {
+                if (fold(value.charAt(start + i)) != token[i]) continue next;
+            }
+            return values[bucket][t] ? TRUE : FALSE;
+        }
+        return INVALID;
+    }
+
+    // Bytes are read as ASCII.
+    public int tryParse(byte[] value, int offset, int length) {
+        if (value == null) throw new ArgumentNullException("value");
+        int start = offset;
+        int end = offset + length;
+        while (start < end && isWhitespace((char) (value[start] & 0xFF))) start++;
+        while (end > start && isWhitespace((char) (value[end - 1] & 0xFF))) end--;
+
+        length = end - start;
+        if (length == 0 || length > maxLength) return INVALID;
+        char first = fold((char) (value[start] & 0xFF));
+        if (first >= FIRST_CHARS) return INVALID;
+
+        int bucket = length * FIRST_CHARS + first;
+        char[][] candidates = tokens[bucket];
+        if (candidates == null) return INVALID;
+
+        next:
+        for (int t = 0; t < candidates.length; t++) {
+            char[] token = candidates[t];
+            for (int i = 1; i < length; i++) {
+                if (fold((char) (value[start + i] & 0xFF)) != token[i]) continue next;
+            }
+            return values[bucket][t] ? TRUE : FALSE;
+        }
+        return INVALID;
+    }
+
+    private static char fold(char c) {
+        return c >= 'A' && c <= 'Z' ? (char) (c + ('a' - 'A')) : c;
+    }
+
+    private static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\r' || c == '\f' || c == 0x0B || c == 0;
+    }
+}
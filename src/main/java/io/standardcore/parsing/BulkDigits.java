@@ -0,0 +1,125 @@
+package io.standardcore.parsing;
+
+import io.standardcore.ArgumentException;
+import io.standardcore.ArgumentNullException;
+
+// Column-at-a-time conversions over byte buffers of ASCII numbers: digit validation, delimiter
+// search, delimited Int64 columns and fixed-width digit fields.
+//
+// On JDK 17+ the multi-release JAR provides a kernel built on jdk.incubator.vector, used when
+// the application is started with --add-modules jdk.incubator.vector and the preferred vector
+// size is at least 128 bits (AVX2 / AVX-512 / NEON). Otherwise, or when the system property
+// io.standardcore.vector is false, the portable SWAR kernel is used. Both give identical results.
+public final class BulkDigits {
+    public static final String VECTOR_PROPERTY = "io.standardcore.vector";
+
+    private static final int MAX_FIXED_WIDTH = 18;
+    private static final int POSITION_BATCH = 256;
+    private static final long[] EMPTY = new long[0];
+
+    private static final DigitKernel KERNEL = loadKernel();
+
+    private BulkDigits() {
+    }
+
+    private static DigitKernel loadKernel() {
+        if (!Boolean.parseBoolean(System.getProperty(VECTOR_PROPERTY, "true"))) return new DigitKernel();
+        try {
+            // only present in META-INF/versions/17 of the multi-release JAR
+            Class<?> type = Class.forName("io.standardcore.parsing.VectorDigitKernel");
+            return (DigitKernel) type.getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException | LinkageError | RuntimeException e) {
+            return new DigitKernel();
+        }
+    }
+
+    // "vector-<bits>" when the Vector API kernel is in use, otherwise "scalar".
+    public static String getImplementation() {
+        return KERNEL.getName();
+    }
+
+    // True when the range is non-empty and holds only ASCII digits.
+    public static boolean isDigits(byte[] src, int offset, int length) {
+        checkRange(src, offset, length);
+        return length > 0 && KERNEL.isDigits(src, offset, offset + length);
+    }
+
+    // Index of the first delimiter in the range, or -1.
+    public static int indexOf(byte[] src, int offset, int length, byte delimiter) {
+        checkRange(src, offset, length);
+        return KERNEL.indexOf(src, offset, offset + length, delimiter);
+    }
+
+    // Stores the indexes of up to positions.length delimiters and returns how many were found.
+    public static int findDelimiters(byte[] src, int offset, int length, byte delimiter, int[] positions) {
+        checkRange(src, offset, length);
+        if (positions == null) throw new ArgumentNullException("positions");
+        return KERNEL.findDelimiters(src, offset, offset + length, delimiter, positions);
+    }
+
+    // Parses a delimited column such as "17,-4, 9" into longs; each field follows
+    // Int64Parser rules. A blank range gives an empty array.
+    public static long[] parseDelimited(byte[] src, int offset, int length, byte delimiter) {
+        checkRange(src, offset, length);
+        int end = offset + length;
+        if (isBlank(src, offset, end)) return EMPTY;
+
+        int[] positions = new int[POSITION_BATCH];
+        int count = 1;
+        for (int from = offset; ; ) {
+            int found = KERNEL.findDelimiters(src, from, end, delimiter, positions);
+            count += found;
+            if (found < positions.length) break;
+            from = positions[found - 1] + 1;
+        }
+
+        long[] result = new long[count];
+        int index = 0;
+        int start = offset;
+        while (true) {
+            int found = KERNEL.findDelimiters(src, start, end, delimiter, positions);
+            for (int i = 0; i < found; i++) {
+                result[index++] = Int64Parser.parse(src, start, positions[i] - start);
+                start = positions[i] + 1;
+            }
+            if (found < positions.length) break;
+        }
+        result[index] = Int64Parser.parse(src, start, end - start);
+        return result;
+    }
+
+    // Parses count unsigned fields of width ASCII digits (1 to 18), the first at offset and
+    // each following one stride bytes further, into dst starting at dstOffset.
+    public static void parseFixedWidth(byte[] src, int offset, int stride, int width, int count, long[] dst, int dstOffset) {
+        if (src == null) throw new ArgumentNullException("src");
+        if (dst == null) throw new ArgumentNullException("dst");
+        if (width < 1 || width > MAX_FIXED_WIDTH) throw new ArgumentException("width");
+        if (stride < width) throw new ArgumentException("stride");
+        if (count < 0 || dstOffset < 0 || dstOffset > dst.length - count) throw new ArgumentException("count");
+        if (count == 0) return;
+        checkRange(src, offset, (count - 1) * (long) stride + width);
+        KERNEL.parseFixedWidth(src, offset, stride, width, count, dst, dstOffset);
+    }
+
+    // Parses a buffer of back-to-back fields of width digits; length must be a multiple of width.
+    public static long[] parseFixedWidth(byte[] src, int offset, int length, int width) {
+        if (width < 1 || width > MAX_FIXED_WIDTH) throw new ArgumentException("width");
+        if (length % width != 0) throw new ArgumentException("length");
+        long[] result = new long[length / width];
+        parseFixedWidth(src, offset, width, width, result.length, result, 0);
+        return result;
+    }
+
+    private static boolean isBlank(byte[] src, int from, int to) {
+        for (int i = from; i < to; i++) {
+            byte c = src[i];
+            if (c != ' ' && (c < '\t' || c > '\r') && (c < 0x1C || c > 0x1F)) return false;
+        }
+        return true;
+    }
+
+    private static void checkRange(byte[] src, int offset, long length) {
+        if (src == null) throw new ArgumentNullException("src");
+        if (offset < 0 || length < 0 || offset + length > src.length) throw new ArgumentException("Arg_InvalidOffLen");
+    }
+}
@@ -0,0 +1,68 @@
+package io.standardcore.parsing;
+
+import io.standardcore.FormatException;
+
+// Whole-buffer digit primitives behind BulkDigits. This is the portable implementation, built
+// on the eight-byte SWAR steps of Int64Parser; the multi-release JAR adds VectorDigitKernel
+// for JDK 17+, which overrides these methods with jdk.incubator.vector loops and is only
+// used when that module is present.
+class DigitKernel {
+    private static final long ZEROS = 0x3030303030303030L;
+    private static final long[] POWERS_OF_TEN = {1, 10, 100, 1000, 10000, 100000, 1000000, 10000000};
+
+    String getName() {
+        return "scalar";
+    }
+
+    boolean isDigits(byte[] src, int from, int to) {
+        return Int64Parser.isDigits(src, from, to - from);
+    }
+
+    // Index of the first occurrence of delimiter in [from, to), or -1.
+    int indexOf(byte[] src, int from, int to, byte delimiter) {
+        for (int i = from; i < to; i++) {
+            if (src[i] == delimiter) return i;
+        }
+        return -1;
+    }
+
+    // Stores the indexes of up to positions.length delimiters in [from, to) and returns how
+    // many were stored; callers resume after the last stored index when the array fills up.
+    int findDelimiters(byte[] src, int from, int to, byte delimiter, int[] positions) {
+        int count = 0;
+        for (int i = from; i < to && count < positions.length; i++) {
+            if (src[i] == delimiter) positions[count++] = i;
+        }
+        return count;
+    }
+
+    // Converts count fields of width ASCII digits (1 to 18, so no overflow is possible),
+    // starting stride bytes apart, into dst.
+    void parseFixedWidth(byte[] src, int offset, int stride, int width, int count, long[] dst, int dstOffset) {
+        for (int field = 0; field < count; field++) {
+            dst[dstOffset + field] = parseField(src, offset + field * stride, width);
+        }
+    }
+
+    static long parseField(byte[] src, int start, int width) {
+        long result = 0;
+        int i = start;
+        int end = start + width;
+        for (; end - i >= 8; i += 8) {
+            long word = Int64Parser.getLongLittleEndian(src, i);
+            if (!Int64Parser.isEightDigits(word)) throw new FormatException("Format_InvalidString");
+            result = result * 100000000L + Int64Parser.eightDigits(word);
+        }
+        int tail = end - i;
+        if (tail > 0) {
+            // left-pad the tail with '0' bytes to a full word; leading zeros do not change the value
+            long word = ZEROS;
+            for (int k = 0; k < tail; k++) {
+                word = word >>> 8 | (src[i + k] & 0xFFL) << 56;
+            }
+            if (!Int64Parser.isEightDigits(word)) throw new FormatException("Format_InvalidString");
+            result = result * POWERS_OF_TEN[tail] + Int64Parser.eightDigits(word);
+        }
+        return result;
+    }
+}
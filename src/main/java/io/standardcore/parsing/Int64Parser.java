@@ -0,0 +1,240 @@
+package io.standardcore.parsing;
+
+import io.standardcore.ArgumentNullException;
+import io.standardcore.FormatException;
+import io.standardcore.OverflowException;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+// Int64 parser for ASCII decimal text that validates and converts eight digits per step using
+// SWAR (SIMD within a register) arithmetic on a little-endian long, so a 19-digit id or
+// epoch-nanos field is two eight-digit words plus a three-digit tail. Accepts surrounding
+// whitespace and a leading sign, like Long.parseLong; overflow is checked once at the end
+// from the digit count, never inside the digit loop.
+public final class Int64Parser {
+    private static final long ZEROS = 0x3030303030303030L;
+    private static final long HIGH_NIBBLES = 0xF0F0F0F0F0F0F0F0L;
+    private static final long SIXES = 0x0606060606060606L;
+    private static final long THREES = 0x3333333333333333L;
+    private static final long LOW_BYTES = 0x000000FF000000FFL;
+
+    // 10^18 <= 2^63 - 1 < 10^19, so up to 18 digits always fit and 19 digits fit unsigned.
+    private static final int MAX_DIGITS = 19;
+
+    private Int64Parser() {
+    }
+
+    // Zero when every byte of word is an ASCII digit; any other byte leaves a bit set.
+    // A byte is a digit when its high nibble is 3 both before and after adding 6.
+    public static long nonDigitBits(long word) {
+        return ((word & HIGH_NIBBLES) | (((word + SIXES) & HIGH_NIBBLES) >>> 4)) ^ THREES;
+    }
+
+    public static boolean isEightDigits(long word) {
+        return nonDigitBits(word) == 0;
+    }
+
+    // Value of eight ASCII digits packed little-endian, first digit in the lowest byte:
+    // adjacent digits are combined into pairs, then pairs into the final value with two
+    // multiplies.
+    public static int eightDigits(long word) {
+        word -= ZEROS;
+        word = word * 10 + (word >>> 8);
+        return (int) (((word & LOW_BYTES) * 0x000F424000000064L
+                + ((word >>> 16) & LOW_BYTES) * 0x0000271000000001L) >>> 32);
+    }
+
+    public static long parse(CharSequence value) {
+        if (value == null) throw new ArgumentNullException("value");
+        return parse(value, 0, value.length());
+    }
+
+    public static long parse(CharSequence value, int start, int end) {
+        if (value == null) throw new ArgumentNullException("value");
+        while (start < end && Character.isWhitespace(value.charAt(start))) start++;
+        while (end > start && Character.isWhitespace(value.charAt(end - 1))) end--;
+        if (start == end) throw new FormatException("Format_InvalidString");
+
+        boolean negative = false;
+        char first = value.charAt(start);
+        if (first == '-' || first == '+') {
+            negative = first == '-';
+            if (++start == end) throw new FormatException("Format_InvalidString");
+        }
+        while (start < end - 1 && value.charAt(start) == '0') start++;
+
+        long result = 0;
+        int i = start;
+        for (; end - i >= 8; i += 8) {
+            long word = 0;
+            int high = 0;
+            for (int k = 0; k < 8; k++) {
+                char c = value.charAt(i + k);
+                high |= c;
+                word |= (long) (c & 0xFF) << (k << 3);
+            }
+            if ((high & 0xFF00) != 0 || !isEightDigits(word)) throw new FormatException("Format_InvalidString");
+            result = result * 100000000L + eightDigits(word);
+        }
+        for (; i < end; i++) {
+            int digit = value.charAt(i) - '0';
+            if (digit < 0 || digit > 9) throw new FormatException("Format_InvalidString");
+            result = result * 10 + digit;
+        }
+        return finish(result, end - start, negative);
+    }
+
+    public static long parse(byte[] value) {
+        if (value == null) throw new ArgumentNullException("value");
+        return parse(value, 0, value.length);
+    }
+
+    // Bytes are read as ASCII.
+    public static long parse(byte[] value, int offset, int length) {
+        if (value == null) throw new ArgumentNullException("value");
+        int start = offset;
+        int end = offset + length;
+        while (start < end && isWhitespace(value[start])) start++;
+        while (end > start && isWhitespace(value[end - 1])) end--;
+        if (start == end) throw new FormatException("Format_InvalidString");
+
+        boolean negative = false;
+        byte first = value[start];
+        if (first == '-' || first == '+') {
+            negative = first == '-';
+            if (++start == end) throw new FormatException("Format_InvalidString");
+        }
+        while (start < end - 1 && value[start] == '0') start++;
+
+        long result = 0;
+        int i = start;
+        for (; end - i >= 8; i += 8) {
+            long word = getLongLittleEndian(value, i);
+            if (!isEightDigits(word)) throw new FormatException("Format_InvalidString");
+            result = result * 100000000L + eightDigits(word);
+        }
+        for (; i < end; i++) {
+            int digit = value[i] - '0';
+            if (digit < 0 || digit > 9) throw new FormatException("Format_InvalidString");
+            result = result * 10 + digit;
+        }
+        return finish(result, end - start, negative);
+    }
+
+    // Parses the remaining bytes, position to limit, without moving the position.
+    public static long parse(ByteBuffer value) {
+        if (value == null) throw new ArgumentNullException("value");
+        return parse(value, value.position(), value.remaining());
+    }
+
+    public static long parse(ByteBuffer value, int index, int length) {
+        if (value == null) throw new ArgumentNullException("value");
+        if (value.hasArray()) return parse(value.array(), value.arrayOffset() + index, length);
+
+        int start = index;
+        int end = index + length;
+        while (start < end && isWhitespace(value.get(start))) start++;
+        while (end > start && isWhitespace(value.get(end - 1))) end--;
+        if (start == end) throw new FormatException("Format_InvalidString");
+
+        boolean negative = false;
+        byte first = value.get(start);
+        if (first == '-' || first == '+') {
+            negative = first == '-';
+            if (++start == end) throw new FormatException("Format_InvalidString");
+        }
+        while (start < end - 1 && value.get(start) == '0') start++;
+
+        boolean bigEndian = value.order() == ByteOrder.BIG_ENDIAN;
+        long result = 0;
+        int i = start;
+        for (; end - i >= 8; i += 8) {
+            long word = value.getLong(i);
+            if (bigEndian) word = Long.reverseBytes(word);
+            if (!isEightDigits(word)) throw new FormatException("Format_InvalidString");
+            result = result * 100000000L + eightDigits(word);
+        }
+        for (; i < end; i++) {
+            int digit = value.get(i) - '0';
+            if (digit < 0 || digit > 9) throw new FormatException("Format_InvalidString");
+            result = result * 10 + digit;
+        }
+        return finish(result, end - start, negative);
+    }
+
+    // result holds the digits as an unsigned value, exact for up to 19 digits.
+    private static long finish(long result, int digits, boolean negative) {
+        if (digits > MAX_DIGITS) throw new OverflowException("Overflow_Int64");
+        if (negative) {
+            if (Long.compareUnsigned(result, Long.MIN_VALUE) > 0) throw new OverflowException("Overflow_Int64");
+            return -result;
+        }
+        if (result < 0) throw new OverflowException("Overflow_Int64");
+        return result;
+    }
+
+    // True when the range is non-empty and holds only ASCII digits. Eight-byte words are
+    // checked with nonDigitBits and the tail with a sign-bit test, and the results are
+    // OR-ed together, so there is no branch per character.
+    public static boolean isDigits(byte[] value, int offset, int length) {
+        if (value == null) throw new ArgumentNullException("value");
+        long bad = 0;
+        int i = offset;
+        int end = offset + length;
+        for (; end - i >= 8; i += 8) {
+            bad |= nonDigitBits(getLongLittleEndian(value, i));
+        }
+        int badTail = 0;
+        for (; i < end; i++) {
+            int c = value[i];
+            badTail |= (c - '0') | ('9' - c);
+        }
+        return length > 0 && bad == 0 && badTail >= 0;
+    }
+
+    public static boolean isDigits(ByteBuffer value, int index, int length) {
+        if (value == null) throw new ArgumentNullException("value");
+        if (value.hasArray()) return isDigits(value.array(), value.arrayOffset() + index, length);
+
+        // the digit test is symmetric in byte order, so the words need no reversal
+        long bad = 0;
+        int i = index;
+        int end = index + length;
+        for (; end - i >= 8; i += 8) {
+            bad |= nonDigitBits(value.getLong(i));
+        }
+        int badTail = 0;
+        for (; i < end; i++) {
+            int c = value.get(i);
+            badTail |= (c - '0') | ('9' - c);
+        }
+        return length > 0 && bad == 0 && badTail >= 0;
+    }
+
+    public static boolean isDigits(CharSequence value, int start, int end) {
+        if (value == null) throw new ArgumentNullException("value");
+        int badTail = 0;
+        for (int i = start; i < end; i++) {
+            int c = value.charAt(i);
+            badTail |= (c - '0') | ('9' - c);
+        }
+        return end > start && badTail >= 0;
+    }
+
+    static long getLongLittleEndian(byte[] value, int index) {
+        return (value[index] & 0xFFL)
+                | (value[index + 1] & 0xFFL) << 8
+                | (value[index + 2] & 0xFFL) << 16
+                | (value[index + 3] & 0xFFL) << 24
+                | (value[index + 4] & 0xFFL) << 32
+                | (value[index + 5] & 0xFFL) << 40
+                | (value[index + 6] & 0xFFL) << 48
+                | (value[index + 7] & 0xFFL) << 56;
+    }
+
+    // Character.isWhitespace for the bytes it accepts, so all three input kinds trim alike.
+    private static boolean isWhitespace(byte c) {
+        return c == ' ' || (c >= '\t' && c <= '\r') || (c >= 0x1C && c <= 0x1F);
+    }
+}
@@ -0,0 +1,150 @@
+package io.standardcore.parsing;
+
+import io.standardcore.ArgumentException;
+import io.standardcore.ArgumentNullException;
+import io.standardcore.FormatException;
+import io.standardcore.OverflowException;
+
+// Parses integers in radix 2 to 36, as Convert.toInt32(String, int fromBase) does in .NET: the
+// digits are the bit pattern of a field of the given width, so "FFFFFFFF" in radix 16 is -1 as
+// an Int32, and a minus sign is not accepted. Radix 16 text may start with 0x or 0X.
+// Surrounding whitespace is ignored. Decimal text with a sign goes through Int64Parser instead.
+//
+// Digit values come from a 256-entry table, valid for both chars below 256 and bytes read
+// unsigned. For power-of-two radixes the value is built with shifts and the width is checked
+// once at the end from the number of significant digits; other radixes multiply and check
+// for unsigned overflow at each step.
+public final class RadixParser {
+    private static final byte[] DIGITS = new byte[256];
+
+    static {
+        java.util.Arrays.fill(DIGITS, (byte) -1);
+        for (int i = 0; i < 10; i++) DIGITS['0' + i] = (byte) i;
+        for (int i = 0; i < 26; i++) {
+            DIGITS['a' + i] = (byte) (10 + i);
+            DIGITS['A' + i] = (byte) (10 + i);
+        }
+    }
+
+    private RadixParser() {
+    }
+
+    public static void checkRadix(int radix) {
+        if (radix < Character.MIN_RADIX || radix > Character.MAX_RADIX) throw new ArgumentException("Arg_InvalidBase");
+    }
+
+    // Value of the digit in the radix, or -1.
+    public static int digit(int c, int radix) {
+        int d = c < DIGITS.length ? DIGITS[c] : -1;
+        return d < radix ? d : -1;
+    }
+
+    public static long parseBits(CharSequence value, int radix, int bits, String overflowKey) {
+        if (value == null) throw new ArgumentNullException("value");
+        return parseBits(value, 0, value.length(), radix, bits, overflowKey);
+    }
+
+    // The unsigned value of the digits, which must fit in bits (1 to 64) bits; otherwise an
+    // OverflowException with the target type's overflowKey, such as "Overflow_UInt32".
+    public static long parseBits(CharSequence value, int start, int end, int radix, int bits, String overflowKey) {
+        if (value == null) throw new ArgumentNullException("value");
+        if (start < 0 || end > value.length() || start > end) throw new ArgumentException("Arg_InvalidOffLen");
+        checkRadix(radix);
+        checkBits(bits);
+        while (start < end && isWhitespace(value.charAt(start))) start++;
+        while (end > start && isWhitespace(value.charAt(end - 1))) end--;
+        if (start < end && value.charAt(start) == '-') throw new ArgumentException("Arg_CannotHaveNegativeValue");
+        if (start < end && value.charAt(start) == '+') start++;
+        if (radix == 16 && end - start > 2 && value.charAt(start) == '0' && (value.charAt(start + 1) | 0x20) == 'x') start += 2;
+        if (start == end) throw new FormatException("Format_InvalidString");
+
+        while (start < end - 1 && value.charAt(start) == '0') start++;
+        if ((radix & (radix - 1)) == 0) {
+            int shift = Integer.numberOfTrailingZeros(radix);
+            long result = 0;
+            int invalid = 0;
+            for (int i = start; i < end; i++) {
+                int c = value.charAt(i);
+                int d = c < DIGITS.length ? DIGITS[c] : -1;
+                invalid |= d | (radix - 1 - d);
+                result = result << shift | (d & (radix - 1));
+            }
+            if (invalid < 0) throw new FormatException("Format_InvalidString");
+            return checkWidth(result, digit(value.charAt(start), radix), end - start, shift, bits, overflowKey);
+        }
+
+        long result = 0;
+        for (int i = start; i < end; i++) {
+            int d = digit(value.charAt(i), radix);
+            if (d < 0) throw new FormatException("Format_InvalidString");
+            result = multiplyAdd(result, radix, d, overflowKey);
+        }
+        return checkBits(result, bits, overflowKey);
+    }
+
+    // Bytes are read as ASCII.
+    public static long parseBits(byte[] value, int offset, int length, int radix, int bits, String overflowKey) {
+        if (value == null) throw new ArgumentNullException("value");
+        if (offset < 0 || length < 0 || offset > value.length - length) throw new ArgumentException("Arg_InvalidOffLen");
+        checkRadix(radix);
+        checkBits(bits);
+        int start = offset;
+        int end = offset + length;
+        while (start < end && isWhitespace((char) (value[start] & 0xFF))) start++;
+        while (end > start && isWhitespace((char) (value[end - 1] & 0xFF))) end--;
+        if (start < end && value[start] == '-') throw new ArgumentException("Arg_CannotHaveNegativeValue");
+        if (start < end && value[start] == '+') start++;
+        if (radix == 16 && end - start > 2 && value[start] == '0' && (value[start + 1] | 0x20) == 'x') start += 2;
+        if (start == end) throw new FormatException("Format_InvalidString");
+
+        while (start < end - 1 && value[start] == '0') start++;
+        if ((radix & (radix - 1)) == 0) {
+            int shift = Integer.numberOfTrailingZeros(radix);
+            long result = 0;
+            int invalid = 0;
+            for (int i = start; i < end; i++) {
+                int d = DIGITS[value[i] & 0xFF];
+                invalid |= d | (radix - 1 - d);
+                result = result << shift | (d & (radix - 1));
+            }
+            if (invalid < 0) throw new FormatException("Format_InvalidString");
+            return checkWidth(result, DIGITS[value[start] & 0xFF], end - start, shift, bits, overflowKey);
+        }
+
+        long result = 0;
+        for (int i = start; i < end; i++) {
+            int d = digit(value[i] & 0xFF, radix);
+            if (d < 0) throw new FormatException("Format_InvalidString");
+            result = multiplyAdd(result, radix, d, overflowKey);
+        }
+        return checkBits(result, bits, overflowKey);
+    }
+
+    // The leading digit holds the top bits; digits beyond the width, or a leading digit wider
+    // than what is left of it, overflow.
+    private static long checkWidth(long result, int leading, int digits, int shift, int bits, String overflowKey) {
+        int significant = (digits - 1) * shift + 32 - Integer.numberOfLeadingZeros(leading);
+        if (significant > bits) throw new OverflowException(overflowKey);
+        return result;
+    }
+
+    private static long multiplyAdd(long result, int radix, int digit, String overflowKey) {
+        if (Long.compareUnsigned(result, Long.divideUnsigned(-1L, radix)) > 0) throw new OverflowException(overflowKey);
+        long next = result * radix + digit;
+        if (Long.compareUnsigned(next, digit) < 0) throw new OverflowException(overflowKey);
+        return next;
+    }
+
+    private static long checkBits(long result, int bits, String overflowKey) {
+        if (bits < 64 && result >>> bits != 0) throw new OverflowException(overflowKey);
+        return result;
+    }
+
+    private static void checkBits(int bits) {
+        if (bits < 1 || bits > 64) throw new ArgumentException("bits");
+    }
+
+    private static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\r' || c == '\f' || c == 0x0B;
+    }
+}
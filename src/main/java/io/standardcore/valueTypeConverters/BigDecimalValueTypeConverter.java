@@ -1,6 +1,10 @@
 package io.standardcore.valueTypeConverters;
 
+import io.standardcore.Convert;
+import io.standardcore.Convertible;
+import io.standardcore.FormatException;
 import io.standardcore.FormatProvider;
+import io.standardcore.InvalidCastException;
 import io.standardcore.ValueTypeConverter;
 
 import java.math.BigDecimal;
@@ -8,61 +12,76 @@ import java.math.BigDecimal;
 public class BigDecimalValueTypeConverter implements ValueTypeConverter<BigDecimal> {
     @Override
     public BigDecimal convert(Object value) {
-        return null;
+        return convert(value, null);
     }
 
     @Override
     public BigDecimal convert(Object value, FormatProvider provider) {
-        return null;
+        if (value instanceof BigDecimal) return (BigDecimal) value;
+        if (value instanceof CharSequence) return convert(value.toString());
+        if (value instanceof Boolean) return convert((Boolean) value);
+        if (value instanceof Character) return convert((Character) value);
+        if (value instanceof Byte) return convert((Byte) value);
+        if (value instanceof Short) return convert((Short) value);
+        if (value instanceof Integer) return convert((Integer) value);
+        if (value instanceof Long) return convert((Long) value);
+        if (value instanceof Float) return convert((Float) value);
+        if (value instanceof Double) return convert((Double) value);
+        if (value instanceof Convertible) return ((Convertible) value).toDecimal(provider);
+        throw new InvalidCastException("InvalidCast_FromTo");
     }
 
     @Override
     public BigDecimal convert(Boolean value) {
-        return null;
+        return value ? BigDecimal.ONE : BigDecimal.ZERO;
     }
 
     @Override
     public BigDecimal convert(Character value) {
-        return null;
+        throw new InvalidCastException("InvalidCast_FromTo");
     }
 
     @Override
     public BigDecimal convert(Byte value) {
-        return null;
+        return BigDecimal.valueOf(value);
     }
 
     @Override
     public BigDecimal convert(Short value) {
-        return null;
+        return BigDecimal.valueOf(value);
     }
 
     @Override
     public BigDecimal convert(Integer value) {
-        return null;
+        return BigDecimal.valueOf(value);
     }
 
     @Override
     public BigDecimal convert(Long value) {
-        return null;
+        return BigDecimal.valueOf(value);
     }
 
     @Override
     public BigDecimal convert(Float value) {
-        return null;
+        return Convert.toDecimal(value);
     }
 
     @Override
     public BigDecimal convert(Double value) {
-        return null;
+        return Convert.toDecimal(value);
     }
 
     @Override
     public BigDecimal convert(BigDecimal value) {
-        return null;
+        return value;
     }
 
     @Override
     public BigDecimal convert(String value) {
-        return null;
+        try {
+            return new BigDecimal(value.trim());
+        } catch (NumberFormatException e) {
+            throw new FormatException("Format_InvalidString", e);
+        }
     }
 }
@@ -1,68 +1,84 @@
 package io.standardcore.valueTypeConverters;
 
+import io.standardcore.Convertible;
 import io.standardcore.FormatProvider;
+import io.standardcore.InvalidCastException;
 import io.standardcore.ValueTypeConverter;
+import io.standardcore.parsing.BooleanParser;
 
 import java.math.BigDecimal;
 
 public class BooleanValueTypeConverter implements ValueTypeConverter<Boolean> {
     @Override
     public Boolean convert(Object value) {
-        return null;
+        return convert(value, null);
     }
 
     @Override
     public Boolean convert(Object value, FormatProvider provider) {
-        return null;
+        if (value instanceof Boolean) return (Boolean) value;
+        if (value instanceof CharSequence) {
+            CharSequence text = (CharSequence) value;
+            return BooleanParser.getInstance(provider).parse(text, 0, text.length());
+        }
+        if (value instanceof Byte) return convert((Byte) value);
+        if (value instanceof Short) return convert((Short) value);
+        if (value instanceof Integer) return convert((Integer) value);
+        if (value instanceof Long) return convert((Long) value);
+        if (value instanceof Float) return convert((Float) value);
+        if (value instanceof Double) return convert((Double) value);
+        if (value instanceof BigDecimal) return convert((BigDecimal) value);
+        if (value instanceof Convertible) return ((Convertible) value).toBoolean(provider);
+        throw new InvalidCastException("InvalidCast_FromTo");
     }
 
     @Override
     public Boolean convert(Boolean value) {
-        return null;
+        return value;
     }
 
     @Override
     public Boolean convert(Character value) {
-        return null;
+        throw new InvalidCastException("InvalidCast_FromTo");
     }
 
     @Override
     public Boolean convert(Byte value) {
-        return null;
+        return value != 0;
     }
 
     @Override
     public Boolean convert(Short value) {
-        return null;
+        return value != 0;
     }
 
     @Override
     public Boolean convert(Integer value) {
-        return null;
+        return value != 0;
     }
 
     @Override
     public Boolean convert(Long value) {
-        return null;
+        return value != 0;
     }
 
     @Override
     public Boolean convert(Float value) {
-        return null;
+        return value != 0;
     }
 
     @Override
     public Boolean convert(Double value) {
-        return null;
+        return value != 0;
     }
 
     @Override
     public Boolean convert(BigDecimal value) {
-        return null;
+        return value.signum() != 0;
     }
 
     @Override
     public Boolean convert(String value) {
-        return null;
+        return BooleanParser.DEFAULT.parse(value, 0, value.length());
     }
 }
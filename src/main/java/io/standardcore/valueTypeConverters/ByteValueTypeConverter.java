@@ -1,68 +1,83 @@
 package io.standardcore.valueTypeConverters;
 
+import io.standardcore.Convertible;
 import io.standardcore.FormatProvider;
+import io.standardcore.InvalidCastException;
+import io.standardcore.OverflowPolicy;
 import io.standardcore.ValueTypeConverter;
+import io.standardcore.parsing.Int64Parser;
 
 import java.math.BigDecimal;
 
 public class ByteValueTypeConverter implements ValueTypeConverter<Byte> {
     @Override
     public Byte convert(Object value) {
-        return null;
+        return convert(value, null);
     }
 
     @Override
     public Byte convert(Object value, FormatProvider provider) {
-        return null;
+        if (value instanceof Byte) return (Byte) value;
+        if (value instanceof CharSequence) return OverflowPolicy.CHECKED.toByte(Int64Parser.parse((CharSequence) value));
+        if (value instanceof Boolean) return convert((Boolean) value);
+        if (value instanceof Character) return convert((Character) value);
+        if (value instanceof Short) return convert((Short) value);
+        if (value instanceof Integer) return convert((Integer) value);
+        if (value instanceof Long) return convert((Long) value);
+        if (value instanceof Float) return convert((Float) value);
+        if (value instanceof Double) return convert((Double) value);
+        if (value instanceof BigDecimal) return convert((BigDecimal) value);
+        if (value instanceof Convertible) return ((Convertible) value).toByte(provider);
+        throw new InvalidCastException("InvalidCast_FromTo");
     }
 
     @Override
     public Byte convert(Boolean value) {
-        return null;
+        return value ? (byte) 1 : (byte) 0;
     }
 
     @Override
     public Byte convert(Character value) {
-        return null;
+        return OverflowPolicy.CHECKED.toByte(value);
     }
 
     @Override
     public Byte convert(Byte value) {
-        return null;
+        return value;
     }
 
     @Override
     public Byte convert(Short value) {
-        return null;
+        return OverflowPolicy.CHECKED.toByte(value);
     }
 
     @Override
     public Byte convert(Integer value) {
-        return null;
+        return OverflowPolicy.CHECKED.toByte(value);
     }
 
     @Override
     public Byte convert(Long value) {
-        return null;
+        return OverflowPolicy.CHECKED.toByte(value);
     }
 
     @Override
     public Byte convert(Float value) {
-        return null;
+        return OverflowPolicy.CHECKED.toByte(value);
     }
 
     @Override
     public Byte convert(Double value) {
-        return null;
+        return OverflowPolicy.CHECKED.toByte(value);
     }
 
     @Override
     public Byte convert(BigDecimal value) {
-        return null;
+        return OverflowPolicy.CHECKED.toByte(value);
     }
 
     @Override
     public Byte convert(String value) {
-        return null;
+        return OverflowPolicy.CHECKED.toByte(Int64Parser.parse(value));
     }
 }
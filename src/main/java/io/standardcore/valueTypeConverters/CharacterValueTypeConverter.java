@@ -1,6 +1,10 @@
 package io.standardcore.valueTypeConverters;
 
+import io.standardcore.Convertible;
+import io.standardcore.FormatException;
 import io.standardcore.FormatProvider;
+import io.standardcore.InvalidCastException;
+import io.standardcore.OverflowPolicy;
 import io.standardcore.ValueTypeConverter;
 
 import java.math.BigDecimal;
@@ -8,61 +12,73 @@ import java.math.BigDecimal;
 public class CharacterValueTypeConverter implements ValueTypeConverter<Character> {
     @Override
     public Character convert(Object value) {
-        return null;
+        return convert(value, null);
     }
 
     @Override
     public Character convert(Object value, FormatProvider provider) {
-        return null;
+        if (value instanceof Character) return (Character) value;
+        if (value instanceof CharSequence) return convert(value.toString());
+        if (value instanceof Boolean) return convert((Boolean) value);
+        if (value instanceof Byte) return convert((Byte) value);
+        if (value instanceof Short) return convert((Short) value);
+        if (value instanceof Integer) return convert((Integer) value);
+        if (value instanceof Long) return convert((Long) value);
+        if (value instanceof Float) return convert((Float) value);
+        if (value instanceof Double) return convert((Double) value);
+        if (value instanceof BigDecimal) return convert((BigDecimal) value);
+        if (value instanceof Convertible) return ((Convertible) value).toChar(provider);
+        throw new InvalidCastException("InvalidCast_FromTo");
     }
 
     @Override
     public Character convert(Boolean value) {
-        return null;
+        throw new InvalidCastException("InvalidCast_FromTo");
     }
 
     @Override
     public Character convert(Character value) {
-        return null;
+        return value;
     }
 
     @Override
     public Character convert(Byte value) {
-        return null;
+        return OverflowPolicy.CHECKED.toChar(value);
     }
 
     @Override
     public Character convert(Short value) {
-        return null;
+        return OverflowPolicy.CHECKED.toChar(value);
     }
 
     @Override
     public Character convert(Integer value) {
-        return null;
+        return OverflowPolicy.CHECKED.toChar(value);
     }
 
     @Override
     public Character convert(Long value) {
-        return null;
+        return OverflowPolicy.CHECKED.toChar(value);
     }
 
     @Override
     public Character convert(Float value) {
-        return null;
+        throw new InvalidCastException("InvalidCast_FromTo");
     }
 
     @Override
     public Character convert(Double value) {
-        return null;
+        throw new InvalidCastException("InvalidCast_FromTo");
     }
 
     @Override
     public Character convert(BigDecimal value) {
-        return null;
+        throw new InvalidCastException("InvalidCast_FromTo");
     }
 
     @Override
     public Character convert(String value) {
-        return null;
+        if (value.length() != 1) throw new FormatException("Format_NeedSingleChar");
+        return value.charAt(0);
     }
 }
@@ -1,6 +1,9 @@
 package io.standardcore.valueTypeConverters;
 
+import io.standardcore.Convertible;
+import io.standardcore.FormatException;
 import io.standardcore.FormatProvider;
+import io.standardcore.InvalidCastException;
 import io.standardcore.ValueTypeConverter;
 
 import java.math.BigDecimal;
@@ -8,61 +11,76 @@ import java.math.BigDecimal;
 public class DoubleValueTypeConverter implements ValueTypeConverter<Double> {
     @Override
     public Double convert(Object value) {
-        return null;
+        return convert(value, null);
     }
 
     @Override
     public Double convert(Object value, FormatProvider provider) {
-        return null;
+        if (value instanceof Double) return (Double) value;
+        if (value instanceof CharSequence) return convert(value.toString());
+        if (value instanceof Boolean) return convert((Boolean) value);
+        if (value instanceof Character) return convert((Character) value);
+        if (value instanceof Byte) return convert((Byte) value);
+        if (value instanceof Short) return convert((Short) value);
+        if (value instanceof Integer) return convert((Integer) value);
+        if (value instanceof Long) return convert((Long) value);
+        if (value instanceof Float) return convert((Float) value);
+        if (value instanceof BigDecimal) return convert((BigDecimal) value);
+        if (value instanceof Convertible) return ((Convertible) value).toDouble(provider);
+        throw new InvalidCastException("InvalidCast_FromTo");
     }
 
     @Override
     public Double convert(Boolean value) {
-        return null;
+        return value ? 1d : 0d;
     }
 
     @Override
     public Double convert(Character value) {
-        return null;
+        throw new InvalidCastException("InvalidCast_FromTo");
     }
 
     @Override
     public Double convert(Byte value) {
-        return null;
+        return value.doubleValue();
     }
 
     @Override
     public Double convert(Short value) {
-        return null;
+        return value.doubleValue();
     }
 
     @Override
     public Double convert(Integer value) {
-        return null;
+        return value.doubleValue();
     }
 
     @Override
     public Double convert(Long value) {
-        return null;
+        return value.doubleValue();
     }
 
     @Override
     public Double convert(Float value) {
-        return null;
+        return value.doubleValue();
     }
 
     @Override
     public Double convert(Double value) {
-        return null;
+        return value;
     }
 
     @Override
     public Double convert(BigDecimal value) {
-        return null;
+        return value.doubleValue();
     }
 
     @Override
     public Double convert(String value) {
-        return null;
+        try {
+            return Double.parseDouble(value);
+        } catch (NumberFormatException e) {
+            throw new FormatException("Format_InvalidString", e);
+        }
     }
 }
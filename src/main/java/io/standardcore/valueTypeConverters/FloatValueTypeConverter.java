@@ -1,6 +1,9 @@
 package io.standardcore.valueTypeConverters;
 
+import io.standardcore.Convertible;
+import io.standardcore.FormatException;
 import io.standardcore.FormatProvider;
+import io.standardcore.InvalidCastException;
 import io.standardcore.ValueTypeConverter;
 
 import java.math.BigDecimal;
@@ -8,61 +11,76 @@ import java.math.BigDecimal;
 public class FloatValueTypeConverter implements ValueTypeConverter<Float> {
     @Override
     public Float convert(Object value) {
-        return null;
+        return convert(value, null);
     }
 
     @Override
     public Float convert(Object value, FormatProvider provider) {
-        return null;
+        if (value instanceof Float) return (Float) value;
+        if (value instanceof CharSequence) return convert(value.toString());
+        if (value instanceof Boolean) return convert((Boolean) value);
+        if (value instanceof Character) return convert((Character) value);
+        if (value instanceof Byte) return convert((Byte) value);
+        if (value instanceof Short) return convert((Short) value);
+        if (value instanceof Integer) return convert((Integer) value);
+        if (value instanceof Long) return convert((Long) value);
+        if (value instanceof Double) return convert((Double) value);
+        if (value instanceof BigDecimal) return convert((BigDecimal) value);
+        if (value instanceof Convertible) return ((Convertible) value).toSingle(provider);
+        throw new InvalidCastException("InvalidCast_FromTo");
     }
 
     @Override
     public Float convert(Boolean value) {
-        return null;
+        return value ? 1f : 0f;
     }
 
     @Override
     public Float convert(Character value) {
-        return null;
+        throw new InvalidCastException("InvalidCast_FromTo");
     }
 
     @Override
     public Float convert(Byte value) {
-        return null;
+        return value.floatValue();
     }
 
     @Override
     public Float convert(Short value) {
-        return null;
+        return value.floatValue();
     }
 
     @Override
     public Float convert(Integer value) {
-        return null;
+        return value.floatValue();
     }
 
     @Override
     public Float convert(Long value) {
-        return null;
+        return value.floatValue();
     }
 
     @Override
     public Float convert(Float value) {
-        return null;
+        return value;
     }
 
     @Override
     public Float convert(Double value) {
-        return null;
+        return value.floatValue();
     }
 
     @Override
     public Float convert(BigDecimal value) {
-        return null;
+        return value.floatValue();
     }
 
     @Override
     public Float convert(String value) {
-        return null;
+        try {
+            return Float.parseFloat(value);
+        } catch (NumberFormatException e) {
+            throw new FormatException("Format_InvalidString", e);
+        }
     }
 }
@@ -1,68 +1,83 @@
 package io.standardcore.valueTypeConverters;
 
+import io.standardcore.Convertible;
 import io.standardcore.FormatProvider;
+import io.standardcore.InvalidCastException;
+import io.standardcore.OverflowPolicy;
 import io.standardcore.ValueTypeConverter;
+import io.standardcore.parsing.Int64Parser;
 
 import java.math.BigDecimal;
 
 public class IntegerValueTypeConverter implements ValueTypeConverter<Integer> {
     @Override
     public Integer convert(Object value) {
-        return null;
+        return convert(value, null);
     }
 
     @Override
     public Integer convert(Object value, FormatProvider provider) {
-        return null;
+        if (value instanceof Integer) return (Integer) value;
+        if (value instanceof CharSequence) return OverflowPolicy.CHECKED.toInt32(Int64Parser.parse((CharSequence) value));
+        if (value instanceof Boolean) return convert((Boolean) value);
+        if (value instanceof Character) return convert((Character) value);
+        if (value instanceof Byte) return convert((Byte) value);
+        if (value instanceof Short) return convert((Short) value);
+        if (value instanceof Long) return convert((Long) value);
+        if (value instanceof Float) return convert((Float) value);
+        if (value instanceof Double) return convert((Double) value);
+        if (value instanceof BigDecimal) return convert((BigDecimal) value);
+        if (value instanceof Convertible) return ((Convertible) value).toInt32(provider);
+        throw new InvalidCastException("InvalidCast_FromTo");
     }
 
     @Override
     public Integer convert(Boolean value) {
-        return null;
+        return value ? 1 : 0;
     }
 
     @Override
     public Integer convert(Character value) {
-        return null;
+        return OverflowPolicy.CHECKED.toInt32(value);
     }
 
     @Override
     public Integer convert(Byte value) {
-        return null;
+        return OverflowPolicy.CHECKED.toInt32(value);
     }
 
     @Override
     public Integer convert(Short value) {
-        return null;
+        return OverflowPolicy.CHECKED.toInt32(value);
     }
 
     @Override
     public Integer convert(Integer value) {
-        return null;
+        return value;
     }
 
     @Override
     public Integer convert(Long value) {
-        return null;
+        return OverflowPolicy.CHECKED.toInt32(value);
     }
 
     @Override
     public Integer convert(Float value) {
-        return null;
+        return OverflowPolicy.CHECKED.toInt32(value);
     }
 
     @Override
     public Integer convert(Double value) {
-        return null;
+        return OverflowPolicy.CHECKED.toInt32(value);
     }
 
     @Override
     public Integer convert(BigDecimal value) {
-        return null;
+        return OverflowPolicy.CHECKED.toInt32(value);
     }
 
     @Override
     public Integer convert(String value) {
-        return null;
+        return OverflowPolicy.CHECKED.toInt32(Int64Parser.parse(value));
     }
 }
@@ -1,69 +1,102 @@
 package io.standardcore.valueTypeConverters;
 
+import io.standardcore.Convertible;
+import io.standardcore.FormatException;
 import io.standardcore.FormatProvider;
+import io.standardcore.InvalidCastException;
 import io.standardcore.ValueTypeConverter;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeFormatterBuilder;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoField;
 
 public class LocalDateTimeValueTypeConverter implements ValueTypeConverter<LocalDateTime> {
+    // ISO-8601 date with an optional time, separated by 'T' or a space.
+    private static final DateTimeFormatter DEFAULT_FORMATTER = new DateTimeFormatterBuilder()
+            .append(DateTimeFormatter.ISO_LOCAL_DATE)
+            .optionalStart()
+            .optionalStart().appendLiteral('T').optionalEnd()
+            .optionalStart().appendLiteral(' ').optionalEnd()
+            .append(DateTimeFormatter.ISO_LOCAL_TIME)
+            .optionalEnd()
+            .parseDefaulting(ChronoField.HOUR_OF_DAY, 0)
+            .toFormatter();
+
     @Override
     public LocalDateTime convert(Object value) {
-        return null;
+        return convert(value, null);
     }
 
     @Override
     public LocalDateTime convert(Object value, FormatProvider provider) {
-        return null;
+        if (value instanceof LocalDateTime) return (LocalDateTime) value;
+        if (value instanceof CharSequence) {
+            Object format = provider == null ? null : provider.getFormat(DateTimeFormatter.class);
+            if (format instanceof DateTimeFormatter) return parse(value.toString(), (DateTimeFormatter) format);
+            return convert(value.toString());
+        }
+        if (value instanceof Convertible) return ((Convertible) value).toDateTime(provider);
+        throw new InvalidCastException("InvalidCast_FromTo");
     }
 
     @Override
     public LocalDateTime convert(Boolean value) {
-        return null;
+        throw new InvalidCastException("InvalidCast_FromTo");
     }
 
     @Override
     public LocalDateTime convert(Character value) {
-        return null;
+        throw new InvalidCastException("InvalidCast_FromTo");
     }
 
     @Override
     public LocalDateTime convert(Byte value) {
-        return null;
+        throw new InvalidCastException("InvalidCast_FromTo");
     }
 
     @Override
     public LocalDateTime convert(Short value) {
-        return null;
+        throw new InvalidCastException("InvalidCast_FromTo");
     }
 
     @Override
     public LocalDateTime convert(Integer value) {
-        return null;
+        throw new InvalidCastException("InvalidCast_FromTo");
     }
 
     @Override
     public LocalDateTime convert(Long value) {
-        return null;
+        throw new InvalidCastException("InvalidCast_FromTo");
     }
 
     @Override
     public LocalDateTime convert(Float value) {
-        return null;
+        throw new InvalidCastException("InvalidCast_FromTo");
     }
 
     @Override
     public LocalDateTime convert(Double value) {
-        return null;
+        throw new InvalidCastException("InvalidCast_FromTo");
     }
 
     @Override
     public LocalDateTime convert(BigDecimal value) {
-        return null;
+        throw new InvalidCastException("InvalidCast_FromTo");
     }
 
     @Override
     public LocalDateTime convert(String value) {
-        return null;
+        return parse(value.trim(), DEFAULT_FORMATTER);
+    }
+
+    private static LocalDateTime parse(String value, DateTimeFormatter formatter) {
+        try {
+            return LocalDateTime.parse(value, formatter);
+        } catch (DateTimeParseException e) {
+            throw new FormatException("Format_BadDateTime", e);
+        }
     }
 }
@@ -1,68 +1,83 @@
 package io.standardcore.valueTypeConverters;
 
+import io.standardcore.Convertible;
 import io.standardcore.FormatProvider;
+import io.standardcore.InvalidCastException;
+import io.standardcore.OverflowPolicy;
 import io.standardcore.ValueTypeConverter;
+import io.standardcore.parsing.Int64Parser;
 
 import java.math.BigDecimal;
 
 public class LongValueTypeConverter implements ValueTypeConverter<Long> {
     @Override
     public Long convert(Object value) {
-        return null;
+        return convert(value, null);
     }
 
     @Override
     public Long convert(Object value, FormatProvider provider) {
-        return null;
+        if (value instanceof Long) return (Long) value;
+        if (value instanceof CharSequence) return Int64Parser.parse((CharSequence) value);
+        if (value instanceof Boolean) return convert((Boolean) value);
+        if (value instanceof Character) return convert((Character) value);
+        if (value instanceof Byte) return convert((Byte) value);
+        if (value instanceof Short) return convert((Short) value);
+        if (value instanceof Integer) return convert((Integer) value);
+        if (value instanceof Float) return convert((Float) value);
+        if (value instanceof Double) return convert((Double) value);
+        if (value instanceof BigDecimal) return convert((BigDecimal) value);
+        if (value instanceof Convertible) return ((Convertible) value).toInt64(provider);
+        throw new InvalidCastException("InvalidCast_FromTo");
     }
 
     @Override
     public Long convert(Boolean value) {
-        return null;
+        return value ? 1L : 0L;
     }
 
     @Override
     public Long convert(Character value) {
-        return null;
+        return (long) value;
     }
 
     @Override
     public Long convert(Byte value) {
-        return null;
+        return (long) value;
     }
 
     @Override
     public Long convert(Short value) {
-        return null;
+        return (long) value;
     }
 
     @Override
     public Long convert(Integer value) {
-        return null;
+        return (long) value;
     }
 
     @Override
     public Long convert(Long value) {
-        return null;
+        return value;
     }
 
     @Override
     public Long convert(Float value) {
-        return null;
+        return OverflowPolicy.CHECKED.toInt64(value);
     }
 
     @Override
     public Long convert(Double value) {
-        return null;
+        return OverflowPolicy.CHECKED.toInt64(value);
     }
 
     @Override
     public Long convert(BigDecimal value) {
-        return null;
+        return OverflowPolicy.CHECKED.toInt64(value);
     }
 
     @Override
     public Long convert(String value) {
-        return null;
+        return Int64Parser.parse(value);
     }
 }
@@ -1,68 +1,83 @@
 package io.standardcore.valueTypeConverters;
 
+import io.standardcore.Convertible;
 import io.standardcore.FormatProvider;
+import io.standardcore.InvalidCastException;
+import io.standardcore.OverflowPolicy;
 import io.standardcore.ValueTypeConverter;
+import io.standardcore.parsing.Int64Parser;
 
 import java.math.BigDecimal;
 
 public class ShortValueTypeConverter implements ValueTypeConverter<Short> {
     @Override
     public Short convert(Object value) {
-        return null;
+        return convert(value, null);
     }
 
     @Override
     public Short convert(Object value, FormatProvider provider) {
-        return null;
+        if (value instanceof Short) return (Short) value;
+        if (value instanceof CharSequence) return OverflowPolicy.CHECKED.toInt16(Int64Parser.parse((CharSequence) value));
+        if (value instanceof Boolean) return convert((Boolean) value);
+        if (value instanceof Character) return convert((Character) value);
+        if (value instanceof Byte) return convert((Byte) value);
+        if (value instanceof Integer) return convert((Integer) value);
+        if (value instanceof Long) return convert((Long) value);
+        if (value instanceof Float) return convert((Float) value);
+        if (value instanceof Double) return convert((Double) value);
+        if (value instanceof BigDecimal) return convert((BigDecimal) value);
+        if (value instanceof Convertible) return ((Convertible) value).toInt16(provider);
+        throw new InvalidCastException("InvalidCast_FromTo");
     }
 
     @Override
     public Short convert(Boolean value) {
-        return null;
+        return value ? (short) 1 : (short) 0;
     }
 
     @Override
     public Short convert(Character value) {
-        return null;
+        return OverflowPolicy.CHECKED.toInt16(value);
     }
 
     @Override
     public Short convert(Byte value) {
-        return null;
+        return OverflowPolicy.CHECKED.toInt16(value);
     }
 
     @Override
     public Short convert(Short value) {
-        return null;
+        return value;
     }
 
     @Override
     public Short convert(Integer value) {
-        return null;
+        return OverflowPolicy.CHECKED.toInt16(value);
     }
 
     @Override
     public Short convert(Long value) {
-        return null;
+        return OverflowPolicy.CHECKED.toInt16(value);
     }
 
     @Override
     public Short convert(Float value) {
-        return null;
+        return OverflowPolicy.CHECKED.toInt16(value);
     }
 
     @Override
     public Short convert(Double value) {
-        return null;
+        return OverflowPolicy.CHECKED.toInt16(value);
     }
 
     @Override
     public Short convert(BigDecimal value) {
-        return null;
+        return OverflowPolicy.CHECKED.toInt16(value);
     }
 
     @Override
     public Short convert(String value) {
-        return null;
+        return OverflowPolicy.CHECKED.toInt16(Int64Parser.parse(value));
     }
 }
@@ -1,68 +1,70 @@
 package io.standardcore.valueTypeConverters;
 
+import io.standardcore.Convert;
 import io.standardcore.FormatProvider;
 import io.standardcore.ValueTypeConverter;
+import io.standardcore.formatting.ValueFormatter;
 
 import java.math.BigDecimal;
 
 public class StringValueTypeConverter implements ValueTypeConverter<String> {
     @Override
     public String convert(Object value) {
-        return null;
+        return ValueFormatter.format(value, null);
     }
 
     @Override
     public String convert(Object value, FormatProvider provider) {
-        return null;
+        return ValueFormatter.format(value, provider);
     }
 
     @Override
     public String convert(Boolean value) {
-        return null;
+        return value == null ? null : Convert.toString(value);
     }
 
     @Override
     public String convert(Character value) {
-        return null;
+        return value == null ? null : Convert.toString(value);
     }
 
     @Override
     public String convert(Byte value) {
-        return null;
+        return value == null ? null : Convert.toString(value);
     }
 
     @Override
     public String convert(Short value) {
-        return null;
+        return value == null ? null : Convert.toString(value);
     }
 
     @Override
     public String convert(Integer value) {
-        return null;
+        return value == null ? null : Convert.toString(value);
     }
 
     @Override
     public String convert(Long value) {
-        return null;
+        return value == null ? null : Convert.toString(value);
     }
 
     @Override
     public String convert(Float value) {
-        return null;
+        return value == null ? null : Convert.toString(value);
     }
 
     @Override
     public String convert(Double value) {
-        return null;
+        return value == null ? null : Convert.toString(value);
     }
 
     @Override
     public String convert(BigDecimal value) {
-        return null;
+        return value == null ? null : Convert.toString(value);
     }
 
     @Override
     public String convert(String value) {
-        return null;
+        return value;
     }
 }
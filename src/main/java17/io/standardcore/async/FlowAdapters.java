@@ -0,0 +1,124 @@
+package io.standardcore.async;
+
+// Bridges between the Java 8 Flow interfaces of this library and java.util.concurrent.Flow,
+// compiled into META-INF/versions/17. Each adapter forwards calls unchanged; both sides share
+// the Reactive Streams contract.
+public final class FlowAdapters {
+    private FlowAdapters() {
+    }
+
+    public static <T, R> java.util.concurrent.Flow.Processor<T, R> toFlowProcessor(Flow.Processor<T, R> processor) {
+        if (processor == null) throw new NullPointerException("processor");
+        return new ProcessorToFlow<>(processor);
+    }
+
+    public static <T> java.util.concurrent.Flow.Publisher<T> toFlowPublisher(Flow.Publisher<T> publisher) {
+        if (publisher == null) throw new NullPointerException("publisher");
+        return subscriber -> publisher.subscribe(fromFlowSubscriber(subscriber));
+    }
+
+    public static <T> java.util.concurrent.Flow.Subscriber<T> toFlowSubscriber(Flow.Subscriber<T> subscriber) {
+        if (subscriber == null) throw new NullPointerException("subscriber");
+        return new SubscriberToFlow<>(subscriber);
+    }
+
+    public static <T> Flow.Publisher<T> fromFlowPublisher(java.util.concurrent.Flow.Publisher<T> publisher) {
+        if (publisher == null) throw new NullPointerException("publisher");
+        return subscriber -> publisher.subscribe(toFlowSubscriber(subscriber));
+    }
+
+    public static <T> Flow.Subscriber<T> fromFlowSubscriber(java.util.concurrent.Flow.Subscriber<T> subscriber) {
+        if (subscriber == null) throw new NullPointerException("subscriber");
+        return new SubscriberFromFlow<>(subscriber);
+    }
+
+    private static final class ProcessorToFlow<T, R> extends SubscriberToFlow<T> implements java.util.concurrent.Flow.Processor<T, R> {
+        private final Flow.Processor<T, R> processor;
+
+        ProcessorToFlow(Flow.Processor<T, R> processor) {
+            super(processor);
+            this.processor = processor;
+        }
+
+        @Override
+        public void subscribe(java.util.concurrent.Flow.Subscriber<? super R> subscriber) {
+            processor.subscribe(fromFlowSubscriber(subscriber));
+        }
+    }
+
+    private static class SubscriberToFlow<T> implements java.util.concurrent.Flow.Subscriber<T> {
+        private final Flow.Subscriber<T> subscriber;
+
+        SubscriberToFlow(Flow.Subscriber<T> subscriber) {
+            this.subscriber = subscriber;
+        }
+
+        @Override
+        public void onSubscribe(java.util.concurrent.Flow.Subscription subscription) {
+            subscriber.onSubscribe(subscription == null ? null : new Flow.Subscription() {
+                @Override
+                public void request(long n) {
+                    subscription.request(n);
+                }
+
+                @Override
+                public void cancel() {
+                    subscription.cancel();
+                }
+            });
+        }
+
+        @Override
+        public void onNext(T item) {
+            subscriber.onNext(item);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            subscriber.onError(throwable);
+        }
+
+        @Override
+        public void onComplete() {
+            subscriber.onComplete();
+        }
+    }
+
+    private static final class SubscriberFromFlow<T> implements Flow.Subscriber<T> {
+        private final java.util.concurrent.Flow.Subscriber<T> subscriber;
+
+        SubscriberFromFlow(java.util.concurrent.Flow.Subscriber<T> subscriber) {
+            this.subscriber = subscriber;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            subscriber.onSubscribe(subscription == null ? null : new java.util.concurrent.Flow.Subscription() {
+                @Override
+                public void request(long n) {
+                    subscription.request(n);
+                }
+
+                @Override
+                public void cancel() {
+                    subscription.cancel();
+                }
+            });
+        }
+
+        @Override
+        public void onNext(T item) {
+            subscriber.onNext(item);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            subscriber.onError(throwable);
+        }
+
+        @Override
+        public void onComplete() {
+            subscriber.onComplete();
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package io.standardcore.parsing;
+
+import io.standardcore.FormatException;
+import jdk.incubator.vector.ByteVector;
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+// DigitKernel on jdk.incubator.vector, compiled into META-INF/versions/17. BulkDigits loads it
+// reflectively; when the incubator module is not resolved, loading fails with a LinkageError and
+// the scalar kernel is used instead. The constructor also rejects shapes narrower than 128
+// bits, where the scalar SWAR loops are as fast.
+final class VectorDigitKernel extends DigitKernel {
+    private static final VectorSpecies<Byte> BYTES = ByteVector.SPECIES_PREFERRED;
+    private static final VectorSpecies<Long> LONGS = LongVector.SPECIES_PREFERRED;
+
+    private static final long ZEROS = 0x3030303030303030L;
+    private static final long HIGH_NIBBLES = 0xF0F0F0F0F0F0F0F0L;
+    private static final long SIXES = 0x0606060606060606L;
+    private static final long THREES = 0x3333333333333333L;
+    private static final long LOW_BYTES = 0x000000FF000000FFL;
+
+    VectorDigitKernel() {
+        if (BYTES.vectorBitSize() < 128 || BYTES.length() > 64) {
+            throw new UnsupportedOperationException("vector shape " + BYTES.vectorBitSize());
+        }
+    }
+
+    @Override
+    String getName() {
+        return "vector-" + BYTES.vectorBitSize();
+    }
+
+    @Override
+    boolean isDigits(byte[] src, int from, int to) {
+        int i = from;
+        int bound = from + BYTES.loopBound(to - from);
+        for (; i < bound; i += BYTES.length()) {
+            ByteVector v = ByteVector.fromArray(BYTES, src, i);
+            // bytes >= 0x80 are negative and fail the first compare
+            if (v.compare(VectorOperators.LT, (byte) '0').or(v.compare(VectorOperators.GT, (byte) '9')).anyTrue()) {
+                return false;
+            }
+        }
+        return i == to || super.isDigits(src, i, to);
+    }
+
+    @Override
+    int indexOf(byte[] src, int from, int to, byte delimiter) {
+        int i = from;
+        int bound = from + BYTES.loopBound(to - from);
+        for (; i < bound; i += BYTES.length()) {
+            VectorMask<Byte> hits = ByteVector.fromArray(BYTES, src, i).eq(delimiter);
+            if (hits.anyTrue()) return i + hits.firstTrue();
+        }
+        return super.indexOf(src, i, to, delimiter);
+    }
+
+    @Override
+    int findDelimiters(byte[] src, int from, int to, byte delimiter, int[] positions) {
+        int count = 0;
+        int i = from;
+        int bound = from + BYTES.loopBound(to - from);
+        for (; i < bound && count < positions.length; i += BYTES.length()) {
+            long hits = ByteVector.fromArray(BYTES, src, i).eq(delimiter).toLong();
+            while (hits != 0 && count < positions.length) {
+                positions[count++] = i + Long.numberOfTrailingZeros(hits);
+                hits &= hits - 1;
+            }
+            if (hits != 0) return count;
+        }
+        for (; i < to && count < positions.length; i++) {
+            if (src[i] == delimiter) positions[count++] = i;
+        }
+        return count;
+    }
+
+    // Back-to-back eight-digit fields are converted a whole vector at a time: the bytes are
+    // reinterpreted as little-endian longs, one field per lane, and the SWAR validation and
+    // conversion of Int64Parser run lane-wise. Other layouts use the scalar field loop.
+    @Override
+    void parseFixedWidth(byte[] src, int offset, int stride, int width, int count, long[] dst, int dstOffset) {
+        if (width != 8 || stride != 8) {
+            super.parseFixedWidth(src, offset, stride, width, count, dst, dstOffset);
+            return;
+        }
+
+        int field = 0;
+        int bound = LONGS.loopBound(count);
+        for (; field < bound; field += LONGS.length()) {
+            LongVector words = ByteVector.fromArray(BYTES, src, offset + field * 8).reinterpretAsLongs();
+
+            LongVector nonDigits = words.and(HIGH_NIBBLES)
+                    .or(words.add(SIXES).and(HIGH_NIBBLES).lanewise(VectorOperators.LSHR, 4))
+                    .lanewise(VectorOperators.XOR, THREES);
+            if (nonDigits.compare(VectorOperators.NE, 0).anyTrue()) throw new FormatException("Format_InvalidString");
+
+            LongVector digits = words.sub(ZEROS);
+            LongVector pairs = digits.mul(10).add(digits.lanewise(VectorOperators.LSHR, 8));
+            LongVector values = pairs.and(LOW_BYTES).mul(0x000F424000000064L)
+                    .add(pairs.lanewise(VectorOperators.LSHR, 16).and(LOW_BYTES).mul(0x0000271000000001L))
+                    .lanewise(VectorOperators.LSHR, 32);
+            values.intoArray(dst, dstOffset + field);
+        }
+        for (; field < count; field++) {
+            dst[dstOffset + field] = parseField(src, offset + field * 8, 8);
+        }
+    }
+}
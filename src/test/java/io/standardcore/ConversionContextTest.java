@@ -0,0 +1,121 @@
+package io.standardcore;
+
+import io.standardcore.mapping.BeanMapper;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Type;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+// Containers, primitive arrays and bean properties are converted with the context that was
+// asked, not with Convert's default one: its overflow and null policies reach every element.
+class ConversionContextTest {
+    private static final ConversionContext SATURATING = ConversionContext.builder()
+            .overflowPolicy(OverflowPolicy.SATURATING)
+            .build();
+
+    public static class Reading {
+        public int count;
+        public Short level;
+        public List<Integer> values;
+        public Map<String, Byte> flags;
+        public Optional<Integer> limit;
+    }
+
+    @Test
+    void containerElements() throws Exception {
+        Type listOfInteger = Reading.class.getField("values").getGenericType();
+        List<Object> source = Arrays.asList(5e9, -5_000_000_000L, "7", 3);
+
+        assertEquals(Arrays.asList(Integer.MAX_VALUE, Integer.MIN_VALUE, 7, 3), SATURATING.changeType(source, listOfInteger));
+        assertThrows(OverflowException.class, () -> Convert.changeType(source, listOfInteger, null));
+
+        Map<String, Object> flags = new HashMap<>();
+        flags.put("high", 1000);
+        flags.put("low", -1000.0);
+        Map<String, Byte> expected = new HashMap<>();
+        expected.put("high", Byte.MAX_VALUE);
+        expected.put("low", Byte.MIN_VALUE);
+        assertEquals(expected, SATURATING.changeType(flags, Reading.class.getField("flags").getGenericType()));
+
+        assertEquals(Optional.of(Integer.MAX_VALUE), SATURATING.changeType(1e12, Reading.class.getField("limit").getGenericType()));
+    }
+
+    @Test
+    void primitiveArrays() {
+        assertArrayEquals(new int[] {Integer.MAX_VALUE, Integer.MIN_VALUE, 1},
+                (int[]) SATURATING.changeType(new long[] {1L << 40, -(1L << 40), 1}, int[].class));
+        assertArrayEquals(new byte[] {Byte.MAX_VALUE, Byte.MIN_VALUE, 2},
+                (byte[]) SATURATING.changeType(new double[] {300.0, Double.NEGATIVE_INFINITY, 2.4}, byte[].class));
+        assertArrayEquals(new short[] {Short.MAX_VALUE, 4},
+                (short[]) SATURATING.changeType(new Object[] {1e9, "4"}, short[].class));
+        assertArrayEquals(new long[] {Long.MAX_VALUE, 0},
+                (long[]) SATURATING.changeType(Arrays.asList(1e30f, Double.NaN), long[].class));
+
+        ConversionContext unchecked = ConversionContext.builder().overflowPolicy(OverflowPolicy.UNCHECKED).build();
+        assertArrayEquals(new char[] {(char) -1, 'A'}, (char[]) unchecked.changeType(new int[] {-1, 65}, char[].class));
+
+        assertThrows(OverflowException.class, () -> Convert.changeType(new long[] {1L << 40}, int[].class, null));
+        assertThrows(OverflowException.class, () -> Convert.changeType(new Object[] {1e9}, short[].class, null));
+    }
+
+    @Test
+    void beanProperties() {
+        Map<String, Object> row = new HashMap<>();
+        row.put("count", 1e12);
+        row.put("level", -100_000L);
+        row.put("values", new Object[] {"1", 5e9});
+
+        Reading reading = BeanMapper.forClass(Reading.class).withContext(SATURATING).map(row);
+        assertEquals(Integer.MAX_VALUE, reading.count);
+        assertEquals(Short.MIN_VALUE, (short) reading.level);
+        assertEquals(Arrays.asList(1, Integer.MAX_VALUE), reading.values);
+
+        Reading positional = BeanMapper.forClass(Reading.class).withContext(SATURATING)
+                .forColumns("level", "count")
+                .map(new Object[] {70_000, -1e12});
+        assertEquals(Short.MAX_VALUE, (short) positional.level);
+        assertEquals(Integer.MIN_VALUE, positional.count);
+
+        assertThrows(OverflowException.class, () -> BeanMapper.forClass(Reading.class).map(row));
+    }
+
+    @Test
+    void nullPolicy() throws Exception {
+        Type listOfInteger = Reading.class.getField("values").getGenericType();
+        List<Object> source = Arrays.asList(1, null);
+        ConversionContext throwing = ConversionContext.builder().nullPolicy(NullPolicy.THROW).build();
+
+        assertEquals(source, Convert.changeType(source, listOfInteger, null));
+        assertThrows(ArgumentNullException.class, () -> throwing.changeType(source, listOfInteger));
+        assertThrows(ArgumentNullException.class, () -> throwing.changeType(new Object[] {1, null}, int[].class));
+
+        Map<String, Object> row = new HashMap<>();
+        row.put("level", null);
+        assertNull(BeanMapper.forClass(Reading.class).map(row).level);
+        assertThrows(ArgumentNullException.class, () -> BeanMapper.forClass(Reading.class).withContext(throwing).map(row));
+    }
+
+    // The default mapper looks the default context up per row, so it follows setDefaultContext.
+    @Test
+    void defaultMapperFollowsTheDefaultContext() {
+        ConversionContext installed = Convert.getDefaultContext();
+        Map<String, Object> row = new HashMap<>();
+        row.put("count", 1e12);
+        try {
+            Convert.setDefaultContext(SATURATING);
+            assertEquals(Integer.MAX_VALUE, BeanMapper.forClass(Reading.class).map(row).count);
+        } finally {
+            Convert.setDefaultContext(installed);
+        }
+        assertThrows(OverflowException.class, () -> BeanMapper.forClass(Reading.class).map(row));
+    }
+}
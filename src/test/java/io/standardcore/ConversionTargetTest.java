@@ -0,0 +1,189 @@
+package io.standardcore;
+
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Type;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+// The per-class target table and the changeType(Object, Type) dispatch built on it: primitive
+// classes share their wrapper's target, CharSequence is a String target, LocalDate/LocalTime
+// go to a registered converter's toDateTime, and other classes reach TypeConverter.toType.
+class ConversionTargetTest {
+    enum Level { LOW, HIGH }
+
+    // A user value type with no built-in conversion.
+    static final class Celsius {
+        final int degrees;
+
+        Celsius(int degrees) {
+            this.degrees = degrees;
+        }
+    }
+
+    @Test
+    void targetsByClass() {
+        assertSame(ConversionTarget.INT32, ConversionTarget.of(int.class));
+        assertSame(ConversionTarget.INT32, ConversionTarget.of(Integer.class));
+        assertSame(ConversionTarget.BOOLEAN, ConversionTarget.of(boolean.class));
+        assertSame(ConversionTarget.CHAR, ConversionTarget.of(char.class));
+        assertSame(ConversionTarget.BYTE, ConversionTarget.of(byte.class));
+        assertSame(ConversionTarget.INT16, ConversionTarget.of(short.class));
+        assertSame(ConversionTarget.INT64, ConversionTarget.of(long.class));
+        assertSame(ConversionTarget.SINGLE, ConversionTarget.of(float.class));
+        assertSame(ConversionTarget.DOUBLE, ConversionTarget.of(Double.class));
+        assertSame(ConversionTarget.UINT32, ConversionTarget.of(UInteger.class));
+        assertSame(ConversionTarget.UINT64, ConversionTarget.of(ULong.class));
+        assertSame(ConversionTarget.DECIMAL, ConversionTarget.of(BigDecimal.class));
+        assertSame(ConversionTarget.DECIMAL64, ConversionTarget.of(Decimal64.class));
+        assertSame(ConversionTarget.STRING, ConversionTarget.of(String.class));
+        assertSame(ConversionTarget.STRING, ConversionTarget.of(CharSequence.class));
+        assertSame(ConversionTarget.DATETIME, ConversionTarget.of(LocalDateTime.class));
+        assertSame(ConversionTarget.DATE_OR_TIME, ConversionTarget.of(LocalDate.class));
+        assertSame(ConversionTarget.DATE_OR_TIME, ConversionTarget.of(LocalTime.class));
+        assertSame(ConversionTarget.OBJECT, ConversionTarget.of(Object.class));
+        assertSame(ConversionTarget.CONVERTIBLE, ConversionTarget.of(Convertible.class));
+        assertSame(ConversionTarget.PRIMITIVE_ARRAY, ConversionTarget.of(int[].class));
+        assertSame(ConversionTarget.OTHER, ConversionTarget.of(Integer[].class));
+        assertSame(ConversionTarget.ENUM, ConversionTarget.of(Level.class));
+        assertSame(ConversionTarget.OTHER, ConversionTarget.of(StringBuilder.class));
+        assertSame(ConversionTarget.OTHER, ConversionTarget.of(Celsius.class));
+    }
+
+    @Test
+    void parameterizedTypesAreOther() throws Exception {
+        Type listOfInteger = ConversionTargetTest.class.getDeclaredMethod("integers").getGenericReturnType();
+        assertSame(ConversionTarget.OTHER, ConversionTarget.of(listOfInteger));
+    }
+
+    @Test
+    void builtInSourceValues() {
+        assertEquals(TypeCode.INT32, ConversionTarget.valueTypeCode(Integer.class));
+        assertEquals(TypeCode.STRING, ConversionTarget.valueTypeCode(String.class));
+        assertEquals(TypeCode.DATETIME, ConversionTarget.valueTypeCode(LocalDateTime.class));
+        // UInteger and ULong convert themselves
+        assertNull(ConversionTarget.valueTypeCode(UInteger.class));
+        assertNull(ConversionTarget.valueTypeCode(ULong.class));
+        assertNull(ConversionTarget.valueTypeCode(Object.class));
+        assertNull(ConversionTarget.valueTypeCode(LocalDate.class));
+        assertNull(ConversionTarget.valueTypeCode(StringBuilder.class));
+        assertNull(ConversionTarget.valueTypeCode(new BigDecimal("1") { }.getClass()));
+    }
+
+    @Test
+    void builtInDispatch() {
+        ConversionContext context = Convert.getDefaultContext();
+        assertEquals(12, context.changeType("12", int.class));
+        assertEquals(12, context.changeType("12", Integer.class));
+        assertEquals((short) 7, context.changeType(7.0, short.class));
+        assertEquals('A', context.changeType(65, char.class));
+        assertEquals(true, context.changeType("True", boolean.class));
+        assertEquals("12", context.changeType(12, CharSequence.class));
+        assertEquals(UInteger.valueOf(7), context.changeType("7", UInteger.class));
+        assertEquals(Level.HIGH, context.changeType("high", Level.class));
+        assertArrayEquals(new long[] {1, 2}, (long[]) context.changeType("1,2", long[].class));
+        assertEquals(5, context.changeType(5, Object.class));
+        assertThrows(OverflowException.class, () -> context.changeType(300, byte.class));
+        assertThrows(InvalidCastException.class, () -> context.changeType(5, StringBuilder.class));
+    }
+
+    @Test
+    void userTypesGoThroughTheirConverter() {
+        ConversionContext context = ConversionContext.builder().addTypeConverter(new CelsiusConverter()).build();
+        Celsius warm = new Celsius(21);
+
+        assertEquals(21, context.changeType(warm, int.class));
+        assertEquals(21L, context.changeType(warm, Long.class));
+        assertEquals("21 C", context.changeType(warm, CharSequence.class));
+        assertEquals(LocalDateTime.of(2024, 1, 21, 0, 0), context.changeType(warm, LocalDate.class));
+        assertEquals(LocalDateTime.of(2024, 1, 21, 0, 0), context.changeType(warm, LocalTime.class));
+        assertSame(warm, context.changeType(warm, Object.class));
+        assertSame(warm, context.changeType(warm, Celsius.class));
+        assertEquals("toType StringBuilder", context.changeType(warm, StringBuilder.class));
+    }
+
+    static List<Integer> integers() {
+        return null;
+    }
+
+    static final class CelsiusConverter implements TypeConverter {
+        @Override
+        public boolean isConvertible(Object value) {
+            return value instanceof Celsius;
+        }
+
+        @Override
+        public TypeCode getTypeCode(Object value) {
+            return TypeCode.OBJECT;
+        }
+
+        @Override
+        public Boolean toBoolean(Object value, FormatProvider provider) {
+            return ((Celsius) value).degrees != 0;
+        }
+
+        @Override
+        public Byte toByte(Object value, FormatProvider provider) {
+            return (byte) ((Celsius) value).degrees;
+        }
+
+        @Override
+        public Character toChar(Object value, FormatProvider provider) {
+            throw new InvalidCastException("InvalidCast_FromTo");
+        }
+
+        @Override
+        public LocalDateTime toDateTime(Object value, FormatProvider provider) {
+            return LocalDateTime.of(2024, 1, ((Celsius) value).degrees, 0, 0);
+        }
+
+        @Override
+        public BigDecimal toDecimal(Object value, FormatProvider provider) {
+            return BigDecimal.valueOf(((Celsius) value).degrees);
+        }
+
+        @Override
+        public Double toDouble(Object value, FormatProvider provider) {
+            return (double) ((Celsius) value).degrees;
+        }
+
+        @Override
+        public Short toShort(Object value, FormatProvider provider) {
+            return (short) ((Celsius) value).degrees;
+        }
+
+        @Override
+        public Integer toInteger(Object value, FormatProvider provider) {
+            return ((Celsius) value).degrees;
+        }
+
+        @Override
+        public Long toLong(Object value, FormatProvider provider) {
+            return (long) ((Celsius) value).degrees;
+        }
+
+        @Override
+        public Float toFloat(Object value, FormatProvider provider) {
+            return (float) ((Celsius) value).degrees;
+        }
+
+        @Override
+        public CharSequence toString(Object value, FormatProvider provider) {
+            return ((Celsius) value).degrees + " C";
+        }
+
+        @Override
+        public Object toType(Object value, Type conversionType, FormatProvider provider) {
+            return "toType " + ((Class<?>) conversionType).getSimpleName();
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package io.standardcore;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.math.BigDecimal;
+import java.text.DecimalFormatSymbols;
+import java.time.LocalDateTime;
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+// Each typed appendTo overload, for StringBuilder and Appendable sinks, appends exactly what
+// the matching Convert.toString returns, with and without localized symbols.
+class ConvertAppendToTest {
+    private static final FormatProvider GERMAN = formatType ->
+            formatType == DecimalFormatSymbols.class ? DecimalFormatSymbols.getInstance(Locale.GERMANY) : null;
+
+    @Test
+    void matchesToString() throws IOException {
+        for (FormatProvider provider : new FormatProvider[] {null, GERMAN}) {
+            for (boolean value : new boolean[] {true, false}) {
+                check(Convert.toString(value, provider), Convert.appendTo(new StringBuilder("ab"), value, provider),
+                        Convert.appendTo(new StringWriter().append("ab"), value, provider));
+            }
+            for (char value : new char[] {'x', 'é'}) {
+                check(Convert.toString(value, provider), Convert.appendTo(new StringBuilder("ab"), value, provider),
+                        Convert.appendTo(new StringWriter().append("ab"), value, provider));
+            }
+            for (byte value : new byte[] {Byte.MIN_VALUE, 0, Byte.MAX_VALUE}) {
+                check(Convert.toString(value, provider), Convert.appendTo(new StringBuilder("ab"), value, provider),
+                        Convert.appendTo(new StringWriter().append("ab"), value, provider));
+            }
+            for (short value : new short[] {Short.MIN_VALUE, -1, Short.MAX_VALUE}) {
+                check(Convert.toString(value, provider), Convert.appendTo(new StringBuilder("ab"), value, provider),
+                        Convert.appendTo(new StringWriter().append("ab"), value, provider));
+            }
+            for (int value : new int[] {Integer.MIN_VALUE, -7, 0, Integer.MAX_VALUE}) {
+                check(Convert.toString(value, provider), Convert.appendTo(new StringBuilder("ab"), value, provider),
+                        Convert.appendTo(new StringWriter().append("ab"), value, provider));
+                UInteger unsigned = UInteger.valueOf(value);
+                check(Convert.toString(unsigned, provider), Convert.appendTo(new StringBuilder("ab"), unsigned, provider),
+                        Convert.appendTo(new StringWriter().append("ab"), unsigned, provider));
+            }
+            for (long value : new long[] {Long.MIN_VALUE, -1, 0, 1234567890123L, Long.MAX_VALUE}) {
+                check(Convert.toString(value, provider), Convert.appendTo(new StringBuilder("ab"), value, provider),
+                        Convert.appendTo(new StringWriter().append("ab"), value, provider));
+                ULong unsigned = ULong.valueOf(value);
+                check(Convert.toString(unsigned, provider), Convert.appendTo(new StringBuilder("ab"), unsigned, provider),
+                        Convert.appendTo(new StringWriter().append("ab"), unsigned, provider));
+                Decimal64 decimal = Decimal64.valueOf(value, 4);
+                check(Convert.toString(decimal, provider), Convert.appendTo(new StringBuilder("ab"), decimal, provider),
+                        Convert.appendTo(new StringWriter().append("ab"), decimal, provider));
+            }
+            for (double value : new double[] {-0.0, 0.1, -2.5e-9, 1e21, Double.MAX_VALUE, Double.NaN, Double.NEGATIVE_INFINITY}) {
+                check(Convert.toString(value, provider), Convert.appendTo(new StringBuilder("ab"), value, provider),
+                        Convert.appendTo(new StringWriter().append("ab"), value, provider));
+                float single = (float) value;
+                check(Convert.toString(single, provider), Convert.appendTo(new StringBuilder("ab"), single, provider),
+                        Convert.appendTo(new StringWriter().append("ab"), single, provider));
+            }
+            for (String text : new String[] {"0.00", "-12.5", "1E+5"}) {
+                BigDecimal value = new BigDecimal(text);
+                check(Convert.toString(value, provider), Convert.appendTo(new StringBuilder("ab"), value, provider),
+                        Convert.appendTo(new StringWriter().append("ab"), value, provider));
+            }
+            LocalDateTime dateTime = LocalDateTime.of(2024, 2, 29, 23, 59, 30, 5_000);
+            check(Convert.toString(dateTime, provider), Convert.appendTo(new StringBuilder("ab"), dateTime, provider),
+                    Convert.appendTo(new StringWriter().append("ab"), dateTime, provider));
+            check(Convert.toString("text", provider), Convert.appendTo(new StringBuilder("ab"), "text", provider),
+                    Convert.appendTo(new StringWriter().append("ab"), "text", provider));
+            Object boxed = 12.5;
+            check(Convert.toString(boxed, provider), Convert.appendTo(new StringBuilder("ab"), boxed, provider),
+                    Convert.appendTo(new StringWriter().append("ab"), boxed, provider));
+        }
+        assertEquals("-12,5", Convert.toString(-12.5, GERMAN));
+    }
+
+    @Test
+    void nullsAppendNothing() throws IOException {
+        StringBuilder builder = new StringBuilder("ab");
+        assertSame(builder, Convert.appendTo(builder, (Integer) null, null));
+        Convert.appendTo(builder, (Double) null, null);
+        Convert.appendTo(builder, (LocalDateTime) null, null);
+        Convert.appendTo(builder, (ULong) null, null);
+        Convert.appendTo(builder, (Object) null, null);
+        assertEquals("ab", builder.toString());
+
+        StringWriter writer = new StringWriter();
+        Convert.appendTo(writer, (BigDecimal) null, null);
+        Convert.appendTo(writer, (String) null, null);
+        Convert.appendTo(writer, (Object) null, null);
+        assertEquals("", writer.toString());
+
+        assertThrows(ArgumentNullException.class, () -> Convert.appendTo((StringBuilder) null, 1, null));
+        assertThrows(ArgumentNullException.class, () -> Convert.appendTo((StringWriter) null, 1L, null));
+    }
+
+    private static void check(String expected, StringBuilder builder, StringWriter writer) {
+        assertEquals("ab" + expected, builder.toString());
+        assertEquals("ab" + expected, writer.toString());
+    }
+}
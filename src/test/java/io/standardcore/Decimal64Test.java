@@ -0,0 +1,80 @@
+package io.standardcore;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.time.Duration;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// Decimal64.valueOf(BigDecimal) at the edges of the unscaled long and of MAX_SCALE, and with
+// exponents far outside them.
+class Decimal64Test {
+    @Test
+    void exactValues() {
+        String[] values = {"0", "1", "-1", "0.5", "123.456", "9223372036854775807", "-9223372036854775808",
+                "0.000000000000000001", "-0.000000000000000001", "9.223372036854775807", "1E+5"};
+        for (String text : values) {
+            BigDecimal value = new BigDecimal(text);
+            assertEquals(0, value.compareTo(Decimal64.valueOf(value).toBigDecimal()), text);
+        }
+    }
+
+    @Test
+    void roundsToMaxScale() {
+        String[][] cases = {{"0.0000000000000000005", "0"}, {"0.0000000000000000015", "0.000000000000000002"},
+                {"-0.0000000000000000015", "-0.000000000000000002"}, {"0.0000000000000000004", "0"},
+                {"0.0000000000000000006", "0.000000000000000001"}, {"9223372036854775806.5", "9223372036854775806"}};
+        for (String[] c : cases) {
+            assertEquals(0, new BigDecimal(c[1]).compareTo(Decimal64.valueOf(new BigDecimal(c[0])).toBigDecimal()), c[0]);
+        }
+    }
+
+    @Test
+    void overflow() {
+        String[] values = {"9223372036854775808", "-9223372036854775809", "9223372036854775807.5", "1E+19", "1E+20", "-1E+25"};
+        for (String text : values) {
+            OverflowException e = assertThrows(OverflowException.class, () -> Decimal64.valueOf(new BigDecimal(text)), text);
+            assertEquals("Overflow_Decimal", e.getMessage(), text);
+        }
+    }
+
+    // precision() - scale() is checked before any setScale, which would otherwise build a power
+    // of ten with as many digits as the exponent.
+    @Test
+    void extremeExponents() {
+        assertTimeoutPreemptively(Duration.ofSeconds(10), () -> {
+            for (String text : new String[] {"1E+99999999", "-3E+2147483647"}) {
+                assertThrows(OverflowException.class, () -> Decimal64.valueOf(new BigDecimal(text)), text);
+            }
+            for (String text : new String[] {"1E-99999999", "-7E-2147483647", "0E+99999999", "0E-99999999"}) {
+                assertEquals(Decimal64.ZERO, Decimal64.valueOf(new BigDecimal(text)), text);
+            }
+        });
+    }
+
+    @Test
+    void randomValues() {
+        Random random = new Random(48);
+        for (int i = 0; i < 100_000; i++) {
+            BigDecimal value = new BigDecimal(new BigInteger(1 + random.nextInt(70), random), random.nextInt(50) - 10);
+            if (random.nextBoolean()) value = value.negate();
+            BigInteger integer = value.setScale(0, RoundingMode.HALF_EVEN).toBigInteger();
+            if (integer.bitLength() > 63) {
+                BigDecimal input = value;
+                assertThrows(OverflowException.class, () -> Decimal64.valueOf(input), value.toString());
+                continue;
+            }
+            BigDecimal actual = Decimal64.valueOf(value).toBigDecimal();
+            // the largest scale that fits rounds at most half a unit in its last place
+            BigDecimal ulp = BigDecimal.ONE.scaleByPowerOfTen(-actual.scale());
+            assertTrue(value.subtract(actual).abs().compareTo(ulp.divide(BigDecimal.valueOf(2))) <= 0, value.toString());
+        }
+    }
+}
@@ -0,0 +1,264 @@
+package io.standardcore;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+// Every target of the Float/Double/BigDecimal narrowing engine, for every policy, against a
+// BigDecimal HALF_EVEN reference: the bounds plus or minus 0.5 and 1, neighbouring doubles,
+// NaN and the infinities, extreme exponents and random magnitudes.
+class OverflowPolicyTest {
+    private static final BigInteger TWO_POW_64 = BigInteger.ONE.shiftLeft(64);
+
+    private interface FromDouble {
+        long apply(OverflowPolicy policy, double value);
+    }
+
+    private interface FromDecimal {
+        long apply(OverflowPolicy policy, BigDecimal value);
+    }
+
+    private static final class Target {
+        final String name;
+        final int bits;
+        final boolean signed;
+        final BigInteger min;
+        final BigInteger max;
+        final String overflow;
+        final FromDouble fromDouble;
+        final FromDecimal fromDecimal;
+
+        Target(String name, int bits, boolean signed, String overflow, FromDouble fromDouble, FromDecimal fromDecimal) {
+            this.name = name;
+            this.bits = bits;
+            this.signed = signed;
+            this.min = signed ? BigInteger.ONE.shiftLeft(bits - 1).negate() : BigInteger.ZERO;
+            this.max = signed ? BigInteger.ONE.shiftLeft(bits - 1).subtract(BigInteger.ONE) : BigInteger.ONE.shiftLeft(bits).subtract(BigInteger.ONE);
+            this.overflow = overflow;
+            this.fromDouble = fromDouble;
+            this.fromDecimal = fromDecimal;
+        }
+
+        // The result as a number of the target type.
+        BigInteger value(long raw) {
+            BigInteger result = BigInteger.valueOf(raw);
+            if (!signed && raw < 0) result = result.add(bits == 64 ? TWO_POW_64 : BigInteger.ONE.shiftLeft(bits));
+            return result;
+        }
+
+        // The low bits of the integer, read as the target type.
+        BigInteger wrap(BigInteger integer) {
+            BigInteger modulus = BigInteger.ONE.shiftLeft(bits);
+            BigInteger low = integer.mod(modulus);
+            return signed && low.testBit(bits - 1) ? low.subtract(modulus) : low;
+        }
+
+        BigInteger clamp(BigInteger integer) {
+            return integer.max(min).min(max);
+        }
+
+        @Override
+        public String toString() {
+            return name;
+        }
+    }
+
+    private static final Target[] TARGETS = {
+            new Target("Byte", 8, true, "Overflow_Byte", OverflowPolicy::toByte, OverflowPolicy::toByte),
+            new Target("Int16", 16, true, "Overflow_Int16", OverflowPolicy::toInt16, OverflowPolicy::toInt16),
+            new Target("Int32", 32, true, "Overflow_Int32", OverflowPolicy::toInt32, OverflowPolicy::toInt32),
+            new Target("UInt32", 32, false, "Overflow_UInt32", (p, v) -> p.toUInt32(v) & 0xFFFFFFFFL, (p, v) -> p.toUInt32(v) & 0xFFFFFFFFL),
+            new Target("Int64", 64, true, "Overflow_Int64", OverflowPolicy::toInt64, OverflowPolicy::toInt64),
+            new Target("UInt64", 64, false, "Overflow_UInt64", OverflowPolicy::toUInt64, OverflowPolicy::toUInt64),
+    };
+
+    private static final String[] OFFSETS = {"-1.5", "-1", "-0.51", "-0.5", "-0.49", "0", "0.49", "0.5", "0.51", "1", "1.5"};
+
+    @Test
+    void decimalBoundaries() {
+        for (Target target : TARGETS) {
+            for (BigDecimal value : boundaryDecimals(target)) {
+                checkDecimal(target, value);
+            }
+        }
+    }
+
+    @Test
+    void doubleBoundaries() {
+        for (Target target : TARGETS) {
+            for (BigDecimal value : boundaryDecimals(target)) {
+                double nearest = value.doubleValue();
+                checkDouble(target, nearest);
+                checkDouble(target, Math.nextUp(nearest));
+                checkDouble(target, Math.nextDown(nearest));
+            }
+        }
+    }
+
+    @Test
+    void specialDoubles() {
+        double[] values = {Double.NaN, Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY, -0.0, 0.0,
+                Double.MIN_VALUE, -Double.MIN_VALUE, Double.MAX_VALUE, -Double.MAX_VALUE, 0.5, -0.5, 1.5, 2.5, -2.5};
+        for (Target target : TARGETS) {
+            for (double value : values) checkDouble(target, value);
+        }
+    }
+
+    @Test
+    void halfToEven() {
+        Target int32 = TARGETS[2];
+        String[][] cases = {{"0.5", "0"}, {"1.5", "2"}, {"2.5", "2"}, {"-0.5", "0"}, {"-1.5", "-2"}, {"-2.5", "-2"}, {"0.51", "1"}, {"-0.51", "-1"}};
+        for (String[] c : cases) {
+            for (OverflowPolicy policy : OverflowPolicy.values()) {
+                assertEquals(Long.parseLong(c[1]), int32.fromDecimal.apply(policy, new BigDecimal(c[0])), c[0]);
+                assertEquals(Long.parseLong(c[1]), int32.fromDouble.apply(policy, Double.parseDouble(c[0])), c[0]);
+            }
+        }
+    }
+
+    // precision() - scale() keeps these from building a power of ten of the exponent's size.
+    @Test
+    void extremeExponents() {
+        String[] values = {"1e-99999999", "-1e-99999999", "7e-2147483647", "1e99999999", "-1e99999999", "3e2147483647", "-3e2147483647"};
+        assertTimeoutPreemptively(Duration.ofSeconds(10), () -> {
+            for (Target target : TARGETS) {
+                for (String text : values) {
+                    BigDecimal value = new BigDecimal(text);
+                    boolean tiny = value.scale() > 0;
+                    BigInteger saturated = tiny ? BigInteger.ZERO : value.signum() < 0 ? target.min : target.max;
+                    if (tiny) {
+                        assertEquals(BigInteger.ZERO, target.value(target.fromDecimal.apply(OverflowPolicy.CHECKED, value)), text);
+                    } else {
+                        assertThrows(OverflowException.class, () -> target.fromDecimal.apply(OverflowPolicy.CHECKED, value), text);
+                    }
+                    assertEquals(saturated, target.value(target.fromDecimal.apply(OverflowPolicy.SATURATING, value)), text);
+                    // a multiple of 10^64, and so of 2^64
+                    assertEquals(BigInteger.ZERO, target.value(target.fromDecimal.apply(OverflowPolicy.UNCHECKED, value)), text);
+                }
+            }
+        });
+    }
+
+    @Test
+    void zeroWithAnyExponent() {
+        for (Target target : TARGETS) {
+            for (String text : new String[] {"0E+99999999", "0E-99999999", "-0E+2147483647"}) {
+                for (OverflowPolicy policy : OverflowPolicy.values()) {
+                    assertEquals(BigInteger.ZERO, target.value(target.fromDecimal.apply(policy, new BigDecimal(text))), text);
+                }
+            }
+        }
+    }
+
+    @Test
+    void nineteenAndTwentyIntegerDigits() {
+        for (Target target : TARGETS) {
+            for (String text : new String[] {"9999999999999999999.5", "-9999999999999999999.5", "9223372036854775807.5",
+                    "18446744073709551615.4", "18446744073709551615.5", "99999999999999999999.5", "1e19", "-1e19", "1e20", "123e17"}) {
+                checkDecimal(target, new BigDecimal(text));
+            }
+        }
+    }
+
+    @Test
+    void randomValues() {
+        Random random = new Random(47);
+        for (int i = 0; i < 200_000; i++) {
+            Target target = TARGETS[random.nextInt(TARGETS.length)];
+            BigInteger unscaled = new BigInteger(1 + random.nextInt(90), random);
+            if (random.nextBoolean()) unscaled = unscaled.negate();
+            BigDecimal value = new BigDecimal(unscaled, random.nextInt(40) - 10);
+            checkDecimal(target, value);
+            checkDouble(target, value.doubleValue());
+        }
+    }
+
+    // The typed Convert overloads read the policy from the default context, as the Object ones do.
+    @Test
+    void convertFollowsTheDefaultContext() {
+        ConversionContext installed = Convert.getDefaultContext();
+        try {
+            assertEquals(OverflowPolicy.CHECKED, Convert.getOverflowPolicy());
+            assertThrows(OverflowException.class, () -> Convert.toInt32(5e9));
+            assertThrows(OverflowException.class, () -> Convert.toInt32((Object) 5e9));
+
+            Convert.setOverflowPolicy(OverflowPolicy.SATURATING);
+            assertEquals(OverflowPolicy.SATURATING, Convert.getDefaultContext().getOverflowPolicy());
+            assertEquals(Integer.MAX_VALUE, Convert.toInt32(5e9));
+            assertEquals(Integer.MAX_VALUE, Convert.toInt32((Object) 5e9));
+            assertEquals(Integer.MIN_VALUE, Convert.toInt32(-5_000_000_000L));
+            assertEquals(Byte.MAX_VALUE, (byte) Convert.toByte(1000));
+            assertEquals(Short.MIN_VALUE, (short) Convert.toInt16(new BigDecimal("-1e10")));
+            assertEquals('\uFFFF', (char) Convert.toChar(ULong.MAX_VALUE));
+            assertEquals(0, Convert.toUInt32(-1.0f).intValue());
+            assertEquals(Long.MAX_VALUE, (long) Convert.toInt64(ULong.MAX_VALUE));
+
+            Convert.setOverflowPolicy(OverflowPolicy.UNCHECKED);
+            assertEquals((int) 5_000_000_000L, Convert.toInt32(5e9));
+            assertEquals((int) 5_000_000_000L, Convert.toInt32((Object) 5e9));
+            assertEquals((byte) 1000, (byte) Convert.toByte(1000));
+            assertEquals(-1, Convert.toUInt64(-1L).longValue());
+
+            // strings are parsed, not narrowed, and stay checked
+            assertThrows(OverflowException.class, () -> Convert.toInt32("5000000000"));
+        } finally {
+            Convert.setDefaultContext(installed);
+        }
+        assertThrows(OverflowException.class, () -> Convert.toInt32(5e9));
+    }
+
+    private static List<BigDecimal> boundaryDecimals(Target target) {
+        List<BigDecimal> values = new ArrayList<>();
+        for (BigInteger bound : new BigInteger[] {target.min, target.max, BigInteger.ZERO}) {
+            for (String offset : OFFSETS) values.add(new BigDecimal(bound).add(new BigDecimal(offset)));
+        }
+        return values;
+    }
+
+    private static void checkDecimal(Target target, BigDecimal value) {
+        BigInteger rounded = value.setScale(0, RoundingMode.HALF_EVEN).toBigInteger();
+        String message = target + " " + value;
+        if (rounded.compareTo(target.min) >= 0 && rounded.compareTo(target.max) <= 0) {
+            assertEquals(rounded, target.value(target.fromDecimal.apply(OverflowPolicy.CHECKED, value)), message);
+        } else {
+            OverflowException e = assertThrows(OverflowException.class, () -> target.fromDecimal.apply(OverflowPolicy.CHECKED, value), message);
+            assertEquals(target.overflow, e.getMessage(), message);
+        }
+        assertEquals(target.clamp(rounded), target.value(target.fromDecimal.apply(OverflowPolicy.SATURATING, value)), message);
+        assertEquals(target.wrap(rounded), target.value(target.fromDecimal.apply(OverflowPolicy.UNCHECKED, value)), message);
+    }
+
+    private static void checkDouble(Target target, double value) {
+        String message = target + " " + value;
+        if (Double.isNaN(value) || Double.isInfinite(value)) {
+            OverflowException e = assertThrows(OverflowException.class, () -> target.fromDouble.apply(OverflowPolicy.CHECKED, value), message);
+            assertEquals(target.overflow, e.getMessage(), message);
+            BigInteger saturated = Double.isNaN(value) ? BigInteger.ZERO : value > 0 ? target.max : target.min;
+            assertEquals(saturated, target.value(target.fromDouble.apply(OverflowPolicy.SATURATING, value)), message);
+            return;
+        }
+
+        BigInteger rounded = new BigDecimal(value).setScale(0, RoundingMode.HALF_EVEN).toBigInteger();
+        if (rounded.compareTo(target.min) >= 0 && rounded.compareTo(target.max) <= 0) {
+            assertEquals(rounded, target.value(target.fromDouble.apply(OverflowPolicy.CHECKED, value)), message);
+        } else {
+            OverflowException e = assertThrows(OverflowException.class, () -> target.fromDouble.apply(OverflowPolicy.CHECKED, value), message);
+            assertEquals(target.overflow, e.getMessage(), message);
+        }
+        assertEquals(target.clamp(rounded), target.value(target.fromDouble.apply(OverflowPolicy.SATURATING, value)), message);
+        // UNCHECKED is a Java cast of the rounded value, exact while that fits a long
+        if (rounded.bitLength() < 64) {
+            assertEquals(target.wrap(rounded), target.value(target.fromDouble.apply(OverflowPolicy.UNCHECKED, value)), message);
+        }
+    }
+}
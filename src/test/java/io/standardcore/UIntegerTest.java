@@ -0,0 +1,69 @@
+package io.standardcore;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// UInt32 in an int: parsing at the unsigned boundaries, unsigned formatting and ordering, and
+// the checked conversions to and from the signed types.
+class UIntegerTest {
+    @Test
+    void parsing() {
+        assertEquals(0, UInteger.parseInt("0"));
+        assertEquals(-1, UInteger.parseInt("4294967295"));
+        assertEquals(Integer.MIN_VALUE, UInteger.parseInt(" +2147483648 "));
+        assertEquals(7, UInteger.parseInt("0000000000007"));
+        assertEquals(0, UInteger.parseInt("-0"));
+        assertEquals(-2, UInteger.parseInt("x4294967294x".getBytes(StandardCharsets.US_ASCII), 1, 10));
+        assertSame(UInteger.MAX_VALUE, UInteger.parse("4294967295"));
+
+        assertEquals("Overflow_UInt32", assertThrows(OverflowException.class, () -> UInteger.parseInt("4294967296")).getMessage());
+        assertThrows(OverflowException.class, () -> UInteger.parseInt("10000000000"));
+        assertThrows(OverflowException.class, () -> UInteger.parseInt("-1"));
+        assertThrows(FormatException.class, () -> UInteger.parseInt(""));
+        assertThrows(FormatException.class, () -> UInteger.parseInt("+"));
+        assertThrows(FormatException.class, () -> UInteger.parseInt("12a"));
+        assertThrows(ArgumentNullException.class, () -> UInteger.parse(null));
+    }
+
+    @Test
+    void unsignedValues() {
+        UInteger max = UInteger.valueOf(-1);
+        assertSame(UInteger.MAX_VALUE, max);
+        assertSame(UInteger.valueOf(5), UInteger.valueOf(5));
+        assertEquals("4294967295", max.toString());
+        assertEquals("2147483648", UInteger.toString(Integer.MIN_VALUE));
+        assertEquals("x4294967295", UInteger.appendTo(-1, new StringBuilder("x")).toString());
+        assertEquals(4294967295L, max.longValue());
+        assertEquals(4294967295.0, max.doubleValue());
+        assertEquals(-1, max.intValue());
+        assertTrue(UInteger.compare(-1, 1) > 0);
+        assertTrue(UInteger.valueOf(Integer.MIN_VALUE).compareTo(UInteger.valueOf(Integer.MAX_VALUE)) > 0);
+        assertEquals(UInteger.valueOf(300), UInteger.parse("300"));
+        assertEquals(TypeCode.UINT32, max.GetTypeCode());
+    }
+
+    @Test
+    void conversions() {
+        assertEquals(UInteger.MAX_VALUE, Convert.toUInt32(4294967295L));
+        assertEquals(UInteger.MAX_VALUE, Convert.toUInt32("4294967295"));
+        assertEquals(UInteger.valueOf(2), Convert.toUInt32(2.5));
+        assertEquals(UInteger.valueOf(4), Convert.toUInt32(3.5));
+        assertThrows(OverflowException.class, () -> Convert.toUInt32(4294967296L));
+        assertThrows(OverflowException.class, () -> Convert.toUInt32(-1));
+        assertThrows(OverflowException.class, () -> Convert.toUInt32(-0.6));
+        assertThrows(OverflowException.class, () -> Convert.toUInt32(ULong.valueOf(1L << 32)));
+
+        assertEquals(4294967295L, Convert.toInt64(UInteger.MAX_VALUE));
+        assertEquals(new BigDecimal("4294967295"), Convert.toDecimal(UInteger.MAX_VALUE));
+        assertEquals("4294967295", Convert.toString(UInteger.MAX_VALUE));
+        assertThrows(OverflowException.class, () -> Convert.toInt32(UInteger.MAX_VALUE));
+        assertEquals(UInteger.valueOf(42), Convert.changeType("42", TypeCode.UINT32, null));
+    }
+}
@@ -0,0 +1,63 @@
+package io.standardcore;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// UInt64 in a long: the 20-digit overflow check, unsigned formatting above Long.MAX_VALUE,
+// the correctly rounded floating conversions and the checked conversions.
+class ULongTest {
+    @Test
+    void parsing() {
+        assertEquals(-1L, ULong.parseLong("18446744073709551615"));
+        assertEquals(Long.MIN_VALUE, ULong.parseLong(" 9223372036854775808\t"));
+        assertEquals(-10L, ULong.parseLong("18446744073709551606"));
+        assertEquals(Long.MAX_VALUE, ULong.parseLong("0009223372036854775807"));
+        assertEquals(0L, ULong.parseLong("-0"));
+        assertEquals(-1L, ULong.parseLong("[18446744073709551615]".getBytes(StandardCharsets.US_ASCII), 1, 20));
+        assertSame(ULong.MAX_VALUE, ULong.parse("18446744073709551615"));
+
+        assertEquals("Overflow_UInt64", assertThrows(OverflowException.class, () -> ULong.parseLong("18446744073709551616")).getMessage());
+        assertThrows(OverflowException.class, () -> ULong.parseLong("18446744073709551620"));
+        assertThrows(OverflowException.class, () -> ULong.parseLong("100000000000000000000"));
+        assertThrows(OverflowException.class, () -> ULong.parseLong("-1"));
+        assertThrows(FormatException.class, () -> ULong.parseLong("1844674407370955161x"));
+        assertThrows(FormatException.class, () -> ULong.parseLong(" "));
+    }
+
+    @Test
+    void unsignedValues() {
+        assertEquals("18446744073709551615", ULong.toString(-1L));
+        assertEquals("9223372036854775808", ULong.toString(Long.MIN_VALUE));
+        assertEquals("#9223372036854775809", ULong.appendTo(Long.MIN_VALUE + 1, new StringBuilder("#")).toString());
+        for (long value : new long[] {-1L, Long.MIN_VALUE, Long.MIN_VALUE + 1, -1234567890123L, 0x8000_0000_0000_0401L}) {
+            BigDecimal exact = ULong.toBigDecimal(value);
+            assertEquals(Long.toUnsignedString(value), exact.toPlainString());
+            assertEquals(exact.doubleValue(), ULong.toDouble(value));
+            assertEquals(exact.floatValue(), ULong.toFloat(value));
+        }
+        assertTrue(ULong.compare(-1L, Long.MAX_VALUE) > 0);
+        assertEquals(TypeCode.UINT64, ULong.MAX_VALUE.GetTypeCode());
+    }
+
+    @Test
+    void conversions() {
+        assertEquals(ULong.MAX_VALUE, Convert.toUInt64("18446744073709551615"));
+        assertEquals(ULong.MAX_VALUE, Convert.toUInt64(new BigDecimal("18446744073709551615.4")));
+        assertEquals(ULong.valueOf(Long.MIN_VALUE), Convert.toUInt64(9.223372036854775808E18));
+        assertThrows(OverflowException.class, () -> Convert.toUInt64(new BigDecimal("18446744073709551615.5")));
+        assertThrows(OverflowException.class, () -> Convert.toUInt64(1.8446744073709552E19));
+        assertThrows(OverflowException.class, () -> Convert.toUInt64(-1L));
+
+        assertEquals(new BigDecimal("18446744073709551615"), Convert.toDecimal(ULong.MAX_VALUE));
+        assertEquals(1.8446744073709552E19, Convert.toDouble(ULong.MAX_VALUE));
+        assertThrows(OverflowException.class, () -> Convert.toInt64(ULong.MAX_VALUE));
+        assertEquals(UInteger.MAX_VALUE, Convert.toUInt32(ULong.valueOf(0xFFFF_FFFFL)));
+    }
+}
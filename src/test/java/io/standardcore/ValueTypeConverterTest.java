@@ -0,0 +1,132 @@
+package io.standardcore;
+
+import io.standardcore.valueTypeConverters.IntegerValueTypeConverter;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Type;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+// JDK value types are converted by the context's ValueTypeConverters without searching the
+// registered TypeConverters; other values, including subclasses of BigDecimal, still are.
+class ValueTypeConverterTest {
+    @Test
+    void builtInValuesSkipTheRegistry() {
+        GreedyConverter greedy = new GreedyConverter();
+        ConversionContext context = ConversionContext.builder().addTypeConverter(greedy).build();
+
+        assertEquals(TypeCode.INT32, context.getTypeCode(5));
+        assertEquals(TypeCode.STRING, context.getTypeCode("5"));
+        assertEquals(TypeCode.DECIMAL, context.getTypeCode(BigDecimal.TEN));
+        assertEquals(TypeCode.DATETIME, context.getTypeCode(LocalDateTime.of(2024, 1, 1, 0, 0)));
+        assertEquals(12L, context.changeType("12", TypeCode.INT64));
+        assertEquals(2.5, context.changeType(new BigDecimal("2.5"), TypeCode.DOUBLE));
+        assertEquals((byte) 1, context.changeType(true, TypeCode.BYTE));
+        assertEquals("x", context.changeType('x', TypeCode.STRING));
+        assertEquals(3, context.changeType(3.0f, Integer.class));
+        assertEquals(65, context.changeType('A', int.class));
+        assertEquals(0, greedy.calls);
+
+        BigDecimal subclass = new BigDecimal("1") { };
+        assertEquals(TypeCode.OBJECT, context.getTypeCode(subclass));
+        assertThrows(InvalidCastException.class, () -> context.changeType(subclass, TypeCode.INT32));
+        assertEquals(2, greedy.calls);
+    }
+
+    @Test
+    void replacedConvertersServeTheFastPath() {
+        ConversionContext context = ConversionContext.builder()
+                .valueTypeConverter(Integer.class, new IntegerValueTypeConverter() {
+                    @Override
+                    public Integer convert(Object value, FormatProvider provider) {
+                        return value instanceof String ? -1 : super.convert(value, provider);
+                    }
+                })
+                .build();
+
+        assertEquals(-1, context.changeType("5", TypeCode.INT32));
+        assertEquals(-1, context.changeType("5", int.class));
+        assertEquals(-1, (int) context.toInt32("5"));
+        assertEquals(7, context.changeType(7L, Integer.class));
+        assertEquals(5, Convert.getDefaultContext().changeType("5", int.class));
+    }
+
+    // Claims every value and fails every conversion, counting how often it is consulted.
+    static final class GreedyConverter implements TypeConverter {
+        int calls;
+
+        @Override
+        public boolean isConvertible(Object value) {
+            calls++;
+            return true;
+        }
+
+        @Override
+        public TypeCode getTypeCode(Object value) {
+            return TypeCode.OBJECT;
+        }
+
+        @Override
+        public Boolean toBoolean(Object value, FormatProvider provider) {
+            throw new InvalidCastException("InvalidCast_FromTo");
+        }
+
+        @Override
+        public Byte toByte(Object value, FormatProvider provider) {
+            throw new InvalidCastException("InvalidCast_FromTo");
+        }
+
+        @Override
+        public Character toChar(Object value, FormatProvider provider) {
+            throw new InvalidCastException("InvalidCast_FromTo");
+        }
+
+        @Override
+        public LocalDateTime toDateTime(Object value, FormatProvider provider) {
+            throw new InvalidCastException("InvalidCast_FromTo");
+        }
+
+        @Override
+        public BigDecimal toDecimal(Object value, FormatProvider provider) {
+            throw new InvalidCastException("InvalidCast_FromTo");
+        }
+
+        @Override
+        public Double toDouble(Object value, FormatProvider provider) {
+            throw new InvalidCastException("InvalidCast_FromTo");
+        }
+
+        @Override
+        public Short toShort(Object value, FormatProvider provider) {
+            throw new InvalidCastException("InvalidCast_FromTo");
+        }
+
+        @Override
+        public Integer toInteger(Object value, FormatProvider provider) {
+            throw new InvalidCastException("InvalidCast_FromTo");
+        }
+
+        @Override
+        public Long toLong(Object value, FormatProvider provider) {
+            throw new InvalidCastException("InvalidCast_FromTo");
+        }
+
+        @Override
+        public Float toFloat(Object value, FormatProvider provider) {
+            throw new InvalidCastException("InvalidCast_FromTo");
+        }
+
+        @Override
+        public CharSequence toString(Object value, FormatProvider provider) {
+            throw new InvalidCastException("InvalidCast_FromTo");
+        }
+
+        @Override
+        public Object toType(Object value, Type conversionType, FormatProvider provider) {
+            throw new InvalidCastException("InvalidCast_FromTo");
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package io.standardcore.arrays;
+
+import io.standardcore.FormatException;
+import io.standardcore.FormatProvider;
+import io.standardcore.OverflowException;
+import io.standardcore.parsing.BooleanParser;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+// Delimited string parsing: trimmed tokens, the checked range of each integral width, and
+// the provider reaching the boolean and floating tokens.
+class PrimitiveArraysTest {
+    @Test
+    void integralTokens() {
+        assertArrayEquals(new byte[] {-128, 0, 127}, PrimitiveArrays.toByteArray(" -128, 0 ,127 ", ',', null));
+        assertArrayEquals(new short[] {-32768, 32767}, PrimitiveArrays.toShortArray("-32768;32767", ';', null));
+        assertArrayEquals(new int[] {Integer.MIN_VALUE, 1, Integer.MAX_VALUE}, PrimitiveArrays.toIntArray("-2147483648,1,2147483647", ',', null));
+        assertArrayEquals(new long[] {Long.MIN_VALUE, Long.MAX_VALUE}, PrimitiveArrays.toLongArray("-9223372036854775808|9223372036854775807", '|', null));
+        assertArrayEquals(new int[0], PrimitiveArrays.toIntArray("  ", ',', null));
+    }
+
+    @Test
+    void integralOverflow() {
+        assertEquals("Overflow_Byte", assertThrows(OverflowException.class, () -> PrimitiveArrays.toByteArray("1,128", ',', null)).getMessage());
+        assertEquals("Overflow_Int16", assertThrows(OverflowException.class, () -> PrimitiveArrays.toShortArray("-32769", ',', null)).getMessage());
+        assertEquals("Overflow_Int32", assertThrows(OverflowException.class, () -> PrimitiveArrays.toIntArray("2147483648", ',', null)).getMessage());
+        assertThrows(FormatException.class, () -> PrimitiveArrays.toIntArray("1,,2", ',', null));
+    }
+
+    @Test
+    void charTokens() {
+        assertArrayEquals(new char[] {'a', 'b'}, PrimitiveArrays.toCharArray(" a, b", ',', null));
+        assertThrows(FormatException.class, () -> PrimitiveArrays.toCharArray("ab", ',', null));
+    }
+
+    @Test
+    void floatingTokens() {
+        assertArrayEquals(new double[] {1.5, -2.0, 1e10}, PrimitiveArrays.toDoubleArray("1.5, -2 ,1e10", ',', null));
+        assertArrayEquals(new float[] {0.25f, 3f}, PrimitiveArrays.toFloatArray("0.25;3", ';', null));
+        assertThrows(FormatException.class, () -> PrimitiveArrays.toDoubleArray("1.5,x", ',', null));
+    }
+
+    @Test
+    void booleanTokensUseTheProvidersParser() {
+        FormatProvider extended = formatType -> formatType == BooleanParser.class ? BooleanParser.EXTENDED : null;
+        assertArrayEquals(new boolean[] {true, false}, PrimitiveArrays.toBooleanArray("True, false", ',', null));
+        assertArrayEquals(new boolean[] {true, false, true}, PrimitiveArrays.toBooleanArray("yes,off, 1", ',', extended));
+        assertThrows(FormatException.class, () -> PrimitiveArrays.toBooleanArray("yes", ',', null));
+    }
+}
@@ -0,0 +1,226 @@
+package io.standardcore.async;
+
+import io.standardcore.FormatException;
+import io.standardcore.TypeCode;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// Demand accounting between the subscriber's requests and the batches asked of upstream, the
+// failure handler side channel, and the Reactive Streams error and cancel paths. Everything
+// runs synchronously on the test thread.
+class ConversionProcessorTest {
+    @Test
+    void upstreamDemandFollowsTheBatches() {
+        ConversionProcessor<Integer> processor = new ConversionProcessor<>(Integer.class, null, 8, null);
+        Upstream upstream = new Upstream();
+        Downstream<Integer> downstream = new Downstream<>();
+        processor.onSubscribe(upstream);
+        processor.subscribe(downstream);
+        // nothing is fetched before the first request
+        assertEquals(0, upstream.requested);
+
+        downstream.subscription.request(3);
+        assertEquals(8, upstream.requested);
+        for (int i = 1; i <= 8; i++) processor.onNext(String.valueOf(i));
+        assertEquals(Arrays.asList(1, 2, 3), downstream.items);
+        // the rest is buffered, and no more is asked for until three quarters are consumed
+        assertEquals(8, upstream.requested);
+
+        downstream.subscription.request(10);
+        assertEquals(Arrays.asList(1, 2, 3, 4, 5, 6, 7, 8), downstream.items);
+        assertEquals(16, upstream.requested);
+
+        for (int i = 9; i <= 13; i++) processor.onNext((long) i);
+        assertEquals(13, downstream.items.size());
+        assertEquals(16, upstream.requested);
+
+        downstream.subscription.request(5);
+        processor.onNext(14.0);
+        assertEquals(14, downstream.items.size());
+        assertEquals(22, upstream.requested);
+        assertTrue(upstream.requested - 14 <= processor.getBatchSize());
+
+        processor.onComplete();
+        assertTrue(downstream.completed);
+        assertNull(downstream.error);
+    }
+
+    @Test
+    void unboundedDemand() {
+        ConversionProcessor<Object> processor = ConversionProcessor.of(TypeCode.DOUBLE, null, 4, null);
+        Upstream upstream = new Upstream();
+        Downstream<Object> downstream = new Downstream<>();
+        processor.subscribe(downstream);
+        downstream.subscription.request(Long.MAX_VALUE);
+        processor.onSubscribe(upstream);
+        assertEquals(4, upstream.requested);
+
+        for (int i = 0; i < 100; i++) {
+            processor.onNext(i);
+            assertTrue(upstream.requested - downstream.items.size() <= 4);
+        }
+        assertEquals(100, downstream.items.size());
+        assertEquals(99.0, downstream.items.get(99));
+    }
+
+    @Test
+    void excessItemsFailTheStream() {
+        ConversionProcessor<Integer> processor = new ConversionProcessor<>(Integer.class, null, 4, null);
+        Upstream upstream = new Upstream();
+        Downstream<Integer> downstream = new Downstream<>();
+        processor.onSubscribe(upstream);
+        processor.subscribe(downstream);
+        downstream.subscription.request(1);
+
+        // one item delivered, one converted and held, four in the ring: the seventh overflows
+        for (int i = 0; i < 7; i++) processor.onNext(i);
+        assertTrue(upstream.cancelled);
+        assertNull(downstream.error);
+
+        downstream.subscription.request(100);
+        assertEquals(Arrays.asList(0, 1, 2, 3, 4, 5), downstream.items);
+        assertInstanceOf(IllegalStateException.class, downstream.error);
+    }
+
+    @Test
+    void failuresGoToTheHandler() {
+        List<ConversionFailure> failures = new ArrayList<>();
+        ConversionProcessor<Integer> processor = new ConversionProcessor<>(Integer.class, null, 16, failures::add);
+        Upstream upstream = new Upstream();
+        Downstream<Integer> downstream = new Downstream<>();
+        processor.onSubscribe(upstream);
+        processor.subscribe(downstream);
+        downstream.subscription.request(10);
+
+        processor.onNext("1");
+        processor.onNext("x");
+        processor.onNext(5_000_000_000L);
+        processor.onNext(3.0);
+        processor.onComplete();
+
+        assertEquals(Arrays.asList(1, 3), downstream.items);
+        assertTrue(downstream.completed);
+        assertFalse(upstream.cancelled);
+        assertEquals(2, failures.size());
+        assertEquals("x", failures.get(0).getValue());
+        assertEquals(TypeCode.INT32, failures.get(0).getTarget());
+        assertInstanceOf(FormatException.class, failures.get(0).getException());
+        assertEquals(5_000_000_000L, failures.get(1).getValue());
+    }
+
+    @Test
+    void failureWithoutHandlerEndsTheStream() {
+        ConversionProcessor<Integer> processor = new ConversionProcessor<>(Integer.class, null, 16, null);
+        Upstream upstream = new Upstream();
+        Downstream<Integer> downstream = new Downstream<>();
+        processor.onSubscribe(upstream);
+        processor.subscribe(downstream);
+        downstream.subscription.request(10);
+
+        processor.onNext("1");
+        processor.onNext("x");
+        processor.onNext("3");
+
+        assertEquals(Arrays.asList(1), downstream.items);
+        assertInstanceOf(FormatException.class, downstream.error);
+        assertTrue(upstream.cancelled);
+        assertFalse(downstream.completed);
+    }
+
+    @Test
+    void throwingHandlerEndsTheStream() {
+        IllegalStateException stop = new IllegalStateException("stop");
+        ConversionProcessor<Integer> processor = new ConversionProcessor<>(Integer.class, null, 16, failure -> {
+            throw stop;
+        });
+        Upstream upstream = new Upstream();
+        Downstream<Integer> downstream = new Downstream<>();
+        processor.onSubscribe(upstream);
+        processor.subscribe(downstream);
+        downstream.subscription.request(10);
+
+        processor.onNext("x");
+        assertEquals(stop, downstream.error);
+        assertTrue(upstream.cancelled);
+    }
+
+    @Test
+    void cancelAndInvalidRequests() {
+        ConversionProcessor<Integer> processor = new ConversionProcessor<>(Integer.class, null, 4, null);
+        Upstream upstream = new Upstream();
+        Downstream<Integer> downstream = new Downstream<>();
+        processor.onSubscribe(upstream);
+        processor.subscribe(downstream);
+        downstream.subscription.request(1);
+        downstream.subscription.cancel();
+        assertTrue(upstream.cancelled);
+        processor.onNext("1");
+        processor.onComplete();
+        assertEquals(0, downstream.items.size());
+        assertFalse(downstream.completed);
+
+        Downstream<Integer> second = new Downstream<>();
+        processor.subscribe(second);
+        assertInstanceOf(IllegalStateException.class, second.error);
+
+        ConversionProcessor<Integer> other = new ConversionProcessor<>(Integer.class, null, 4, null);
+        Upstream otherUpstream = new Upstream();
+        Downstream<Integer> invalid = new Downstream<>();
+        other.onSubscribe(otherUpstream);
+        other.subscribe(invalid);
+        invalid.subscription.request(0);
+        assertInstanceOf(IllegalArgumentException.class, invalid.error);
+        assertTrue(otherUpstream.cancelled);
+    }
+
+    private static final class Upstream implements Flow.Subscription {
+        long requested;
+        boolean cancelled;
+
+        @Override
+        public void request(long n) {
+            requested += n;
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+        }
+    }
+
+    private static final class Downstream<T> implements Flow.Subscriber<T> {
+        final List<T> items = new ArrayList<>();
+        Flow.Subscription subscription;
+        Throwable error;
+        boolean completed;
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+        }
+
+        @Override
+        public void onNext(T item) {
+            items.add(item);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            error = throwable;
+        }
+
+        @Override
+        public void onComplete() {
+            completed = true;
+        }
+    }
+}
@@ -0,0 +1,167 @@
+package io.standardcore.async;
+
+import io.standardcore.ConversionContext;
+import io.standardcore.Convert;
+import io.standardcore.FormatException;
+import io.standardcore.FormatProvider;
+import io.standardcore.TypeCode;
+import io.standardcore.parsing.BulkDigits;
+import io.standardcore.valueTypeConverters.IntegerValueTypeConverter;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// Batches split into chunks: cancelling the returned future stops the running chunk at its
+// next check and skips queued ones, the first failure completes the batch, and delimited
+// columns are cut only at delimiters.
+class ConversionServiceTest {
+    @Test
+    void convertsInChunks() throws Exception {
+        ConversionService service = new ConversionService(Runnable::run, 4);
+        Object[] values = new Object[10_000];
+        for (int i = 0; i < values.length; i++) values[i] = i % 2 == 0 ? String.valueOf(i) : (double) i;
+
+        Object[] result = service.convert(values, TypeCode.INT64, null).get();
+        assertEquals(Long[].class, result.getClass());
+        for (int i = 0; i < values.length; i++) assertEquals((long) i, result[i]);
+        assertTrue(service.getElementCostNanos(TypeCode.INT64) > 0);
+
+        List<Integer> list = service.<Integer>convert(Arrays.asList("1", 2L, 3.0), Integer.class, null).get();
+        assertEquals(Arrays.asList(1, 2, 3), list);
+    }
+
+    @Test
+    void firstFailureCompletesTheBatch() {
+        ConversionService service = new ConversionService(Runnable::run, 2);
+        Object[] values = new Object[5000];
+        Arrays.fill(values, "1");
+        values[4000] = "x";
+        ExecutionException failure = assertThrows(ExecutionException.class, () -> service.convert(values, TypeCode.INT32, null).get());
+        assertInstanceOf(FormatException.class, failure.getCause());
+    }
+
+    @Test
+    void cancellingTheArrayReachesTheRunningChunk() throws Exception {
+        assertCancelStopsChunks(service -> service.convert(strings(3 * 4096), TypeCode.INT32, null));
+    }
+
+    @Test
+    void cancellingTheListReachesTheRunningChunk() throws Exception {
+        assertCancelStopsChunks(service -> service.convert(Arrays.asList(strings(3 * 4096)), TypeCode.INT32, null));
+    }
+
+    // One worker thread, so the batch is three 4096-element chunks run one after another. The
+    // first element blocks until the future is cancelled; the running chunk then stops at the
+    // next CHECK_INTERVAL boundary and the two queued chunks never convert anything.
+    private static void assertCancelStopsChunks(Function<ConversionService, CompletableFuture<?>> start) throws Exception {
+        AtomicInteger converted = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch cancelled = new CountDownLatch(1);
+        ConversionContext blocking = ConversionContext.builder()
+                .valueTypeConverter(Integer.class, new IntegerValueTypeConverter() {
+                    @Override
+                    public Integer convert(Object value, FormatProvider provider) {
+                        if (converted.getAndIncrement() == 0) {
+                            started.countDown();
+                            try {
+                                cancelled.await();
+                            } catch (InterruptedException e) {
+                                Thread.currentThread().interrupt();
+                            }
+                        }
+                        return super.convert(value, provider);
+                    }
+                })
+                .build();
+
+        ConversionContext previous = Convert.getDefaultContext();
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Convert.setDefaultContext(blocking);
+            CompletableFuture<?> future = start.apply(new ConversionService(executor, 1));
+            assertTrue(started.await(10, TimeUnit.SECONDS));
+            assertTrue(future.cancel(false));
+            cancelled.countDown();
+
+            executor.shutdown();
+            assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+            assertEquals(BatchConversion.CHECK_INTERVAL, converted.get());
+        } finally {
+            cancelled.countDown();
+            executor.shutdownNow();
+            Convert.setDefaultContext(previous);
+        }
+    }
+
+    @Test
+    void columnChunksEndAtDelimiters() throws Exception {
+        Random random = new Random(38);
+        StringBuilder text = new StringBuilder("xx");
+        for (int i = 0; i < 20_000; i++) {
+            if (i > 0) text.append(';');
+            long value = random.nextLong() >> random.nextInt(64);
+            text.append(i % 7 == 0 ? " " + value + " " : Long.toString(value));
+        }
+        text.append("yy");
+        byte[] src = text.toString().getBytes(StandardCharsets.US_ASCII);
+        int length = src.length - 4;
+        long[] expected = BulkDigits.parseDelimited(src, 2, length, (byte) ';');
+
+        for (int parallelism : new int[] {1, 3, 8, 64, 1000}) {
+            ConversionService service = new ConversionService(Runnable::run, parallelism);
+            assertArrayEquals(expected, service.parseInt64Column(src, 2, length, (byte) ';').get(), "parallelism " + parallelism);
+        }
+    }
+
+    @Test
+    void columnFieldsAtCuts() throws Exception {
+        // with parallelism 1000 every cut is at the first delimiter after 256 bytes
+        ConversionService service = new ConversionService(Runnable::run, 1000);
+        byte[] blankAtCut = column(256, ",,7");
+        assertInstanceOf(FormatException.class, assertThrows(ExecutionException.class,
+                () -> service.parseInt64Column(blankAtCut, 0, blankAtCut.length, (byte) ',').get()).getCause());
+
+        byte[] trailing = column(256, ",");
+        assertInstanceOf(FormatException.class, assertThrows(ExecutionException.class,
+                () -> service.parseInt64Column(trailing, 0, trailing.length, (byte) ',').get()).getCause());
+
+        byte[] exact = column(256, ",-12");
+        long[] parsed = service.parseInt64Column(exact, 0, exact.length, (byte) ',').get();
+        assertEquals(-12, parsed[parsed.length - 1]);
+        assertArrayEquals(BulkDigits.parseDelimited(exact, 0, exact.length, (byte) ','), parsed);
+
+        assertEquals(0, service.parseInt64Column(new byte[] {' ', ' '}, 0, 2, (byte) ',').get().length);
+    }
+
+    // "1,1,...,1" filling exactly length bytes, followed by tail.
+    private static byte[] column(int length, String tail) {
+        StringBuilder text = new StringBuilder();
+        while (text.length() < length) text.append(text.length() == 0 ? "1" : ",1");
+        text.setLength(length);
+        if (text.charAt(length - 1) == ',') text.setCharAt(length - 1, '1');
+        return text.append(tail).toString().getBytes(StandardCharsets.US_ASCII);
+    }
+
+    private static Object[] strings(int count) {
+        Object[] values = new Object[count];
+        for (int i = 0; i < count; i++) values[i] = String.valueOf(i);
+        return values;
+    }
+}
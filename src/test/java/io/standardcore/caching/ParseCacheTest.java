@@ -0,0 +1,111 @@
+package io.standardcore.caching;
+
+import io.standardcore.ArgumentException;
+import io.standardcore.ArgumentNullException;
+import io.standardcore.FormatException;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+// CLOCK eviction order, the max-key-length bypass, uncached failures and the statistics.
+class ParseCacheTest {
+    @Test
+    void clockGivesReferencedEntriesASecondChance() {
+        List<String> parsed = new ArrayList<>();
+        ParseCache<Integer> cache = new ParseCache<>(3, counting(parsed));
+
+        cache.get("1");
+        cache.get("2");
+        cache.get("3");
+        assertEquals(3, cache.size());
+        assertEquals(0, cache.getEvictionCount());
+
+        // the hit sets the reference bit of "1", so the hand clears it and evicts "2" instead
+        cache.get("1");
+        cache.get("4");
+        assertEquals(1, cache.getEvictionCount());
+        // "1" has used its second chance; the hand is on "3" now
+        cache.get("5");
+        assertEquals(2, cache.getEvictionCount());
+        assertEquals(3, cache.size());
+
+        parsed.clear();
+        cache.get("1");
+        cache.get("4");
+        cache.get("5");
+        assertEquals(0, parsed.size());
+        cache.get("2");
+        assertEquals(1, parsed.size());
+    }
+
+    @Test
+    void statistics() {
+        ParseCache<Integer> cache = new ParseCache<>(8, Integer::valueOf);
+        for (int i = 0; i < 4; i++) {
+            cache.get("7");
+            cache.get("8");
+        }
+        assertEquals(6, cache.getHitCount());
+        assertEquals(2, cache.getMissCount());
+        assertEquals(0.75, cache.getHitRate());
+        assertEquals(8, cache.getCapacity());
+
+        cache.clear();
+        assertEquals(0, cache.size());
+        assertEquals(0, cache.getHitCount());
+        assertEquals(0, cache.getMissCount());
+        assertEquals(0.0, cache.getHitRate());
+    }
+
+    @Test
+    void longKeysAreParsedButNotCached() {
+        List<String> parsed = new ArrayList<>();
+        ParseCache<Integer> cache = new ParseCache<>(4, 3, counting(parsed));
+
+        assertEquals(123, (int) cache.get("123"));
+        assertEquals(1234, (int) cache.get("1234"));
+        assertEquals(1234, (int) cache.get("1234"));
+        assertEquals(123, (int) cache.get("123"));
+
+        assertEquals(1, cache.size());
+        assertEquals(3, parsed.size());
+        assertEquals(1, cache.getHitCount());
+        assertEquals(3, cache.getMissCount());
+    }
+
+    @Test
+    void failuresAreNotCached() {
+        List<String> parsed = new ArrayList<>();
+        ParseCache<Integer> cache = new ParseCache<>(4, counting(parsed));
+
+        assertThrows(FormatException.class, () -> cache.get("x"));
+        assertThrows(FormatException.class, () -> cache.get("x"));
+        assertEquals(2, parsed.size());
+        assertEquals(0, cache.size());
+        assertEquals(2, cache.getMissCount());
+    }
+
+    @Test
+    void arguments() {
+        ParseCache<Integer> cache = new ParseCache<>(1, Integer::valueOf);
+        assertEquals("key", assertThrows(ArgumentNullException.class, () -> cache.get(null)).getMessage());
+        assertEquals(0, cache.getMissCount());
+        assertThrows(ArgumentNullException.class, () -> new ParseCache<Integer>(1, null));
+        assertThrows(ArgumentException.class, () -> new ParseCache<>(0, Integer::valueOf));
+        assertThrows(ArgumentException.class, () -> new ParseCache<>(1, -1, Integer::valueOf));
+    }
+
+    // Records every string it parses; non-digits fail as the decimal parsers do.
+    private static Function<String, Integer> counting(List<String> parsed) {
+        return key -> {
+            parsed.add(key);
+            if (!key.chars().allMatch(Character::isDigit)) throw new FormatException("Format_InvalidString");
+            return Integer.valueOf(key);
+        };
+    }
+}
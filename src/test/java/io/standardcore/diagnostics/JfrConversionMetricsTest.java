@@ -0,0 +1,20 @@
+package io.standardcore.diagnostics;
+
+import io.standardcore.FormatException;
+import io.standardcore.OverflowException;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+// Failures are grouped by resource key or exception class, never by a message quoting the input.
+class JfrConversionMetricsTest {
+    @Test
+    void errorKey() {
+        assertEquals("Overflow_Int32", JfrConversionMetrics.errorKey(new OverflowException("Overflow_Int32")));
+        assertEquals("Format_InvalidString", JfrConversionMetrics.errorKey(new FormatException("Format_InvalidString", new NumberFormatException("x"))));
+        assertEquals(FormatException.class.getName(), JfrConversionMetrics.errorKey(new FormatException("bad input: 12,5")));
+        assertEquals(FormatException.class.getName(), JfrConversionMetrics.errorKey(new FormatException()));
+        assertEquals(NumberFormatException.class.getName(), JfrConversionMetrics.errorKey(new NumberFormatException("For_input")));
+        assertEquals(IllegalStateException.class.getName(), JfrConversionMetrics.errorKey(new IllegalStateException("For input string: \"abc\"")));
+    }
+}
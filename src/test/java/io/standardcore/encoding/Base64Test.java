@@ -0,0 +1,227 @@
+package io.standardcore.encoding;
+
+import io.standardcore.Convert;
+import io.standardcore.FormatException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.function.Executable;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+// Round trips through Convert and the streaming Base64Encoder / Base64Decoder for every
+// variant, with input split inside quanta and small output buffers, heap and direct; and the
+// error key for each kind of malformed text.
+class Base64Test {
+    private static final int[] CHUNKS = {1, 2, 3, 4, 5, 7, 11, 64, 8192};
+
+    private static Base64.Encoder jdkEncoder(Base64Variant variant) {
+        switch (variant) {
+            case URL_SAFE:
+                return Base64.getUrlEncoder();
+            case MIME:
+                return Base64.getMimeEncoder();
+            default:
+                return Base64.getEncoder();
+        }
+    }
+
+    @Test
+    void roundTrip() {
+        Random random = new Random(50);
+        for (Base64Variant variant : Base64Variant.values()) {
+            for (int size : new int[] {0, 1, 2, 3, 4, 5, 56, 57, 58, 59, 60, 100, 1000, 20_000}) {
+                byte[] data = new byte[size];
+                random.nextBytes(data);
+                String expected = jdkEncoder(variant).encodeToString(data);
+                String message = variant + " " + size;
+
+                assertEquals(expected, Convert.toBase64(data, variant), message);
+                assertEquals(expected.length(), variant.encodedLength(size), message);
+                assertEquals(expected, new String(Base64Encoder.encode(data, 0, size, variant), StandardCharsets.US_ASCII), message);
+                assertEquals(expected, Convert.toBase64(ByteBuffer.wrap(data), variant), message);
+                ByteBuffer direct = ByteBuffer.allocateDirect(size).put(data);
+                direct.flip();
+                assertEquals(expected, Convert.toBase64(direct, variant), message);
+                assertEquals(0, direct.position(), message);
+
+                assertArrayEquals(data, Convert.fromBase64(expected, variant), message);
+                byte[] text = expected.getBytes(StandardCharsets.US_ASCII);
+                assertArrayEquals(data, Convert.fromBase64(text, 0, text.length, variant), message);
+                assertArrayEquals(data, Base64Decoder.decode(new StringBuilder(expected), variant), message);
+
+                for (int chunk : CHUNKS) {
+                    for (boolean directBuffers : new boolean[] {false, true}) {
+                        String at = message + " chunk " + chunk + (directBuffers ? " direct" : " heap");
+                        assertEquals(expected, new String(encode(data, variant, chunk, 6 + chunk % 5, directBuffers), StandardCharsets.US_ASCII), at);
+                        assertArrayEquals(data, decode(text, variant, chunk, 3 + chunk % 4, directBuffers), at);
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    void offsetsAndSlices() {
+        byte[] data = "any carnal pleasure.".getBytes(StandardCharsets.US_ASCII);
+        assertEquals("eSBjYXJuYWwg", Convert.toBase64(data, 2, 9, Base64Variant.STANDARD));
+        ByteBuffer slice = ByteBuffer.wrap(data, 2, 9).slice();
+        assertEquals("eSBjYXJuYWwg", Convert.toBase64(slice, Base64Variant.STANDARD));
+
+        byte[] text = "xxYW55IGNhcm5hbA==yy".getBytes(StandardCharsets.US_ASCII);
+        assertEquals("any carnal", new String(Convert.fromBase64(text, 2, 16), StandardCharsets.US_ASCII));
+        ByteBuffer src = ByteBuffer.wrap(text, 2, 16).slice();
+        ByteBuffer dst = ByteBuffer.allocate(20);
+        dst.position(3);
+        Base64Decoder decoder = new Base64Decoder(Base64Variant.STANDARD);
+        assertEquals(true, decoder.decode(src, dst, true));
+        assertEquals(16, src.position());
+        assertEquals(13, dst.position());
+        assertEquals("any carnal", new String(dst.array(), 3, 10, StandardCharsets.US_ASCII));
+    }
+
+    @Test
+    void whitespaceAndPadding() {
+        for (Base64Variant variant : Base64Variant.values()) {
+            assertEquals("ABCDEF", ascii(Convert.fromBase64("QUJD\r\nREVG", variant)), variant.name());
+            assertEquals("ABCD", ascii(Convert.fromBase64(" Q U J D\tRA = = \n", variant)), variant.name());
+            assertEquals("", ascii(Convert.fromBase64("", variant)), variant.name());
+            assertEquals("", ascii(Convert.fromBase64(" \r\n", variant)), variant.name());
+        }
+        assertBadLength(() -> Convert.fromBase64("QUI", Base64Variant.STANDARD));
+        assertBadLength(() -> Convert.fromBase64("QUJDRA", Base64Variant.STANDARD));
+        assertEquals("AB", ascii(Convert.fromBase64("QUI", Base64Variant.URL_SAFE)));
+        assertEquals("ABCD", ascii(Convert.fromBase64("QUJDRA", Base64Variant.MIME)));
+        assertEquals("ûÿ", new String(Convert.fromBase64("-_8", Base64Variant.URL_SAFE), StandardCharsets.ISO_8859_1));
+        assertEquals("ûÿ", new String(Convert.fromBase64("+/8=", Base64Variant.STANDARD), StandardCharsets.ISO_8859_1));
+    }
+
+    @Test
+    void badCharacter() {
+        for (Base64Variant variant : Base64Variant.values()) {
+            for (String text : new String[] {"=QUJ", "Q===", "QUJD=", "QUJDR===", "QU=D", "QUI=QUJD", "QUI=\nQ"}) {
+                assertBadChar(variant, text);
+            }
+        }
+        for (Base64Variant variant : new Base64Variant[] {Base64Variant.STANDARD, Base64Variant.URL_SAFE}) {
+            for (String text : new String[] {"QU!D", "QUJD\u0000AAA", "QUJĀ", "QUJÄ"}) {
+                assertBadChar(variant, text);
+            }
+        }
+        assertBadChar(Base64Variant.STANDARD, "QU-D");
+        assertBadChar(Base64Variant.STANDARD, "QU_D");
+        assertBadChar(Base64Variant.URL_SAFE, "QU+D");
+        assertBadChar(Base64Variant.URL_SAFE, "QU/D");
+        // MIME skips anything outside the alphabet
+        assertEquals("ABC", ascii(Convert.fromBase64("QU!J-DĀ", Base64Variant.MIME)));
+    }
+
+    @Test
+    void badLength() {
+        for (Base64Variant variant : Base64Variant.values()) {
+            for (String text : new String[] {"Q", "QUJDR", "QUJDR \r\n", "QU=", "QUJDRA="}) {
+                assertBadLength(() -> Convert.fromBase64(text, variant));
+                byte[] bytes = text.getBytes(StandardCharsets.US_ASCII);
+                for (int chunk : CHUNKS) {
+                    assertBadLength(() -> decode(bytes, variant, chunk, 3, false));
+                    assertBadLength(() -> decode(bytes, variant, chunk, 3, true));
+                }
+            }
+        }
+    }
+
+    // Streaming without endOfInput leaves a partial quantum pending instead of failing.
+    @Test
+    void partialQuantumWaitsForMoreInput() {
+        Base64Decoder decoder = new Base64Decoder(Base64Variant.STANDARD);
+        ByteBuffer dst = ByteBuffer.allocate(16);
+        assertEquals(true, decoder.decode(ByteBuffer.wrap(bytes("QU")), dst, false));
+        assertEquals(0, dst.position());
+        assertEquals(true, decoder.decode(ByteBuffer.wrap(bytes("JD")), dst, false));
+        assertEquals(3, dst.position());
+        assertEquals(true, decoder.decode(ByteBuffer.wrap(bytes("RA=")), dst, false));
+        assertEquals(true, decoder.decode(ByteBuffer.wrap(bytes("=")), dst, true));
+        assertEquals("ABCD", new String(dst.array(), 0, dst.position(), StandardCharsets.US_ASCII));
+
+        Base64Encoder encoder = new Base64Encoder(Base64Variant.URL_SAFE);
+        ByteBuffer text = ByteBuffer.allocate(16);
+        assertEquals(true, encoder.encode(ByteBuffer.wrap(bytes("AB")), text, false));
+        assertEquals(0, text.position());
+        assertEquals(true, encoder.encode(ByteBuffer.wrap(bytes("CD")), text, true));
+        assertEquals("QUJDRA==", new String(text.array(), 0, text.position(), StandardCharsets.US_ASCII));
+    }
+
+    // Feeds data in slices of chunk bytes into an encoder writing room bytes at a time.
+    private static byte[] encode(byte[] data, Base64Variant variant, int chunk, int room, boolean direct) {
+        Base64Encoder encoder = new Base64Encoder(variant);
+        ByteBuffer dst = direct ? ByteBuffer.allocateDirect(room) : ByteBuffer.allocate(room);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        int position = 0;
+        do {
+            int n = Math.min(chunk, data.length - position);
+            ByteBuffer src = buffer(data, position, n, direct);
+            position += n;
+            while (!encoder.encode(src, dst, position == data.length)) drain(dst, out);
+        } while (position < data.length);
+        drain(dst, out);
+        return out.toByteArray();
+    }
+
+    private static byte[] decode(byte[] text, Base64Variant variant, int chunk, int room, boolean direct) {
+        Base64Decoder decoder = new Base64Decoder(variant);
+        ByteBuffer dst = direct ? ByteBuffer.allocateDirect(room) : ByteBuffer.allocate(room);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        int position = 0;
+        do {
+            int n = Math.min(chunk, text.length - position);
+            ByteBuffer src = buffer(text, position, n, direct);
+            position += n;
+            while (!decoder.decode(src, dst, position == text.length)) drain(dst, out);
+        } while (position < text.length);
+        drain(dst, out);
+        return out.toByteArray();
+    }
+
+    private static ByteBuffer buffer(byte[] data, int offset, int length, boolean direct) {
+        if (!direct) return ByteBuffer.wrap(data, offset, length).slice();
+        ByteBuffer buffer = ByteBuffer.allocateDirect(length).put(data, offset, length);
+        buffer.flip();
+        return buffer;
+    }
+
+    private static void drain(ByteBuffer dst, ByteArrayOutputStream out) {
+        dst.flip();
+        while (dst.hasRemaining()) out.write(dst.get());
+        dst.clear();
+    }
+
+    private static void assertBadChar(Base64Variant variant, String text) {
+        assertEquals("Format_BadBase64Char", assertThrows(FormatException.class, () -> Convert.fromBase64(text, variant), variant + " " + text).getMessage());
+        if (text.chars().allMatch(c -> c < 0x80)) {
+            byte[] bytes = bytes(text);
+            for (int chunk : CHUNKS) {
+                for (boolean direct : new boolean[] {false, true}) {
+                    assertEquals("Format_BadBase64Char", assertThrows(FormatException.class, () -> decode(bytes, variant, chunk, 3, direct), variant + " " + text).getMessage());
+                }
+            }
+        }
+    }
+
+    private static void assertBadLength(Executable executable) {
+        assertEquals("Format_BadBase64CharArrayLength", assertThrows(FormatException.class, executable).getMessage());
+    }
+
+    private static byte[] bytes(String text) {
+        return text.getBytes(StandardCharsets.US_ASCII);
+    }
+
+    private static String ascii(byte[] bytes) {
+        return new String(bytes, StandardCharsets.US_ASCII);
+    }
+}
@@ -0,0 +1,89 @@
+package io.standardcore.enums;
+
+import io.standardcore.ArgumentException;
+import io.standardcore.ArgumentNullException;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+// Name lookups through the collision-free table and through the linear-probing fallback,
+// which names equal under case folding force, plus ordinals and parse.
+class EnumLookupTest {
+    enum Color { RED, GREEN, BLUE, CYAN, MAGENTA, YELLOW, BLACK, WHITE }
+
+    // "Mode" and "MODE" hash alike under every seed, so no collision-free table exists.
+    enum Folded { Mode, MODE, mode, Other, CAFÉ }
+
+    enum Empty { }
+
+    @Test
+    void perfectTable() {
+        EnumLookup<Color> lookup = EnumLookup.forClass(Color.class);
+        assertSame(lookup, EnumLookup.forClass(Color.class));
+        assertEquals(8, lookup.size());
+        for (Color color : Color.values()) {
+            assertSame(color, lookup.fromName(color.name()));
+            assertSame(color, lookup.fromName(color.name().toLowerCase()));
+            assertSame(color, lookup.fromName("[" + color.name() + "]", 1, color.name().length() + 1));
+            byte[] bytes = ("  " + color.name().toLowerCase()).getBytes(StandardCharsets.ISO_8859_1);
+            assertSame(color, lookup.fromName(bytes, 2, bytes.length - 2));
+        }
+        assertNull(lookup.fromName("PURPLE"));
+        assertNull(lookup.fromName("RE"));
+        assertNull(lookup.fromName(""));
+    }
+
+    @Test
+    void probingFallback() {
+        EnumLookup<Folded> lookup = EnumLookup.forClass(Folded.class);
+        // names equal ignoring case resolve to the first declared
+        assertSame(Folded.Mode, lookup.fromName("mOdE"));
+        assertSame(Folded.Mode, lookup.fromName("MODE"));
+        assertSame(Folded.Other, lookup.fromName("OTHER"));
+        assertSame(Folded.CAFÉ, lookup.fromName("café"));
+        assertSame(Folded.CAFÉ, lookup.fromName("CAFé".getBytes(StandardCharsets.ISO_8859_1), 0, 4));
+        assertNull(lookup.fromName("modes"));
+        assertNull(lookup.fromName("cafe"));
+    }
+
+    @Test
+    void emptyEnum() {
+        EnumLookup<Empty> lookup = EnumLookup.forClass(Empty.class);
+        assertEquals(0, lookup.size());
+        assertNull(lookup.fromName("x"));
+        assertNull(lookup.fromOrdinal(0));
+    }
+
+    @Test
+    void ordinalsAndParse() {
+        EnumLookup<Color> lookup = EnumLookup.forClass(Color.class);
+        assertSame(Color.RED, lookup.fromOrdinal(0));
+        assertNull(lookup.fromOrdinal(8));
+        assertNull(lookup.fromOrdinal(-1));
+
+        assertSame(Color.BLUE, lookup.parse(Color.BLUE));
+        assertSame(Color.BLUE, lookup.parse("  blue\t"));
+        assertSame(Color.BLUE, lookup.parse(" 2 "));
+        assertSame(Color.BLUE, lookup.parse(2L));
+        assertSame(Color.BLUE, lookup.parse((byte) 2));
+        assertNull(lookup.parse(null));
+        assertThrows(ArgumentException.class, () -> lookup.parse("8"));
+        assertThrows(ArgumentException.class, () -> lookup.parse("purple"));
+        assertThrows(ArgumentException.class, () -> lookup.parse(-1));
+        assertThrows(ArgumentException.class, () -> lookup.parse(2.0));
+    }
+
+    @Test
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    void arguments() {
+        assertThrows(ArgumentNullException.class, () -> EnumLookup.forClass(null));
+        assertThrows(ArgumentException.class, () -> EnumLookup.forClass((Class) String.class));
+        assertThrows(ArgumentNullException.class, () -> EnumLookup.forClass(Color.class).fromName((CharSequence) null));
+        assertThrows(ArgumentNullException.class, () -> EnumLookup.forClass(Color.class).fromName((byte[]) null, 0, 0));
+    }
+}
@@ -0,0 +1,116 @@
+package io.standardcore.formatting;
+
+import io.standardcore.ArgumentException;
+import io.standardcore.Convert;
+import io.standardcore.UInteger;
+import io.standardcore.ULong;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+// Convert.toString(value, toBase) against the BigInteger form of the type's bit pattern, and
+// back through Convert.toXxx(text, fromBase), at the signed and unsigned boundaries of every
+// width for the shift radixes, 36 and 10.
+class RadixFormatterTest {
+    private static final int[] RADIXES = {2, 8, 10, 16, 36};
+
+    @Test
+    void byteRoundTrips() {
+        for (byte value : new byte[] {Byte.MIN_VALUE, Byte.MIN_VALUE + 1, -1, 0, 1, Byte.MAX_VALUE - 1, Byte.MAX_VALUE}) {
+            for (int radix : RADIXES) {
+                String text = Convert.toString(value, radix);
+                assertEquals(expected(value, 8, radix), text);
+                assertEquals(value, (byte) Convert.toByte(text, radix), text);
+            }
+        }
+    }
+
+    @Test
+    void int16RoundTrips() {
+        for (short value : new short[] {Short.MIN_VALUE, Short.MIN_VALUE + 1, -1, 0, 1, Short.MAX_VALUE - 1, Short.MAX_VALUE}) {
+            for (int radix : RADIXES) {
+                String text = Convert.toString(value, radix);
+                assertEquals(expected(value, 16, radix), text);
+                assertEquals(value, (short) Convert.toInt16(text, radix), text);
+            }
+        }
+    }
+
+    @Test
+    void int32RoundTrips() {
+        for (int value : new int[] {Integer.MIN_VALUE, Integer.MIN_VALUE + 1, -1, 0, 1, Integer.MAX_VALUE - 1, Integer.MAX_VALUE}) {
+            for (int radix : RADIXES) {
+                String text = Convert.toString(value, radix);
+                assertEquals(expected(value, 32, radix), text);
+                assertEquals(value, (int) Convert.toInt32(text, radix), text);
+
+                // as a UInt32 the same bits span 0 to 2^32 - 1, and are written unsigned in base 10
+                UInteger unsigned = UInteger.valueOf(value);
+                String unsignedText = Convert.toString(unsigned, radix);
+                assertEquals(BigInteger.valueOf(Integer.toUnsignedLong(value)).toString(radix), unsignedText);
+                assertEquals(unsigned, Convert.toUInt32(unsignedText, radix), unsignedText);
+            }
+        }
+    }
+
+    @Test
+    void int64RoundTrips() {
+        for (long value : new long[] {Long.MIN_VALUE, Long.MIN_VALUE + 1, Integer.MIN_VALUE - 1L, -1, 0, 1,
+                1L << 32, Long.MAX_VALUE - 1, Long.MAX_VALUE}) {
+            for (int radix : RADIXES) {
+                String text = Convert.toString(value, radix);
+                assertEquals(expected(value, 64, radix), text);
+                assertEquals(value, (long) Convert.toInt64(text, radix), text);
+
+                ULong unsigned = ULong.valueOf(value);
+                String unsignedText = Convert.toString(unsigned, radix);
+                assertEquals(unsigned(value).toString(radix), unsignedText);
+                assertEquals(unsigned, Convert.toUInt64(unsignedText, radix), unsignedText);
+            }
+        }
+    }
+
+    @Test
+    void randomRoundTrips() {
+        Random random = new Random(49);
+        for (int i = 0; i < 20_000; i++) {
+            long value = random.nextLong() >> random.nextInt(64);
+            int radix = RADIXES[random.nextInt(RADIXES.length)];
+            assertEquals(value, (long) Convert.toInt64(Convert.toString(value, radix), radix));
+            assertEquals((int) value, (int) Convert.toInt32(Convert.toString((int) value, radix), radix));
+            ULong unsigned = ULong.valueOf(value);
+            assertEquals(unsigned, Convert.toUInt64(Convert.toString(unsigned, radix), radix));
+        }
+    }
+
+    @Test
+    void formatterBitsAndSinks() {
+        assertEquals("ff", RadixFormatter.format(-1, 8, 16));
+        assertEquals("1", RadixFormatter.format(-1, 1, 36));
+        assertEquals("0", RadixFormatter.format(Long.MIN_VALUE, 63, 2));
+        assertEquals("3w5e11264sgsf", RadixFormatter.format(-1, 64, 36));
+        assertEquals(64, RadixFormatter.format(Long.MIN_VALUE, 64, 2).length());
+        assertEquals("x:7fffffff", RadixFormatter.appendTo(new StringBuilder("x:"), Integer.MAX_VALUE, 32, 16).toString());
+
+        char[] chars = new char[RadixFormatter.MAX_LENGTH + 2];
+        int start = RadixFormatter.getChars(-1, 64, 2, chars, chars.length);
+        assertEquals(2, start);
+        assertEquals(Long.toBinaryString(-1), new String(chars, start, chars.length - start));
+        assertThrows(ArgumentException.class, () -> RadixFormatter.format(1, 32, 1));
+        assertThrows(ArgumentException.class, () -> RadixFormatter.format(1, 32, 37));
+    }
+
+    // The bit pattern of a width-bit field in the radix; base 10 keeps the sign, as .NET does.
+    private static String expected(long value, int bits, int radix) {
+        if (radix == 10) return Long.toString(value);
+        return BigInteger.valueOf(value).and(BigInteger.ONE.shiftLeft(bits).subtract(BigInteger.ONE)).toString(radix);
+    }
+
+    private static BigInteger unsigned(long value) {
+        return new BigInteger(Long.toUnsignedString(value));
+    }
+}
@@ -0,0 +1,91 @@
+package io.standardcore.formatting;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// A platform thread reuses its own buffer, a nested acquire gets a separate one, and storage
+// beyond MAX_RETAINED_CHARS is not kept.
+class ScratchBufferTest {
+    @Test
+    void threadBufferIsReused() {
+        ScratchBuffer first = ScratchBuffer.acquire();
+        first.getBuilder().append("left over");
+        first.release();
+
+        ScratchBuffer second = ScratchBuffer.acquire();
+        try {
+            assertSame(first, second);
+            assertEquals(0, second.getBuilder().length());
+        } finally {
+            second.release();
+        }
+    }
+
+    @Test
+    void nestedAcquireGetsItsOwnBuffer() {
+        ScratchBuffer outer = ScratchBuffer.acquire();
+        try {
+            StringBuilder builder = outer.getBuilder().append("outer");
+            char[] chars = outer.getChars(16);
+            ScratchBuffer inner = ScratchBuffer.acquire();
+            try {
+                assertNotSame(outer, inner);
+                assertNotSame(chars, inner.getChars(16));
+                inner.getBuilder().append("inner");
+            } finally {
+                inner.release();
+            }
+            assertEquals("outer", builder.toString());
+        } finally {
+            outer.release();
+        }
+
+        ScratchBuffer again = ScratchBuffer.acquire();
+        try {
+            assertSame(outer, again);
+        } finally {
+            again.release();
+        }
+    }
+
+    @Test
+    void threadsDoNotShare() throws InterruptedException {
+        ScratchBuffer mine = ScratchBuffer.acquire();
+        mine.release();
+        AtomicReference<ScratchBuffer> theirs = new AtomicReference<>();
+        Thread thread = new Thread(() -> {
+            ScratchBuffer buffer = ScratchBuffer.acquire();
+            theirs.set(buffer);
+            buffer.release();
+        });
+        thread.start();
+        thread.join();
+        assertNotSame(mine, theirs.get());
+    }
+
+    @Test
+    void largeStorageIsDropped() {
+        ScratchBuffer buffer = ScratchBuffer.acquire();
+        char[] small = buffer.getChars(32);
+        assertSame(small, buffer.getChars(16));
+        char[] large = buffer.getChars(ScratchBuffer.MAX_RETAINED_CHARS + 1);
+        assertTrue(large.length > ScratchBuffer.MAX_RETAINED_CHARS);
+        StringBuilder builder = buffer.getBuilder();
+        for (int i = 0; i <= ScratchBuffer.MAX_RETAINED_CHARS; i++) builder.append('x');
+        buffer.release();
+
+        ScratchBuffer again = ScratchBuffer.acquire();
+        try {
+            assertTrue(again.getChars(1).length <= ScratchBuffer.MAX_RETAINED_CHARS);
+            assertTrue(again.getBuilder().capacity() <= ScratchBuffer.MAX_RETAINED_CHARS);
+        } finally {
+            again.release();
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package io.standardcore.formatting;
+
+import io.standardcore.FormatProvider;
+import io.standardcore.ULong;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.math.BigDecimal;
+import java.text.DecimalFormatSymbols;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+// Every format and appendTo path against the JDK toString forms it replaces, localized through
+// DecimalFormatSymbols, and formatting nested inside an append that holds the scratch buffer.
+class ValueFormatterTest {
+    private static final long[] LONGS = {0, 1, -1, 9, 10, -10, 99, 100, 12345, Integer.MIN_VALUE, Integer.MAX_VALUE,
+            1L << 32, 999_999_999_999L, Long.MIN_VALUE, Long.MIN_VALUE + 1, Long.MAX_VALUE};
+    private static final double[] DOUBLES = {0.0, -0.0, 1.0, -1.5, 0.1, 1e-3, 1e-4, 1e7, 1e21, 123456789.125,
+            Double.MIN_VALUE, Double.MAX_VALUE, Double.NaN, Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY};
+    private static final LocalDateTime[] DATE_TIMES = {
+            LocalDateTime.of(2024, 2, 29, 13, 5),
+            LocalDateTime.of(2024, 2, 29, 13, 5, 7),
+            LocalDateTime.of(2024, 2, 29, 13, 5, 0, 120_000_000),
+            LocalDateTime.of(1, 1, 1, 0, 0, 0, 123_400),
+            LocalDateTime.of(-5, 12, 31, 23, 59, 59, 1),
+            LocalDateTime.of(12345, 6, 7, 8, 9, 10),
+            LocalDateTime.of(-12345, 6, 7, 8, 9),
+            LocalDateTime.MIN,
+            LocalDateTime.MAX};
+
+    // Eastern Arabic digits, a comma separator, a distinct minus sign and exponent.
+    private static final DecimalFormatSymbols SYMBOLS = new DecimalFormatSymbols(Locale.ROOT);
+
+    static {
+        SYMBOLS.setZeroDigit('٠');
+        SYMBOLS.setDecimalSeparator(',');
+        SYMBOLS.setMinusSign('−');
+        SYMBOLS.setExponentSeparator("x10^");
+        SYMBOLS.setNaN("NaN!");
+        SYMBOLS.setInfinity("inf");
+    }
+
+    private static final FormatProvider LOCALIZED = formatType -> formatType == DecimalFormatSymbols.class ? SYMBOLS : null;
+
+    @Test
+    void matchesToString() throws IOException {
+        for (long value : LONGS) {
+            check(Long.toString(value), ValueFormatter.format(value, null), value);
+            check(Long.toUnsignedString(value), ValueFormatter.formatUnsigned(value, null), ULong.valueOf(value));
+        }
+        for (double value : DOUBLES) {
+            check(Double.toString(value), ValueFormatter.format(value, null), value);
+            check(Float.toString((float) value), ValueFormatter.format((float) value, null), (float) value);
+        }
+        for (String text : new String[] {"0", "-0.00", "12.50", "1E+3", "-1.23E-10", "123456789012345678901234567890.5"}) {
+            BigDecimal value = new BigDecimal(text);
+            check(value.toString(), ValueFormatter.format(value, null), value);
+        }
+        for (LocalDateTime value : DATE_TIMES) {
+            check(value.toString(), ValueFormatter.format(value, null), value);
+        }
+        assertEquals("", ValueFormatter.format((Object) null, null));
+        assertEquals("x", ValueFormatter.appendTo(new StringBuilder("x"), (Object) null, null).toString());
+    }
+
+    @Test
+    void localizedDigits() throws IOException {
+        for (long value : LONGS) {
+            check(localize(Long.toString(value)), ValueFormatter.format(value, LOCALIZED), value, LOCALIZED);
+            assertEquals(localize(Long.toUnsignedString(value)), ValueFormatter.formatUnsigned(value, LOCALIZED));
+        }
+        for (double value : DOUBLES) {
+            check(localize(Double.toString(value)), ValueFormatter.format(value, LOCALIZED), value, LOCALIZED);
+        }
+        BigDecimal decimal = new BigDecimal("-1.25E-7");
+        check(localize(decimal.toString()), ValueFormatter.format(decimal, LOCALIZED), decimal, LOCALIZED);
+        assertEquals("−١,٥", ValueFormatter.format(-1.5, LOCALIZED));
+        assertEquals("١,٠x10^١٠", ValueFormatter.format(1e10, LOCALIZED));
+    }
+
+    @Test
+    void dateTimeFormatter() throws IOException {
+        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("dd.MM.yyyy HH:mm");
+        FormatProvider provider = formatType -> formatType == DateTimeFormatter.class ? formatter : null;
+        LocalDateTime value = LocalDateTime.of(2024, 3, 9, 7, 45);
+        check("09.03.2024 07:45", ValueFormatter.format(value, provider), value, provider);
+    }
+
+    // An object whose toString formats other values: the nested acquires must not share the
+    // scratch builder the outer appendTo is writing through.
+    @Test
+    void nestedFormatting() throws IOException {
+        Object nested = new Object() {
+            @Override
+            public String toString() {
+                StringBuilder inner = new StringBuilder("[");
+                ValueFormatter.appendTo(inner, (Object) LocalDateTime.of(2024, 1, 2, 3, 4), null);
+                return inner.append('|').append(ValueFormatter.format(-12.5, LOCALIZED)).append(']').toString();
+            }
+        };
+        String expected = "[2024-01-02T03:04|−١٢,٥]";
+        assertEquals(expected, ValueFormatter.format(nested, null));
+        StringWriter writer = new StringWriter();
+        ValueFormatter.appendTo(writer.append("<"), nested, null);
+        assertEquals("<" + expected, writer.toString());
+        StringBuffer buffer = new StringBuffer();
+        ValueFormatter.appendTo(buffer, nested, null);
+        assertEquals(expected, buffer.toString());
+    }
+
+    // format, appendTo(StringBuilder) after existing text, and appendTo through a Writer and a
+    // non-StringBuilder Appendable all give the same text.
+    private static void check(String expected, String formatted, Object value) throws IOException {
+        check(expected, formatted, value, null);
+    }
+
+    private static void check(String expected, String formatted, Object value, FormatProvider provider) throws IOException {
+        assertEquals(expected, formatted, String.valueOf(value));
+        assertEquals(expected, ValueFormatter.format(value, provider));
+        assertEquals("ab" + expected, ValueFormatter.appendTo(new StringBuilder("ab"), value, provider).toString());
+        assertEquals("ab" + expected, ValueFormatter.appendTo(new StringWriter().append("ab"), value, provider).toString());
+        assertEquals("ab" + expected, ValueFormatter.appendTo(new StringBuffer("ab"), value, provider).toString());
+    }
+
+    private static String localize(String text) {
+        if (text.equals("NaN")) return SYMBOLS.getNaN();
+        if (text.equals("Infinity")) return SYMBOLS.getInfinity();
+        if (text.equals("-Infinity")) return SYMBOLS.getMinusSign() + SYMBOLS.getInfinity();
+        StringBuilder result = new StringBuilder();
+        for (char c : text.toCharArray()) {
+            if (c >= '0' && c <= '9') result.append((char) (SYMBOLS.getZeroDigit() + (c - '0')));
+            else if (c == '.') result.append(SYMBOLS.getDecimalSeparator());
+            else if (c == '-') result.append(SYMBOLS.getMinusSign());
+            else if (c == 'E') result.append(SYMBOLS.getExponentSeparator());
+            else result.append(c);
+        }
+        return result.toString();
+    }
+}
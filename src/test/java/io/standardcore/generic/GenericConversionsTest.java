@@ -0,0 +1,137 @@
+package io.standardcore.generic;
+
+import io.standardcore.ConversionContext;
+import io.standardcore.metrics.StripedConversionMetrics;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+// Container conversions through the plan cache: concurrent lookups, a raw type with more
+// parameterizations than the cache keeps, and the collection chosen for each target.
+class GenericConversionsTest {
+    @Test
+    void concurrentLookups() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 4; t++) {
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < 2000; i++) {
+                        Type type = new TestType(List.class, i % 40, Long.class);
+                        assertEquals(Arrays.asList(1L, 2L), GenericConversions.convert(new Object[] {"1", 2}, (ParameterizedType) type, null));
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) future.get();
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void manyParameterizations() {
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(Arrays.asList(i, 7), GenericConversions.convert(Arrays.asList(String.valueOf(i), 7.0), new TestType(List.class, i, Integer.class), null));
+        }
+    }
+
+    @Test
+    void queuesAndDequesHoldNulls() {
+        Object queue = GenericConversions.convert(Arrays.asList("1", null, 3L), new TestType(Queue.class, 0, Integer.class), null);
+        assertEquals(LinkedList.class, queue.getClass());
+        assertEquals(Arrays.asList(1, null, 3), queue);
+
+        Object deque = GenericConversions.convert(new Object[] {null, "2"}, new TestType(Deque.class, 0, Long.class), null);
+        assertEquals(Arrays.asList(null, 2L), deque);
+
+        Object arrayDeque = GenericConversions.convert(new Object[] {"1", 2.0}, new TestType(ArrayDeque.class, 0, Integer.class), null);
+        assertEquals(ArrayDeque.class, arrayDeque.getClass());
+        assertEquals(Arrays.asList(1, 2), new ArrayList<>((ArrayDeque<?>) arrayDeque));
+        assertThrows(NullPointerException.class,
+                () -> GenericConversions.convert(new Object[] {null}, new TestType(ArrayDeque.class, 0, Integer.class), null));
+    }
+
+    // A null element sends the conversion to a boxed list before any element is converted, so
+    // each element is converted once.
+    @Test
+    void unboxedListsFallBackBeforeConverting() {
+        StripedConversionMetrics metrics = new StripedConversionMetrics();
+        ConversionContext context = ConversionContext.builder().conversionMetrics(metrics).build();
+        ParameterizedType listOfInteger = new TestType(List.class, 0, Integer.class);
+        boolean enabled = GenericConversions.isUnboxedNumericLists();
+        try {
+            GenericConversions.setUnboxedNumericLists(true);
+
+            Object unboxed = GenericConversions.convert(context, Arrays.asList("1", "2", "3"), listOfInteger, null);
+            assertEquals(IntArrayList.class, unboxed.getClass());
+            assertEquals(Arrays.asList(1, 2, 3), unboxed);
+            assertEquals(3, metrics.getTotalConversionCount());
+
+            Object boxed = GenericConversions.convert(context, new LinkedList<>(Arrays.asList("4", "5", null)), listOfInteger, null);
+            assertEquals(ArrayList.class, boxed.getClass());
+            assertEquals(Arrays.asList(4, 5, null), boxed);
+            assertEquals(5, metrics.getTotalConversionCount());
+
+            Object fromArray = GenericConversions.convert(context, new Object[] {null, 6L}, new TestType(List.class, 0, Long.class), null);
+            assertEquals(Arrays.asList(null, 6L), fromArray);
+            assertEquals(DoubleArrayList.class, GenericConversions.convert(context, new Object[] {7, 8.5f}, new TestType(List.class, 0, Double.class), null).getClass());
+        } finally {
+            GenericConversions.setUnboxedNumericLists(enabled);
+        }
+    }
+
+    // A parameterization told apart from its siblings by an id, as generated code can mint them.
+    static final class TestType implements ParameterizedType {
+        private final Class<?> rawType;
+        private final int id;
+        private final Type[] arguments;
+
+        TestType(Class<?> rawType, int id, Type... arguments) {
+            this.rawType = rawType;
+            this.id = id;
+            this.arguments = arguments;
+        }
+
+        @Override
+        public Type[] getActualTypeArguments() {
+            return arguments.clone();
+        }
+
+        @Override
+        public Type getRawType() {
+            return rawType;
+        }
+
+        @Override
+        public Type getOwnerType() {
+            return null;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof TestType)) return false;
+            TestType other = (TestType) o;
+            return rawType == other.rawType && id == other.id && Arrays.equals(arguments, other.arguments);
+        }
+
+        @Override
+        public int hashCode() {
+            return rawType.hashCode() * 31 + id;
+        }
+    }
+}
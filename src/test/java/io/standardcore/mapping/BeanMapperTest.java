@@ -0,0 +1,135 @@
+package io.standardcore.mapping;
+
+import io.standardcore.ArgumentException;
+import io.standardcore.ArgumentNullException;
+import io.standardcore.FormatException;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+// Plans built once per class: public fields and setters, setters winning over fields, null
+// values for primitives, positional rows through forColumns, and classes that cannot be mapped.
+class BeanMapperTest {
+    public static class Order {
+        public long id;
+        public BigDecimal total;
+        public List<Integer> quantities;
+        public String note = "none";
+        public final int version = 1;
+        public static int instances;
+
+        private int priority;
+        private boolean prioritySet;
+
+        public void setPriority(int priority) {
+            this.priority = priority;
+            this.prioritySet = true;
+        }
+
+        public int priority() {
+            return priority;
+        }
+    }
+
+    // Setter and public field of the same name: the setter is used.
+    public static class Labelled {
+        public String label;
+
+        public void setLabel(String label) {
+            this.label = "[" + label + "]";
+        }
+    }
+
+    public static class Immutable {
+        private final int value;
+
+        public Immutable(int value) {
+            this.value = value;
+        }
+
+        public int value() {
+            return value;
+        }
+    }
+
+    @Test
+    void mapsFieldsAndSetters() {
+        BeanMapper<Order> mapper = BeanMapper.forClass(Order.class);
+        assertSame(mapper, BeanMapper.forClass(Order.class));
+        assertEquals(Order.class, mapper.getType());
+        assertEquals(5, mapper.getPropertyNames().size());
+        assertEquals(-1, mapper.getPropertyIndex("version"));
+        assertEquals(-1, mapper.getPropertyIndex("instances"));
+
+        Map<String, Object> row = new HashMap<>();
+        row.put("id", "42");
+        row.put("total", 12.5);
+        row.put("quantities", new Object[] {"1", 2L});
+        row.put("priority", "3");
+        row.put("unknown", "ignored");
+
+        Order order = mapper.map(row);
+        assertEquals(42L, order.id);
+        assertEquals(new BigDecimal("12.5"), order.total);
+        assertEquals(Arrays.asList(1, 2), order.quantities);
+        assertEquals(3, order.priority());
+        assertEquals("none", order.note);
+    }
+
+    @Test
+    void nullValues() {
+        Map<String, Object> row = new HashMap<>();
+        row.put("id", null);
+        row.put("priority", null);
+        row.put("note", null);
+
+        Order order = BeanMapper.forClass(Order.class).map(row);
+        assertEquals(0L, order.id);
+        assertEquals(false, order.prioritySet);
+        assertNull(order.note);
+    }
+
+    @Test
+    void settersWinOverFields() {
+        Map<String, Object> row = new HashMap<>();
+        row.put("label", 7);
+        assertEquals("[7]", BeanMapper.forClass(Labelled.class).map(row).label);
+    }
+
+    @Test
+    void positionalRows() {
+        ArrayRowMapper<Order> mapper = BeanMapper.forClass(Order.class).forColumns("priority", "skipped", "id", "total");
+        List<Order> orders = mapper.mapAll(Arrays.asList(
+                new Object[] {1, "x", 10, "1.50"},
+                new Object[] {2, "y"}), null);
+
+        assertEquals(1, orders.get(0).priority());
+        assertEquals(10L, orders.get(0).id);
+        assertEquals(new BigDecimal("1.50"), orders.get(0).total);
+        assertEquals(2, orders.get(1).priority());
+        assertEquals(0L, orders.get(1).id);
+    }
+
+    @Test
+    void failures() {
+        Map<String, Object> row = new HashMap<>();
+        row.put("id", "forty-two");
+        assertThrows(FormatException.class, () -> BeanMapper.forClass(Order.class).map(row));
+
+        // test classes are compiled without -parameters, so the constructor cannot be mapped
+        assertThrows(ArgumentException.class, () -> BeanMapper.forClass(Immutable.class));
+        assertThrows(ArgumentException.class, () -> BeanMapper.forClass(Runnable.class));
+        assertThrows(ArgumentNullException.class, () -> BeanMapper.forClass(null));
+        assertThrows(ArgumentNullException.class, () -> BeanMapper.forClass(Order.class).map(null));
+        assertThrows(ArgumentNullException.class, () -> BeanMapper.forClass(Order.class).withContext(null));
+    }
+}
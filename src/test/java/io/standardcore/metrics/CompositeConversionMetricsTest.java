@@ -0,0 +1,130 @@
+package io.standardcore.metrics;
+
+import io.standardcore.ArgumentException;
+import io.standardcore.ConversionMetrics;
+import io.standardcore.Convert;
+import io.standardcore.FormatException;
+import io.standardcore.TypeCode;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// Fan-out and per-delegate sampling of CompositeConversionMetrics.
+class CompositeConversionMetricsTest {
+    private static final class Recording implements ConversionMetrics {
+        final boolean sampling;
+        final List<Long> startTimes = new ArrayList<>();
+        int failures;
+        int batches;
+
+        Recording(boolean sampling) {
+            this.sampling = sampling;
+        }
+
+        @Override
+        public long startTime() {
+            return sampling ? System.nanoTime() : NOT_SAMPLED;
+        }
+
+        @Override
+        public void conversionSucceeded(TypeCode source, TypeCode target, Object value, long startTime) {
+            startTimes.add(startTime);
+        }
+
+        @Override
+        public void conversionFailed(TypeCode source, TypeCode target, Object value, RuntimeException exception, long startTime) {
+            startTimes.add(startTime);
+            failures++;
+        }
+
+        @Override
+        public void batchCompleted(TypeCode source, TypeCode target, int count, int failures, long elapsedNanos) {
+            batches++;
+        }
+    }
+
+    @Test
+    void ofSkipsNullsAndFlattens() {
+        Recording a = new Recording(false);
+        Recording b = new Recording(false);
+        Recording c = new Recording(false);
+        assertNull(CompositeConversionMetrics.of());
+        assertNull(CompositeConversionMetrics.of((ConversionMetrics) null, null));
+        assertSame(a, CompositeConversionMetrics.of(null, a));
+        CompositeConversionMetrics nested = (CompositeConversionMetrics) CompositeConversionMetrics.of(a, CompositeConversionMetrics.of(b, c));
+        assertEquals(3, nested.getDelegates().size());
+        assertSame(c, nested.getDelegates().get(2));
+
+        ConversionMetrics[] many = new ConversionMetrics[CompositeConversionMetrics.MAX_DELEGATES + 1];
+        for (int i = 0; i < many.length; i++) many[i] = new Recording(false);
+        assertThrows(ArgumentException.class, () -> CompositeConversionMetrics.of(many));
+    }
+
+    @Test
+    void onlySamplingDelegatesGetTheStartTime() {
+        Recording sampled = new Recording(true);
+        Recording unsampled = new Recording(false);
+        Recording alsoSampled = new Recording(true);
+        ConversionMetrics composite = CompositeConversionMetrics.of(sampled, unsampled, alsoSampled);
+
+        long before = System.nanoTime();
+        long startTime = composite.startTime();
+        composite.conversionSucceeded(TypeCode.STRING, TypeCode.INT32, "1", startTime);
+        composite.conversionFailed(TypeCode.STRING, TypeCode.INT32, "x", new FormatException("Format_InvalidString"), startTime);
+        composite.batchCompleted(TypeCode.STRING, TypeCode.INT32, 10, 1, 5);
+
+        for (Recording recording : new Recording[] {sampled, alsoSampled}) {
+            assertEquals(2, recording.startTimes.size());
+            long seen = recording.startTimes.get(0);
+            // rounded down by fewer than 2^3 nanoseconds
+            assertTrue(seen - before >= -7, seen + " " + before);
+            assertTrue(seen <= System.nanoTime());
+            assertEquals(1, recording.failures);
+            assertEquals(1, recording.batches);
+        }
+        assertEquals(2, unsampled.startTimes.size());
+        for (long seen : unsampled.startTimes) assertEquals(ConversionMetrics.NOT_SAMPLED, seen);
+        assertEquals(1, unsampled.batches);
+    }
+
+    @Test
+    void nothingSampled() {
+        Recording a = new Recording(false);
+        Recording b = new Recording(false);
+        ConversionMetrics composite = CompositeConversionMetrics.of(a, b);
+        long startTime = composite.startTime();
+        assertEquals(ConversionMetrics.NOT_SAMPLED, startTime);
+        composite.conversionSucceeded(TypeCode.STRING, TypeCode.INT32, "1", startTime);
+        assertEquals(ConversionMetrics.NOT_SAMPLED, (long) a.startTimes.get(0));
+        assertEquals(ConversionMetrics.NOT_SAMPLED, (long) b.startTimes.get(0));
+    }
+
+    @Test
+    void addConversionMetrics() {
+        ConversionMetrics installed = Convert.getConversionMetrics();
+        try {
+            Convert.setConversionMetrics(null);
+            StripedConversionMetrics striped = new StripedConversionMetrics();
+            Recording recording = new Recording(false);
+            Convert.addConversionMetrics(striped);
+            assertSame(striped, Convert.getConversionMetrics());
+            Convert.addConversionMetrics(recording);
+
+            Convert.changeType("42", TypeCode.INT32, null);
+            assertThrows(FormatException.class, () -> Convert.changeType("x", TypeCode.INT32, null));
+            assertEquals(2, striped.getConversionCount(TypeCode.STRING, TypeCode.INT32));
+            assertEquals(1, striped.getFailureCount(TypeCode.STRING, TypeCode.INT32));
+            assertEquals(2, recording.startTimes.size());
+            assertEquals(1, recording.failures);
+        } finally {
+            Convert.setConversionMetrics(installed);
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package io.standardcore.metrics;
+
+import io.standardcore.ConversionContext;
+import io.standardcore.FormatException;
+import io.standardcore.OverflowException;
+import io.standardcore.TypeCode;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+// Every ConversionContext entry point is counted exactly once per conversion: changeType and
+// the toXxx(Object) methods, which changeType itself goes through.
+class StripedConversionMetricsTest {
+    @Test
+    void countsChangeTypeAndTypedConversionsOnce() {
+        StripedConversionMetrics metrics = new StripedConversionMetrics();
+        ConversionContext context = ConversionContext.builder().conversionMetrics(metrics).build();
+
+        context.changeType("12", TypeCode.INT32);
+        context.toInt32("13");
+        context.toInt32(14L);
+        context.toDecimal(2.5);
+        context.toString(BigDecimal.ONE);
+
+        assertEquals(2, metrics.getConversionCount(TypeCode.STRING, TypeCode.INT32));
+        assertEquals(1, metrics.getConversionCount(TypeCode.INT64, TypeCode.INT32));
+        assertEquals(1, metrics.getConversionCount(TypeCode.DOUBLE, TypeCode.DECIMAL));
+        assertEquals(1, metrics.getConversionCount(TypeCode.DECIMAL, TypeCode.STRING));
+        assertEquals(5, metrics.getTotalConversionCount());
+    }
+
+    @Test
+    void countsFailuresByKind() {
+        StripedConversionMetrics metrics = new StripedConversionMetrics();
+        ConversionContext context = ConversionContext.builder().conversionMetrics(metrics).build();
+
+        assertThrows(FormatException.class, () -> context.toInt32("x"));
+        assertThrows(OverflowException.class, () -> context.changeType(5e9, TypeCode.INT32));
+        assertThrows(OverflowException.class, () -> context.toByte(300));
+
+        assertEquals(1, metrics.getFailureCount(TypeCode.STRING, TypeCode.INT32));
+        assertEquals(1, metrics.getFailureCount(TypeCode.DOUBLE, TypeCode.INT32));
+        assertEquals(1, metrics.getFailureCount(TypeCode.INT32, TypeCode.BYTE));
+        assertEquals(1, metrics.getFailureCount(StripedConversionMetrics.FailureKind.FORMAT));
+        assertEquals(2, metrics.getFailureCount(StripedConversionMetrics.FailureKind.OVERFLOW));
+    }
+}
@@ -0,0 +1,86 @@
+package io.standardcore.parsing;
+
+import io.standardcore.ArgumentException;
+import io.standardcore.ArgumentNullException;
+import io.standardcore.FormatException;
+import io.standardcore.FormatProvider;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// Token sets, case folding and the whitespace Boolean.Parse trims, for character and byte
+// input, and the parser a FormatProvider selects.
+class BooleanParserTest {
+    @Test
+    void defaultTokens() {
+        BooleanParser parser = BooleanParser.DEFAULT;
+        assertTrue(parser.parse("true"));
+        assertTrue(parser.parse("TRUE"));
+        assertFalse(parser.parse("fAlSe"));
+        assertEquals(BooleanParser.INVALID, parser.tryParse("yes", 0, 3));
+        assertEquals(BooleanParser.INVALID, parser.tryParse("1", 0, 1));
+        assertEquals(BooleanParser.INVALID, parser.tryParse("tru", 0, 3));
+        assertEquals(BooleanParser.INVALID, parser.tryParse("truee", 0, 5));
+        assertEquals(BooleanParser.INVALID, parser.tryParse("", 0, 0));
+        assertEquals(BooleanParser.INVALID, parser.tryParse("trüe", 0, 4));
+        assertEquals("Format_BadBoolean", assertThrows(FormatException.class, () -> parser.parse("maybe")).getMessage());
+    }
+
+    @Test
+    void extendedTokens() {
+        BooleanParser parser = BooleanParser.EXTENDED;
+        for (String token : new String[] {"true", "Yes", "y", "1", "ON", "t"}) {
+            assertEquals(BooleanParser.TRUE, parser.tryParse(token, 0, token.length()), token);
+        }
+        for (String token : new String[] {"FALSE", "no", "N", "0", "off", "f"}) {
+            assertEquals(BooleanParser.FALSE, parser.tryParse(token, 0, token.length()), token);
+        }
+        assertEquals(BooleanParser.INVALID, parser.tryParse("2", 0, 1));
+        assertEquals(BooleanParser.INVALID, parser.tryParse("onn", 0, 3));
+    }
+
+    @Test
+    void whitespaceAndRanges() {
+        BooleanParser parser = BooleanParser.DEFAULT;
+        assertTrue(parser.parse(" \t\r\ntrue\u000B\f\0"));
+        assertEquals(BooleanParser.INVALID, parser.tryParse(" \t ", 0, 3));
+        assertEquals(BooleanParser.INVALID, parser.tryParse("tr ue", 0, 5));
+        // only ASCII whitespace and NUL are trimmed
+        assertEquals(BooleanParser.INVALID, parser.tryParse(" true", 0, 5));
+        assertEquals(BooleanParser.FALSE, parser.tryParse("x,false,y", 2, 7));
+
+        byte[] bytes = "[ True ]".getBytes(StandardCharsets.US_ASCII);
+        assertEquals(BooleanParser.TRUE, parser.tryParse(bytes, 1, 6));
+        assertEquals(BooleanParser.INVALID, parser.tryParse(bytes, 0, 8));
+        assertThrows(FormatException.class, () -> parser.parse(bytes, 1, 3));
+    }
+
+    @Test
+    void customTokens() {
+        BooleanParser parser = new BooleanParser(new String[] {"ja", "J"}, new String[] {"nein", "n", "NEIN"});
+        assertTrue(parser.parse("JA"));
+        assertTrue(parser.parse("j"));
+        assertFalse(parser.parse("Nein"));
+        assertEquals(BooleanParser.INVALID, parser.tryParse("true", 0, 4));
+
+        assertThrows(ArgumentException.class, () -> new BooleanParser(new String[] {"x"}, new String[] {"X"}));
+        assertThrows(ArgumentException.class, () -> new BooleanParser(new String[] {""}, new String[0]));
+        assertThrows(ArgumentException.class, () -> new BooleanParser(new String[] {"sí"}, new String[0]));
+        assertThrows(ArgumentNullException.class, () -> new BooleanParser(null, new String[0]));
+        assertThrows(ArgumentNullException.class, () -> BooleanParser.DEFAULT.parse((CharSequence) null));
+    }
+
+    @Test
+    void providerSelectsParser() {
+        FormatProvider extended = formatType -> formatType == BooleanParser.class ? BooleanParser.EXTENDED : null;
+        assertSame(BooleanParser.EXTENDED, BooleanParser.getInstance(extended));
+        assertSame(BooleanParser.DEFAULT, BooleanParser.getInstance(formatType -> null));
+        assertSame(BooleanParser.DEFAULT, BooleanParser.getInstance(null));
+    }
+}
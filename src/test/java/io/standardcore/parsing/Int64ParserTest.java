@@ -0,0 +1,205 @@
+package io.standardcore.parsing;
+
+import io.standardcore.FormatException;
+import io.standardcore.OverflowException;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// Every entry point of the SWAR parser against a BigInteger reference: the Int64 bounds and
+// their neighbours, 19- and 20-digit inputs, signs, leading zeros and whitespace, and inputs
+// whose bad character falls inside an eight-digit word or in the tail.
+class Int64ParserTest {
+    private static final BigInteger MIN = BigInteger.valueOf(Long.MIN_VALUE);
+    private static final BigInteger MAX = BigInteger.valueOf(Long.MAX_VALUE);
+
+    private interface Parser {
+        long parse(String text);
+    }
+
+    private static final String[] NAMES = {"String", "StringBuilder", "CharSequence range", "byte[]", "byte[] range",
+            "heap ByteBuffer", "heap ByteBuffer slice", "direct ByteBuffer big-endian", "direct ByteBuffer little-endian",
+            "direct ByteBuffer range"};
+
+    private static final Parser[] PARSERS = {
+            Int64Parser::parse,
+            text -> Int64Parser.parse(new StringBuilder(text)),
+            text -> Int64Parser.parse("#" + text + "#", 1, text.length() + 1),
+            text -> Int64Parser.parse(ascii(text)),
+            text -> Int64Parser.parse(ascii("##" + text + "###"), 2, text.length()),
+            text -> Int64Parser.parse(ByteBuffer.wrap(ascii(text))),
+            text -> {
+                ByteBuffer buffer = ByteBuffer.wrap(ascii("###" + text));
+                buffer.position(3);
+                return Int64Parser.parse(buffer.slice());
+            },
+            text -> Int64Parser.parse(direct(text, ByteOrder.BIG_ENDIAN)),
+            text -> Int64Parser.parse(direct(text, ByteOrder.LITTLE_ENDIAN)),
+            text -> {
+                ByteBuffer buffer = direct("#####" + text + "#", ByteOrder.nativeOrder());
+                return Int64Parser.parse(buffer, 5, text.length());
+            },
+    };
+
+    @Test
+    void bounds() {
+        List<String> values = new ArrayList<>();
+        for (BigInteger bound : new BigInteger[] {MIN, MAX, BigInteger.ZERO}) {
+            for (int delta = -2; delta <= 2; delta++) values.add(bound.add(BigInteger.valueOf(delta)).toString());
+        }
+        values.add("+9223372036854775807");
+        values.add("+9223372036854775808");
+        values.add("-9223372036854775809");
+        values.add("18446744073709551615");
+        values.add("18446744073709551616");
+        values.add("-18446744073709551615");
+        for (String text : values) checkAll(text);
+    }
+
+    @Test
+    void digitCounts() {
+        for (int digits = 1; digits <= 21; digits++) {
+            String nines = repeat('9', digits);
+            String ones = repeat('1', digits);
+            String power = "1" + repeat('0', digits - 1);
+            for (String text : new String[] {nines, ones, power, "-" + nines, "-" + ones, "+" + power}) checkAll(text);
+        }
+        // leading zeros do not count towards the 19 digits
+        checkAll("000000000000000000009223372036854775807");
+        checkAll("-00000000000000000000009223372036854775808");
+        checkAll("00000000000000000000000000000000");
+        checkAll("0000000000000000000000000000000000000000000000000000000000000000000000000000001");
+    }
+
+    @Test
+    void signsAndWhitespace() {
+        String[] values = {" 1", "1 ", "\t\n\u000B\f\r42\r\n", "\u001C7\u001F", "  -123456789012345678  ", "+0", "-0",
+                "", " ", "+", "-", " - ", "--1", "+-1", "-+1", "1-", "1 2", "- 1", "++1", "\u00A01"};
+        for (String text : values) checkAll(text);
+    }
+
+    @Test
+    void invalidCharacters() {
+        String digits = "1234567890123456789";
+        for (int i = 0; i < digits.length(); i++) {
+            for (char bad : new char[] {'/', ':', 'a', ' ', '.', '\u0000', '\u007F'}) {
+                checkAll(digits.substring(0, i) + bad + digits.substring(i + 1));
+            }
+        }
+    }
+
+    // A char whose low byte is a digit must not pass the packed eight-digit test.
+    @Test
+    void wideCharacters() {
+        for (String text : new String[] {"1234567\u0130", "\u01311234567", "123456781\u0132", "\u0660", "12345678\u0669"}) {
+            for (int p = 0; p < 3; p++) {
+                int index = p;
+                assertThrows(FormatException.class, () -> PARSERS[index].parse(text), NAMES[p] + " " + text);
+            }
+        }
+    }
+
+    @Test
+    void randomValues() {
+        Random random = new Random(36);
+        for (int i = 0; i < 100_000; i++) {
+            StringBuilder text = new StringBuilder();
+            int sign = random.nextInt(3);
+            if (sign == 1) text.append('-');
+            if (sign == 2) text.append('+');
+            int zeros = random.nextInt(4) == 0 ? random.nextInt(10) : 0;
+            for (int k = 0; k < zeros; k++) text.append('0');
+            int digits = 1 + random.nextInt(21);
+            text.append((char) ('1' + random.nextInt(9)));
+            for (int k = 1; k < digits; k++) text.append((char) ('0' + random.nextInt(10)));
+            checkAll(text.toString());
+        }
+    }
+
+    @Test
+    void bufferPositionUnchanged() {
+        ByteBuffer buffer = direct("  -42  ", ByteOrder.BIG_ENDIAN);
+        buffer.position(1);
+        assertEquals(-42, Int64Parser.parse(buffer));
+        assertEquals(1, buffer.position());
+    }
+
+    @Test
+    void isDigits() {
+        for (String text : new String[] {"0", "12345678", "1234567890123456789012345"}) {
+            byte[] bytes = ascii(text);
+            assertTrue(Int64Parser.isDigits(bytes, 0, bytes.length), text);
+            assertTrue(Int64Parser.isDigits(direct(text, ByteOrder.BIG_ENDIAN), 0, bytes.length), text);
+            assertTrue(Int64Parser.isDigits(text, 0, text.length()), text);
+        }
+        for (String text : new String[] {"", "1234567/", "12345678:", "-1", " 1", "\u00B9"}) {
+            byte[] bytes = text.getBytes(StandardCharsets.ISO_8859_1);
+            assertFalse(Int64Parser.isDigits(bytes, 0, bytes.length), text);
+            assertFalse(Int64Parser.isDigits(ByteBuffer.allocateDirect(bytes.length).put(bytes), 0, bytes.length), text);
+            assertFalse(Int64Parser.isDigits(text, 0, text.length()), text);
+        }
+    }
+
+    private static void checkAll(String text) {
+        Class<? extends RuntimeException> error = null;
+        long expected = 0;
+        String trimmed = trim(text);
+        if (!trimmed.matches("[+-]?[0-9]+")) {
+            error = FormatException.class;
+        } else {
+            BigInteger value = new BigInteger(trimmed);
+            if (value.compareTo(MIN) < 0 || value.compareTo(MAX) > 0) {
+                error = OverflowException.class;
+            } else {
+                expected = value.longValue();
+            }
+        }
+        for (int p = 0; p < PARSERS.length; p++) {
+            Parser parser = PARSERS[p];
+            String message = NAMES[p] + " \"" + text + "\"";
+            if (error == null) {
+                assertEquals(expected, parser.parse(text), message);
+            } else {
+                RuntimeException e = assertThrows(error, () -> parser.parse(text), message);
+                if (error == OverflowException.class) assertEquals("Overflow_Int64", e.getMessage(), message);
+            }
+        }
+    }
+
+    private static String trim(String text) {
+        int start = 0;
+        int end = text.length();
+        while (start < end && Character.isWhitespace(text.charAt(start))) start++;
+        while (end > start && Character.isWhitespace(text.charAt(end - 1))) end--;
+        return text.substring(start, end);
+    }
+
+    private static String repeat(char c, int count) {
+        StringBuilder builder = new StringBuilder(count);
+        for (int i = 0; i < count; i++) builder.append(c);
+        return builder.toString();
+    }
+
+    private static byte[] ascii(String text) {
+        return text.getBytes(StandardCharsets.ISO_8859_1);
+    }
+
+    private static ByteBuffer direct(String text, ByteOrder order) {
+        byte[] bytes = ascii(text);
+        ByteBuffer buffer = ByteBuffer.allocateDirect(bytes.length).order(order);
+        buffer.put(bytes);
+        buffer.clear();
+        return buffer;
+    }
+}
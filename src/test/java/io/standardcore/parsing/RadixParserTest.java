@@ -0,0 +1,108 @@
+package io.standardcore.parsing;
+
+import io.standardcore.ArgumentException;
+import io.standardcore.Convert;
+import io.standardcore.FormatException;
+import io.standardcore.OverflowException;
+import io.standardcore.UInteger;
+import io.standardcore.ULong;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.function.Executable;
+
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+// The radix parser against BigInteger for every radix and width, on both the shift path
+// (power-of-two radixes) and the multiply path, including which overflow key each target
+// reports.
+class RadixParserTest {
+    private static final int[] BITS = {8, 16, 32, 64};
+    private static final String[] KEYS = {"Overflow_Byte", "Overflow_Int16", "Overflow_UInt32", "Overflow_UInt64"};
+
+    @Test
+    void widthBoundaries() {
+        for (int radix = Character.MIN_RADIX; radix <= Character.MAX_RADIX; radix++) {
+            for (int b = 0; b < BITS.length; b++) {
+                BigInteger max = BigInteger.ONE.shiftLeft(BITS[b]).subtract(BigInteger.ONE);
+                for (BigInteger value : new BigInteger[] {BigInteger.ZERO, BigInteger.ONE, max.subtract(BigInteger.ONE), max,
+                        max.add(BigInteger.ONE), max.add(BigInteger.valueOf(radix)), max.multiply(BigInteger.valueOf(radix)),
+                        BigInteger.ONE.shiftLeft(64), BigInteger.ONE.shiftLeft(64).multiply(BigInteger.valueOf(radix))}) {
+                    check(value.toString(radix), radix, b);
+                }
+            }
+        }
+    }
+
+    @Test
+    void randomValues() {
+        Random random = new Random(49);
+        for (int i = 0; i < 100_000; i++) {
+            int radix = Character.MIN_RADIX + random.nextInt(Character.MAX_RADIX - 1);
+            String text = new BigInteger(1 + random.nextInt(70), random).toString(radix);
+            if (random.nextBoolean()) text = text.toUpperCase();
+            check(text, radix, random.nextInt(BITS.length));
+        }
+    }
+
+    @Test
+    void prefixSignsAndWhitespace() {
+        assertEquals(255, RadixParser.parseBits(" 0xff\t", 16, 8, "Overflow_Byte"));
+        assertEquals(255, RadixParser.parseBits("+0XFF", 16, 8, "Overflow_Byte"));
+        assertEquals(0, RadixParser.parseBits("0", 16, 8, "Overflow_Byte"));
+        assertEquals(5, RadixParser.parseBits("000101", 2, 8, "Overflow_Byte"));
+        for (String text : new String[] {"", " ", "+", "0x", "1 1", "0x-1", "g", "1z"}) {
+            assertThrows(FormatException.class, () -> RadixParser.parseBits(text, 16, 32, "Overflow_Int32"), text);
+        }
+        assertThrows(ArgumentException.class, () -> RadixParser.parseBits("-1", 16, 32, "Overflow_Int32"));
+        assertThrows(ArgumentException.class, () -> RadixParser.parseBits("1", 37, 32, "Overflow_Int32"));
+    }
+
+    @Test
+    void convertOverflowKeys() {
+        assertOverflow("Overflow_Byte", () -> Convert.toByte("100", 16));
+        assertOverflow("Overflow_Byte", () -> Convert.toByte("600", 7));
+        assertOverflow("Overflow_Int16", () -> Convert.toInt16("10000", 16));
+        assertOverflow("Overflow_Int16", () -> Convert.toInt16("110000", 9));
+        assertOverflow("Overflow_Int32", () -> Convert.toInt32("100000000", 16));
+        assertOverflow("Overflow_UInt32", () -> Convert.toUInt32("100000000", 16));
+        assertOverflow("Overflow_UInt32", () -> Convert.toUInt32("4294967296", 11));
+        assertOverflow("Overflow_Int64", () -> Convert.toInt64("10000000000000000", 16));
+        assertOverflow("Overflow_Int64", () -> Convert.toInt64("zzzzzzzzzzzzzzz", 36));
+        assertOverflow("Overflow_UInt64", () -> Convert.toUInt64("zzzzzzzzzzzzzzz", 36));
+        byte[] bytes = "100000000".getBytes(StandardCharsets.US_ASCII);
+        assertOverflow("Overflow_UInt32", () -> Convert.toUInt32(bytes, 0, bytes.length, 16));
+        assertOverflow("Overflow_Int32", () -> Convert.toInt32(bytes, 0, bytes.length, 16));
+    }
+
+    @Test
+    void convertToStringNull() {
+        String expected = Convert.toString((Object) null);
+        assertEquals(expected, Convert.toString((Byte) null, 16));
+        assertEquals(expected, Convert.toString((Short) null, 2));
+        assertEquals(expected, Convert.toString((Integer) null, 10));
+        assertEquals(expected, Convert.toString((Long) null, 36));
+        assertEquals(expected, Convert.toString((UInteger) null, 16));
+        assertEquals(expected, Convert.toString((ULong) null, 8));
+    }
+
+    private static void check(String text, int radix, int b) {
+        BigInteger value = new BigInteger(text, radix);
+        String message = text + " radix " + radix + " bits " + BITS[b];
+        byte[] bytes = text.getBytes(StandardCharsets.US_ASCII);
+        if (value.bitLength() > BITS[b]) {
+            assertOverflow(KEYS[b], () -> RadixParser.parseBits(text, radix, BITS[b], KEYS[b]));
+            assertOverflow(KEYS[b], () -> RadixParser.parseBits(bytes, 0, bytes.length, radix, BITS[b], KEYS[b]));
+        } else {
+            assertEquals(value.longValue(), RadixParser.parseBits(text, radix, BITS[b], KEYS[b]), message);
+            assertEquals(value.longValue(), RadixParser.parseBits(bytes, 0, bytes.length, radix, BITS[b], KEYS[b]), message);
+        }
+    }
+
+    private static void assertOverflow(String key, Executable executable) {
+        assertEquals(key, assertThrows(OverflowException.class, executable).getMessage());
+    }
+}
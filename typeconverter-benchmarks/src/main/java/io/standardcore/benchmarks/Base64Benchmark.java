@@ -0,0 +1,170 @@
+package io.standardcore.benchmarks;
+
+import io.standardcore.Convert;
+import io.standardcore.encoding.Base64Decoder;
+import io.standardcore.encoding.Base64Encoder;
+import io.standardcore.encoding.Base64Variant;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.ByteBuffer;
+import java.util.Base64;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// Convert.toBase64 / fromBase64 and the streaming Base64Encoder / Base64Decoder against
+// java.util.Base64 with the matching variant. The *Jdk methods are the baseline for the
+// method of the same name without the suffix. Add -prof gc to compare allocation.
+//
+// encodeToBuffer / decodeToBuffer write into a caller buffer of the full size, which is what
+// Encoder.encode(byte[], byte[]) offers; the *Direct methods stream between direct buffers in
+// fixed chunks, for which the JDK only has encode(ByteBuffer) returning a new heap buffer.
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class Base64Benchmark {
+    @Param({"64", "1024", "65536", "1048576"})
+    public int size;
+
+    @Param({"STANDARD", "URL_SAFE", "MIME"})
+    public Base64Variant variant;
+
+    private static final int STREAM_CHUNK = 8192;
+
+    private byte[] data;
+    private String text;
+    private byte[] encoded;
+    private byte[] encodedBuffer;
+    private byte[] decodedBuffer;
+    private ByteBuffer directData;
+    private ByteBuffer directEncoded;
+    private ByteBuffer directChunk;
+
+    private Base64.Encoder jdkEncoder;
+    private Base64.Decoder jdkDecoder;
+    private Base64Encoder encoder;
+    private Base64Decoder decoder;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        data = new byte[size];
+        new Random(50).nextBytes(data);
+        switch (variant) {
+            case URL_SAFE:
+                jdkEncoder = Base64.getUrlEncoder();
+                jdkDecoder = Base64.getUrlDecoder();
+                break;
+            case MIME:
+                jdkEncoder = Base64.getMimeEncoder();
+                jdkDecoder = Base64.getMimeDecoder();
+                break;
+            default:
+                jdkEncoder = Base64.getEncoder();
+                jdkDecoder = Base64.getDecoder();
+                break;
+        }
+        text = Convert.toBase64(data, variant);
+        encoded = Base64Encoder.encode(data, 0, data.length, variant);
+        encodedBuffer = new byte[encoded.length];
+        decodedBuffer = new byte[data.length];
+        encoder = new Base64Encoder(variant);
+        decoder = new Base64Decoder(variant);
+
+        directData = ByteBuffer.allocateDirect(size);
+        directData.put(data).flip();
+        directEncoded = ByteBuffer.allocateDirect(encoded.length);
+        directEncoded.put(encoded).flip();
+        directChunk = ByteBuffer.allocateDirect(STREAM_CHUNK);
+    }
+
+    @Benchmark
+    public String encodeToString() {
+        return Convert.toBase64(data, variant);
+    }
+
+    @Benchmark
+    public String encodeToStringJdk() {
+        return jdkEncoder.encodeToString(data);
+    }
+
+    @Benchmark
+    public byte[] decodeString() {
+        return Convert.fromBase64(text, variant);
+    }
+
+    @Benchmark
+    public byte[] decodeStringJdk() {
+        return jdkDecoder.decode(text);
+    }
+
+    @Benchmark
+    public byte[] encodeToBuffer() {
+        encoder.encode(ByteBuffer.wrap(data), ByteBuffer.wrap(encodedBuffer), true);
+        return encodedBuffer;
+    }
+
+    @Benchmark
+    public byte[] encodeToBufferJdk() {
+        jdkEncoder.encode(data, encodedBuffer);
+        return encodedBuffer;
+    }
+
+    @Benchmark
+    public byte[] decodeToBuffer() {
+        decoder.decode(ByteBuffer.wrap(encoded), ByteBuffer.wrap(decodedBuffer), true);
+        return decodedBuffer;
+    }
+
+    @Benchmark
+    public byte[] decodeToBufferJdk() {
+        jdkDecoder.decode(encoded, decodedBuffer);
+        return decodedBuffer;
+    }
+
+    @Benchmark
+    public long encodeDirect() {
+        ByteBuffer src = directData.duplicate();
+        long written = 0;
+        while (true) {
+            directChunk.clear();
+            boolean done = encoder.encode(src, directChunk, true);
+            written += directChunk.position();
+            if (done) return written;
+        }
+    }
+
+    @Benchmark
+    public ByteBuffer encodeDirectJdk() {
+        return jdkEncoder.encode(directData.duplicate());
+    }
+
+    @Benchmark
+    public long decodeDirect() {
+        ByteBuffer src = directEncoded.duplicate();
+        long written = 0;
+        while (true) {
+            directChunk.clear();
+            boolean done = decoder.decode(src, directChunk, true);
+            written += directChunk.position();
+            if (done) return written;
+        }
+    }
+
+    @Benchmark
+    public ByteBuffer decodeDirectJdk() {
+        return jdkDecoder.decode(directEncoded.duplicate());
+    }
+}
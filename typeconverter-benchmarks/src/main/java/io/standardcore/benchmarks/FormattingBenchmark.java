@@ -0,0 +1,124 @@
+package io.standardcore.benchmarks;
+
+import io.standardcore.Convert;
+import io.standardcore.FormatProvider;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.text.DecimalFormatSymbols;
+import java.time.LocalDateTime;
+import java.util.Locale;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// Convert.toString(X, FormatProvider) for Double, BigDecimal and LocalDateTime, which format
+// through the thread-local ScratchBuffer, and Convert.appendTo, which writes into the caller's
+// builder instead of returning a String. The *Jdk methods are the JDK's toString() for the
+// same values. Run with -prof gc and compare gc.alloc.rate.norm (bytes per operation).
+// BigDecimal caches its toString(), so the decimal methods build a new BigDecimal per call;
+// that allocation is in every decimal score, the JDK's included.
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class FormattingBenchmark {
+    private static final int VALUES = 1024;
+
+    // "invariant" passes no provider; "de" supplies German DecimalFormatSymbols
+    @Param({"invariant", "de"})
+    public String locale;
+
+    private FormatProvider provider;
+    private final Double[] doubles = new Double[VALUES];
+    private final long[] unscaled = new long[VALUES];
+    private final int[] scales = new int[VALUES];
+    private final LocalDateTime[] dateTimes = new LocalDateTime[VALUES];
+    private final StringBuilder sink = new StringBuilder(64);
+    private int index;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        if (locale.equals("de")) {
+            DecimalFormatSymbols symbols = DecimalFormatSymbols.getInstance(Locale.GERMANY);
+            provider = formatType -> formatType == DecimalFormatSymbols.class ? symbols : null;
+        }
+        Random random = new Random(40);
+        LocalDateTime start = LocalDateTime.of(2020, 1, 1, 0, 0);
+        for (int i = 0; i < VALUES; i++) {
+            doubles[i] = (random.nextDouble() - 0.5) * Math.pow(10, random.nextInt(20) - 5);
+            unscaled[i] = random.nextLong() % 100_000_000_000L;
+            scales[i] = random.nextInt(10);
+            dateTimes[i] = start.plusSeconds(random.nextInt(200_000_000)).plusNanos(random.nextInt(1_000_000) * 1000L);
+        }
+    }
+
+    private int next() {
+        return index = (index + 1) & (VALUES - 1);
+    }
+
+    private BigDecimal nextDecimal() {
+        int i = next();
+        return BigDecimal.valueOf(unscaled[i], scales[i]);
+    }
+
+    @Benchmark
+    public String formatDouble() {
+        return Convert.toString(doubles[next()], provider);
+    }
+
+    @Benchmark
+    public String formatDoubleJdk() {
+        return doubles[next()].toString();
+    }
+
+    @Benchmark
+    public StringBuilder appendDouble() {
+        sink.setLength(0);
+        return Convert.appendTo(sink, doubles[next()], provider);
+    }
+
+    @Benchmark
+    public String formatDecimal() {
+        return Convert.toString(nextDecimal(), provider);
+    }
+
+    @Benchmark
+    public String formatDecimalJdk() {
+        return nextDecimal().toString();
+    }
+
+    @Benchmark
+    public StringBuilder appendDecimal() {
+        sink.setLength(0);
+        return Convert.appendTo(sink, nextDecimal(), provider);
+    }
+
+    @Benchmark
+    public String formatDateTime() {
+        return Convert.toString(dateTimes[next()], provider);
+    }
+
+    @Benchmark
+    public String formatDateTimeJdk() {
+        return dateTimes[next()].toString();
+    }
+
+    @Benchmark
+    public StringBuilder appendDateTime() {
+        sink.setLength(0);
+        return Convert.appendTo(sink, dateTimes[next()], provider);
+    }
+}
@@ -0,0 +1,92 @@
+package io.standardcore.benchmarks;
+
+import io.standardcore.OverflowException;
+import io.standardcore.OverflowPolicy;
+import io.standardcore.arrays.PrimitiveArrays;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// Double to int narrowing over 4096 values per operation: the OverflowPolicy.CHECKED engine
+// (Math.rint and one non-short-circuit range test), PrimitiveArrays.toIntArray(double[]), which
+// runs the same engine into a new array, and branchyBaseline, the sign / difference /
+// odd-result rounding the engine replaced. "random" values have random fractions, so the baseline's rounding branches are
+// taken about half the time with no pattern; "integral" values make every branch predictable.
+// Run with -prof perfnorm (Linux) and compare branch-misses per operation.
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class NarrowingBenchmark {
+    private static final int VALUES = 4096;
+
+    @Param({"random", "integral"})
+    public String values;
+
+    private final double[] source = new double[VALUES];
+    private final int[] target = new int[VALUES];
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(47);
+        for (int i = 0; i < VALUES; i++) {
+            double value = (random.nextDouble() - 0.5) * 2_000_000.0;
+            source[i] = values.equals("integral") ? Math.floor(value) : value;
+        }
+    }
+
+    @Benchmark
+    public int[] checkedPolicy() {
+        OverflowPolicy policy = OverflowPolicy.CHECKED;
+        for (int i = 0; i < VALUES; i++) {
+            target[i] = policy.toInt32(source[i]);
+        }
+        return target;
+    }
+
+    @Benchmark
+    public int[] arrayKernel() {
+        return PrimitiveArrays.toIntArray(source);
+    }
+
+    @Benchmark
+    public int[] branchyBaseline() {
+        for (int i = 0; i < VALUES; i++) {
+            target[i] = branchyToInt32(source[i]);
+        }
+        return target;
+    }
+
+    private static int branchyToInt32(double value) {
+        if (value >= 0) {
+            if (value < 2147483647.5) {
+                int result = (int) value;
+                double dif = value - result;
+                if (dif > 0.5 || dif == 0.5 && (result & 1) != 0) result++;
+                return result;
+            }
+        } else {
+            if (value >= -2147483648.5) {
+                int result = (int) value;
+                double dif = value - result;
+                if (dif < -0.5 || dif == -0.5 && (result & 1) != 0) result--;
+                return result;
+            }
+        }
+        throw new OverflowException("Overflow_Int32");
+    }
+}
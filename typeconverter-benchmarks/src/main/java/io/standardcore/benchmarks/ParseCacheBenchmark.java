@@ -0,0 +1,88 @@
+package io.standardcore.benchmarks;
+
+import io.standardcore.ConversionContext;
+import io.standardcore.TypeCode;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// Where the parse cache starts to pay: one conversion per operation from a column of 65536
+// rows drawn from `distinct` strings, with a cache of CAPACITY entries and without one. While
+// the distinct strings fit the cache nearly every row is a hit; past CAPACITY the hit rate
+// falls, each miss pays the parse plus the insert and eviction, and the uncached context
+// wins. The new String per row keeps the JDK from reusing a cached hash code.
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class ParseCacheBenchmark {
+    private static final int ROWS = 65536;
+    private static final int CAPACITY = 4096;
+
+    @Param({"16", "1024", "4096", "8192", "65536"})
+    public int distinct;
+
+    @Param({"DECIMAL", "DOUBLE", "DATETIME"})
+    public TypeCode target;
+
+    private final String[] column = new String[ROWS];
+    private ConversionContext cached;
+    private ConversionContext uncached;
+    private int index;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(34);
+        String[] values = new String[distinct];
+        LocalDateTime start = LocalDateTime.of(2024, 1, 1, 0, 0);
+        for (int i = 0; i < distinct; i++) {
+            switch (target) {
+                case DECIMAL:
+                    values[i] = BigDecimal.valueOf(random.nextInt(10_000_000), 2).toPlainString();
+                    break;
+                case DOUBLE:
+                    values[i] = Double.toString(random.nextInt(10_000_000) / 100.0);
+                    break;
+                default:
+                    values[i] = start.plusMinutes(i).toString();
+                    break;
+            }
+        }
+        for (int i = 0; i < ROWS; i++) {
+            column[i] = values[random.nextInt(distinct)];
+        }
+        uncached = ConversionContext.builder().build();
+        cached = ConversionContext.builder().parseCache(target, CAPACITY).build();
+    }
+
+    private String next() {
+        index = (index + 1) & (ROWS - 1);
+        return new String(column[index]);
+    }
+
+    @Benchmark
+    public Object cached() {
+        return cached.changeType(next(), target);
+    }
+
+    @Benchmark
+    public Object uncached() {
+        return uncached.changeType(next(), target);
+    }
+}
@@ -0,0 +1,64 @@
+package io.standardcore.benchmarks;
+
+import io.standardcore.Convert;
+import io.standardcore.TypeCode;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.EnumSet;
+import java.util.concurrent.TimeUnit;
+
+// Time to first conversion: every fork is a fresh JVM that runs a single call, so the score
+// includes loading Convert, the ConversionContext and the converters that call needs, as a
+// short-lived CLI job or serverless function pays it. The *Jdk methods are the JDK parsers for
+// the same input. afterWarmUp runs Convert.warmUp for the target types in the trial setup,
+// outside the measured call, and waits for it to finish.
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(30)
+public class StartupBenchmark {
+    @State(Scope.Benchmark)
+    public static class WarmedUp {
+        @Setup(Level.Trial)
+        public void setUp() {
+            Convert.warmUp(EnumSet.of(TypeCode.INT32, TypeCode.DECIMAL)).join();
+        }
+    }
+
+    @Benchmark
+    public Integer firstInt32() {
+        return Convert.toInt32("42");
+    }
+
+    @Benchmark
+    public Integer firstInt32Jdk() {
+        return Integer.valueOf("42");
+    }
+
+    @Benchmark
+    public Object firstChangeType() {
+        return Convert.changeType("12.5", TypeCode.DECIMAL, null);
+    }
+
+    @Benchmark
+    public BigDecimal firstChangeTypeJdk() {
+        return new BigDecimal("12.5");
+    }
+
+    @Benchmark
+    public Object afterWarmUp(WarmedUp warmedUp) {
+        return Convert.changeType("12.5", TypeCode.DECIMAL, null);
+    }
+}
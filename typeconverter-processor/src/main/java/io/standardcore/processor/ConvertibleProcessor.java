@@ -0,0 +1,150 @@
+package io.standardcore.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import javax.tools.JavaFileObject;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+// Generates <TypeName>Convertible for every type annotated with @GenerateConvertible.
+// The generated interface extends io.standardcore.Convertible and implements each method
+// as a single direct call into Convert for the declared type of the primary field, so no
+// reflection or runtime type dispatch is left in the generated code.
+// @ConvertibleValue is claimed as well, although only read through its @GenerateConvertible
+// type, so that javac -Xlint:processing does not report it as unclaimed.
+@SupportedAnnotationTypes({ConvertibleProcessor.GENERATE_CONVERTIBLE, ConvertibleProcessor.CONVERTIBLE_VALUE})
+public class ConvertibleProcessor extends AbstractProcessor {
+    static final String GENERATE_CONVERTIBLE = "io.standardcore.annotations.GenerateConvertible";
+    static final String CONVERTIBLE_VALUE = "io.standardcore.annotations.ConvertibleValue";
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        for (TypeElement annotation : annotations) {
+            if (!annotation.getQualifiedName().contentEquals(GENERATE_CONVERTIBLE)) continue;
+            for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+                if (element.getKind() != ElementKind.CLASS) {
+                    error(element, "@GenerateConvertible can only be applied to classes");
+                    continue;
+                }
+                generate((TypeElement) element);
+            }
+        }
+        return true;
+    }
+
+    private void generate(TypeElement type) {
+        VariableElement field = findPrimaryField(type);
+        if (field == null) return;
+
+        PrimaryType primaryType = PrimaryType.of(field.asType(), processingEnv);
+        if (primaryType == null) {
+            error(field, "Unsupported @ConvertibleValue type " + field.asType());
+            return;
+        }
+
+        String access = accessExpression(type, field);
+        if (access == null) return;
+
+        PackageElement packageElement = processingEnv.getElementUtils().getPackageOf(type);
+        String packageName = packageElement.isUnnamed() ? "" : packageElement.getQualifiedName().toString();
+        String interfaceName = generatedName(type);
+        String qualifiedName = packageName.isEmpty() ? interfaceName : packageName + "." + interfaceName;
+
+        try {
+            JavaFileObject file = processingEnv.getFiler().createSourceFile(qualifiedName, type);
+            try (Writer writer = file.openWriter()) {
+                writer.write(new ConvertibleSource(packageName, interfaceName, type.getQualifiedName().toString(),
+                        access, primaryType).toString());
+            }
+        } catch (IOException e) {
+            error(type, "Unable to write " + qualifiedName + ": " + e.getMessage());
+        }
+    }
+
+    private VariableElement findPrimaryField(TypeElement type) {
+        List<VariableElement> instanceFields = new ArrayList<>();
+        List<VariableElement> annotatedFields = new ArrayList<>();
+        for (VariableElement field : ElementFilter.fieldsIn(type.getEnclosedElements())) {
+            if (field.getModifiers().contains(Modifier.STATIC)) continue;
+            instanceFields.add(field);
+            if (hasAnnotation(field, CONVERTIBLE_VALUE)) annotatedFields.add(field);
+        }
+
+        if (annotatedFields.size() == 1) return annotatedFields.get(0);
+        if (annotatedFields.size() > 1) {
+            error(type, "Only one field may be annotated with @ConvertibleValue");
+            return null;
+        }
+        if (instanceFields.size() == 1) return instanceFields.get(0);
+
+        error(type, "Annotate the primary field with @ConvertibleValue");
+        return null;
+    }
+
+    // The generated default methods read the field through "((Type) this)", which needs the
+    // field, or a getter for it, to be visible from the same package.
+    private String accessExpression(TypeElement type, VariableElement field) {
+        String self = "((" + type.getQualifiedName() + ") this)";
+        String name = field.getSimpleName().toString();
+        if (!field.getModifiers().contains(Modifier.PRIVATE)) {
+            return self + "." + name;
+        }
+
+        String capitalized = Character.toUpperCase(name.charAt(0)) + name.substring(1);
+        for (ExecutableElement method : ElementFilter.methodsIn(type.getEnclosedElements())) {
+            String methodName = method.getSimpleName().toString();
+            if (method.getModifiers().contains(Modifier.PRIVATE) || method.getModifiers().contains(Modifier.STATIC)) continue;
+            if (!method.getParameters().isEmpty()) continue;
+            if (!processingEnv.getTypeUtils().isSameType(method.getReturnType(), field.asType())) continue;
+            if (methodName.equals("get" + capitalized) || methodName.equals("is" + capitalized)) {
+                return self + "." + methodName + "()";
+            }
+        }
+
+        error(field, "Private @ConvertibleValue field needs a non-private getter");
+        return null;
+    }
+
+    private static String generatedName(TypeElement type) {
+        StringBuilder name = new StringBuilder(type.getSimpleName());
+        Element enclosing = type.getEnclosingElement();
+        while (enclosing instanceof TypeElement) {
+            name.insert(0, enclosing.getSimpleName());
+            enclosing = enclosing.getEnclosingElement();
+        }
+        return name.append("Convertible").toString();
+    }
+
+    private static boolean hasAnnotation(Element element, String annotationName) {
+        for (AnnotationMirror mirror : element.getAnnotationMirrors()) {
+            TypeMirror annotationType = mirror.getAnnotationType();
+            if (annotationType.toString().equals(annotationName)) return true;
+        }
+        return false;
+    }
+
+    private void error(Element element, String message) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, message, element);
+    }
+}
@@ -0,0 +1,79 @@
+package io.standardcore.processor;
+
+// Renders the source of a generated <TypeName>Convertible interface.
+final class ConvertibleSource {
+    private static final String[][] METHODS = {
+            // Convertible method, return type, target, Convert method
+            {"toBoolean", "java.lang.Boolean", "BOOLEAN", "toBoolean"},
+            {"toByte", "java.lang.Byte", "BYTE", "toByte"},
+            {"toChar", "java.lang.Character", "CHAR", "toChar"},
+            {"toDateTime", "java.time.LocalDateTime", "DATETIME", "toLocalDateTime"},
+            {"toDecimal", "java.math.BigDecimal", "DECIMAL", "toDecimal"},
+            {"toDouble", "java.lang.Double", "DOUBLE", "toDouble"},
+            {"toShort", "java.lang.Short", "INT16", "toInt16"},
+            {"toInteger", "java.lang.Integer", "INT32", "toInt32"},
+            {"toLong", "java.lang.Long", "INT64", "toInt64"},
+            {"toFloat", "java.lang.Float", "SINGLE", "toSingle"},
+    };
+
+    private final String packageName;
+    private final String interfaceName;
+    private final String typeName;
+    private final String access;
+    private final PrimaryType primaryType;
+
+    ConvertibleSource(String packageName, String interfaceName, String typeName, String access, PrimaryType primaryType) {
+        this.packageName = packageName;
+        this.interfaceName = interfaceName;
+        this.typeName = typeName;
+        this.access = access;
+        this.primaryType = primaryType;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder source = new StringBuilder();
+        if (!packageName.isEmpty()) {
+            source.append("package ").append(packageName).append(";\n\n");
+        }
+        source.append("import io.standardcore.Convert;\n")
+                .append("import io.standardcore.Convertible;\n")
+                .append("import io.standardcore.FormatProvider;\n")
+                .append("import io.standardcore.TypeCode;\n\n")
+                .append("// Generated by ").append(ConvertibleProcessor.class.getName()).append(" for ").append(typeName).append(".\n")
+                .append("public interface ").append(interfaceName).append(" extends Convertible {\n");
+
+        source.append("    @Override\n")
+                .append("    default TypeCode GetTypeCode() {\n")
+                .append("        return TypeCode.").append(primaryType.typeCode).append(";\n")
+                .append("    }\n");
+
+        boolean passProvider = primaryType == PrimaryType.STRING;
+        for (String[] method : METHODS) {
+            source.append("\n    @Override\n")
+                    .append("    default ").append(method[1]).append(' ').append(method[0]).append("(FormatProvider provider) {\n")
+                    .append("        ").append(primaryType.boxedType).append(" value = ").append(access).append(";\n");
+            if (primaryType.typeCode.equals(method[2])) {
+                source.append("        return value;\n");
+            } else {
+                source.append("        return Convert.").append(method[3]).append(passProvider ? "(value, provider);\n" : "(value);\n");
+            }
+            source.append("    }\n");
+        }
+
+        source.append("\n    @Override\n")
+                .append("    default CharSequence toString(FormatProvider provider) {\n")
+                .append("        ").append(primaryType.boxedType).append(" value = ").append(access).append(";\n")
+                .append("        return Convert.toString(value, provider);\n")
+                .append("    }\n");
+
+        source.append("\n    @Override\n")
+                .append("    default Object toType(java.lang.reflect.Type conversionType, FormatProvider provider) {\n")
+                .append("        if (conversionType == ").append(typeName).append(".class) return this;\n")
+                .append("        ").append(primaryType.boxedType).append(" value = ").append(access).append(";\n")
+                .append("        return Convert.changeType(value, conversionType, provider);\n")
+                .append("    }\n");
+
+        return source.append("}\n").toString();
+    }
+}
@@ -0,0 +1,41 @@
+package io.standardcore.processor;
+
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+
+// The primary field types the processor knows how to convert, with the TypeCode reported
+// by the generated GetTypeCode() and the boxed type used as the Convert overload argument.
+enum PrimaryType {
+    BOOLEAN("BOOLEAN", "java.lang.Boolean"),
+    CHAR("CHAR", "java.lang.Character"),
+    BYTE("BYTE", "java.lang.Byte"),
+    INT16("INT16", "java.lang.Short"),
+    INT32("INT32", "java.lang.Integer"),
+    INT64("INT64", "java.lang.Long"),
+    SINGLE("SINGLE", "java.lang.Float"),
+    DOUBLE("DOUBLE", "java.lang.Double"),
+    DECIMAL("DECIMAL", "java.math.BigDecimal"),
+    DATETIME("DATETIME", "java.time.LocalDateTime"),
+    STRING("STRING", "java.lang.String");
+
+    final String typeCode;
+    final String boxedType;
+
+    PrimaryType(String typeCode, String boxedType) {
+        this.typeCode = typeCode;
+        this.boxedType = boxedType;
+    }
+
+    static PrimaryType of(TypeMirror type, ProcessingEnvironment processingEnv) {
+        TypeKind kind = type.getKind();
+        if (kind.isPrimitive()) {
+            type = processingEnv.getTypeUtils().boxedClass(processingEnv.getTypeUtils().getPrimitiveType(kind)).asType();
+        }
+        String name = type.toString();
+        for (PrimaryType primaryType : values()) {
+            if (primaryType.boxedType.equals(name)) return primaryType;
+        }
+        return null;
+    }
+}
@@ -0,0 +1,206 @@
+package io.standardcore.processor;
+
+import io.standardcore.Convertible;
+import io.standardcore.TypeCode;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.StandardLocation;
+import javax.tools.ToolProvider;
+import java.io.File;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// Runs the processor through javac on fixture sources, checks the generated
+// <Type>Convertible source, and loads the compiled fixture to call it.
+class ConvertibleProcessorTest {
+    private static final String MONEY = String.join("\n",
+            "package fixtures;",
+            "",
+            "import io.standardcore.annotations.ConvertibleValue;",
+            "import io.standardcore.annotations.GenerateConvertible;",
+            "import java.math.BigDecimal;",
+            "",
+            "@GenerateConvertible",
+            "public class Money implements MoneyConvertible {",
+            "    @ConvertibleValue",
+            "    private final BigDecimal amount;",
+            "    private final String currency;",
+            "",
+            "    public Money(BigDecimal amount, String currency) {",
+            "        this.amount = amount;",
+            "        this.currency = currency;",
+            "    }",
+            "",
+            "    public BigDecimal getAmount() {",
+            "        return amount;",
+            "    }",
+            "}");
+
+    @TempDir
+    Path output;
+
+    @Test
+    void generatesConvertibleInterface() throws Exception {
+        Compilation compilation = compile("fixtures.Money", MONEY);
+        assertTrue(compilation.success, compilation.messages());
+
+        String source = new String(Files.readAllBytes(output.resolve("sources/fixtures/MoneyConvertible.java")), StandardCharsets.UTF_8);
+        assertTrue(source.startsWith("package fixtures;\n"), source);
+        assertTrue(source.contains("public interface MoneyConvertible extends Convertible {"), source);
+        assertTrue(source.contains("        return TypeCode.DECIMAL;"), source);
+        assertTrue(source.contains("        java.math.BigDecimal value = ((fixtures.Money) this).getAmount();"), source);
+        assertTrue(source.contains("    default java.lang.Integer toInteger(FormatProvider provider) {"), source);
+        assertTrue(source.contains("        return Convert.toInt32(value);"), source);
+        assertTrue(source.contains("        if (conversionType == fixtures.Money.class) return this;"), source);
+
+        try (URLClassLoader loader = new URLClassLoader(new URL[] {output.resolve("classes").toUri().toURL()}, getClass().getClassLoader())) {
+            Object money = loader.loadClass("fixtures.Money").getConstructor(BigDecimal.class, String.class)
+                    .newInstance(new BigDecimal("12.5"), "EUR");
+            Convertible convertible = (Convertible) money;
+            assertEquals(TypeCode.DECIMAL, convertible.GetTypeCode());
+            assertEquals(12, (int) convertible.toInteger(null));
+            assertEquals(12.5, convertible.toDouble(null));
+            assertEquals("12.5", convertible.toString(null).toString());
+        }
+    }
+
+    // Without ConvertibleValue among the supported types, -Xlint:processing reports it unclaimed.
+    @Test
+    void claimsConvertibleValue() throws Exception {
+        Compilation compilation = compile("fixtures.Money", MONEY, "-Xlint:processing");
+        assertTrue(compilation.success, compilation.messages());
+        for (Diagnostic<? extends JavaFileObject> diagnostic : compilation.diagnostics) {
+            assertFalse(diagnostic.getMessage(null).contains("ConvertibleValue"), compilation.messages());
+        }
+    }
+
+    @Test
+    void singleFieldNeedsNoAnnotation() throws Exception {
+        Compilation compilation = compile("fixtures.Count", String.join("\n",
+                "package fixtures;",
+                "",
+                "@io.standardcore.annotations.GenerateConvertible",
+                "public class Count implements CountConvertible {",
+                "    final int value = 300;",
+                "}"));
+        assertTrue(compilation.success, compilation.messages());
+        String source = new String(Files.readAllBytes(output.resolve("sources/fixtures/CountConvertible.java")), StandardCharsets.UTF_8);
+        assertTrue(source.contains("        return TypeCode.INT32;"), source);
+        assertTrue(source.contains("        java.lang.Integer value = ((fixtures.Count) this).value;"), source);
+    }
+
+    @Test
+    void reportsMisuse() throws Exception {
+        Compilation twoValues = compile("fixtures.Pair", String.join("\n",
+                "package fixtures;",
+                "",
+                "import io.standardcore.annotations.ConvertibleValue;",
+                "",
+                "@io.standardcore.annotations.GenerateConvertible",
+                "public class Pair {",
+                "    @ConvertibleValue int first;",
+                "    @ConvertibleValue int second;",
+                "}"));
+        assertFalse(twoValues.success);
+        assertTrue(twoValues.messages().contains("Only one field may be annotated with @ConvertibleValue"), twoValues.messages());
+
+        Compilation onInterface = compile("fixtures.Shape", String.join("\n",
+                "package fixtures;",
+                "",
+                "@io.standardcore.annotations.GenerateConvertible",
+                "public interface Shape {",
+                "}"));
+        assertFalse(onInterface.success);
+        assertTrue(onInterface.messages().contains("@GenerateConvertible can only be applied to classes"), onInterface.messages());
+
+        Compilation privateField = compile("fixtures.Secret", String.join("\n",
+                "package fixtures;",
+                "",
+                "@io.standardcore.annotations.GenerateConvertible",
+                "public class Secret {",
+                "    private long value;",
+                "}"));
+        assertFalse(privateField.success);
+        assertTrue(privateField.messages().contains("Private @ConvertibleValue field needs a non-private getter"), privateField.messages());
+    }
+
+    private static final class Compilation {
+        final boolean success;
+        final List<Diagnostic<? extends JavaFileObject>> diagnostics;
+
+        Compilation(boolean success, List<Diagnostic<? extends JavaFileObject>> diagnostics) {
+            this.success = success;
+            this.diagnostics = diagnostics;
+        }
+
+        String messages() {
+            StringBuilder messages = new StringBuilder();
+            for (Diagnostic<? extends JavaFileObject> diagnostic : diagnostics) {
+                messages.append(diagnostic.getKind()).append(": ").append(diagnostic.getMessage(null)).append('\n');
+            }
+            return messages.toString();
+        }
+    }
+
+    // Compiles one source with the processor; the library is the only class path entry.
+    private Compilation compile(String className, String source, String... options) throws Exception {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        try (StandardJavaFileManager files = compiler.getStandardFileManager(diagnostics, null, StandardCharsets.UTF_8)) {
+            files.setLocation(StandardLocation.CLASS_PATH, Collections.singletonList(libraryLocation()));
+            files.setLocation(StandardLocation.SOURCE_OUTPUT, Collections.singletonList(directory("sources")));
+            files.setLocation(StandardLocation.CLASS_OUTPUT, Collections.singletonList(directory("classes")));
+
+            List<String> arguments = new ArrayList<>(Arrays.asList(options));
+            JavaCompiler.CompilationTask task = compiler.getTask(null, files, diagnostics, arguments, null,
+                    Collections.singletonList(new Source(className, source)));
+            task.setProcessors(Collections.singletonList(new ConvertibleProcessor()));
+            boolean success = task.call();
+            return new Compilation(success, diagnostics.getDiagnostics());
+        }
+    }
+
+    private File directory(String name) throws IOException {
+        return Files.createDirectories(output.resolve(name)).toFile();
+    }
+
+    private static File libraryLocation() throws Exception {
+        return Paths.get(Convertible.class.getProtectionDomain().getCodeSource().getLocation().toURI()).toFile();
+    }
+
+    private static final class Source extends SimpleJavaFileObject {
+        private final String content;
+
+        Source(String className, String content) {
+            super(URI.create("string:///" + className.replace('.', '/') + Kind.SOURCE.extension), Kind.SOURCE);
+            this.content = content;
+        }
+
+        @Override
+        public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+            return content;
+        }
+    }
+}